@@ -1,3 +1,7 @@
+plugins {
+    alias(libs.plugins.jmh)
+}
+
 dependencies {
     api(libs.jspecify)
     testImplementation(libs.bundles.junit)
@@ -5,5 +9,29 @@ dependencies {
 }
 
 tasks.test {
-    useJUnitPlatform()
+    useJUnitPlatform {
+        excludeTags("allocation")
+    }
+}
+
+val allocationTest by tasks.registering(Test::class) {
+    description = "Runs the allocation regression tests with escape analysis disabled."
+    group = LifecycleBasePlugin.VERIFICATION_GROUP
+    testClassesDirs = sourceSets.test.get().output.classesDirs
+    classpath = sourceSets.test.get().runtimeClasspath
+    useJUnitPlatform {
+        includeTags("allocation")
+    }
+    // Allocation tests must observe allocations that escape analysis would otherwise hide
+    jvmArgs("-XX:-DoEscapeAnalysis")
+    shouldRunAfter(tasks.test)
+}
+
+tasks.check {
+    dependsOn(allocationTest)
+}
+
+jmh {
+    // Run a subset with: ./gradlew :math-core:jmh -Pjmh.includes=CodecBenchmark
+    providers.gradleProperty("jmh.includes").orNull?.let { includes.set(listOf(it)) }
 }
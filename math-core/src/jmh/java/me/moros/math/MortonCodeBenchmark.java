@@ -0,0 +1,130 @@
+/*
+ * Copyright 2020-2025 Moros
+ *
+ * This file is part of Math.
+ *
+ * Math is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Math is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Math. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package me.moros.math;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the cost of sorting positions into Z-order and the locality it buys when visiting a dense grid.
+ * The grid is laid out in y, z, x order like chunk sections, and the positions are visited in random order, in
+ * packed order (sorted as signed longs) and in Z-order. The average distance between consecutive positions of each
+ * order is printed once during setup.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MortonCodeBenchmark {
+  private static final int SIZE = 256;
+
+  @Param({"100000", "1000000"})
+  private int count;
+
+  private byte[] grid;
+  private long[] random;
+  private long[] linear;
+  private long[] morton;
+  private long[] scratch;
+
+  @Setup
+  public void setup() {
+    SplittableRandom rng = new SplittableRandom(43);
+    grid = new byte[SIZE * SIZE * SIZE];
+    rng.nextBytes(grid);
+    random = new long[count];
+    for (int i = 0; i < count; i++) {
+      random[i] = PackedPosition.pack(rng.nextInt(SIZE), rng.nextInt(SIZE), rng.nextInt(SIZE));
+    }
+    linear = random.clone();
+    Arrays.sort(linear);
+    morton = random.clone();
+    MortonCode.sort(morton, 0, count);
+    scratch = new long[count];
+    System.out.printf("%n%d positions, average step: random %.1f, packed %.1f, Z-order %.1f%n", count,
+      averageStep(random), averageStep(linear), averageStep(morton));
+  }
+
+  private static double averageStep(long[] packed) {
+    double sum = 0;
+    for (int i = 1; i < packed.length; i++) {
+      long a = packed[i - 1];
+      long b = packed[i];
+      double dx = PackedPosition.unpackX(a) - PackedPosition.unpackX(b);
+      double dy = PackedPosition.unpackY(a) - PackedPosition.unpackY(b);
+      double dz = PackedPosition.unpackZ(a) - PackedPosition.unpackZ(b);
+      sum += Math.sqrt(dx * dx + dy * dy + dz * dz);
+    }
+    return sum / (packed.length - 1);
+  }
+
+  private int visit(long[] packed) {
+    int sum = 0;
+    for (long p : packed) {
+      int index = (PackedPosition.unpackY(p) * SIZE + PackedPosition.unpackZ(p)) * SIZE + PackedPosition.unpackX(p);
+      sum += grid[index];
+    }
+    return sum;
+  }
+
+  @Benchmark
+  public int visitRandom() {
+    return visit(random);
+  }
+
+  @Benchmark
+  public int visitPacked() {
+    return visit(linear);
+  }
+
+  @Benchmark
+  public int visitMorton() {
+    return visit(morton);
+  }
+
+  @Benchmark
+  public long[] sortPacked() {
+    System.arraycopy(random, 0, scratch, 0, count);
+    Arrays.sort(scratch);
+    return scratch;
+  }
+
+  @Benchmark
+  public long[] sortMorton() {
+    System.arraycopy(random, 0, scratch, 0, count);
+    MortonCode.sort(scratch, 0, count);
+    return scratch;
+  }
+}
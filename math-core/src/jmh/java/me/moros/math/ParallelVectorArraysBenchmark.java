@@ -0,0 +1,117 @@
+/*
+ * Copyright 2020-2025 Moros
+ *
+ * This file is part of Math.
+ *
+ * Math is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Math is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Math. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package me.moros.math;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures how the parallel bulk operations scale with the pool parallelism compared to the sequential ones.
+ * A parallelism of 0 runs the sequential operation. Parallelism above the amount of available cores only measures the
+ * splitting overhead.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParallelVectorArraysBenchmark {
+  @Param({"100000", "1000000"})
+  private int count;
+
+  @Param({"0", "1", "2", "4", "8"})
+  private int parallelism;
+
+  private double[] xyz;
+  private double[] out;
+  private Rotation rotation;
+  private VectorPipeline pipeline;
+  private ForkJoinPool pool;
+  private ParallelVectorArrays parallel;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    SplittableRandom random = new SplittableRandom(32);
+    xyz = new double[3 * count];
+    for (int i = 0; i < xyz.length; i++) {
+      xyz[i] = random.nextDouble(-1000, 1000);
+    }
+    out = new double[xyz.length];
+    rotation = Rotation.from(Vector3d.of(1, 2, 3).normalize(), 0.7);
+    pipeline = VectorPipeline.identity().subtract(12.5, 64, -3.25).rotate(rotation).normalize().multiply(4);
+    if (parallelism > 0) {
+      pool = new ForkJoinPool(parallelism);
+      parallel = ParallelVectorArrays.of(pool, ParallelVectorArrays.DEFAULT_THRESHOLD);
+    }
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    if (pool != null) {
+      pool.shutdown();
+    }
+  }
+
+  @Benchmark
+  public double[] rotate() {
+    if (parallel == null) {
+      rotation.applyTo(xyz, 0, out, 0, count);
+    } else {
+      parallel.rotate(rotation, xyz, 0, out, 0, count);
+    }
+    return out;
+  }
+
+  @Benchmark
+  public double[] normalize() {
+    if (parallel == null) {
+      VectorArrays.normalize(xyz, 0, out, 0, count);
+    } else {
+      parallel.normalize(xyz, 0, out, 0, count);
+    }
+    return out;
+  }
+
+  @Benchmark
+  public double[] pipeline() {
+    if (parallel == null) {
+      pipeline.applyTo(xyz, 0, out, 0, count);
+    } else {
+      parallel.apply(pipeline, xyz, 0, out, 0, count);
+    }
+    return out;
+  }
+}
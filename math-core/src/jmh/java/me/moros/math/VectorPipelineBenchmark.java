@@ -0,0 +1,98 @@
+/*
+ * Copyright 2020-2025 Moros
+ *
+ * This file is part of Math.
+ *
+ * Math is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Math is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Math. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package me.moros.math;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares a fused pipeline against the same operations chained on {@link Vector3d} instances and against one bulk
+ * pass per operation.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class VectorPipelineBenchmark {
+  @Param({"1000", "100000"})
+  private int count;
+
+  private double[] xyz;
+  private double[] out;
+  private Vector3d origin;
+  private Rotation rotation;
+  private VectorPipeline pipeline;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    SplittableRandom random = new SplittableRandom(38);
+    xyz = new double[3 * count];
+    for (int i = 0; i < xyz.length; i++) {
+      xyz[i] = random.nextDouble(-1000, 1000);
+    }
+    out = new double[xyz.length];
+    origin = Vector3d.of(12.5, 64, -3.25);
+    rotation = Rotation.from(Vector3d.of(1, 2, 3).normalize(), 0.7);
+    pipeline = VectorPipeline.identity().subtract(origin).rotate(rotation).normalize().multiply(4).add(origin);
+  }
+
+  @Benchmark
+  public double[] fused() {
+    pipeline.applyTo(xyz, 0, out, 0, count);
+    return out;
+  }
+
+  @Benchmark
+  public double[] chained() {
+    for (int i = 0; i < 3 * count; i += 3) {
+      Vector3d v = rotation.applyTo(Vector3d.of(xyz[i], xyz[i + 1], xyz[i + 2]).subtract(origin))
+        .normalize().multiply(4).add(origin);
+      out[i] = v.x();
+      out[i + 1] = v.y();
+      out[i + 2] = v.z();
+    }
+    return out;
+  }
+
+  @Benchmark
+  public double[] bulkPasses() {
+    VectorArrays.subtract(xyz, 0, origin.x(), origin.y(), origin.z(), out, 0, count);
+    rotation.applyTo(out, 0, out, 0, count);
+    VectorArrays.normalize(out, 0, out, 0, count);
+    VectorArrays.multiply(out, 0, 4, 4, 4, out, 0, count);
+    VectorArrays.add(out, 0, origin.x(), origin.y(), origin.z(), out, 0, count);
+    return out;
+  }
+}
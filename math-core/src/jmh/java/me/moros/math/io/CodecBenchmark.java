@@ -0,0 +1,141 @@
+/*
+ * Copyright 2020-2025 Moros
+ *
+ * This file is part of Math.
+ *
+ * Math is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Math is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Math. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package me.moros.math.io;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import me.moros.math.PackedPosition;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the block position and vector codecs against Java serialization of boxed values.
+ * Encoded sizes are printed once during setup.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CodecBenchmark {
+  @Param({"10000", "100000"})
+  private int count;
+
+  private long[] packed;
+  private long[] scratch;
+  private double[] xyz;
+  private double[] decoded;
+  private ByteBuffer buffer;
+  private ByteBuffer encodedPositions;
+  private ByteBuffer encodedQuantized;
+  private List<Long> boxed;
+
+  @Setup
+  public void setup() throws IOException {
+    SplittableRandom random = new SplittableRandom(28);
+    packed = new long[count];
+    xyz = new double[3 * count];
+    double x = 0;
+    double y = 64;
+    double z = 0;
+    for (int i = 0; i < count; i++) {
+      // a clustered region selection and a recorded path
+      packed[i] = PackedPosition.pack(random.nextInt(-64, 64), random.nextInt(0, 128), random.nextInt(-64, 64));
+      x += random.nextDouble(-0.5, 0.5);
+      y += random.nextDouble(-0.1, 0.1);
+      z += random.nextDouble(-0.5, 0.5);
+      xyz[3 * i] = x;
+      xyz[3 * i + 1] = y;
+      xyz[3 * i + 2] = z;
+    }
+    scratch = new long[count];
+    decoded = new double[3 * count];
+    buffer = ByteBuffer.allocateDirect((int) Math.max(BlockPositionCodec.maxEncodedSize(count), VectorCodec.maxQuantizedSize(count)));
+    encodedPositions = ByteBuffer.allocate((int) BlockPositionCodec.maxEncodedSize(count));
+    BlockPositionCodec.encode(packed.clone(), 0, count, encodedPositions);
+    encodedPositions.flip();
+    encodedQuantized = ByteBuffer.allocate((int) VectorCodec.maxQuantizedSize(count));
+    VectorCodec.encodeQuantized(xyz, 0, count, 1 / 4096.0, encodedQuantized);
+    encodedQuantized.flip();
+    boxed = new ArrayList<>(count);
+    for (long value : packed) {
+      boxed.add(value);
+    }
+    System.out.printf("%n%d positions: codec %d bytes, serialized %d bytes; %d vectors: raw %d bytes, quantized %d bytes%n",
+      count, encodedPositions.remaining(), serialize().size(), count, VectorCodec.maxRawSize(count), encodedQuantized.remaining());
+  }
+
+  @Benchmark
+  public ByteBuffer encodePositions() {
+    System.arraycopy(packed, 0, scratch, 0, count);
+    buffer.clear();
+    BlockPositionCodec.encode(scratch, 0, count, buffer);
+    return buffer;
+  }
+
+  @Benchmark
+  public long[] decodePositions() {
+    BlockPositionCodec.decode(encodedPositions.duplicate(), scratch, 0);
+    return scratch;
+  }
+
+  @Benchmark
+  public ByteBuffer encodeVectorsQuantized() {
+    buffer.clear();
+    VectorCodec.encodeQuantized(xyz, 0, count, 1 / 4096.0, buffer);
+    return buffer;
+  }
+
+  @Benchmark
+  public double[] decodeVectorsQuantized() {
+    VectorCodec.decode(encodedQuantized.duplicate(), decoded, 0);
+    return decoded;
+  }
+
+  @Benchmark
+  public ByteArrayOutputStream serializeBoxedPositions() throws IOException {
+    return serialize();
+  }
+
+  private ByteArrayOutputStream serialize() throws IOException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+      out.writeObject(boxed);
+    }
+    return bytes;
+  }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2020-2025 Moros
+ *
+ * This file is part of Math.
+ *
+ * Math is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Math is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Math. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package me.moros.math.region;
+
+import java.util.ArrayDeque;
+import java.util.HashSet;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import me.moros.math.Vector3i;
+import me.moros.math.function.IntTriPredicate;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the primitive flood fill against a breadth-first fill over boxed {@link Vector3i} collections.
+ * The open shape fills a 64x32x64 box (131072 blocks), the cave shape fills the connected open space of a
+ * pseudo-random 96^3 grid with about 70% passable blocks. The filled block counts are printed once during setup.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FloodFillBenchmark {
+  @Param({"open", "cave"})
+  private String shape;
+
+  private IntTriPredicate passable;
+  private FloodFill fill;
+  private long sum;
+
+  @Setup
+  public void setup() {
+    if (shape.equals("open")) {
+      passable = (x, y, z) -> x >= 0 && y >= 0 && z >= 0 && x < 64 && y < 32 && z < 64;
+    } else {
+      passable = (x, y, z) -> x >= 0 && y >= 0 && z >= 0 && x < 96 && y < 96 && z < 96 && (mix(x, y, z) % 10) < 7;
+    }
+    fill = FloodFill.of(passable);
+    System.out.printf("%n%s: %d blocks, boxed fill %d blocks%n", shape, primitive(), boxed());
+  }
+
+  private static int mix(int x, int y, int z) {
+    int h = x * 73856093 ^ y * 19349663 ^ z * 83492791;
+    h ^= h >>> 16;
+    h *= 0x45D9F3B;
+    h ^= h >>> 16;
+    return h & Integer.MAX_VALUE;
+  }
+
+  @Benchmark
+  public int primitive() {
+    sum = 0;
+    return fill.fill(0, 0, 0, (x, y, z) -> sum += x + y + z);
+  }
+
+  @Benchmark
+  public int boxed() {
+    sum = 0;
+    Set<Vector3i> seen = new HashSet<>();
+    Queue<Vector3i> queue = new ArrayDeque<>();
+    Vector3i start = Vector3i.ZERO;
+    if (!passable.test(0, 0, 0)) {
+      return 0;
+    }
+    seen.add(start);
+    queue.add(start);
+    while (!queue.isEmpty()) {
+      Vector3i current = queue.poll();
+      sum += current.blockX() + current.blockY() + current.blockZ();
+      for (int i = 0; i < 6; i++) {
+        int axis = i >> 1;
+        int step = (i & 1) == 0 ? 1 : -1;
+        Vector3i next = Vector3i.of(current.blockX() + (axis == 0 ? step : 0), current.blockY() + (axis == 1 ? step : 0),
+          current.blockZ() + (axis == 2 ? step : 0));
+        if (!seen.contains(next) && passable.test(next.blockX(), next.blockY(), next.blockZ())) {
+          seen.add(next);
+          queue.add(next);
+        }
+      }
+    }
+    return seen.size();
+  }
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright 2020-2025 Moros
+ *
+ * This file is part of Math.
+ *
+ * Math is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Math is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Math. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package me.moros.math.region;
+
+import java.lang.management.ManagementFactory;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import me.moros.math.Vector3i;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares a paletted volume against a {@code HashMap<Vector3i, T>} holding the same terrain-like data.
+ * The bytes allocated while building each structure are printed once during setup, they include the garbage of
+ * intermediate resizes so they are an upper bound of the retained size.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PalettedVolumeBenchmark {
+  private static final String[] VALUES = {"air", "stone", "dirt", "grass", "water", "sand", "gravel", "coal_ore",
+    "iron_ore", "gold_ore", "diamond_ore", "bedrock"};
+
+  @Param({"32", "64"})
+  private int size;
+
+  private PalettedVolume<String> volume;
+  private Map<Vector3i, String> map;
+  private int[] queries;
+
+  @Setup
+  public void setup() {
+    volume = PalettedVolume.of(Vector3i.ZERO, Vector3i.of(size - 1, size - 1, size - 1), VALUES[0]);
+    map = new HashMap<>();
+    fill(volume, null);
+    fill(null, map);
+    SplittableRandom random = new SplittableRandom(42);
+    queries = new int[3 * 4096];
+    for (int i = 0; i < queries.length; i++) {
+      queries[i] = random.nextInt(size);
+    }
+    long volumeBytes = allocated(() -> {
+      PalettedVolume<String> copy = PalettedVolume.of(Vector3i.ZERO, Vector3i.of(size - 1, size - 1, size - 1), VALUES[0]);
+      fill(copy, null);
+      return copy;
+    });
+    long mapBytes = allocated(() -> {
+      Map<Vector3i, String> copy = new HashMap<>();
+      fill(null, copy);
+      return copy;
+    });
+    System.out.printf("%n%d voxels: paletted volume %d bytes, HashMap %d bytes allocated%n", size * size * size,
+      volumeBytes, mapBytes);
+  }
+
+  private void fill(PalettedVolume<String> volume, Map<Vector3i, String> map) {
+    SplittableRandom random = new SplittableRandom(42);
+    for (int x = 0; x < size; x++) {
+      for (int z = 0; z < size; z++) {
+        int surface = size / 2 + random.nextInt(-2, 3);
+        for (int y = 0; y < size; y++) {
+          String value;
+          if (y == 0) {
+            value = VALUES[11];
+          } else if (y < surface - 4) {
+            value = random.nextInt(50) == 0 ? VALUES[7 + random.nextInt(4)] : VALUES[1];
+          } else if (y < surface) {
+            value = VALUES[2];
+          } else if (y == surface) {
+            value = VALUES[3];
+          } else {
+            value = VALUES[0];
+          }
+          if (volume != null) {
+            volume.set(x, y, z, value);
+          } else {
+            map.put(Vector3i.of(x, y, z), value);
+          }
+        }
+      }
+    }
+  }
+
+  private static long allocated(Supplier<Object> factory) {
+    com.sun.management.ThreadMXBean bean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    long before = bean.getCurrentThreadAllocatedBytes();
+    Object value = factory.get();
+    long after = bean.getCurrentThreadAllocatedBytes();
+    return value == null ? 0 : after - before;
+  }
+
+  @Benchmark
+  public int volumeGet() {
+    int hash = 0;
+    for (int i = 0; i < queries.length; i += 3) {
+      hash += volume.get(queries[i], queries[i + 1], queries[i + 2]).length();
+    }
+    return hash;
+  }
+
+  @Benchmark
+  public int mapGet() {
+    int hash = 0;
+    for (int i = 0; i < queries.length; i += 3) {
+      hash += map.get(Vector3i.of(queries[i], queries[i + 1], queries[i + 2])).length();
+    }
+    return hash;
+  }
+
+  @Benchmark
+  public PalettedVolume<String> volumeSet() {
+    for (int i = 0; i < queries.length; i += 3) {
+      volume.set(queries[i], queries[i + 1], queries[i + 2], VALUES[i % VALUES.length]);
+    }
+    return volume;
+  }
+
+  @Benchmark
+  public Map<Vector3i, String> mapSet() {
+    for (int i = 0; i < queries.length; i += 3) {
+      map.put(Vector3i.of(queries[i], queries[i + 1], queries[i + 2]), VALUES[i % VALUES.length]);
+    }
+    return map;
+  }
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright 2020-2025 Moros
+ *
+ * This file is part of Math.
+ *
+ * Math is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Math is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Math. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package me.moros.math.spatial;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import me.moros.math.Vector3d;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the throughput of a shared index while 1 to 8 threads move values and run radius queries.
+ * Each thread owns a disjoint set of values, and every operation moves one value and queries around another.
+ * A single stripe serializes all updates and acts as the coarse-grained baseline.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConcurrentSpatialIndexBenchmark {
+  private static final int VALUES_PER_THREAD = 2048;
+  private static final int MAX_THREADS = 8;
+  private static final double AREA = 512;
+
+  @Param({"1", "64"})
+  private int stripes;
+
+  private ConcurrentSpatialIndex<Integer> index;
+  private final AtomicInteger nextThread = new AtomicInteger();
+
+  @Setup
+  public void setup() {
+    index = new ConcurrentSpatialIndex<>(8, stripes);
+    SplittableRandom random = new SplittableRandom(47);
+    for (int i = 0; i < MAX_THREADS * VALUES_PER_THREAD; i++) {
+      index.put(i, randomPosition(random));
+    }
+    nextThread.set(0);
+  }
+
+  private static Vector3d randomPosition(SplittableRandom random) {
+    return Vector3d.of(random.nextDouble(AREA), random.nextDouble(64), random.nextDouble(AREA));
+  }
+
+  @State(Scope.Thread)
+  public static class Worker {
+    private int base;
+    private SplittableRandom random;
+
+    @Setup
+    public void setup(ConcurrentSpatialIndexBenchmark benchmark) {
+      int id = benchmark.nextThread.getAndIncrement() % MAX_THREADS;
+      base = id * VALUES_PER_THREAD;
+      random = new SplittableRandom(id);
+    }
+  }
+
+  private int moveAndQuery(Worker worker, Blackhole blackhole) {
+    SplittableRandom random = worker.random;
+    index.put(worker.base + random.nextInt(VALUES_PER_THREAD), randomPosition(random));
+    return index.query(randomPosition(random), 8, blackhole::consume);
+  }
+
+  @Benchmark
+  @Threads(1)
+  public int threads1(Worker worker, Blackhole blackhole) {
+    return moveAndQuery(worker, blackhole);
+  }
+
+  @Benchmark
+  @Threads(2)
+  public int threads2(Worker worker, Blackhole blackhole) {
+    return moveAndQuery(worker, blackhole);
+  }
+
+  @Benchmark
+  @Threads(4)
+  public int threads4(Worker worker, Blackhole blackhole) {
+    return moveAndQuery(worker, blackhole);
+  }
+
+  @Benchmark
+  @Threads(8)
+  public int threads8(Worker worker, Blackhole blackhole) {
+    return moveAndQuery(worker, blackhole);
+  }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright 2020-2025 Moros
+ *
+ * This file is part of Math.
+ *
+ * Math is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Math is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Math. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package me.moros.math.spatial;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import me.moros.math.Vector3d;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares nearest selection over primitive arrays against sorting a stream of vectors and keeping the first k.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NearestSelectorBenchmark {
+  @Param({"1000", "100000"})
+  private int count;
+
+  @Param({"8", "64"})
+  private int k;
+
+  private final Vector3d origin = Vector3d.of(3.5, 64, -12.25);
+  private double radius;
+  private double[] xyz;
+  private double[] xs;
+  private double[] ys;
+  private double[] zs;
+  private List<Vector3d> vectors;
+  private NearestSelector selector;
+
+  @Setup
+  public void setup() {
+    SplittableRandom random = new SplittableRandom(31);
+    xyz = new double[3 * count];
+    xs = new double[count];
+    ys = new double[count];
+    zs = new double[count];
+    vectors = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      double x = random.nextDouble(-128, 128);
+      double y = random.nextDouble(0, 128);
+      double z = random.nextDouble(-128, 128);
+      xyz[3 * i] = xs[i] = x;
+      xyz[3 * i + 1] = ys[i] = y;
+      xyz[3 * i + 2] = zs[i] = z;
+      vectors.add(Vector3d.of(x, y, z));
+    }
+    radius = 256;
+    selector = new NearestSelector(k);
+  }
+
+  @Benchmark
+  public int selectInterleaved() {
+    selector.select(origin, radius, xyz, 0, count);
+    return selector.index(0);
+  }
+
+  @Benchmark
+  public int selectComponents() {
+    selector.select(origin, radius, xs, ys, zs, 0, count);
+    return selector.index(0);
+  }
+
+  @Benchmark
+  public List<Vector3d> streamSortLimit() {
+    return vectors.stream()
+      .filter(v -> v.distanceSq(origin) <= radius * radius)
+      .sorted(Comparator.comparingDouble(v -> v.distanceSq(origin)))
+      .limit(k)
+      .toList();
+  }
+}
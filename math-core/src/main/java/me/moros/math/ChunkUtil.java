@@ -0,0 +1,224 @@
+/*
+ * Copyright 2020-2025 Moros
+ *
+ * This file is part of Math.
+ *
+ * Math is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Math is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Math. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package me.moros.math;
+
+import java.util.Objects;
+
+import me.moros.math.internal.RadixSort;
+
+/**
+ * Utility class for mapping block positions to chunks and chunk sections.
+ * <p>Chunks are 16x16 block columns and sections are 16x16x16 blocks. Chunk keys use Minecraft's layout with the
+ * chunk x coordinate in the low 32 bits and the chunk z coordinate in the high 32 bits.
+ */
+public final class ChunkUtil {
+  private static final int SECTION_KEY_BITS = 22 + 22 + 8;
+
+  private ChunkUtil() {
+  }
+
+  /**
+   * Get the chunk or section coordinate for a block coordinate.
+   * @param blockCoord the block coordinate
+   * @return the chunk coordinate
+   */
+  public static int toChunk(int blockCoord) {
+    return blockCoord >> 4;
+  }
+
+  /**
+   * Get the packed chunk key for chunk coordinates.
+   * @param chunkX the chunk x coordinate
+   * @param chunkZ the chunk z coordinate
+   * @return the chunk key
+   */
+  public static long chunkKey(int chunkX, int chunkZ) {
+    return (chunkX & 0xFFFFFFFFL) | ((long) chunkZ << 32);
+  }
+
+  /**
+   * Get the key of the chunk that contains the given block position.
+   * @param pos the block position
+   * @return the chunk key
+   */
+  public static long chunkKey(Vector3i pos) {
+    return chunkKey(toChunk(pos.blockX()), toChunk(pos.blockZ()));
+  }
+
+  /**
+   * Get the key of the chunk that contains the given packed block position.
+   * @param packed the packed block position
+   * @return the chunk key
+   * @see PackedPosition
+   */
+  public static long chunkKeyOfPacked(long packed) {
+    return chunkKey(toChunk(PackedPosition.unpackX(packed)), toChunk(PackedPosition.unpackZ(packed)));
+  }
+
+  /**
+   * Get the chunk x coordinate from a chunk key.
+   * @param chunkKey the chunk key
+   * @return the chunk x coordinate
+   */
+  public static int chunkX(long chunkKey) {
+    return (int) chunkKey;
+  }
+
+  /**
+   * Get the chunk z coordinate from a chunk key.
+   * @param chunkKey the chunk key
+   * @return the chunk z coordinate
+   */
+  public static int chunkZ(long chunkKey) {
+    return (int) (chunkKey >> 32);
+  }
+
+  /**
+   * Get the index of a block inside its 16x16x16 section.
+   * Indices are ordered by y, then z, then x, matching Minecraft's section storage.
+   * @param x the block x coordinate
+   * @param y the block y coordinate
+   * @param z the block z coordinate
+   * @return the local index in the range [0, 4096)
+   */
+  public static int localIndex(int x, int y, int z) {
+    return ((y & 15) << 8) | ((z & 15) << 4) | (x & 15);
+  }
+
+  /**
+   * Get the index of a block inside its 16x16x16 section.
+   * @param pos the block position
+   * @return the local index in the range [0, 4096)
+   * @see #localIndex(int, int, int)
+   */
+  public static int localIndex(Vector3i pos) {
+    return localIndex(pos.blockX(), pos.blockY(), pos.blockZ());
+  }
+
+  /**
+   * Get the index of a packed block inside its 16x16x16 section.
+   * @param packed the packed block position
+   * @return the local index in the range [0, 4096)
+   * @see #localIndex(int, int, int)
+   */
+  public static int localIndexOfPacked(long packed) {
+    return localIndex(PackedPosition.unpackX(packed), PackedPosition.unpackY(packed), PackedPosition.unpackZ(packed));
+  }
+
+  /**
+   * Reorder packed block positions so positions in the same chunk section are contiguous, in linear time.
+   * Sections of the same chunk are contiguous as well. Positions keep their relative order within a section
+   * but the order of chunks themselves is unspecified.
+   * @param packed the array of packed block positions
+   * @param from the index of the first position, inclusive
+   * @param to the index of the last position, exclusive
+   * @see #forEachChunk(long[], int, int, ChunkRangeConsumer)
+   * @see #forEachSection(long[], int, int, SectionRangeConsumer)
+   */
+  public static void groupBySection(long[] packed, int from, int to) {
+    Objects.checkFromToIndex(from, to, packed.length);
+    long[] keys = new long[to - from];
+    for (int i = from; i < to; i++) {
+      keys[i - from] = sectionKey(packed[i]);
+    }
+    RadixSort.sort(keys, 0, packed, from, keys.length, SECTION_KEY_BITS);
+  }
+
+  /**
+   * Visit each run of positions that share a chunk in a range grouped by {@link #groupBySection(long[], int, int)}.
+   * @param packed the array of grouped packed block positions
+   * @param from the index of the first position, inclusive
+   * @param to the index of the last position, exclusive
+   * @param consumer the consumer to accept each chunk and its range of positions
+   */
+  public static void forEachChunk(long[] packed, int from, int to, ChunkRangeConsumer consumer) {
+    Objects.checkFromToIndex(from, to, packed.length);
+    int start = from;
+    while (start < to) {
+      long key = chunkKeyOfPacked(packed[start]);
+      int end = start + 1;
+      while (end < to && chunkKeyOfPacked(packed[end]) == key) {
+        end++;
+      }
+      consumer.accept(chunkX(key), chunkZ(key), start, end);
+      start = end;
+    }
+  }
+
+  /**
+   * Visit each run of positions that share a chunk section in a range grouped by
+   * {@link #groupBySection(long[], int, int)}.
+   * @param packed the array of grouped packed block positions
+   * @param from the index of the first position, inclusive
+   * @param to the index of the last position, exclusive
+   * @param consumer the consumer to accept each section and its range of positions
+   */
+  public static void forEachSection(long[] packed, int from, int to, SectionRangeConsumer consumer) {
+    Objects.checkFromToIndex(from, to, packed.length);
+    int start = from;
+    while (start < to) {
+      long key = sectionKey(packed[start]);
+      int end = start + 1;
+      while (end < to && sectionKey(packed[end]) == key) {
+        end++;
+      }
+      long first = packed[start];
+      consumer.accept(toChunk(PackedPosition.unpackX(first)), toChunk(PackedPosition.unpackY(first)),
+        toChunk(PackedPosition.unpackZ(first)), start, end);
+      start = end;
+    }
+  }
+
+  // Chunk x (22 bits), chunk z (22 bits) and section y (8 bits) taken directly from the packed layout
+  private static long sectionKey(long packed) {
+    return ((packed >>> 42) << 30) | (((packed >>> 16) & 0x3FFFFF) << 8) | ((packed >>> 4) & 0xFF);
+  }
+
+  /**
+   * Consumer of a chunk and the range of positions it contains.
+   */
+  @FunctionalInterface
+  public interface ChunkRangeConsumer {
+    /**
+     * Accept a chunk and its range of positions.
+     * @param chunkX the chunk x coordinate
+     * @param chunkZ the chunk z coordinate
+     * @param from the index of the first position in the chunk, inclusive
+     * @param to the index of the last position in the chunk, exclusive
+     */
+    void accept(int chunkX, int chunkZ, int from, int to);
+  }
+
+  /**
+   * Consumer of a chunk section and the range of positions it contains.
+   */
+  @FunctionalInterface
+  public interface SectionRangeConsumer {
+    /**
+     * Accept a chunk section and its range of positions.
+     * @param chunkX the chunk x coordinate
+     * @param sectionY the section y coordinate
+     * @param chunkZ the chunk z coordinate
+     * @param from the index of the first position in the section, inclusive
+     * @param to the index of the last position in the section, exclusive
+     */
+    void accept(int chunkX, int sectionY, int chunkZ, int from, int to);
+  }
+}
@@ -0,0 +1,466 @@
+/*
+ * Copyright 2020-2025 Moros
+ *
+ * This file is part of Math.
+ *
+ * Math is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Math is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Math. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package me.moros.math;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * The 26 directions from a block towards its neighbours.
+ * <p>The first 6 constants are the block faces, followed by the 4 horizontal diagonals, the 8 vertical edges and the
+ * 8 corners. Unit vectors are cached so lookups never allocate.
+ */
+public enum Direction {
+  /**
+   * [1, 0, 0]
+   */
+  EAST(1, 0, 0),
+  /**
+   * [0, 1, 0]
+   */
+  UP(0, 1, 0),
+  /**
+   * [0, 0, 1]
+   */
+  SOUTH(0, 0, 1),
+  /**
+   * [-1, 0, 0]
+   */
+  WEST(-1, 0, 0),
+  /**
+   * [0, -1, 0]
+   */
+  DOWN(0, -1, 0),
+  /**
+   * [0, 0, -1]
+   */
+  NORTH(0, 0, -1),
+  /**
+   * [1, 0, 1]
+   */
+  SOUTH_EAST(1, 0, 1),
+  /**
+   * [-1, 0, 1]
+   */
+  SOUTH_WEST(-1, 0, 1),
+  /**
+   * [-1, 0, -1]
+   */
+  NORTH_WEST(-1, 0, -1),
+  /**
+   * [1, 0, -1]
+   */
+  NORTH_EAST(1, 0, -1),
+  /**
+   * [1, 1, 0]
+   */
+  UP_EAST(1, 1, 0),
+  /**
+   * [0, 1, 1]
+   */
+  UP_SOUTH(0, 1, 1),
+  /**
+   * [-1, 1, 0]
+   */
+  UP_WEST(-1, 1, 0),
+  /**
+   * [0, 1, -1]
+   */
+  UP_NORTH(0, 1, -1),
+  /**
+   * [1, -1, 0]
+   */
+  DOWN_EAST(1, -1, 0),
+  /**
+   * [0, -1, 1]
+   */
+  DOWN_SOUTH(0, -1, 1),
+  /**
+   * [-1, -1, 0]
+   */
+  DOWN_WEST(-1, -1, 0),
+  /**
+   * [0, -1, -1]
+   */
+  DOWN_NORTH(0, -1, -1),
+  /**
+   * [1, 1, 1]
+   */
+  UP_SOUTH_EAST(1, 1, 1),
+  /**
+   * [-1, 1, 1]
+   */
+  UP_SOUTH_WEST(-1, 1, 1),
+  /**
+   * [-1, 1, -1]
+   */
+  UP_NORTH_WEST(-1, 1, -1),
+  /**
+   * [1, 1, -1]
+   */
+  UP_NORTH_EAST(1, 1, -1),
+  /**
+   * [1, -1, 1]
+   */
+  DOWN_SOUTH_EAST(1, -1, 1),
+  /**
+   * [-1, -1, 1]
+   */
+  DOWN_SOUTH_WEST(-1, -1, 1),
+  /**
+   * [-1, -1, -1]
+   */
+  DOWN_NORTH_WEST(-1, -1, -1),
+  /**
+   * [1, -1, -1]
+   */
+  DOWN_NORTH_EAST(1, -1, -1);
+
+  /**
+   * The 6 block faces.
+   */
+  public static final Set<Direction> FACES = Collections.unmodifiableSet(EnumSet.range(EAST, NORTH));
+  /**
+   * The 6 block faces and the 4 horizontal diagonals.
+   */
+  public static final Set<Direction> FACES_AND_DIAGONALS = Collections.unmodifiableSet(EnumSet.range(EAST, NORTH_EAST));
+  /**
+   * All 26 directions.
+   */
+  public static final Set<Direction> ALL = Collections.unmodifiableSet(EnumSet.allOf(Direction.class));
+
+  private static final double INV_SQRT_2 = 1 / Math.sqrt(2);
+  private static final double INV_SQRT_3 = 1 / Math.sqrt(3);
+  private static final Direction[] BY_OFFSET = new Direction[27];
+
+  static {
+    for (Direction direction : values()) {
+      BY_OFFSET[offsetIndex(direction.x, direction.y, direction.z)] = direction;
+    }
+  }
+
+  private final int x;
+  private final int y;
+  private final int z;
+  private final Vector3i vector3i;
+  private final Vector3d vector3d;
+
+  Direction(int x, int y, int z) {
+    this.x = x;
+    this.y = y;
+    this.z = z;
+    this.vector3i = Vector3i.of(x, y, z);
+    this.vector3d = Vector3d.of(x, y, z).normalize();
+  }
+
+  /**
+   * Get the x component of this direction's offset.
+   * @return the x offset, one of -1, 0 or 1
+   */
+  public int x() {
+    return x;
+  }
+
+  /**
+   * Get the y component of this direction's offset.
+   * @return the y offset, one of -1, 0 or 1
+   */
+  public int y() {
+    return y;
+  }
+
+  /**
+   * Get the z component of this direction's offset.
+   * @return the z offset, one of -1, 0 or 1
+   */
+  public int z() {
+    return z;
+  }
+
+  /**
+   * Get the offset of this direction.
+   * @return the cached integer offset vector
+   */
+  public Vector3i toVector3i() {
+    return vector3i;
+  }
+
+  /**
+   * Get the unit vector of this direction.
+   * @return the cached normalized vector
+   */
+  public Vector3d toVector3d() {
+    return vector3d;
+  }
+
+  /**
+   * Check if this direction is one of the 6 block faces.
+   * @return true if this is a face, false otherwise
+   */
+  public boolean isFace() {
+    return ordinal() <= NORTH.ordinal();
+  }
+
+  /**
+   * Get the opposite direction.
+   * @return the opposite direction
+   */
+  public Direction opposite() {
+    return BY_OFFSET[offsetIndex(-x, -y, -z)];
+  }
+
+  /**
+   * Rotate this direction counter-clockwise around the x axis, when looking from the positive end of the axis.
+   * @param quarterTurns the amount of 90 degree turns, negative values rotate clockwise
+   * @return the rotated direction
+   */
+  public Direction rotateX(int quarterTurns) {
+    return switch (quarterTurns & 3) {
+      case 1 -> BY_OFFSET[offsetIndex(x, -z, y)];
+      case 2 -> BY_OFFSET[offsetIndex(x, -y, -z)];
+      case 3 -> BY_OFFSET[offsetIndex(x, z, -y)];
+      default -> this;
+    };
+  }
+
+  /**
+   * Rotate this direction counter-clockwise around the y axis, when looking from the positive end of the axis.
+   * @param quarterTurns the amount of 90 degree turns, negative values rotate clockwise
+   * @return the rotated direction
+   */
+  public Direction rotateY(int quarterTurns) {
+    return switch (quarterTurns & 3) {
+      case 1 -> BY_OFFSET[offsetIndex(z, y, -x)];
+      case 2 -> BY_OFFSET[offsetIndex(-x, y, -z)];
+      case 3 -> BY_OFFSET[offsetIndex(-z, y, x)];
+      default -> this;
+    };
+  }
+
+  /**
+   * Rotate this direction counter-clockwise around the z axis, when looking from the positive end of the axis.
+   * @param quarterTurns the amount of 90 degree turns, negative values rotate clockwise
+   * @return the rotated direction
+   */
+  public Direction rotateZ(int quarterTurns) {
+    return switch (quarterTurns & 3) {
+      case 1 -> BY_OFFSET[offsetIndex(-y, x, z)];
+      case 2 -> BY_OFFSET[offsetIndex(-x, -y, z)];
+      case 3 -> BY_OFFSET[offsetIndex(y, -x, z)];
+      default -> this;
+    };
+  }
+
+  /**
+   * Get the neighbouring block position in this direction.
+   * @param pos the block position
+   * @return a new vector offset by this direction
+   */
+  public Vector3i relative(Vector3i pos) {
+    return Vector3i.of(pos.blockX() + x, pos.blockY() + y, pos.blockZ() + z);
+  }
+
+  /**
+   * Get the neighbouring packed block position in this direction.
+   * @param packed the packed block position
+   * @return the packed position offset by this direction
+   * @see PackedPosition
+   */
+  public long relative(long packed) {
+    return PackedPosition.pack(PackedPosition.unpackX(packed) + x, PackedPosition.unpackY(packed) + y,
+      PackedPosition.unpackZ(packed) + z);
+  }
+
+  /**
+   * Get the direction matching the given offset.
+   * @param x the x offset, one of -1, 0 or 1
+   * @param y the y offset, one of -1, 0 or 1
+   * @param z the z offset, one of -1, 0 or 1
+   * @return the matching direction
+   * @throws IllegalArgumentException if the offset is zero or any component is out of range
+   */
+  public static Direction fromOffset(int x, int y, int z) {
+    if (x < -1 || x > 1 || y < -1 || y > 1 || z < -1 || z > 1 || (x == 0 && y == 0 && z == 0)) {
+      throw new IllegalArgumentException("Invalid direction offset [" + x + ", " + y + ", " + z + "]");
+    }
+    return BY_OFFSET[offsetIndex(x, y, z)];
+  }
+
+  /**
+   * Get the block face that most closely matches the given vector.
+   * @param dir the vector to check
+   * @return the closest matching face
+   * @see #nearestFace(double, double, double)
+   */
+  public static Direction nearestFace(Position dir) {
+    return nearestFace(dir.x(), dir.y(), dir.z());
+  }
+
+  /**
+   * Get the block face that most closely matches the given vector.
+   * A zero or invalid vector defaults to {@link #EAST}. Ties are resolved in the order {@link #EAST}, {@link #UP},
+   * {@link #SOUTH}, {@link #WEST}, {@link #DOWN} and {@link #NORTH}, so positive directions win over negative ones.
+   * @param x the x component
+   * @param y the y component
+   * @param z the z component
+   * @return the closest matching face
+   */
+  public static Direction nearestFace(double x, double y, double z) {
+    double ax = Math.abs(x);
+    double ay = Math.abs(y);
+    double az = Math.abs(z);
+    if (!(ax + ay + az > 0)) {
+      return EAST;
+    }
+    double max = Math.max(ax, Math.max(ay, az));
+    if (x == max) {
+      return EAST;
+    } else if (y == max) {
+      return UP;
+    } else if (z == max) {
+      return SOUTH;
+    } else if (ax == max) {
+      return WEST;
+    } else if (ay == max) {
+      return DOWN;
+    }
+    return NORTH;
+  }
+
+  /**
+   * Get the block face or horizontal diagonal that most closely matches the given vector.
+   * @param dir the vector to check
+   * @return the closest matching direction
+   * @see #nearestFaceOrDiagonal(double, double, double)
+   */
+  public static Direction nearestFaceOrDiagonal(Position dir) {
+    return nearestFaceOrDiagonal(dir.x(), dir.y(), dir.z());
+  }
+
+  /**
+   * Get the block face or horizontal diagonal that most closely matches the given vector.
+   * A zero or invalid vector defaults to {@link #EAST}. Faces win ties against diagonals and ties between faces are
+   * resolved as in {@link #nearestFace(double, double, double)}.
+   * @param x the x component
+   * @param y the y component
+   * @param z the z component
+   * @return the closest matching direction
+   */
+  public static Direction nearestFaceOrDiagonal(double x, double y, double z) {
+    Direction face = nearestFace(x, y, z);
+    double ax = Math.abs(x);
+    double az = Math.abs(z);
+    double faceDot = Math.max(ax, Math.max(Math.abs(y), az));
+    if ((ax + az) * INV_SQRT_2 > faceDot) {
+      return BY_OFFSET[offsetIndex(x >= 0 ? 1 : -1, 0, z >= 0 ? 1 : -1)];
+    }
+    return face;
+  }
+
+  /**
+   * Get the direction out of all 26 that most closely matches the given vector.
+   * @param dir the vector to check
+   * @return the closest matching direction
+   * @see #nearest(double, double, double)
+   */
+  public static Direction nearest(Position dir) {
+    return nearest(dir.x(), dir.y(), dir.z());
+  }
+
+  /**
+   * Get the direction out of all 26 that most closely matches the given vector.
+   * A zero or invalid vector defaults to {@link #EAST}.
+   * @param x the x component
+   * @param y the y component
+   * @param z the z component
+   * @return the closest matching direction
+   */
+  public static Direction nearest(double x, double y, double z) {
+    double ax = Math.abs(x);
+    double ay = Math.abs(y);
+    double az = Math.abs(z);
+    if (!(ax + ay + az > 0)) {
+      return EAST;
+    }
+    int sx = x >= 0 ? 1 : -1;
+    int sy = y >= 0 ? 1 : -1;
+    int sz = z >= 0 ? 1 : -1;
+    // Sort magnitudes in descending order, the best direction always uses the k largest components
+    double a, b, c;
+    int ma, mb, mc;
+    if (ax >= ay && ax >= az) {
+      a = ax;
+      ma = 0;
+      if (ay >= az) {
+        b = ay;
+        mb = 1;
+        c = az;
+        mc = 2;
+      } else {
+        b = az;
+        mb = 2;
+        c = ay;
+        mc = 1;
+      }
+    } else if (ay >= az) {
+      a = ay;
+      ma = 1;
+      if (ax >= az) {
+        b = ax;
+        mb = 0;
+        c = az;
+        mc = 2;
+      } else {
+        b = az;
+        mb = 2;
+        c = ax;
+        mc = 0;
+      }
+    } else {
+      a = az;
+      ma = 2;
+      if (ax >= ay) {
+        b = ax;
+        mb = 0;
+        c = ay;
+        mc = 1;
+      } else {
+        b = ay;
+        mb = 1;
+        c = ax;
+        mc = 0;
+      }
+    }
+    double edge = (a + b) * INV_SQRT_2;
+    double corner = (a + b + c) * INV_SQRT_3;
+    int mask = 1 << ma;
+    if (corner > a && corner > edge) {
+      mask |= (1 << mb) | (1 << mc);
+    } else if (edge > a) {
+      mask |= 1 << mb;
+    }
+    return BY_OFFSET[offsetIndex((mask & 1) == 0 ? 0 : sx, (mask & 2) == 0 ? 0 : sy, (mask & 4) == 0 ? 0 : sz)];
+  }
+
+  private static int offsetIndex(int x, int y, int z) {
+    return 9 * (x + 1) + 3 * (y + 1) + (z + 1);
+  }
+}
@@ -19,9 +19,21 @@
 
 package me.moros.math;
 
+import org.jspecify.annotations.Nullable;
+
 record DoublePoint(double x, double y, double z) implements Vector3d {
+  @Override
+  public boolean equals(@Nullable Object obj) {
+    return Vectors.equals(this, obj);
+  }
+
+  @Override
+  public int hashCode() {
+    return Vectors.hashCode(this);
+  }
+
   @Override
   public String toString() {
-    return "[" + x() + ", " + y() + ", " + z() + "]";
+    return Vectors.toString(this);
   }
 }
@@ -19,6 +19,8 @@
 
 package me.moros.math;
 
+import java.util.Objects;
+
 record DoubleQuaternion(double q0, double q1, double q2, double q3) implements Rotation {
   @Override
   public double[][] getMatrix() {
@@ -63,6 +65,16 @@ record DoubleQuaternion(double q0, double q1, double q2, double q3) implements R
     return apply(x, y, z, -q0);
   }
 
+  @Override
+  public void applyTo(double[] in, int inOffset, double[] out, int outOffset, int count) {
+    apply(in, inOffset, out, outOffset, count, q0);
+  }
+
+  @Override
+  public void applyInverseTo(double[] in, int inOffset, double[] out, int outOffset, int count) {
+    apply(in, inOffset, out, outOffset, count, -q0);
+  }
+
   @Override
   public Rotation applyTo(Rotation r) {
     return apply(r, r.q0(), r.q1(), r.q2(), r.q3());
@@ -80,6 +92,22 @@ record DoubleQuaternion(double q0, double q1, double q2, double q3) implements R
       2 * (m0 * (z * m0 - (q1 * y - q2 * x)) + s * q3) - z);
   }
 
+  private void apply(double[] in, int inOffset, double[] out, int outOffset, int count, double m0) {
+    Objects.checkFromIndexSize(inOffset, 3L * count, in.length);
+    Objects.checkFromIndexSize(outOffset, 3L * count, out.length);
+    for (int i = 0; i < count; i++) {
+      int inIdx = inOffset + 3 * i;
+      int outIdx = outOffset + 3 * i;
+      double x = in[inIdx];
+      double y = in[inIdx + 1];
+      double z = in[inIdx + 2];
+      double s = q1 * x + q2 * y + q3 * z;
+      out[outIdx] = 2 * (m0 * (x * m0 - (q2 * z - q3 * y)) + s * q1) - x;
+      out[outIdx + 1] = 2 * (m0 * (y * m0 - (q3 * x - q1 * z)) + s * q2) - y;
+      out[outIdx + 2] = 2 * (m0 * (z * m0 - (q1 * y - q2 * x)) + s * q3) - z;
+    }
+  }
+
   private Rotation apply(Rotation r, double m0, double m1, double m2, double m3) {
     return new DoubleQuaternion(m0 * q0 - (r.q1() * q1 + r.q2() * q2 + r.q3() * q3),
       m1 * q0 + r.q0() * q1 + (r.q2() * q3 - r.q3() * q2),
@@ -20,9 +20,22 @@
 package me.moros.math;
 
 /**
- * Math utility for rounding numbers according to Minecraft's coordinate system.
+ * Math utility for rounding numbers according to Minecraft's coordinate system and approximating trigonometric
+ * functions.
  */
 public final class FastMath {
+  private static final int SIN_BITS = 16;
+  private static final int SIN_MASK = (1 << SIN_BITS) - 1;
+  private static final int QUARTER_TURN = 1 << (SIN_BITS - 2);
+  private static final double RAD_TO_INDEX = (1 << SIN_BITS) / (2 * Math.PI);
+  private static final float[] SIN_TABLE = new float[1 << SIN_BITS];
+
+  static {
+    for (int i = 0; i < SIN_TABLE.length; i++) {
+      SIN_TABLE[i] = (float) Math.sin(i / RAD_TO_INDEX);
+    }
+  }
+
   private FastMath() {
   }
 
@@ -54,4 +67,52 @@ public final class FastMath {
   public static int round(double value) {
     return floor(value + 0.5);
   }
+
+  /**
+   * Approximate the sine of an angle using the nearest entry of a lookup table with 65536 entries per turn.
+   * The absolute error is less than 5e-5 for angles up to 1e9 radians in magnitude.
+   * @param radians the angle in radians
+   * @return the approximate sine of the angle
+   */
+  public static double sin(double radians) {
+    return SIN_TABLE[(int) (Math.round(radians * RAD_TO_INDEX) & SIN_MASK)];
+  }
+
+  /**
+   * Approximate the cosine of an angle using the nearest entry of a lookup table with 65536 entries per turn.
+   * The absolute error is less than 5e-5 for angles up to 1e9 radians in magnitude.
+   * @param radians the angle in radians
+   * @return the approximate cosine of the angle
+   */
+  public static double cos(double radians) {
+    return SIN_TABLE[(int) ((Math.round(radians * RAD_TO_INDEX) + QUARTER_TURN) & SIN_MASK)];
+  }
+
+  /**
+   * Approximate the angle of a point from the positive x axis using a polynomial after octant reduction.
+   * The absolute error is less than 1e-5 radians.
+   * @param y the y coordinate
+   * @param x the x coordinate
+   * @return the approximate angle in radians, in the range [-PI, PI]
+   * @see Math#atan2(double, double)
+   */
+  public static double atan2(double y, double x) {
+    double ax = Math.abs(x);
+    double ay = Math.abs(y);
+    double max = Math.max(ax, ay);
+    if (max == 0 || !Double.isFinite(max)) {
+      return Math.atan2(y, x);
+    }
+    double t = Math.min(ax, ay) / max;
+    double t2 = t * t;
+    double r = t * (0.99997726 + t2 * (-0.33262347 + t2 * (0.19354346 + t2 * (-0.11643287 + t2 * (0.05265332
+      + t2 * -0.01172120)))));
+    if (ay > ax) {
+      r = 0.5 * Math.PI - r;
+    }
+    if (x < 0) {
+      r = Math.PI - r;
+    }
+    return y < 0 ? -r : r;
+  }
 }
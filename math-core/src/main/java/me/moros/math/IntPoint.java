@@ -19,9 +19,21 @@
 
 package me.moros.math;
 
+import org.jspecify.annotations.Nullable;
+
 record IntPoint(int blockX, int blockY, int blockZ) implements Vector3i {
+  @Override
+  public boolean equals(@Nullable Object obj) {
+    return Vectors.equals(this, obj);
+  }
+
+  @Override
+  public int hashCode() {
+    return Vectors.hashCode(this);
+  }
+
   @Override
   public String toString() {
-    return "[" + blockX() + ", " + blockY() + ", " + blockZ() + "]";
+    return Vectors.toString(this);
   }
 }
@@ -0,0 +1,114 @@
+/*
+ * Copyright 2020-2025 Moros
+ *
+ * This file is part of Math.
+ *
+ * Math is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Math is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Math. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package me.moros.math;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+import me.moros.math.function.IntTriConsumer;
+
+/**
+ * 3D Bresenham line rasterization that visits every block between two points exactly once.
+ */
+final class LineRasterizer implements Spliterator<Vector3i> {
+  private final int sx, sy, sz;
+  private final long dx2, dy2, dz2, n2;
+  private int x, y, z;
+  private long ex, ey, ez;
+  private long remaining;
+
+  LineRasterizer(int x1, int y1, int z1, int x2, int y2, int z2) {
+    long dx = Math.abs((long) x2 - x1);
+    long dy = Math.abs((long) y2 - y1);
+    long dz = Math.abs((long) z2 - z1);
+    long n = Math.max(dx, Math.max(dy, dz));
+    this.sx = Long.signum((long) x2 - x1);
+    this.sy = Long.signum((long) y2 - y1);
+    this.sz = Long.signum((long) z2 - z1);
+    this.dx2 = 2 * dx;
+    this.dy2 = 2 * dy;
+    this.dz2 = 2 * dz;
+    this.n2 = 2 * n;
+    this.x = x1;
+    this.y = y1;
+    this.z = z1;
+    this.ex = dx2 - n;
+    this.ey = dy2 - n;
+    this.ez = dz2 - n;
+    this.remaining = n + 1;
+  }
+
+  static int rasterize(int x1, int y1, int z1, int x2, int y2, int z2, IntTriConsumer consumer) {
+    LineRasterizer line = new LineRasterizer(x1, y1, z1, x2, y2, z2);
+    int count = 0;
+    while (line.remaining > 0) {
+      consumer.accept(line.x, line.y, line.z);
+      line.step();
+      count++;
+    }
+    return count;
+  }
+
+  private void step() {
+    if (--remaining <= 0) {
+      return;
+    }
+    if (ex >= 0) {
+      x += sx;
+      ex -= n2;
+    }
+    if (ey >= 0) {
+      y += sy;
+      ey -= n2;
+    }
+    if (ez >= 0) {
+      z += sz;
+      ez -= n2;
+    }
+    ex += dx2;
+    ey += dy2;
+    ez += dz2;
+  }
+
+  @Override
+  public boolean tryAdvance(Consumer<? super Vector3i> action) {
+    if (remaining <= 0) {
+      return false;
+    }
+    action.accept(Vector3i.of(x, y, z));
+    step();
+    return true;
+  }
+
+  @Override
+  public Spliterator<Vector3i> trySplit() {
+    return null;
+  }
+
+  @Override
+  public long estimateSize() {
+    return Math.max(0, remaining);
+  }
+
+  @Override
+  public int characteristics() {
+    return ORDERED | DISTINCT | SIZED | NONNULL | IMMUTABLE;
+  }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2020-2025 Moros
+ *
+ * This file is part of Math.
+ *
+ * Math is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Math is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Math. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package me.moros.math;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * Lazy sampling of points at a fixed spacing along a line segment.
+ */
+final class LineSampler implements Spliterator<Vector3d> {
+  private final double x, y, z;
+  private final double dx, dy, dz;
+  private int index;
+  private final int fence;
+
+  LineSampler(double x, double y, double z, double dx, double dy, double dz, int index, int fence) {
+    this.x = x;
+    this.y = y;
+    this.z = z;
+    this.dx = dx;
+    this.dy = dy;
+    this.dz = dz;
+    this.index = index;
+    this.fence = fence;
+  }
+
+  @Override
+  public boolean tryAdvance(Consumer<? super Vector3d> action) {
+    if (index >= fence) {
+      return false;
+    }
+    int i = index++;
+    action.accept(Vector3d.of(x + i * dx, y + i * dy, z + i * dz));
+    return true;
+  }
+
+  @Override
+  public Spliterator<Vector3d> trySplit() {
+    int lo = index;
+    int mid = (lo + fence) >>> 1;
+    if (lo >= mid) {
+      return null;
+    }
+    index = mid;
+    return new LineSampler(x, y, z, dx, dy, dz, lo, mid);
+  }
+
+  @Override
+  public long estimateSize() {
+    return fence - index;
+  }
+
+  @Override
+  public int characteristics() {
+    return ORDERED | SIZED | SUBSIZED | NONNULL | IMMUTABLE;
+  }
+}
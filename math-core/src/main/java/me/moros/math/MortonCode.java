@@ -0,0 +1,220 @@
+/*
+ * Copyright 2020-2025 Moros
+ *
+ * This file is part of Math.
+ *
+ * Math is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Math is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Math. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package me.moros.math;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+import me.moros.math.internal.RadixSort;
+
+/**
+ * Utility for encoding block coordinates as Morton codes (Z-order curve).
+ * <p>Morton codes interleave the bits of each coordinate, so sorting by code keeps spatially close blocks close in
+ * memory. Codes cover the same coordinate range as {@link PackedPosition}: 26 bits for x and z and 12 bits for y.
+ * The low 12 bits of all three axes are interleaved into the low 36 bits of the code, and the remaining 14 high bits
+ * of x and z are interleaved above them. Blocks within the same aligned 4096 block cube are therefore in 3D Z-order,
+ * and those cubes are in 2D Z-order along the horizontal plane.
+ * <p>Coordinates are offset to be non-negative before interleaving, so sorting codes as unsigned values also
+ * orders positions along each axis. Bits are interleaved in y, z, x order from most to least significant, matching
+ * {@link ChunkUtil#localIndex(int, int, int)} within a section.
+ */
+public final class MortonCode {
+  private static final int XZ_BIAS = 1 << 25;
+  private static final int Y_BIAS = 1 << 11;
+  private static final int LOW_BITS = 12;
+  private static final int LOW_MASK = (1 << LOW_BITS) - 1;
+  private static final int HIGH_SHIFT = 3 * LOW_BITS;
+
+  private MortonCode() {
+  }
+
+  /**
+   * Encode the given block coordinates. Coordinates outside the supported range wrap around and do not decode to
+   * the same values.
+   * @param x the x coordinate, in the range [-2^25, 2^25)
+   * @param y the y coordinate, in the range [-2^11, 2^11)
+   * @param z the z coordinate, in the range [-2^25, 2^25)
+   * @return the Morton code
+   */
+  public static long encode(int x, int y, int z) {
+    int bx = x + XZ_BIAS;
+    int by = y + Y_BIAS;
+    int bz = z + XZ_BIAS;
+    long low = (spread3(by & LOW_MASK) << 2) | (spread3(bz & LOW_MASK) << 1) | spread3(bx & LOW_MASK);
+    long high = (spread2(bz >>> LOW_BITS) << 1) | spread2(bx >>> LOW_BITS);
+    return (high << HIGH_SHIFT) | low;
+  }
+
+  /**
+   * Encode the given position.
+   * @param pos the block position
+   * @return the Morton code
+   * @see #encode(int, int, int)
+   */
+  public static long encode(Vector3i pos) {
+    return encode(pos.blockX(), pos.blockY(), pos.blockZ());
+  }
+
+  /**
+   * Encode a packed block position.
+   * @param packed the packed position
+   * @return the Morton code
+   * @see PackedPosition
+   */
+  public static long encodePacked(long packed) {
+    return encode(PackedPosition.unpackX(packed), PackedPosition.unpackY(packed), PackedPosition.unpackZ(packed));
+  }
+
+  /**
+   * Get the x coordinate of a Morton code.
+   * @param code the Morton code
+   * @return the x coordinate
+   */
+  public static int decodeX(long code) {
+    int low = compact3(code);
+    int high = compact2(code >>> HIGH_SHIFT);
+    return ((high << LOW_BITS) | low) - XZ_BIAS;
+  }
+
+  /**
+   * Get the y coordinate of a Morton code.
+   * @param code the Morton code
+   * @return the y coordinate
+   */
+  public static int decodeY(long code) {
+    return compact3(code >>> 2) - Y_BIAS;
+  }
+
+  /**
+   * Get the z coordinate of a Morton code.
+   * @param code the Morton code
+   * @return the z coordinate
+   */
+  public static int decodeZ(long code) {
+    int low = compact3(code >>> 1);
+    int high = compact2(code >>> (HIGH_SHIFT + 1));
+    return ((high << LOW_BITS) | low) - XZ_BIAS;
+  }
+
+  /**
+   * Decode a Morton code into a vector.
+   * @param code the Morton code
+   * @return the block position
+   */
+  public static Vector3i decode(long code) {
+    return Vector3i.of(decodeX(code), decodeY(code), decodeZ(code));
+  }
+
+  /**
+   * Decode a Morton code into a packed block position.
+   * @param code the Morton code
+   * @return the packed position
+   * @see PackedPosition
+   */
+  public static long decodePacked(long code) {
+    return PackedPosition.pack(decodeX(code), decodeY(code), decodeZ(code));
+  }
+
+  /**
+   * Reorder a range of packed block positions into Z-order, in linear time.
+   * Equal positions keep their relative order.
+   * @param packed the array of packed block positions
+   * @param from the index of the first position, inclusive
+   * @param to the index of the last position, exclusive
+   * @throws IndexOutOfBoundsException if the range is out of bounds
+   */
+  public static void sort(long[] packed, int from, int to) {
+    Objects.checkFromToIndex(from, to, packed.length);
+    long[] keys = new long[to - from];
+    for (int i = from; i < to; i++) {
+      keys[i - from] = encodePacked(packed[i]);
+    }
+    RadixSort.sort(keys, 0, packed, from, keys.length, Long.SIZE);
+  }
+
+  /**
+   * Reorder block positions stored as consecutive xyz integer triples into Z-order, in linear time.
+   * Equal positions keep their relative order. The triples themselves are moved, never re-encoded, so positions
+   * outside the range supported by {@link #encode(int, int, int)} are kept intact, but their order is unspecified.
+   * @param xyz the array of coordinates
+   * @param offset the index of the first component
+   * @param count the amount of positions
+   * @throws IndexOutOfBoundsException if the range is out of bounds
+   */
+  public static void sort(int[] xyz, int offset, int count) {
+    Objects.checkFromIndexSize(offset, 3L * count, xyz.length);
+    long[] keys = new long[count];
+    long[] order = new long[count];
+    for (int i = 0; i < count; i++) {
+      int idx = offset + 3 * i;
+      keys[i] = encode(xyz[idx], xyz[idx + 1], xyz[idx + 2]);
+      order[i] = i;
+    }
+    RadixSort.sort(keys, 0, order, 0, count, Long.SIZE);
+    int[] triples = Arrays.copyOfRange(xyz, offset, offset + 3 * count);
+    for (int i = 0; i < count; i++) {
+      int idx = offset + 3 * i;
+      int src = 3 * (int) order[i];
+      xyz[idx] = triples[src];
+      xyz[idx + 1] = triples[src + 1];
+      xyz[idx + 2] = triples[src + 2];
+    }
+  }
+
+  // Insert two zero bits between each of the low 12 bits
+  private static long spread3(int value) {
+    long x = value & 0xFFF;
+    x = (x | (x << 16)) & 0x00FF_0000_FFL;
+    x = (x | (x << 8)) & 0x000F_00F0_0F00_F00FL;
+    x = (x | (x << 4)) & 0x00C3_0C30_C30C_30C3L;
+    x = (x | (x << 2)) & 0x0249_2492_4924_9249L;
+    return x;
+  }
+
+  // Inverse of spread3
+  private static int compact3(long code) {
+    long x = code & 0x0002_4924_9249L;
+    x = (x | (x >>> 2)) & 0x00C3_0C30_C30C_30C3L;
+    x = (x | (x >>> 4)) & 0x000F_00F0_0F00_F00FL;
+    x = (x | (x >>> 8)) & 0x00FF_0000_FFL;
+    x = (x | (x >>> 16)) & 0xFFFL;
+    return (int) x;
+  }
+
+  // Insert a zero bit between each of the low 14 bits
+  private static long spread2(int value) {
+    long x = value & 0x3FFF;
+    x = (x | (x << 8)) & 0x00FF00FFL;
+    x = (x | (x << 4)) & 0x0F0F0F0FL;
+    x = (x | (x << 2)) & 0x33333333L;
+    x = (x | (x << 1)) & 0x55555555L;
+    return x;
+  }
+
+  // Inverse of spread2
+  private static int compact2(long code) {
+    long x = code & 0x55555555L;
+    x = (x | (x >>> 1)) & 0x33333333L;
+    x = (x | (x >>> 2)) & 0x0F0F0F0FL;
+    x = (x | (x >>> 4)) & 0x00FF00FFL;
+    x = (x | (x >>> 8)) & 0x0000FFFFL;
+    return (int) x;
+  }
+}
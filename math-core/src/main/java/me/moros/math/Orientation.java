@@ -0,0 +1,252 @@
+/*
+ * Copyright 2020-2025 Moros
+ *
+ * This file is part of Math.
+ *
+ * Math is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Math is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Math. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package me.moros.math;
+
+/**
+ * Utility for converting between yaw and pitch angles, direction vectors and rotations.
+ * <p>Angles follow Minecraft's conventions and are measured in degrees. A yaw of 0 faces the positive z axis and
+ * increases clockwise when viewed from above, so a yaw of 90 faces the negative x axis. A pitch of 0 is horizontal
+ * and positive pitch faces downwards. Rotations map the forward direction for a yaw and pitch of 0,
+ * {@link Vector3d#PLUS_K}, to the facing direction without introducing roll.
+ * <p>Each conversion has a precise variant and a fast variant that uses {@link FastMath#sin(double)},
+ * {@link FastMath#cos(double)} and {@link FastMath#atan2(double, double)}, which is accurate enough for per-tick
+ * entity facing updates. Fast direction and rotation components differ from the precise ones by less than 1e-4,
+ * fast yaw and pitch angles by less than 6e-4 degrees, and the forward direction of a fast look-at rotation by less
+ * than 5e-4. Methods that return primitives or write into arrays do not allocate.
+ * <p>{@link Rotation#between(Position, Position)} only needs arithmetic and a square root, so it has no fast variant.
+ */
+public final class Orientation {
+  private static final double DEG_TO_RAD = Math.PI / 180;
+  private static final double RAD_TO_DEG = 180 / Math.PI;
+
+  private Orientation() {
+  }
+
+  /**
+   * Compute the unit direction vector for the given angles.
+   * @param yaw the yaw in degrees
+   * @param pitch the pitch in degrees
+   * @return a new normalized direction vector
+   */
+  public static Vector3d direction(double yaw, double pitch) {
+    double y = yaw * DEG_TO_RAD;
+    double p = pitch * DEG_TO_RAD;
+    double cosPitch = Math.cos(p);
+    return Vector3d.of(-Math.sin(y) * cosPitch, -Math.sin(p), Math.cos(y) * cosPitch);
+  }
+
+  /**
+   * Compute the unit direction vector for the given angles and store it in an array.
+   * @param yaw the yaw in degrees
+   * @param pitch the pitch in degrees
+   * @param out the array to store the xyz components in
+   * @param offset the index to store the x component at
+   * @throws IndexOutOfBoundsException if the array does not have room for three components
+   */
+  public static void direction(double yaw, double pitch, double[] out, int offset) {
+    double y = yaw * DEG_TO_RAD;
+    double p = pitch * DEG_TO_RAD;
+    double cosPitch = Math.cos(p);
+    out[offset] = -Math.sin(y) * cosPitch;
+    out[offset + 1] = -Math.sin(p);
+    out[offset + 2] = Math.cos(y) * cosPitch;
+  }
+
+  /**
+   * Approximate the unit direction vector for the given angles.
+   * @param yaw the yaw in degrees
+   * @param pitch the pitch in degrees
+   * @return a new direction vector
+   * @see #direction(double, double)
+   */
+  public static Vector3d fastDirection(double yaw, double pitch) {
+    double y = yaw * DEG_TO_RAD;
+    double p = pitch * DEG_TO_RAD;
+    double cosPitch = FastMath.cos(p);
+    return Vector3d.of(-FastMath.sin(y) * cosPitch, -FastMath.sin(p), FastMath.cos(y) * cosPitch);
+  }
+
+  /**
+   * Approximate the unit direction vector for the given angles and store it in an array.
+   * @param yaw the yaw in degrees
+   * @param pitch the pitch in degrees
+   * @param out the array to store the xyz components in
+   * @param offset the index to store the x component at
+   * @throws IndexOutOfBoundsException if the array does not have room for three components
+   * @see #direction(double, double, double[], int)
+   */
+  public static void fastDirection(double yaw, double pitch, double[] out, int offset) {
+    double y = yaw * DEG_TO_RAD;
+    double p = pitch * DEG_TO_RAD;
+    double cosPitch = FastMath.cos(p);
+    out[offset] = -FastMath.sin(y) * cosPitch;
+    out[offset + 1] = -FastMath.sin(p);
+    out[offset + 2] = FastMath.cos(y) * cosPitch;
+  }
+
+  /**
+   * Compute the yaw of a direction.
+   * @param direction the direction, it does not need to be normalized
+   * @return the yaw in degrees, in the range [-180, 180]
+   */
+  public static double yaw(Position direction) {
+    return yaw(direction.x(), direction.z());
+  }
+
+  /**
+   * Compute the yaw of a direction.
+   * @param x the x component of the direction
+   * @param z the z component of the direction
+   * @return the yaw in degrees, in the range [-180, 180]
+   */
+  public static double yaw(double x, double z) {
+    return Math.atan2(-x, z) * RAD_TO_DEG;
+  }
+
+  /**
+   * Compute the pitch of a direction.
+   * @param direction the direction, it does not need to be normalized
+   * @return the pitch in degrees, in the range [-90, 90]
+   */
+  public static double pitch(Position direction) {
+    return pitch(direction.x(), direction.y(), direction.z());
+  }
+
+  /**
+   * Compute the pitch of a direction.
+   * @param x the x component of the direction
+   * @param y the y component of the direction
+   * @param z the z component of the direction
+   * @return the pitch in degrees, in the range [-90, 90]
+   */
+  public static double pitch(double x, double y, double z) {
+    return Math.atan2(-y, Math.sqrt(x * x + z * z)) * RAD_TO_DEG;
+  }
+
+  /**
+   * Approximate the yaw of a direction.
+   * @param x the x component of the direction
+   * @param z the z component of the direction
+   * @return the yaw in degrees, in the range [-180, 180]
+   * @see #yaw(double, double)
+   */
+  public static double fastYaw(double x, double z) {
+    return FastMath.atan2(-x, z) * RAD_TO_DEG;
+  }
+
+  /**
+   * Approximate the pitch of a direction.
+   * @param x the x component of the direction
+   * @param y the y component of the direction
+   * @param z the z component of the direction
+   * @return the pitch in degrees, in the range [-90, 90]
+   * @see #pitch(double, double, double)
+   */
+  public static double fastPitch(double x, double y, double z) {
+    return FastMath.atan2(-y, Math.sqrt(x * x + z * z)) * RAD_TO_DEG;
+  }
+
+  /**
+   * Compute the yaw of the direction that a rotation maps {@link Vector3d#PLUS_K} to.
+   * @param rotation the rotation
+   * @return the yaw in degrees, in the range [-180, 180]
+   */
+  public static double yaw(Rotation rotation) {
+    return yaw(forwardX(rotation), forwardZ(rotation));
+  }
+
+  /**
+   * Compute the pitch of the direction that a rotation maps {@link Vector3d#PLUS_K} to.
+   * @param rotation the rotation
+   * @return the pitch in degrees, in the range [-90, 90]
+   */
+  public static double pitch(Rotation rotation) {
+    return pitch(forwardX(rotation), forwardY(rotation), forwardZ(rotation));
+  }
+
+  /**
+   * Build the rotation for the given angles.
+   * @param yaw the yaw in degrees
+   * @param pitch the pitch in degrees
+   * @return a rotation that maps {@link Vector3d#PLUS_K} to the direction for the given angles
+   */
+  public static Rotation rotation(double yaw, double pitch) {
+    double y = 0.5 * yaw * DEG_TO_RAD;
+    double p = 0.5 * pitch * DEG_TO_RAD;
+    return rotation(Math.cos(y), Math.sin(y), Math.cos(p), Math.sin(p));
+  }
+
+  /**
+   * Approximate the rotation for the given angles.
+   * @param yaw the yaw in degrees
+   * @param pitch the pitch in degrees
+   * @return a rotation that maps {@link Vector3d#PLUS_K} to the direction for the given angles
+   * @see #rotation(double, double)
+   */
+  public static Rotation fastRotation(double yaw, double pitch) {
+    double y = 0.5 * yaw * DEG_TO_RAD;
+    double p = 0.5 * pitch * DEG_TO_RAD;
+    return rotation(FastMath.cos(y), FastMath.sin(y), FastMath.cos(p), FastMath.sin(p));
+  }
+
+  /**
+   * Build a rotation that faces from one position towards another without roll.
+   * @param eye the position to look from
+   * @param target the position to look at
+   * @return a rotation that maps {@link Vector3d#PLUS_K} to the direction from eye to target
+   */
+  public static Rotation lookAt(Position eye, Position target) {
+    double dx = target.x() - eye.x();
+    double dy = target.y() - eye.y();
+    double dz = target.z() - eye.z();
+    return rotation(yaw(dx, dz), pitch(dx, dy, dz));
+  }
+
+  /**
+   * Approximate a rotation that faces from one position towards another without roll.
+   * @param eye the position to look from
+   * @param target the position to look at
+   * @return a rotation that maps {@link Vector3d#PLUS_K} to the direction from eye to target
+   * @see #lookAt(Position, Position)
+   */
+  public static Rotation fastLookAt(Position eye, Position target) {
+    double dx = target.x() - eye.x();
+    double dy = target.y() - eye.y();
+    double dz = target.z() - eye.z();
+    return fastRotation(fastYaw(dx, dz), fastPitch(dx, dy, dz));
+  }
+
+  // Composition of the pitch rotation around the x axis followed by the yaw rotation around the y axis
+  private static Rotation rotation(double cosYaw, double sinYaw, double cosPitch, double sinPitch) {
+    return new DoubleQuaternion(cosYaw * cosPitch, -cosYaw * sinPitch, cosPitch * sinYaw, -sinYaw * sinPitch);
+  }
+
+  private static double forwardX(Rotation r) {
+    return 2 * (r.q1() * r.q3() - r.q0() * r.q2());
+  }
+
+  private static double forwardY(Rotation r) {
+    return 2 * (r.q0() * r.q1() + r.q2() * r.q3());
+  }
+
+  private static double forwardZ(Rotation r) {
+    return 2 * (r.q0() * r.q0() + r.q3() * r.q3()) - 1;
+  }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2020-2025 Moros
+ *
+ * This file is part of Math.
+ *
+ * Math is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Math is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Math. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package me.moros.math;
+
+/**
+ * Utility for packing block coordinates into a single long.
+ * <p>The layout matches Minecraft's block position encoding: 26 bits for x, 26 bits for z and 12 bits for y.
+ * Sorting packed values groups positions by x, then z, then y. Only x is in signed order, z and y are stored as
+ * raw two's complement fields so within a group negative values sort after non-negative ones.
+ */
+public final class PackedPosition {
+  private static final int XZ_BITS = 26;
+  private static final int Y_BITS = 12;
+  private static final long XZ_MASK = (1L << XZ_BITS) - 1;
+  private static final long Y_MASK = (1L << Y_BITS) - 1;
+  private static final int X_SHIFT = XZ_BITS + Y_BITS;
+  private static final int Z_SHIFT = Y_BITS;
+
+  private PackedPosition() {
+  }
+
+  /**
+   * Pack the given block coordinates.
+   * @param x the x coordinate
+   * @param y the y coordinate
+   * @param z the z coordinate
+   * @return the packed position
+   */
+  public static long pack(int x, int y, int z) {
+    return ((x & XZ_MASK) << X_SHIFT) | ((z & XZ_MASK) << Z_SHIFT) | (y & Y_MASK);
+  }
+
+  /**
+   * Get the x coordinate of a packed position.
+   * @param packed the packed position
+   * @return the x coordinate
+   */
+  public static int unpackX(long packed) {
+    return (int) (packed >> X_SHIFT);
+  }
+
+  /**
+   * Get the y coordinate of a packed position.
+   * @param packed the packed position
+   * @return the y coordinate
+   */
+  public static int unpackY(long packed) {
+    return (int) (packed << (Long.SIZE - Y_BITS) >> (Long.SIZE - Y_BITS));
+  }
+
+  /**
+   * Get the z coordinate of a packed position.
+   * @param packed the packed position
+   * @return the z coordinate
+   */
+  public static int unpackZ(long packed) {
+    return (int) (packed << XZ_BITS >> X_SHIFT);
+  }
+}
@@ -0,0 +1,263 @@
+/*
+ * Copyright 2020-2025 Moros
+ *
+ * This file is part of Math.
+ *
+ * Math is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Math is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Math. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package me.moros.math;
+
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import me.moros.math.internal.Instrumentation;
+import me.moros.math.internal.OperationProbe;
+
+/**
+ * Parallel variants of the bulk operations in {@link VectorArrays}, {@link Rotation} and {@link VectorPipeline}.
+ * <p>Ranges larger than the threshold are split in halves recursively and processed by a {@link ForkJoinPool}.
+ * Partitioning only depends on the amount of vectors and the threshold, and each vector is processed independently,
+ * so results are identical to the sequential operations. Ranges up to the threshold run on the calling thread.
+ */
+public final class ParallelVectorArrays {
+  /**
+   * The default amount of vectors below which operations run sequentially.
+   */
+  public static final int DEFAULT_THRESHOLD = 1 << 14;
+
+  private static final ParallelVectorArrays COMMON = new ParallelVectorArrays(ForkJoinPool.commonPool(), DEFAULT_THRESHOLD);
+
+  private final ForkJoinPool pool;
+  private final int threshold;
+
+  private ParallelVectorArrays(ForkJoinPool pool, int threshold) {
+    this.pool = pool;
+    this.threshold = threshold;
+  }
+
+  /**
+   * Get an instance that uses the common pool and the default threshold.
+   * @return an instance using the common pool
+   */
+  public static ParallelVectorArrays common() {
+    return COMMON;
+  }
+
+  /**
+   * Create an instance that uses the given pool and threshold.
+   * @param pool the pool to execute operations in
+   * @param threshold the maximum amount of vectors processed by a single task
+   * @return a new instance
+   * @throws IllegalArgumentException if threshold is not positive
+   */
+  public static ParallelVectorArrays of(ForkJoinPool pool, int threshold) {
+    Objects.requireNonNull(pool);
+    if (threshold <= 0) {
+      throw new IllegalArgumentException("Threshold must be positive, found " + threshold);
+    }
+    return new ParallelVectorArrays(pool, threshold);
+  }
+
+  /**
+   * Get the maximum amount of vectors processed by a single task.
+   * @return the threshold
+   */
+  public int threshold() {
+    return threshold;
+  }
+
+  /**
+   * Parallel variant of {@link VectorArrays#add(double[], int, double, double, double, double[], int, int)}.
+   * @param in the array of vectors
+   * @param inOffset the index of the first component to read
+   * @param dx the amount to add for the x coordinate
+   * @param dy the amount to add for the y coordinate
+   * @param dz the amount to add for the z coordinate
+   * @param out the array to store the results in (it can be the same array as in)
+   * @param outOffset the index of the first component to write
+   * @param count the amount of vectors
+   */
+  public void add(double[] in, int inOffset, double dx, double dy, double dz, double[] out, int outOffset, int count) {
+    checkRanges(in, inOffset, out, outOffset, count);
+    invoke("add", count, (from, size) -> VectorArrays.add(in, inOffset + 3 * from, dx, dy, dz, out, outOffset + 3 * from, size));
+  }
+
+  /**
+   * Parallel variant of {@link VectorArrays#subtract(double[], int, double, double, double, double[], int, int)}.
+   * @param in the array of vectors
+   * @param inOffset the index of the first component to read
+   * @param dx the amount to subtract for the x coordinate
+   * @param dy the amount to subtract for the y coordinate
+   * @param dz the amount to subtract for the z coordinate
+   * @param out the array to store the results in (it can be the same array as in)
+   * @param outOffset the index of the first component to write
+   * @param count the amount of vectors
+   */
+  public void subtract(double[] in, int inOffset, double dx, double dy, double dz, double[] out, int outOffset, int count) {
+    checkRanges(in, inOffset, out, outOffset, count);
+    invoke("subtract", count, (from, size) -> VectorArrays.subtract(in, inOffset + 3 * from, dx, dy, dz, out, outOffset + 3 * from, size));
+  }
+
+  /**
+   * Parallel variant of {@link VectorArrays#multiply(double[], int, double, double, double, double[], int, int)}.
+   * @param in the array of vectors
+   * @param inOffset the index of the first component to read
+   * @param ax scalar to multiply x with
+   * @param ay scalar to multiply y with
+   * @param az scalar to multiply z with
+   * @param out the array to store the results in (it can be the same array as in)
+   * @param outOffset the index of the first component to write
+   * @param count the amount of vectors
+   */
+  public void multiply(double[] in, int inOffset, double ax, double ay, double az, double[] out, int outOffset, int count) {
+    checkRanges(in, inOffset, out, outOffset, count);
+    invoke("multiply", count, (from, size) -> VectorArrays.multiply(in, inOffset + 3 * from, ax, ay, az, out, outOffset + 3 * from, size));
+  }
+
+  /**
+   * Parallel variant of {@link VectorArrays#normalize(double[], int, double[], int, int)}.
+   * @param in the array of vectors
+   * @param inOffset the index of the first component to read
+   * @param out the array to store the results in (it can be the same array as in)
+   * @param outOffset the index of the first component to write
+   * @param count the amount of vectors
+   */
+  public void normalize(double[] in, int inOffset, double[] out, int outOffset, int count) {
+    checkRanges(in, inOffset, out, outOffset, count);
+    invoke("normalize", count, (from, size) -> VectorArrays.normalize(in, inOffset + 3 * from, out, outOffset + 3 * from, size));
+  }
+
+  /**
+   * Parallel variant of {@link VectorArrays#floor(double[], int, double[], int, int)}.
+   * @param in the array of vectors
+   * @param inOffset the index of the first component to read
+   * @param out the array to store the results in (it can be the same array as in)
+   * @param outOffset the index of the first component to write
+   * @param count the amount of vectors
+   */
+  public void floor(double[] in, int inOffset, double[] out, int outOffset, int count) {
+    checkRanges(in, inOffset, out, outOffset, count);
+    invoke("floor", count, (from, size) -> VectorArrays.floor(in, inOffset + 3 * from, out, outOffset + 3 * from, size));
+  }
+
+  /**
+   * Parallel variant of {@link Rotation#applyTo(double[], int, double[], int, int)}.
+   * @param rotation the rotation to apply
+   * @param in the array of vectors
+   * @param inOffset the index of the first component to read
+   * @param out the array to store the results in (it can be the same array as in)
+   * @param outOffset the index of the first component to write
+   * @param count the amount of vectors
+   */
+  public void rotate(Rotation rotation, double[] in, int inOffset, double[] out, int outOffset, int count) {
+    checkRanges(in, inOffset, out, outOffset, count);
+    invoke("rotate", count, (from, size) -> rotation.applyTo(in, inOffset + 3 * from, out, outOffset + 3 * from, size));
+  }
+
+  /**
+   * Parallel variant of {@link Rotation#applyInverseTo(double[], int, double[], int, int)}.
+   * @param rotation the rotation whose inverse to apply
+   * @param in the array of vectors
+   * @param inOffset the index of the first component to read
+   * @param out the array to store the results in (it can be the same array as in)
+   * @param outOffset the index of the first component to write
+   * @param count the amount of vectors
+   */
+  public void rotateInverse(Rotation rotation, double[] in, int inOffset, double[] out, int outOffset, int count) {
+    checkRanges(in, inOffset, out, outOffset, count);
+    invoke("rotateInverse", count, (from, size) -> rotation.applyInverseTo(in, inOffset + 3 * from, out, outOffset + 3 * from, size));
+  }
+
+  /**
+   * Parallel variant of {@link VectorPipeline#applyTo(double[], int, double[], int, int)}.
+   * @param pipeline the pipeline to apply
+   * @param in the array of vectors
+   * @param inOffset the index of the first component to read
+   * @param out the array to store the results in (it can be the same array as in)
+   * @param outOffset the index of the first component to write
+   * @param count the amount of vectors
+   */
+  public void apply(VectorPipeline pipeline, double[] in, int inOffset, double[] out, int outOffset, int count) {
+    checkRanges(in, inOffset, out, outOffset, count);
+    invoke("pipeline", count, (from, size) -> pipeline.applyTo(in, inOffset + 3 * from, out, outOffset + 3 * from, size));
+  }
+
+  /**
+   * Parallel variant of {@link VectorArrays#distanceSq(Position, double[], int, int, double[], int)}.
+   * @param origin the origin
+   * @param xyz the array of points
+   * @param offset the index of the first component
+   * @param count the amount of points
+   * @param out the array to store the squared distances in
+   * @param outOffset the index to store the first squared distance at
+   */
+  public void distanceSq(Position origin, double[] xyz, int offset, int count, double[] out, int outOffset) {
+    Objects.checkFromIndexSize(offset, 3L * count, xyz.length);
+    Objects.checkFromIndexSize(outOffset, count, out.length);
+    invoke("distanceSq", count, (from, size) -> VectorArrays.distanceSq(origin, xyz, offset + 3 * from, size, out, outOffset + from));
+  }
+
+  /**
+   * Execute a range operation, splitting it across the pool if it exceeds the threshold.
+   * @param operation the operation name
+   * @param count the amount of elements
+   * @param kernel the operation to execute for each partition
+   */
+  void invoke(String operation, int count, RangeKernel kernel) {
+    OperationProbe event = Instrumentation.bulkOperation();
+    if (count <= threshold) {
+      kernel.apply(0, count);
+    } else {
+      pool.invoke(new RangeTask(kernel, 0, count, threshold));
+    }
+    event.finish(operation, count);
+  }
+
+  private static void checkRanges(double[] in, int inOffset, double[] out, int outOffset, int count) {
+    Objects.checkFromIndexSize(inOffset, 3L * count, in.length);
+    Objects.checkFromIndexSize(outOffset, 3L * count, out.length);
+  }
+
+  @FunctionalInterface
+  interface RangeKernel {
+    void apply(int from, int size);
+  }
+
+  @SuppressWarnings("serial") // Tasks are only submitted to a pool and never serialized
+  private static final class RangeTask extends RecursiveAction {
+    private final RangeKernel kernel;
+    private final int from;
+    private final int size;
+    private final int threshold;
+
+    private RangeTask(RangeKernel kernel, int from, int size, int threshold) {
+      this.kernel = kernel;
+      this.from = from;
+      this.size = size;
+      this.threshold = threshold;
+    }
+
+    @Override
+    protected void compute() {
+      if (size <= threshold) {
+        kernel.apply(from, size);
+        return;
+      }
+      int half = size >>> 1;
+      invokeAll(new RangeTask(kernel, from, half, threshold), new RangeTask(kernel, from + half, size - half, threshold));
+    }
+  }
+}
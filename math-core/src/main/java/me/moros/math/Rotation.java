@@ -19,6 +19,8 @@
 
 package me.moros.math;
 
+import java.util.Objects;
+
 /**
  * Immutable representation of rotation in 3D space.
  */
@@ -40,6 +42,57 @@ public interface Rotation extends Quaternion {
     return new DoubleQuaternion(Math.cos(halfAngle), coeff * axis.x(), coeff * axis.y(), coeff * axis.z());
   }
 
+  /**
+   * Build the shortest rotation that maps the direction of one vector to the direction of another.
+   * If the vectors point in opposite directions, the rotation is a half turn around an arbitrary perpendicular axis.
+   * @param from the initial direction
+   * @param to the target direction
+   * @return a rotation instance
+   * @throws IllegalArgumentException if either vector length is zero or too small to define a direction
+   */
+  static Rotation between(Position from, Position to) throws IllegalArgumentException {
+    double ux = from.x();
+    double uy = from.y();
+    double uz = from.z();
+    double vx = to.x();
+    double vy = to.y();
+    double vz = to.z();
+    double fromLengthSq = ux * ux + uy * uy + uz * uz;
+    double toLengthSq = vx * vx + vy * vy + vz * vz;
+    double norms = Math.sqrt(fromLengthSq * toLengthSq);
+    if (norms == 0) {
+      if (fromLengthSq == 0) {
+        throw new IllegalArgumentException("Cannot rotate from a zero length vector");
+      } else if (toLengthSq == 0) {
+        throw new IllegalArgumentException("Cannot rotate to a zero length vector");
+      }
+      throw new IllegalArgumentException("Vectors are too short to define a rotation: " + from + ", " + to);
+    }
+    double w = norms + ux * vx + uy * vy + uz * vz;
+    double cx;
+    double cy;
+    double cz;
+    if (w <= 1e-12 * norms) {
+      // opposite directions, use any axis perpendicular to from
+      w = 0;
+      if (Math.abs(ux) > Math.abs(uz)) {
+        cx = -uy;
+        cy = ux;
+        cz = 0;
+      } else {
+        cx = 0;
+        cy = -uz;
+        cz = uy;
+      }
+    } else {
+      cx = uy * vz - uz * vy;
+      cy = uz * vx - ux * vz;
+      cz = ux * vy - uy * vx;
+    }
+    double inv = 1 / Math.sqrt(w * w + cx * cx + cy * cy + cz * cz);
+    return new DoubleQuaternion(w * inv, -cx * inv, -cy * inv, -cz * inv);
+  }
+
   /**
    * Get the matrix for this rotation.
    * @return the 3x3 matrix corresponding to this instance
@@ -61,10 +114,29 @@ public interface Rotation extends Quaternion {
    * @param out an array with three items to put result to (it can be the same array as in)
    */
   default void applyTo(final double[] in, final double[] out) {
-    Vector3d result = applyTo(in[0], in[1], in[2]);
-    out[0] = result.x();
-    out[1] = result.y();
-    out[2] = result.z();
+    applyTo(in, 0, out, 0, 1);
+  }
+
+  /**
+   * Apply the rotation to multiple vectors stored in an array as consecutive xyz triples.
+   * The default implementation delegates to {@link #applyTo(double, double, double)} for each vector, rotations
+   * created by this library override it and do not allocate.
+   * @param in the array which stores the vectors to rotate
+   * @param inOffset the index of the first component to read
+   * @param out the array to put the results to, it can be the same array as in only if both offsets are equal
+   * @param outOffset the index of the first component to write
+   * @param count the amount of vectors to rotate
+   * @throws IndexOutOfBoundsException if either range is out of bounds
+   */
+  default void applyTo(double[] in, int inOffset, double[] out, int outOffset, int count) {
+    Objects.checkFromIndexSize(inOffset, 3L * count, in.length);
+    Objects.checkFromIndexSize(outOffset, 3L * count, out.length);
+    for (int i = 0; i < 3 * count; i += 3) {
+      Vector3d v = applyTo(in[inOffset + i], in[inOffset + i + 1], in[inOffset + i + 2]);
+      out[outOffset + i] = v.x();
+      out[outOffset + i + 1] = v.y();
+      out[outOffset + i + 2] = v.z();
+    }
   }
 
   /**
@@ -91,10 +163,29 @@ public interface Rotation extends Quaternion {
    * @param out an array with three items to put result to (it can be the same array as in)
    */
   default void applyInverseTo(final double[] in, final double[] out) {
-    Vector3d result = applyInverseTo(in[0], in[1], in[2]);
-    out[0] = result.x();
-    out[1] = result.y();
-    out[2] = result.z();
+    applyInverseTo(in, 0, out, 0, 1);
+  }
+
+  /**
+   * Apply the inverse of the rotation to multiple vectors stored in an array as consecutive xyz triples.
+   * The default implementation delegates to {@link #applyInverseTo(double, double, double)} for each vector, rotations
+   * created by this library override it and do not allocate.
+   * @param in the array which stores the vectors to rotate
+   * @param inOffset the index of the first component to read
+   * @param out the array to put the results to, it can be the same array as in only if both offsets are equal
+   * @param outOffset the index of the first component to write
+   * @param count the amount of vectors to rotate
+   * @throws IndexOutOfBoundsException if either range is out of bounds
+   */
+  default void applyInverseTo(double[] in, int inOffset, double[] out, int outOffset, int count) {
+    Objects.checkFromIndexSize(inOffset, 3L * count, in.length);
+    Objects.checkFromIndexSize(outOffset, 3L * count, out.length);
+    for (int i = 0; i < 3 * count; i += 3) {
+      Vector3d v = applyInverseTo(in[inOffset + i], in[inOffset + i + 1], in[inOffset + i + 2]);
+      out[outOffset + i] = v.x();
+      out[outOffset + i + 1] = v.y();
+      out[outOffset + i + 2] = v.z();
+    }
   }
 
   /**
@@ -150,6 +150,17 @@ public interface Vector3d extends VectorOperations<Vector3d> {
     return multiply(1 / s);
   }
 
+  /**
+   * Get an immutable copy of this vector.
+   * Vectors created by this library return themselves, while views return a copy that no longer references the
+   * native object.
+   * @return an immutable vector with the same coordinates
+   * @see Adapters#view(Object)
+   */
+  default Vector3d snapshot() {
+    return this;
+  }
+
   @Override
   default Adapters<Vector3d> adapters() {
     return Adapters.vector3d();
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2020-2025 Moros
+ *
+ * This file is part of Math.
+ *
+ * Math is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Math is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Math. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package me.moros.math;
+
+import me.moros.math.adapter.Adapters;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Base class for views that implement {@link Vector3d} by reading the coordinates of a native object on demand.
+ * <p>Views are equal to any {@link Vector3d} with the same coordinates, including vectors created with
+ * {@link Vector3d#of(double, double, double)}. Only immutable native types should be wrapped, as equality and hash code
+ * follow the coordinates of the wrapped object.
+ * @param <T> the native type
+ * @see Adapters#view(Object)
+ */
+public abstract class Vector3dView<T> implements Vector3d {
+  protected final T handle;
+
+  protected Vector3dView(T handle) {
+    this.handle = handle;
+  }
+
+  @Override
+  public Vector3d snapshot() {
+    return Vector3d.of(x(), y(), z());
+  }
+
+  @Override
+  public Vector3d toVector3d() {
+    return snapshot();
+  }
+
+  @Override
+  public final boolean equals(@Nullable Object obj) {
+    return Vectors.equals(this, obj);
+  }
+
+  @Override
+  public final int hashCode() {
+    return Vectors.hashCode(this);
+  }
+
+  @Override
+  public final String toString() {
+    return Vectors.toString(this);
+  }
+}
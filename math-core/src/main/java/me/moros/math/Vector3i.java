@@ -129,6 +129,26 @@ public interface Vector3i extends VectorOperations<Vector3i> {
     return of(clampedX, clampedY, clampedZ);
   }
 
+  /**
+   * Pack this vector into a single long.
+   * @return the packed position
+   * @see PackedPosition
+   */
+  default long pack() {
+    return PackedPosition.pack(blockX(), blockY(), blockZ());
+  }
+
+  /**
+   * Get an immutable copy of this vector.
+   * Vectors created by this library return themselves, while views return a copy that no longer references the
+   * native object.
+   * @return an immutable vector with the same coordinates
+   * @see Adapters#view(Object)
+   */
+  default Vector3i snapshot() {
+    return this;
+  }
+
   @Override
   default Adapters<Vector3i> adapters() {
     return Adapters.vector3i();
@@ -170,6 +190,16 @@ public interface Vector3i extends VectorOperations<Vector3i> {
     return of(v[0], v[1], v[2]);
   }
 
+  /**
+   * Create a vector from a packed position.
+   * @param packed the packed position
+   * @return a new vector with the unpacked coordinates
+   * @see #pack()
+   */
+  static Vector3i unpack(long packed) {
+    return of(PackedPosition.unpackX(packed), PackedPosition.unpackY(packed), PackedPosition.unpackZ(packed));
+  }
+
   /**
    * Create a vector from another object.
    * @param object the object to adapt from
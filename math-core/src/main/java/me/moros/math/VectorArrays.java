@@ -0,0 +1,201 @@
+/*
+ * Copyright 2020-2025 Moros
+ *
+ * This file is part of Math.
+ *
+ * Math is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Math is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Math. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package me.moros.math;
+
+import java.util.Objects;
+
+/**
+ * Utility class with bulk operations over vectors stored in primitive arrays.
+ * <p>Unless stated otherwise, vectors are stored as consecutive xyz triples, offsets refer to the index of the first
+ * component and counts refer to the amount of vectors. None of these methods allocate.
+ */
+public final class VectorArrays {
+  private VectorArrays() {
+  }
+
+  /**
+   * Add the given values to multiple vectors.
+   * @param in the array of vectors
+   * @param inOffset the index of the first component to read
+   * @param dx the amount to add for the x coordinate
+   * @param dy the amount to add for the y coordinate
+   * @param dz the amount to add for the z coordinate
+   * @param out the array to store the results in (it can be the same array as in)
+   * @param outOffset the index of the first component to write
+   * @param count the amount of vectors
+   * @throws IndexOutOfBoundsException if either range is out of bounds
+   * @see VectorOperations#add(double, double, double)
+   */
+  public static void add(double[] in, int inOffset, double dx, double dy, double dz, double[] out, int outOffset, int count) {
+    checkRanges(in, inOffset, out, outOffset, count);
+    for (int i = 0; i < 3 * count; i += 3) {
+      out[outOffset + i] = in[inOffset + i] + dx;
+      out[outOffset + i + 1] = in[inOffset + i + 1] + dy;
+      out[outOffset + i + 2] = in[inOffset + i + 2] + dz;
+    }
+  }
+
+  /**
+   * Subtract the given values from multiple vectors.
+   * @param in the array of vectors
+   * @param inOffset the index of the first component to read
+   * @param dx the amount to subtract for the x coordinate
+   * @param dy the amount to subtract for the y coordinate
+   * @param dz the amount to subtract for the z coordinate
+   * @param out the array to store the results in (it can be the same array as in)
+   * @param outOffset the index of the first component to write
+   * @param count the amount of vectors
+   * @throws IndexOutOfBoundsException if either range is out of bounds
+   * @see VectorOperations#subtract(double, double, double)
+   */
+  public static void subtract(double[] in, int inOffset, double dx, double dy, double dz, double[] out, int outOffset, int count) {
+    add(in, inOffset, -dx, -dy, -dz, out, outOffset, count);
+  }
+
+  /**
+   * Multiply each component of multiple vectors by a scalar value.
+   * @param in the array of vectors
+   * @param inOffset the index of the first component to read
+   * @param ax scalar to multiply x with
+   * @param ay scalar to multiply y with
+   * @param az scalar to multiply z with
+   * @param out the array to store the results in (it can be the same array as in)
+   * @param outOffset the index of the first component to write
+   * @param count the amount of vectors
+   * @throws IndexOutOfBoundsException if either range is out of bounds
+   * @see VectorOperations#multiply(double, double, double)
+   */
+  public static void multiply(double[] in, int inOffset, double ax, double ay, double az, double[] out, int outOffset, int count) {
+    checkRanges(in, inOffset, out, outOffset, count);
+    for (int i = 0; i < 3 * count; i += 3) {
+      out[outOffset + i] = ax * in[inOffset + i];
+      out[outOffset + i + 1] = ay * in[inOffset + i + 1];
+      out[outOffset + i + 2] = az * in[inOffset + i + 2];
+    }
+  }
+
+  /**
+   * Normalize multiple vectors. Vectors with a zero norm default to {@link Vector3d#PLUS_I}.
+   * @param in the array of vectors
+   * @param inOffset the index of the first component to read
+   * @param out the array to store the results in (it can be the same array as in)
+   * @param outOffset the index of the first component to write
+   * @param count the amount of vectors
+   * @throws IndexOutOfBoundsException if either range is out of bounds
+   * @see Vector3d#normalize()
+   */
+  public static void normalize(double[] in, int inOffset, double[] out, int outOffset, int count) {
+    checkRanges(in, inOffset, out, outOffset, count);
+    for (int i = 0; i < 3 * count; i += 3) {
+      double x = in[inOffset + i];
+      double y = in[inOffset + i + 1];
+      double z = in[inOffset + i + 2];
+      double s = Math.sqrt(x * x + y * y + z * z);
+      if (s == 0) {
+        out[outOffset + i] = 1;
+        out[outOffset + i + 1] = 0;
+        out[outOffset + i + 2] = 0;
+      } else {
+        double a = 1 / s;
+        out[outOffset + i] = a * x;
+        out[outOffset + i + 1] = a * y;
+        out[outOffset + i + 2] = a * z;
+      }
+    }
+  }
+
+  /**
+   * Floor each component of multiple vectors.
+   * @param in the array of vectors
+   * @param inOffset the index of the first component to read
+   * @param out the array to store the results in (it can be the same array as in)
+   * @param outOffset the index of the first component to write
+   * @param count the amount of vectors
+   * @throws IndexOutOfBoundsException if either range is out of bounds
+   * @see VectorOperations#floor()
+   */
+  public static void floor(double[] in, int inOffset, double[] out, int outOffset, int count) {
+    checkRanges(in, inOffset, out, outOffset, count);
+    for (int i = 0; i < 3 * count; i++) {
+      out[outOffset + i] = FastMath.floor(in[inOffset + i]);
+    }
+  }
+
+  /**
+   * Compute the square of the distance between an origin and multiple points.
+   * @param origin the origin
+   * @param xyz the array of points
+   * @param offset the index of the first component
+   * @param count the amount of points
+   * @param out the array to store the squared distances in
+   * @param outOffset the index to store the first squared distance at
+   * @throws IndexOutOfBoundsException if either range is out of bounds
+   * @see Position#distanceSq(Position)
+   */
+  public static void distanceSq(Position origin, double[] xyz, int offset, int count, double[] out, int outOffset) {
+    Objects.checkFromIndexSize(offset, 3L * count, xyz.length);
+    Objects.checkFromIndexSize(outOffset, count, out.length);
+    double ox = origin.x();
+    double oy = origin.y();
+    double oz = origin.z();
+    for (int i = 0; i < count; i++) {
+      int idx = offset + 3 * i;
+      double dx = xyz[idx] - ox;
+      double dy = xyz[idx + 1] - oy;
+      double dz = xyz[idx + 2] - oz;
+      out[outOffset + i] = dx * dx + dy * dy + dz * dz;
+    }
+  }
+
+  /**
+   * Compute the square of the distance between an origin and multiple points stored in separate component arrays.
+   * @param origin the origin
+   * @param xs the array of x coordinates
+   * @param ys the array of y coordinates
+   * @param zs the array of z coordinates
+   * @param offset the index of the first point
+   * @param count the amount of points
+   * @param out the array to store the squared distances in
+   * @param outOffset the index to store the first squared distance at
+   * @throws IndexOutOfBoundsException if any range is out of bounds
+   * @see Position#distanceSq(Position)
+   */
+  public static void distanceSq(Position origin, double[] xs, double[] ys, double[] zs, int offset, int count,
+                                double[] out, int outOffset) {
+    Objects.checkFromIndexSize(offset, count, xs.length);
+    Objects.checkFromIndexSize(offset, count, ys.length);
+    Objects.checkFromIndexSize(offset, count, zs.length);
+    Objects.checkFromIndexSize(outOffset, count, out.length);
+    double ox = origin.x();
+    double oy = origin.y();
+    double oz = origin.z();
+    for (int i = 0; i < count; i++) {
+      double dx = xs[offset + i] - ox;
+      double dy = ys[offset + i] - oy;
+      double dz = zs[offset + i] - oz;
+      out[outOffset + i] = dx * dx + dy * dy + dz * dz;
+    }
+  }
+
+  private static void checkRanges(double[] in, int inOffset, double[] out, int outOffset, int count) {
+    Objects.checkFromIndexSize(inOffset, 3L * count, in.length);
+    Objects.checkFromIndexSize(outOffset, 3L * count, out.length);
+  }
+}
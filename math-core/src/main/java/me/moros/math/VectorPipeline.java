@@ -0,0 +1,330 @@
+/*
+ * Copyright 2020-2025 Moros
+ *
+ * This file is part of Math.
+ *
+ * Math is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Math is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Math. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package me.moros.math;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Immutable chain of vector operations that is applied to bulk coordinate buffers in a single pass.
+ * <p>Instead of materializing intermediate vectors or buffers for each operation, vectors are copied to the output
+ * once and every stage runs over them while they are still in cache. Each stage performs exactly the same arithmetic
+ * as the equivalent {@link Vector3d} operation, so results are identical to applying the chain one operation at a
+ * time.
+ * <p>Instances are immutable and thread-safe; stage methods return a new pipeline.
+ * @see VectorArrays
+ */
+public final class VectorPipeline {
+  private static final int ADD = 0;
+  private static final int MULTIPLY = 1;
+  private static final int ROTATE = 2;
+  private static final int NORMALIZE = 3;
+  private static final int FLOOR = 4;
+  private static final int CUSTOM_ROTATE = 5;
+  private static final int CUSTOM_ROTATE_INVERSE = 6;
+  // 256 vectors take 6 KiB, small enough for every stage to find the block in L1
+  private static final int BLOCK_SIZE = 256;
+
+  private static final VectorPipeline IDENTITY = new VectorPipeline(new int[0], new double[0], new @Nullable Rotation[0]);
+
+  private final int[] ops;
+  private final double[] params;
+  private final @Nullable Rotation[] rotations;
+
+  private VectorPipeline(int[] ops, double[] params, @Nullable Rotation[] rotations) {
+    this.ops = ops;
+    this.params = params;
+    this.rotations = rotations;
+  }
+
+  /**
+   * Get an empty pipeline that leaves vectors unchanged.
+   * @return the identity pipeline
+   */
+  public static VectorPipeline identity() {
+    return IDENTITY;
+  }
+
+  /**
+   * Get the amount of stages in this pipeline.
+   * @return the amount of stages
+   */
+  public int size() {
+    return ops.length;
+  }
+
+  /**
+   * Append a stage that adds a vector.
+   * @param p the vector to add
+   * @return a new pipeline with the extra stage
+   * @see VectorOperations#add(Position)
+   */
+  public VectorPipeline add(Position p) {
+    return add(p.x(), p.y(), p.z());
+  }
+
+  /**
+   * Append a stage that adds the given values.
+   * @param dx the amount to add for the x coordinate
+   * @param dy the amount to add for the y coordinate
+   * @param dz the amount to add for the z coordinate
+   * @return a new pipeline with the extra stage
+   * @see VectorOperations#add(double, double, double)
+   */
+  public VectorPipeline add(double dx, double dy, double dz) {
+    return append(ADD, dx, dy, dz, 0, null);
+  }
+
+  /**
+   * Append a stage that subtracts a vector.
+   * @param p the vector to subtract
+   * @return a new pipeline with the extra stage
+   * @see VectorOperations#subtract(Position)
+   */
+  public VectorPipeline subtract(Position p) {
+    return subtract(p.x(), p.y(), p.z());
+  }
+
+  /**
+   * Append a stage that subtracts the given values.
+   * @param dx the amount to subtract for the x coordinate
+   * @param dy the amount to subtract for the y coordinate
+   * @param dz the amount to subtract for the z coordinate
+   * @return a new pipeline with the extra stage
+   * @see VectorOperations#subtract(double, double, double)
+   */
+  public VectorPipeline subtract(double dx, double dy, double dz) {
+    return add(-dx, -dy, -dz);
+  }
+
+  /**
+   * Append a stage that multiplies each component by a scalar value.
+   * @param a the scalar
+   * @return a new pipeline with the extra stage
+   * @see VectorOperations#multiply(double)
+   */
+  public VectorPipeline multiply(double a) {
+    return multiply(a, a, a);
+  }
+
+  /**
+   * Append a stage that multiplies each component by a separate scalar value.
+   * @param ax scalar to multiply x with
+   * @param ay scalar to multiply y with
+   * @param az scalar to multiply z with
+   * @return a new pipeline with the extra stage
+   * @see VectorOperations#multiply(double, double, double)
+   */
+  public VectorPipeline multiply(double ax, double ay, double az) {
+    return append(MULTIPLY, ax, ay, az, 0, null);
+  }
+
+  /**
+   * Append a stage that applies a rotation.
+   * @param rotation the rotation to apply
+   * @return a new pipeline with the extra stage
+   * @see Rotation#applyTo(Position)
+   */
+  public VectorPipeline rotate(Rotation rotation) {
+    if (rotation instanceof DoubleQuaternion) {
+      return append(ROTATE, rotation.q1(), rotation.q2(), rotation.q3(), rotation.q0(), null);
+    }
+    return append(CUSTOM_ROTATE, 0, 0, 0, 0, rotation);
+  }
+
+  /**
+   * Append a stage that applies the inverse of a rotation.
+   * @param rotation the rotation whose inverse to apply
+   * @return a new pipeline with the extra stage
+   * @see Rotation#applyInverseTo(Position)
+   */
+  public VectorPipeline rotateInverse(Rotation rotation) {
+    if (rotation instanceof DoubleQuaternion) {
+      return append(ROTATE, rotation.q1(), rotation.q2(), rotation.q3(), -rotation.q0(), null);
+    }
+    return append(CUSTOM_ROTATE_INVERSE, 0, 0, 0, 0, rotation);
+  }
+
+  /**
+   * Append a stage that normalizes vectors. Vectors with a zero norm default to {@link Vector3d#PLUS_I}.
+   * @return a new pipeline with the extra stage
+   * @see Vector3d#normalize()
+   */
+  public VectorPipeline normalize() {
+    return append(NORMALIZE, 0, 0, 0, 0, null);
+  }
+
+  /**
+   * Append a stage that floors each component.
+   * @return a new pipeline with the extra stage
+   * @see VectorOperations#floor()
+   */
+  public VectorPipeline floor() {
+    return append(FLOOR, 0, 0, 0, 0, null);
+  }
+
+  /**
+   * Append all stages of another pipeline after the stages of this pipeline.
+   * @param after the pipeline to apply afterwards
+   * @return a new pipeline with the combined stages
+   */
+  public VectorPipeline andThen(VectorPipeline after) {
+    if (after.ops.length == 0) {
+      return this;
+    } else if (ops.length == 0) {
+      return after;
+    }
+    int[] newOps = Arrays.copyOf(ops, ops.length + after.ops.length);
+    System.arraycopy(after.ops, 0, newOps, ops.length, after.ops.length);
+    double[] newParams = Arrays.copyOf(params, params.length + after.params.length);
+    System.arraycopy(after.params, 0, newParams, params.length, after.params.length);
+    @Nullable Rotation[] newRotations = Arrays.copyOf(rotations, rotations.length + after.rotations.length);
+    System.arraycopy(after.rotations, 0, newRotations, rotations.length, after.rotations.length);
+    return new VectorPipeline(newOps, newParams, newRotations);
+  }
+
+  /**
+   * Apply this pipeline to a single vector.
+   * @param p the vector to transform
+   * @return the transformed vector
+   */
+  public Vector3d apply(Position p) {
+    double[] xyz = {p.x(), p.y(), p.z()};
+    applyTo(xyz, 0, xyz, 0, 1);
+    return Vector3d.of(xyz[0], xyz[1], xyz[2]);
+  }
+
+  /**
+   * Apply this pipeline to multiple vectors stored as consecutive xyz triples.
+   * <p>Vectors are processed in blocks small enough to stay in cache, with one pass per stage over each block. No
+   * intermediate buffers are allocated unless the pipeline contains a {@link Rotation} that was not created by this
+   * library.
+   * @param in the array of vectors
+   * @param inOffset the index of the first component to read
+   * @param out the array to store the results in (it can be the same array as in only if both offsets are equal)
+   * @param outOffset the index of the first component to write
+   * @param count the amount of vectors
+   * @throws IndexOutOfBoundsException if either range is out of bounds
+   * @see ParallelVectorArrays#apply(VectorPipeline, double[], int, double[], int, int)
+   */
+  public void applyTo(double[] in, int inOffset, double[] out, int outOffset, int count) {
+    Objects.checkFromIndexSize(inOffset, 3L * count, in.length);
+    Objects.checkFromIndexSize(outOffset, 3L * count, out.length);
+    for (int from = 0; from < count; from += BLOCK_SIZE) {
+      int start = outOffset + 3 * from;
+      int length = 3 * Math.min(BLOCK_SIZE, count - from);
+      System.arraycopy(in, inOffset + 3 * from, out, start, length);
+      for (int s = 0; s < ops.length; s++) {
+        applyStage(s, out, start, start + length);
+      }
+    }
+  }
+
+  private void applyStage(int stage, double[] xyz, int start, int end) {
+    final int p = 4 * stage;
+    switch (ops[stage]) {
+      case ADD -> {
+        double dx = params[p];
+        double dy = params[p + 1];
+        double dz = params[p + 2];
+        for (int i = start; i < end; i += 3) {
+          xyz[i] = xyz[i] + dx;
+          xyz[i + 1] = xyz[i + 1] + dy;
+          xyz[i + 2] = xyz[i + 2] + dz;
+        }
+      }
+      case MULTIPLY -> {
+        double ax = params[p];
+        double ay = params[p + 1];
+        double az = params[p + 2];
+        for (int i = start; i < end; i += 3) {
+          xyz[i] = ax * xyz[i];
+          xyz[i + 1] = ay * xyz[i + 1];
+          xyz[i + 2] = az * xyz[i + 2];
+        }
+      }
+      case ROTATE -> {
+        double q1 = params[p];
+        double q2 = params[p + 1];
+        double q3 = params[p + 2];
+        double m0 = params[p + 3];
+        for (int i = start; i < end; i += 3) {
+          double x = xyz[i];
+          double y = xyz[i + 1];
+          double z = xyz[i + 2];
+          double d = q1 * x + q2 * y + q3 * z;
+          xyz[i] = 2 * (m0 * (x * m0 - (q2 * z - q3 * y)) + d * q1) - x;
+          xyz[i + 1] = 2 * (m0 * (y * m0 - (q3 * x - q1 * z)) + d * q2) - y;
+          xyz[i + 2] = 2 * (m0 * (z * m0 - (q1 * y - q2 * x)) + d * q3) - z;
+        }
+      }
+      case NORMALIZE -> {
+        for (int i = start; i < end; i += 3) {
+          double x = xyz[i];
+          double y = xyz[i + 1];
+          double z = xyz[i + 2];
+          double length = Math.sqrt(x * x + y * y + z * z);
+          if (length == 0) {
+            xyz[i] = 1;
+            xyz[i + 1] = 0;
+            xyz[i + 2] = 0;
+          } else {
+            double a = 1 / length;
+            xyz[i] = a * x;
+            xyz[i + 1] = a * y;
+            xyz[i + 2] = a * z;
+          }
+        }
+      }
+      case FLOOR -> {
+        for (int i = start; i < end; i++) {
+          xyz[i] = FastMath.floor(xyz[i]);
+        }
+      }
+      default -> {
+        Rotation rotation = Objects.requireNonNull(rotations[stage]);
+        boolean inverse = ops[stage] == CUSTOM_ROTATE_INVERSE;
+        for (int i = start; i < end; i += 3) {
+          Vector3d r = inverse ? rotation.applyInverseTo(xyz[i], xyz[i + 1], xyz[i + 2])
+            : rotation.applyTo(xyz[i], xyz[i + 1], xyz[i + 2]);
+          xyz[i] = r.x();
+          xyz[i + 1] = r.y();
+          xyz[i + 2] = r.z();
+        }
+      }
+    }
+  }
+
+  private VectorPipeline append(int op, double a, double b, double c, double d, @Nullable Rotation rotation) {
+    int stage = ops.length;
+    int[] newOps = Arrays.copyOf(ops, stage + 1);
+    newOps[stage] = op;
+    double[] newParams = Arrays.copyOf(params, params.length + 4);
+    newParams[4 * stage] = a;
+    newParams[4 * stage + 1] = b;
+    newParams[4 * stage + 2] = c;
+    newParams[4 * stage + 3] = d;
+    @Nullable Rotation[] newRotations = Arrays.copyOf(rotations, stage + 1);
+    newRotations[stage] = rotation;
+    return new VectorPipeline(newOps, newParams, newRotations);
+  }
+}
@@ -22,8 +22,15 @@ package me.moros.math;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Objects;
+import java.util.Spliterator;
 import java.util.concurrent.ThreadLocalRandom;
 
+import me.moros.math.function.DoubleTriConsumer;
+import me.moros.math.function.IntTriConsumer;
+import me.moros.math.internal.Instrumentation;
+import me.moros.math.internal.OperationProbe;
+
 /**
  * Utility class with useful vector related methods.
  */
@@ -31,12 +38,6 @@ public final class VectorUtil {
   private VectorUtil() {
   }
 
-  private static final Vector3d[] AXES = {
-    Vector3d.PLUS_I, Vector3d.PLUS_J, Vector3d.PLUS_K, Vector3d.MINUS_I, Vector3d.MINUS_J, Vector3d.MINUS_K,
-    Vector3d.PLUS_I.add(Vector3d.PLUS_K).normalize(), Vector3d.PLUS_K.add(Vector3d.MINUS_I).normalize(),
-    Vector3d.MINUS_I.add(Vector3d.MINUS_K).normalize(), Vector3d.MINUS_K.add(Vector3d.PLUS_I).normalize()
-  };
-
   /**
    * Create an arc by combining {@link #rotate(Vector3d, Rotation, int)} and {@link #rotateInverse(Vector3d, Rotation, int)}.
    * Amount of rays will be rounded up to the nearest odd number. Minimum value is 3.
@@ -48,6 +49,7 @@ public final class VectorUtil {
    * @see #rotateInverse(Vector3d, Rotation, int)
    */
   public static Collection<Vector3d> createArc(Vector3d start, Vector3d axis, double angle, int rays) {
+    OperationProbe event = Instrumentation.shapeGeneration();
     Rotation rotation = Rotation.from(axis, angle);
     rays = Math.max(3, rays);
     if (rays % 2 == 0) {
@@ -58,6 +60,7 @@ public final class VectorUtil {
     arc.add(start);
     arc.addAll(rotate(start, rotation, half));
     arc.addAll(rotateInverse(start, rotation, half));
+    event.finish("arc", rays);
     return arc;
   }
 
@@ -69,8 +72,11 @@ public final class VectorUtil {
    * @return the points around the circle's perimeter
    */
   public static Collection<Vector3d> circle(Vector3d start, Vector3d axis, int times) {
+    OperationProbe event = Instrumentation.shapeGeneration();
     double angle = 2 * Math.PI / times;
-    return rotate(start, axis, angle, times);
+    Collection<Vector3d> result = rotate(start, axis, angle, times);
+    event.finish("circle", times);
+    return result;
   }
 
   /**
@@ -95,12 +101,14 @@ public final class VectorUtil {
    * @see #rotateInverse(Vector3d, Rotation, int)
    */
   public static Collection<Vector3d> rotate(Vector3d start, Rotation rotation, int times) {
+    OperationProbe event = Instrumentation.bulkOperation();
     Collection<Vector3d> arc = new ArrayList<>();
     double[] vector = start.toArray();
     for (int i = 0; i < times; i++) {
       rotation.applyTo(vector, vector);
       arc.add(Vector3d.from(vector));
     }
+    event.finish("rotate", times);
     return arc;
   }
 
@@ -126,12 +134,14 @@ public final class VectorUtil {
    * @see #rotate(Vector3d, Rotation, int)
    */
   public static Collection<Vector3d> rotateInverse(Vector3d start, Rotation rotation, int times) {
+    OperationProbe event = Instrumentation.bulkOperation();
     Collection<Vector3d> arc = new ArrayList<>();
     double[] vector = start.toArray();
     for (int i = 0; i < times; i++) {
       rotation.applyInverseTo(vector, vector);
       arc.add(Vector3d.from(vector));
     }
+    event.finish("rotateInverse", times);
     return arc;
   }
 
@@ -202,6 +212,119 @@ public final class VectorUtil {
     return start.add(toEnd.multiply(t));
   }
 
+  /**
+   * Rasterize the line segment between two block positions using 3D Bresenham.
+   * Every block along the line is passed to the consumer exactly once, starting at start and ending at end.
+   * The amount of visited blocks is the largest absolute component difference plus one.
+   * @param start the start point for the line segment
+   * @param end the end point for the line segment
+   * @param consumer the consumer to accept the coordinates of each block
+   * @return the amount of visited blocks
+   * @see #rasterizeLine(Vector3i, Vector3i)
+   */
+  public static int rasterizeLine(Vector3i start, Vector3i end, IntTriConsumer consumer) {
+    return LineRasterizer.rasterize(start.blockX(), start.blockY(), start.blockZ(),
+      end.blockX(), end.blockY(), end.blockZ(), consumer);
+  }
+
+  /**
+   * Lazily rasterize the line segment between two block positions using 3D Bresenham.
+   * @param start the start point for the line segment
+   * @param end the end point for the line segment
+   * @return a spliterator over every block along the line
+   * @see #rasterizeLine(Vector3i, Vector3i, IntTriConsumer)
+   */
+  public static Spliterator<Vector3i> rasterizeLine(Vector3i start, Vector3i end) {
+    return new LineRasterizer(start.blockX(), start.blockY(), start.blockZ(), end.blockX(), end.blockY(), end.blockZ());
+  }
+
+  /**
+   * Get the amount of points that sampling a line segment at a fixed spacing produces.
+   * @param start the start point for the line segment
+   * @param end the end point for the line segment
+   * @param spacing the distance between consecutive points
+   * @return the amount of sampled points
+   * @throws IllegalArgumentException if spacing is not positive
+   */
+  public static int sampleCount(Vector3d start, Vector3d end, double spacing) {
+    if (!(spacing > 0)) {
+      throw new IllegalArgumentException("Spacing must be positive, found " + spacing);
+    }
+    return (int) Math.min(Integer.MAX_VALUE - 1, Math.floor(start.distance(end) / spacing)) + 1;
+  }
+
+  /**
+   * Sample points at a fixed spacing along a line segment.
+   * The first point is start and the last one is the furthest point from start that is not past end.
+   * @param start the start point for the line segment
+   * @param end the end point for the line segment
+   * @param spacing the distance between consecutive points
+   * @param consumer the consumer to accept the coordinates of each point
+   * @return the amount of sampled points
+   * @throws IllegalArgumentException if spacing is not positive
+   * @see #sampleCount(Vector3d, Vector3d, double)
+   */
+  public static int sampleLine(Vector3d start, Vector3d end, double spacing, DoubleTriConsumer consumer) {
+    int count = sampleCount(start, end, spacing);
+    double f = lineStep(start, end, spacing);
+    double dx = f * (end.x() - start.x());
+    double dy = f * (end.y() - start.y());
+    double dz = f * (end.z() - start.z());
+    for (int i = 0; i < count; i++) {
+      consumer.accept(start.x() + i * dx, start.y() + i * dy, start.z() + i * dz);
+    }
+    return count;
+  }
+
+  /**
+   * Sample points at a fixed spacing along a line segment and store them as consecutive xyz triples.
+   * @param start the start point for the line segment
+   * @param end the end point for the line segment
+   * @param spacing the distance between consecutive points
+   * @param out the array to store the sampled points in
+   * @param offset the index to store the first component at
+   * @return the amount of sampled points
+   * @throws IllegalArgumentException if spacing is not positive
+   * @throws IndexOutOfBoundsException if the array does not have enough space
+   * @see #sampleCount(Vector3d, Vector3d, double)
+   */
+  public static int sampleLine(Vector3d start, Vector3d end, double spacing, double[] out, int offset) {
+    int count = sampleCount(start, end, spacing);
+    Objects.checkFromIndexSize(offset, 3L * count, out.length);
+    double f = lineStep(start, end, spacing);
+    double dx = f * (end.x() - start.x());
+    double dy = f * (end.y() - start.y());
+    double dz = f * (end.z() - start.z());
+    for (int i = 0; i < count; i++) {
+      int idx = offset + 3 * i;
+      out[idx] = start.x() + i * dx;
+      out[idx + 1] = start.y() + i * dy;
+      out[idx + 2] = start.z() + i * dz;
+    }
+    return count;
+  }
+
+  /**
+   * Lazily sample points at a fixed spacing along a line segment.
+   * @param start the start point for the line segment
+   * @param end the end point for the line segment
+   * @param spacing the distance between consecutive points
+   * @return a spliterator over the sampled points
+   * @throws IllegalArgumentException if spacing is not positive
+   * @see #sampleLine(Vector3d, Vector3d, double, DoubleTriConsumer)
+   */
+  public static Spliterator<Vector3d> sampleLine(Vector3d start, Vector3d end, double spacing) {
+    int count = sampleCount(start, end, spacing);
+    double f = lineStep(start, end, spacing);
+    return new LineSampler(start.x(), start.y(), start.z(),
+      f * (end.x() - start.x()), f * (end.y() - start.y()), f * (end.z() - start.z()), 0, count);
+  }
+
+  private static double lineStep(Vector3d start, Vector3d end, double spacing) {
+    double length = start.distance(end);
+    return length == 0 ? 0 : spacing / length;
+  }
+
   /**
    * Get the distance between a point and a line.
    * @param line the vector defining a line
@@ -261,28 +384,22 @@ public final class VectorUtil {
    * @param offsetY the standard deviation for the Gaussian distribution in the y component
    * @param offsetZ the standard deviation for the Gaussian distribution in the z component
    * @return the resulting vector
+   * @see me.moros.math.shape.RandomSampler#gaussian(double[], int, int, double, double, double)
    */
   public static Vector3d gaussianOffset(Vector3d target, double offsetX, double offsetY, double offsetZ) {
     ThreadLocalRandom r = ThreadLocalRandom.current();
-    return target.add(Vector3d.of(r.nextGaussian() * offsetX, r.nextGaussian() * offsetY, r.nextGaussian() * offsetZ));
+    return target.add(r.nextGaussian() * offsetX, r.nextGaussian() * offsetY, r.nextGaussian() * offsetZ);
   }
 
   /**
-   * Get the closest matching unit vector axis.
+   * Get the closest matching unit vector axis out of the block faces and horizontal diagonals.
+   * Ties prefer faces over diagonals and positive over negative faces, for example {@code [-1, 1, 0]} returns
+   * {@link Vector3d#PLUS_J}. A zero vector returns {@link Vector3d#PLUS_I}.
    * @param dir the vector to check
    * @return the closest matching axis
+   * @see Direction#nearestFaceOrDiagonal(Position)
    */
   public static Vector3d nearestFace(Vector3d dir) {
-    Vector3d normal = dir.normalize();
-    Vector3d result = AXES[0];
-    double f = Double.MIN_VALUE;
-    for (Vector3d face : AXES) {
-      double g = normal.dot(face);
-      if (g > f) {
-        f = g;
-        result = face;
-      }
-    }
-    return result;
+    return Direction.nearestFaceOrDiagonal(dir).toVector3d();
   }
 }
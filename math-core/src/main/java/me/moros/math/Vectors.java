@@ -0,0 +1,56 @@
+/*
+ * Copyright 2020-2025 Moros
+ *
+ * This file is part of Math.
+ *
+ * Math is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Math is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Math. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package me.moros.math;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Value equality shared by all vector implementations so library vectors and views compare by coordinates.
+ */
+final class Vectors {
+  private Vectors() {
+  }
+
+  static boolean equals(Vector3d v, @Nullable Object obj) {
+    return obj instanceof Vector3d other && Double.compare(v.x(), other.x()) == 0
+      && Double.compare(v.y(), other.y()) == 0 && Double.compare(v.z(), other.z()) == 0;
+  }
+
+  static int hashCode(Vector3d v) {
+    return 31 * (31 * Double.hashCode(v.x()) + Double.hashCode(v.y())) + Double.hashCode(v.z());
+  }
+
+  static String toString(Vector3d v) {
+    return "[" + v.x() + ", " + v.y() + ", " + v.z() + "]";
+  }
+
+  static boolean equals(Vector3i v, @Nullable Object obj) {
+    return obj instanceof Vector3i other && v.blockX() == other.blockX()
+      && v.blockY() == other.blockY() && v.blockZ() == other.blockZ();
+  }
+
+  static int hashCode(Vector3i v) {
+    return 31 * (31 * v.blockX() + v.blockY()) + v.blockZ();
+  }
+
+  static String toString(Vector3i v) {
+    return "[" + v.blockX() + ", " + v.blockY() + ", " + v.blockZ() + "]";
+  }
+}
@@ -24,21 +24,27 @@ import java.util.Map;
 
 import me.moros.math.Position;
 import me.moros.math.Vector3d;
+import me.moros.math.Vector3dView;
 import me.moros.math.Vector3i;
-import org.jspecify.annotations.Nullable;
+import me.moros.math.internal.AdapterLookupProbe;
+import me.moros.math.internal.Instrumentation;
 
 @SuppressWarnings("unchecked")
 public final class Adapters<E extends Position> {
   private static final Adapters<Vector3i> INT = new Adapters<>();
   private static final Adapters<Vector3d> DOUBLE = new Adapters<>();
+  // Cached for types without a matching adapter so failed lookups are not repeated
+  private static final Adapter<?, ?> MISSING = object -> null;
 
   private final Map<Class<?>, Adapter<?, E>> ADAPTERS = new HashMap<>();
   private final Map<Class<?>, Converter<?>> CONVERTERS = new HashMap<>();
+  private final Map<Class<?>, Adapter<?, E>> VIEWS = new HashMap<>();
 
   private Adapters() {
   }
 
   public <T> void registerAdapter(Class<T> nativeType, Adapter<T, E> adapter) {
+    ADAPTERS.values().removeIf(a -> a == MISSING);
     ADAPTERS.put(nativeType, adapter);
   }
 
@@ -46,6 +52,11 @@ public final class Adapters<E extends Position> {
     CONVERTERS.put(nativeType, converter);
   }
 
+  public <T> void registerView(Class<T> nativeType, Adapter<T, E> view) {
+    VIEWS.values().removeIf(a -> a == MISSING);
+    VIEWS.put(nativeType, view);
+  }
+
   public <T> void register(Class<T> nativeType, Adapter<T, E> adapter, Converter<T> converter) {
     registerAdapter(nativeType, adapter);
     registerConverter(nativeType, converter);
@@ -53,20 +64,39 @@ public final class Adapters<E extends Position> {
 
   public <T> E adapt(T object) {
     final Class<?> type = object.getClass();
-    Adapter<T, E> adapter = (Adapter<T, E>) ADAPTERS.computeIfAbsent(type, this::findClosestAdapter);
-    if (adapter == null) {
+    Adapter<T, E> adapter = (Adapter<T, E>) ADAPTERS.computeIfAbsent(type, t -> findClosestAdapter(ADAPTERS, t));
+    if (adapter == MISSING) {
       throw new IllegalArgumentException("Could not find a registered adapter for " + type.getName());
     }
     return adapter.apply(object);
   }
 
-  private <T> @Nullable Adapter<T, E> findClosestAdapter(Class<T> type) {
-    for (var entry : ADAPTERS.entrySet()) {
-      if (entry.getKey().isAssignableFrom(type)) {
+  /**
+   * Wrap a native object in a view that reads its coordinates on demand instead of copying them.
+   * Falls back to {@link #adapt(Object)} if no view is registered for the object's type.
+   * <p>Views should only be registered for immutable native types, mutable types are always copied.
+   * @param object the object to wrap
+   * @param <T> the native type
+   * @return a view of the object or a copy if no view is registered
+   * @see Vector3d#snapshot()
+   * @see Vector3dView
+   */
+  public <T> E view(T object) {
+    final Class<?> type = object.getClass();
+    Adapter<T, E> view = (Adapter<T, E>) VIEWS.computeIfAbsent(type, t -> findClosestAdapter(VIEWS, t));
+    return view == MISSING ? adapt(object) : view.apply(object);
+  }
+
+  private <T> Adapter<T, E> findClosestAdapter(Map<Class<?>, Adapter<?, E>> map, Class<T> type) {
+    AdapterLookupProbe event = Instrumentation.adapterLookup();
+    for (var entry : map.entrySet()) {
+      if (entry.getValue() != MISSING && entry.getKey().isAssignableFrom(type)) {
+        event.finish(type, map.size(), true);
         return (Adapter<T, E>) entry.getValue();
       }
     }
-    return null;
+    event.finish(type, map.size(), false);
+    return (Adapter<T, E>) MISSING;
   }
 
   public <T> Converter<T> converter(Class<T> nativeType) {
@@ -0,0 +1,203 @@
+/*
+ * Copyright 2020-2025 Moros
+ *
+ * This file is part of Math.
+ *
+ * Math is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Math is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Math. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package me.moros.math.curve;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+import me.moros.math.Vector3d;
+import me.moros.math.function.DoubleTriConsumer;
+
+/**
+ * Spline stored as cubic polynomials in power basis, one per segment and axis, evaluated with Horner's method.
+ * <p>The arc-length table stores the cumulative length at uniformly spaced parameters, integrating the speed of each
+ * table interval with 3-point Gauss-Legendre quadrature. Parameters between table entries are interpolated and then
+ * refined with a single Newton step on the arc length, which keeps sampled points evenly spaced.
+ */
+final class CubicSpline implements Spline {
+  static final int STRIDE = 12;
+
+  private static final int RESOLUTION = 16;
+  private static final double GAUSS_OFFSET = 0.5 * Math.sqrt(0.6);
+  private static final double GAUSS_OUTER = 5.0 / 18;
+  private static final double GAUSS_INNER = 8.0 / 18;
+
+  private final double[] coefficients;
+  private final int segments;
+  private final double[] lengths;
+
+  CubicSpline(double[] coefficients) {
+    this.coefficients = coefficients;
+    this.segments = coefficients.length / STRIDE;
+    this.lengths = new double[segments * RESOLUTION + 1];
+    double sum = 0;
+    for (int i = 0; i < segments * RESOLUTION; i++) {
+      double from = (double) (i % RESOLUTION) / RESOLUTION;
+      sum += integrate(i / RESOLUTION, from, from + 1.0 / RESOLUTION);
+      lengths[i + 1] = sum;
+    }
+  }
+
+  // Store a + bu + cu^2 + du^3 for one axis of a segment
+  static void put(double[] coefficients, int segment, int axis, double a, double b, double c, double d) {
+    int idx = segment * STRIDE + 4 * axis;
+    coefficients[idx] = a;
+    coefficients[idx + 1] = b;
+    coefficients[idx + 2] = c;
+    coefficients[idx + 3] = d;
+  }
+
+  @Override
+  public int segments() {
+    return segments;
+  }
+
+  @Override
+  public double length() {
+    return lengths[lengths.length - 1];
+  }
+
+  @Override
+  public Vector3d at(double t) {
+    double[] xyz = new double[3];
+    at(t, xyz, 0);
+    return Vector3d.of(xyz[0], xyz[1], xyz[2]);
+  }
+
+  @Override
+  public void at(double t, double[] out, int offset) {
+    Objects.checkFromIndexSize(offset, 3, out.length);
+    double x = Math.min(Math.max(t, 0), 1) * segments;
+    int segment = Math.min((int) x, segments - 1);
+    double u = x - segment;
+    int idx = segment * STRIDE;
+    for (int axis = 0; axis < 3; axis++, idx += 4) {
+      out[offset + axis] = coefficients[idx] + u * (coefficients[idx + 1] + u * (coefficients[idx + 2] + u * coefficients[idx + 3]));
+    }
+  }
+
+  @Override
+  public Vector3d derivative(double t) {
+    double x = Math.min(Math.max(t, 0), 1) * segments;
+    int segment = Math.min((int) x, segments - 1);
+    double u = x - segment;
+    int idx = segment * STRIDE;
+    // chain rule, the segment parameter changes segments times faster than t
+    return Vector3d.of(segments * derivative(idx, u), segments * derivative(idx + 4, u), segments * derivative(idx + 8, u));
+  }
+
+  @Override
+  public double parameterAt(double distance) {
+    double length = length();
+    if (!(distance > 0)) {
+      return 0;
+    } else if (distance >= length) {
+      return 1;
+    }
+    int found = Arrays.binarySearch(lengths, distance);
+    int i = found >= 0 ? found : -found - 2;
+    return parameter(i, distance);
+  }
+
+  @Override
+  public int sampleCount(double spacing) {
+    if (!(spacing > 0)) {
+      throw new IllegalArgumentException("Spacing must be positive, found " + spacing);
+    }
+    return (int) Math.min(Integer.MAX_VALUE - 1, Math.floor(length() / spacing)) + 1;
+  }
+
+  @Override
+  public int sample(double spacing, DoubleTriConsumer consumer) {
+    int count = sampleCount(spacing);
+    double[] xyz = new double[3];
+    int interval = 0;
+    for (int i = 0; i < count; i++) {
+      double distance = i * spacing;
+      interval = advance(interval, distance);
+      at(parameter(interval, distance), xyz, 0);
+      consumer.accept(xyz[0], xyz[1], xyz[2]);
+    }
+    return count;
+  }
+
+  @Override
+  public int sample(double spacing, double[] out, int offset) {
+    int count = sampleCount(spacing);
+    Objects.checkFromIndexSize(offset, 3L * count, out.length);
+    int interval = 0;
+    for (int i = 0; i < count; i++) {
+      double distance = i * spacing;
+      interval = advance(interval, distance);
+      at(parameter(interval, distance), out, offset + 3 * i);
+    }
+    return count;
+  }
+
+  // Distances are sampled in ascending order, so the table is walked forward instead of searched
+  private int advance(int interval, double distance) {
+    int last = lengths.length - 2;
+    while (interval < last && lengths[interval + 1] <= distance) {
+      interval++;
+    }
+    return interval;
+  }
+
+  // Interpolate the parameter linearly within a table interval and refine it with a Newton step
+  private double parameter(int interval, double distance) {
+    double start = lengths[interval];
+    double span = lengths[interval + 1] - start;
+    double f = span > 0 ? Math.min(Math.max((distance - start) / span, 0), 1) : 0;
+    int segment = interval / RESOLUTION;
+    double u0 = (double) (interval % RESOLUTION) / RESOLUTION;
+    double u = u0 + f / RESOLUTION;
+    double speed = speed(segment, u);
+    if (speed > 0) {
+      double error = start + integrate(segment, u0, u) - distance;
+      u = Math.min(Math.max(u - error / speed, u0), u0 + 1.0 / RESOLUTION);
+    }
+    return (segment + u) / segments;
+  }
+
+  // Arc length between two parameters of a segment using 3-point Gauss-Legendre quadrature
+  private double integrate(int segment, double from, double to) {
+    double h = to - from;
+    double mid = from + 0.5 * h;
+    return h * (GAUSS_OUTER * speed(segment, mid - GAUSS_OFFSET * h) + GAUSS_INNER * speed(segment, mid)
+      + GAUSS_OUTER * speed(segment, mid + GAUSS_OFFSET * h));
+  }
+
+  private double speed(int segment, double u) {
+    int idx = segment * STRIDE;
+    double dx = derivative(idx, u);
+    double dy = derivative(idx + 4, u);
+    double dz = derivative(idx + 8, u);
+    return Math.sqrt(dx * dx + dy * dy + dz * dz);
+  }
+
+  private double derivative(int idx, double u) {
+    return coefficients[idx + 1] + u * (2 * coefficients[idx + 2] + u * 3 * coefficients[idx + 3]);
+  }
+
+  @Override
+  public String toString() {
+    return "Spline[segments=" + segments + ", length=" + length() + "]";
+  }
+}
@@ -0,0 +1,223 @@
+/*
+ * Copyright 2020-2025 Moros
+ *
+ * This file is part of Math.
+ *
+ * Math is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Math is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Math. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package me.moros.math.curve;
+
+import java.util.List;
+
+import me.moros.math.Position;
+import me.moros.math.Vector3d;
+import me.moros.math.function.DoubleTriConsumer;
+
+/**
+ * Immutable piecewise cubic curve through or near a sequence of control points.
+ * <p>The curve is parameterized by t in the range [0, 1] across all of its segments, which does not correspond to
+ * uniform speed. An arc-length table is computed once when the spline is created, so points at a given distance along
+ * the curve are found with a binary search instead of integrating the curve again.
+ */
+public interface Spline {
+  /**
+   * Get the amount of cubic segments in this spline.
+   * @return the amount of segments
+   */
+  int segments();
+
+  /**
+   * Get the total length of this spline.
+   * @return the arc length
+   */
+  double length();
+
+  /**
+   * Evaluate this spline.
+   * @param t the curve parameter, values outside the range [0, 1] are clamped
+   * @return a new vector at the given parameter
+   */
+  Vector3d at(double t);
+
+  /**
+   * Evaluate this spline and store the result in an array.
+   * @param t the curve parameter, values outside the range [0, 1] are clamped
+   * @param out the array to store the xyz components in
+   * @param offset the index to store the x component at
+   * @throws IndexOutOfBoundsException if the array does not have room for three components
+   */
+  void at(double t, double[] out, int offset);
+
+  /**
+   * Evaluate the derivative of this spline with respect to its parameter.
+   * @param t the curve parameter, values outside the range [0, 1] are clamped
+   * @return a new vector tangent to the curve at the given parameter
+   */
+  Vector3d derivative(double t);
+
+  /**
+   * Find the curve parameter at a distance along this spline using the arc-length table.
+   * @param distance the distance from the start, values outside the range [0, length] are clamped
+   * @return the curve parameter
+   */
+  double parameterAt(double distance);
+
+  /**
+   * Evaluate this spline at a distance along the curve.
+   * @param distance the distance from the start, values outside the range [0, length] are clamped
+   * @return a new vector at the given distance
+   */
+  default Vector3d atDistance(double distance) {
+    return at(parameterAt(distance));
+  }
+
+  /**
+   * Evaluate this spline at a distance along the curve and store the result in an array.
+   * @param distance the distance from the start, values outside the range [0, length] are clamped
+   * @param out the array to store the xyz components in
+   * @param offset the index to store the x component at
+   * @throws IndexOutOfBoundsException if the array does not have room for three components
+   */
+  default void atDistance(double distance, double[] out, int offset) {
+    at(parameterAt(distance), out, offset);
+  }
+
+  /**
+   * Get the amount of points that sampling this spline at a fixed spacing produces.
+   * @param spacing the distance along the curve between consecutive points
+   * @return the amount of sampled points
+   * @throws IllegalArgumentException if spacing is not positive
+   */
+  int sampleCount(double spacing);
+
+  /**
+   * Sample points at a fixed spacing along the curve.
+   * The first point is the start of the curve and the last one is the furthest point that is not past its end.
+   * @param spacing the distance along the curve between consecutive points
+   * @param consumer the consumer to accept the coordinates of each point
+   * @return the amount of sampled points
+   * @throws IllegalArgumentException if spacing is not positive
+   * @see #sampleCount(double)
+   */
+  int sample(double spacing, DoubleTriConsumer consumer);
+
+  /**
+   * Sample points at a fixed spacing along the curve and store them as consecutive xyz triples.
+   * @param spacing the distance along the curve between consecutive points
+   * @param out the array to store the sampled points in
+   * @param offset the index to store the first component at
+   * @return the amount of sampled points
+   * @throws IllegalArgumentException if spacing is not positive
+   * @throws IndexOutOfBoundsException if the array does not have enough space
+   * @see #sampleCount(double)
+   */
+  int sample(double spacing, double[] out, int offset);
+
+  /**
+   * Create a quadratic Bezier curve.
+   * @param p0 the start point
+   * @param p1 the control point
+   * @param p2 the end point
+   * @return a new spline with a single segment
+   */
+  static Spline quadraticBezier(Position p0, Position p1, Position p2) {
+    double[] coefficients = new double[CubicSpline.STRIDE];
+    for (int axis = 0; axis < 3; axis++) {
+      double a = component(p0, axis);
+      double b = component(p1, axis);
+      double c = component(p2, axis);
+      CubicSpline.put(coefficients, 0, axis, a, 2 * (b - a), a - 2 * b + c, 0);
+    }
+    return new CubicSpline(coefficients);
+  }
+
+  /**
+   * Create a cubic Bezier curve.
+   * @param p0 the start point
+   * @param p1 the first control point
+   * @param p2 the second control point
+   * @param p3 the end point
+   * @return a new spline with a single segment
+   */
+  static Spline cubicBezier(Position p0, Position p1, Position p2, Position p3) {
+    double[] coefficients = new double[CubicSpline.STRIDE];
+    for (int axis = 0; axis < 3; axis++) {
+      double a = component(p0, axis);
+      double b = component(p1, axis);
+      double c = component(p2, axis);
+      double d = component(p3, axis);
+      CubicSpline.put(coefficients, 0, axis, a, 3 * (b - a), 3 * (a - 2 * b + c), 3 * (b - c) + d - a);
+    }
+    return new CubicSpline(coefficients);
+  }
+
+  /**
+   * Create a uniform Catmull-Rom spline that passes through all points.
+   * The missing neighbours of the first and last points are extrapolated by reflecting their adjacent points.
+   * @param points the points to interpolate
+   * @return a new spline with one segment between each pair of consecutive points
+   * @throws IllegalArgumentException if there are less than 2 points
+   */
+  static Spline catmullRom(List<? extends Position> points) {
+    int n = points.size();
+    if (n < 2) {
+      throw new IllegalArgumentException("Catmull-Rom splines require at least 2 points, found " + n);
+    }
+    double[] coefficients = new double[(n - 1) * CubicSpline.STRIDE];
+    for (int i = 0; i < n - 1; i++) {
+      Position p1 = points.get(i);
+      Position p2 = points.get(i + 1);
+      for (int axis = 0; axis < 3; axis++) {
+        double b = component(p1, axis);
+        double c = component(p2, axis);
+        double a = i == 0 ? 2 * b - c : component(points.get(i - 1), axis);
+        double d = i == n - 2 ? 2 * c - b : component(points.get(i + 2), axis);
+        CubicSpline.put(coefficients, i, axis, b, 0.5 * (c - a), 0.5 * (2 * a - 5 * b + 4 * c - d),
+          0.5 * (3 * (b - c) + d - a));
+      }
+    }
+    return new CubicSpline(coefficients);
+  }
+
+  /**
+   * Create a uniform cubic B-spline. The curve approximates the control points and is twice continuously
+   * differentiable, but it generally does not pass through them.
+   * @param points the control points
+   * @return a new spline with one segment for each group of 4 consecutive control points
+   * @throws IllegalArgumentException if there are less than 4 points
+   */
+  static Spline bSpline(List<? extends Position> points) {
+    int n = points.size();
+    if (n < 4) {
+      throw new IllegalArgumentException("B-splines require at least 4 points, found " + n);
+    }
+    double[] coefficients = new double[(n - 3) * CubicSpline.STRIDE];
+    for (int i = 0; i < n - 3; i++) {
+      for (int axis = 0; axis < 3; axis++) {
+        double a = component(points.get(i), axis);
+        double b = component(points.get(i + 1), axis);
+        double c = component(points.get(i + 2), axis);
+        double d = component(points.get(i + 3), axis);
+        CubicSpline.put(coefficients, i, axis, (a + 4 * b + c) / 6, 0.5 * (c - a), 0.5 * (a - 2 * b + c),
+          (3 * (b - c) + d - a) / 6);
+      }
+    }
+    return new CubicSpline(coefficients);
+  }
+
+  private static double component(Position p, int axis) {
+    return axis == 0 ? p.x() : axis == 1 ? p.y() : p.z();
+  }
+}
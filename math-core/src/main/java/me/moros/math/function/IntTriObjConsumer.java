@@ -0,0 +1,36 @@
+/*
+ * Copyright 2020-2025 Moros
+ *
+ * This file is part of Math.
+ *
+ * Math is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Math is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Math. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package me.moros.math.function;
+
+/**
+ * Represents an operation that accepts three int coordinates and an object value and returns no result.
+ * @param <T> the type of the value
+ */
+@FunctionalInterface
+public interface IntTriObjConsumer<T> {
+  /**
+   * Performs this operation on the given coordinates and value.
+   * @param x the x coordinate
+   * @param y the y coordinate
+   * @param z the z coordinate
+   * @param value the value
+   */
+  void accept(int x, int y, int z, T value);
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright 2020-2025 Moros
+ *
+ * This file is part of Math.
+ *
+ * Math is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Math is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Math. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package me.moros.math.geometry;
+
+import me.moros.math.Position;
+import me.moros.math.Vector3d;
+import me.moros.math.function.IntTriPredicate;
+
+/**
+ * Immutable axis aligned bounding box.
+ */
+public interface AABB {
+  /**
+   * Get the minimum corner of this box.
+   * @return the minimum corner
+   */
+  Vector3d min();
+
+  /**
+   * Get the maximum corner of this box.
+   * @return the maximum corner
+   */
+  Vector3d max();
+
+  /**
+   * Get the center of this box.
+   * @return the center point
+   */
+  default Vector3d center() {
+    return min().add(max()).multiply(0.5);
+  }
+
+  /**
+   * Get the dimensions of this box.
+   * @return a vector with the length of each side
+   */
+  default Vector3d size() {
+    return max().subtract(min());
+  }
+
+  /**
+   * Compute a box translated by the given offset.
+   * @param p the offset
+   * @return a new translated box
+   */
+  default AABB at(Position p) {
+    return of(min().add(p), max().add(p));
+  }
+
+  /**
+   * Compute a box expanded in each direction by the given amounts.
+   * @param dx the amount to expand in the x axis
+   * @param dy the amount to expand in the y axis
+   * @param dz the amount to expand in the z axis
+   * @return a new expanded box
+   */
+  default AABB grow(double dx, double dy, double dz) {
+    return of(min().subtract(dx, dy, dz), max().add(dx, dy, dz));
+  }
+
+  /**
+   * Check if a point is inside this box, including its boundary.
+   * @param p the point to check
+   * @return true if the point is inside this box, false otherwise
+   */
+  default boolean contains(Position p) {
+    return contains(p.x(), p.y(), p.z());
+  }
+
+  /**
+   * Check if a point is inside this box, including its boundary.
+   * @param x the x coordinate
+   * @param y the y coordinate
+   * @param z the z coordinate
+   * @return true if the point is inside this box, false otherwise
+   */
+  default boolean contains(double x, double y, double z) {
+    Vector3d min = min();
+    Vector3d max = max();
+    return x >= min.x() && x <= max.x() && y >= min.y() && y <= max.y() && z >= min.z() && z <= max.z();
+  }
+
+  /**
+   * Check if this box overlaps another box.
+   * @param other the other box
+   * @return true if the boxes overlap, false otherwise
+   */
+  default boolean intersects(AABB other) {
+    Vector3d min = min();
+    Vector3d max = max();
+    Vector3d otherMin = other.min();
+    Vector3d otherMax = other.max();
+    return max.x() > otherMin.x() && min.x() < otherMax.x() && max.y() > otherMin.y() && min.y() < otherMax.y()
+      && max.z() > otherMin.z() && min.z() < otherMax.z();
+  }
+
+  /**
+   * Sweep this box along a motion vector through a voxel grid and find the first collision.
+   * Voxels are unit blocks and a voxel blocks movement if the predicate matches its coordinates.
+   * Voxels that already overlap the box before moving are ignored.
+   * @param motion the motion vector
+   * @param solid the predicate that checks if the voxel at the given coordinates is solid
+   * @return the result of the sweep
+   * @throws IllegalArgumentException if the motion or the bounds of this box are not finite
+   */
+  default SweepResult sweep(Vector3d motion, IntTriPredicate solid) {
+    return VoxelSweep.sweep(this, motion, solid);
+  }
+
+  /**
+   * Create a box from two corners.
+   * @param first the first corner
+   * @param second the second corner
+   * @return a new box spanning both corners
+   */
+  static AABB of(Vector3d first, Vector3d second) {
+    return new DoubleAABB(first.min(second), first.max(second));
+  }
+}
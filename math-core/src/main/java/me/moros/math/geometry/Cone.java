@@ -0,0 +1,141 @@
+/*
+ * Copyright 2020-2025 Moros
+ *
+ * This file is part of Math.
+ *
+ * Math is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Math is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Math. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package me.moros.math.geometry;
+
+import me.moros.math.Position;
+import me.moros.math.Vector3d;
+
+/**
+ * Immutable cone with range limits, useful for field of view queries.
+ * <p>Points are tested with a dot product and a squared length against the precomputed squared cosine of the
+ * half-angle, so no square roots or inverse trigonometric functions are evaluated per point.
+ */
+public interface Cone {
+  /**
+   * Get the apex of this cone.
+   * @return the apex
+   */
+  Vector3d apex();
+
+  /**
+   * Get the axis of this cone.
+   * @return the normalized direction from the apex towards the base
+   */
+  Vector3d direction();
+
+  /**
+   * Get the angle between the axis and the surface of this cone.
+   * @return the half-angle in radians, in the range [0, PI]
+   */
+  double halfAngle();
+
+  /**
+   * Get the minimum distance from the apex for a point to be inside this cone.
+   * @return the minimum range
+   */
+  double minRange();
+
+  /**
+   * Get the maximum distance from the apex for a point to be inside this cone.
+   * @return the maximum range
+   */
+  double maxRange();
+
+  /**
+   * Check if a point is inside this cone, including its boundary.
+   * @param p the point to check
+   * @return true if the point is inside this cone, false otherwise
+   */
+  default boolean contains(Position p) {
+    return contains(p.x(), p.y(), p.z());
+  }
+
+  /**
+   * Check if a point is inside this cone, including its boundary.
+   * @param x the x coordinate
+   * @param y the y coordinate
+   * @param z the z coordinate
+   * @return true if the point is inside this cone, false otherwise
+   */
+  boolean contains(double x, double y, double z);
+
+  /**
+   * Test multiple points stored in an array as consecutive xyz triples.
+   * @param xyz the array of points
+   * @param offset the index of the first component
+   * @param count the amount of points
+   * @param out the array to store the indices of contained points in, relative to the first point
+   * @param outOffset the index to store the first result at
+   * @return the amount of contained points
+   * @throws IndexOutOfBoundsException if either range is out of bounds, out must have room for count indices
+   */
+  int contains(double[] xyz, int offset, int count, int[] out, int outOffset);
+
+  /**
+   * Test multiple points stored in separate component arrays.
+   * @param xs the array of x coordinates
+   * @param ys the array of y coordinates
+   * @param zs the array of z coordinates
+   * @param offset the index of the first point
+   * @param count the amount of points
+   * @param out the array to store the indices of contained points in, relative to the first point
+   * @param outOffset the index to store the first result at
+   * @return the amount of contained points
+   * @throws IndexOutOfBoundsException if any range is out of bounds, out must have room for count indices
+   */
+  int contains(double[] xs, double[] ys, double[] zs, int offset, int count, int[] out, int outOffset);
+
+  /**
+   * Create a cone that starts at its apex.
+   * @param apex the apex of the cone
+   * @param direction the axis of the cone, it does not need to be normalized
+   * @param halfAngle the angle between the axis and the surface in radians, in the range [0, PI]
+   * @param range the maximum distance from the apex
+   * @return a new cone
+   * @throws IllegalArgumentException if the direction is zero or any parameter is out of range
+   */
+  static Cone of(Position apex, Vector3d direction, double halfAngle, double range) {
+    return of(apex, direction, halfAngle, 0, range);
+  }
+
+  /**
+   * Create a cone with range limits.
+   * @param apex the apex of the cone
+   * @param direction the axis of the cone, it does not need to be normalized
+   * @param halfAngle the angle between the axis and the surface in radians, in the range [0, PI]
+   * @param minRange the minimum distance from the apex
+   * @param maxRange the maximum distance from the apex
+   * @return a new cone
+   * @throws IllegalArgumentException if the direction is zero or any parameter is out of range
+   */
+  static Cone of(Position apex, Vector3d direction, double halfAngle, double minRange, double maxRange) {
+    double length = direction.length();
+    if (length == 0) {
+      throw new IllegalArgumentException("Direction cannot be zero");
+    }
+    if (!(halfAngle >= 0 && halfAngle <= Math.PI)) {
+      throw new IllegalArgumentException("Half-angle must be in range [0, PI], found " + halfAngle);
+    }
+    if (!(minRange >= 0 && minRange <= maxRange)) {
+      throw new IllegalArgumentException("Invalid range [" + minRange + ", " + maxRange + "]");
+    }
+    return new DoubleCone(Vector3d.of(apex.x(), apex.y(), apex.z()), direction.multiply(1 / length), halfAngle, minRange, maxRange);
+  }
+}
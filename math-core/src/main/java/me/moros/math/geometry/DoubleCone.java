@@ -0,0 +1,155 @@
+/*
+ * Copyright 2020-2025 Moros
+ *
+ * This file is part of Math.
+ *
+ * Math is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Math is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Math. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package me.moros.math.geometry;
+
+import java.util.Objects;
+
+import me.moros.math.Vector3d;
+
+final class DoubleCone implements Cone {
+  private final Vector3d apex;
+  private final Vector3d direction;
+  private final double halfAngle;
+  private final double minRange;
+  private final double maxRange;
+
+  private final double ax;
+  private final double ay;
+  private final double az;
+  private final double dx;
+  private final double dy;
+  private final double dz;
+  private final double cos;
+  private final double cosSq;
+  private final double minRangeSq;
+  private final double maxRangeSq;
+
+  DoubleCone(Vector3d apex, Vector3d direction, double halfAngle, double minRange, double maxRange) {
+    this.apex = apex;
+    this.direction = direction;
+    this.halfAngle = halfAngle;
+    this.minRange = minRange;
+    this.maxRange = maxRange;
+    this.ax = apex.x();
+    this.ay = apex.y();
+    this.az = apex.z();
+    this.dx = direction.x();
+    this.dy = direction.y();
+    this.dz = direction.z();
+    this.cos = Math.cos(halfAngle);
+    this.cosSq = cos * cos;
+    this.minRangeSq = minRange * minRange;
+    this.maxRangeSq = maxRange * maxRange;
+  }
+
+  @Override
+  public Vector3d apex() {
+    return apex;
+  }
+
+  @Override
+  public Vector3d direction() {
+    return direction;
+  }
+
+  @Override
+  public double halfAngle() {
+    return halfAngle;
+  }
+
+  @Override
+  public double minRange() {
+    return minRange;
+  }
+
+  @Override
+  public double maxRange() {
+    return maxRange;
+  }
+
+  @Override
+  public boolean contains(double x, double y, double z) {
+    return test(x - ax, y - ay, z - az);
+  }
+
+  @Override
+  public int contains(double[] xyz, int offset, int count, int[] out, int outOffset) {
+    Objects.checkFromIndexSize(offset, 3L * count, xyz.length);
+    Objects.checkFromIndexSize(outOffset, count, out.length);
+    int hits = 0;
+    for (int i = 0; i < count; i++) {
+      int idx = offset + 3 * i;
+      if (test(xyz[idx] - ax, xyz[idx + 1] - ay, xyz[idx + 2] - az)) {
+        out[outOffset + hits++] = i;
+      }
+    }
+    return hits;
+  }
+
+  @Override
+  public int contains(double[] xs, double[] ys, double[] zs, int offset, int count, int[] out, int outOffset) {
+    Objects.checkFromIndexSize(offset, count, xs.length);
+    Objects.checkFromIndexSize(offset, count, ys.length);
+    Objects.checkFromIndexSize(offset, count, zs.length);
+    Objects.checkFromIndexSize(outOffset, count, out.length);
+    int hits = 0;
+    for (int i = 0; i < count; i++) {
+      if (test(xs[offset + i] - ax, ys[offset + i] - ay, zs[offset + i] - az)) {
+        out[outOffset + hits++] = i;
+      }
+    }
+    return hits;
+  }
+
+  private boolean test(double vx, double vy, double vz) {
+    double lengthSq = vx * vx + vy * vy + vz * vz;
+    if (lengthSq < minRangeSq || lengthSq > maxRangeSq) {
+      return false;
+    }
+    // compare cos(angle) = dot / length against cos(halfAngle) without the square root by squaring both sides,
+    // the sign of dot decides the cases where squaring would flip the inequality
+    double dot = vx * dx + vy * dy + vz * dz;
+    double dotSq = dot * dot;
+    double limit = cosSq * lengthSq;
+    return cos >= 0 ? dot >= 0 && dotSq >= limit : dot >= 0 || dotSq <= limit;
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (obj instanceof DoubleCone other) {
+      return halfAngle == other.halfAngle && minRange == other.minRange && maxRange == other.maxRange
+        && apex.equals(other.apex) && direction.equals(other.direction);
+    }
+    return false;
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(apex, direction, halfAngle, minRange, maxRange);
+  }
+
+  @Override
+  public String toString() {
+    return "[" + apex + ", " + direction + ", " + halfAngle + ", " + minRange + ", " + maxRange + "]";
+  }
+}
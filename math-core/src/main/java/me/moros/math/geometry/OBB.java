@@ -0,0 +1,187 @@
+/*
+ * Copyright 2020-2025 Moros
+ *
+ * This file is part of Math.
+ *
+ * Math is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Math is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Math. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package me.moros.math.geometry;
+
+import me.moros.math.Position;
+import me.moros.math.Rotation;
+import me.moros.math.Vector3d;
+
+/**
+ * Immutable oriented bounding box, defined by a center, half-extents along its local axes and a rotation that maps
+ * local axes to world axes.
+ * <p>Intersection tests use the separating axis theorem.
+ */
+public interface OBB {
+  /**
+   * Get the center of this box.
+   * @return the center point
+   */
+  Vector3d center();
+
+  /**
+   * Get the half-extents of this box along its local axes.
+   * @return a vector with half the length of each side
+   */
+  Vector3d halfExtents();
+
+  /**
+   * Get the rotation that maps the local axes of this box to world axes.
+   * @return the orientation of this box
+   */
+  Rotation rotation();
+
+  /**
+   * Compute a box translated by the given offset.
+   * @param p the offset
+   * @return a new translated box
+   */
+  default OBB at(Position p) {
+    return of(center().add(p), halfExtents(), rotation());
+  }
+
+  /**
+   * Compute the smallest axis aligned box that contains this box.
+   * @return the enclosing axis aligned box
+   */
+  default AABB bounds() {
+    return SeparatingAxis.bounds(this);
+  }
+
+  /**
+   * Check if a point is inside this box, including its boundary.
+   * @param p the point to check
+   * @return true if the point is inside this box, false otherwise
+   */
+  default boolean contains(Position p) {
+    return contains(p.x(), p.y(), p.z());
+  }
+
+  /**
+   * Check if a point is inside this box, including its boundary.
+   * @param x the x coordinate
+   * @param y the y coordinate
+   * @param z the z coordinate
+   * @return true if the point is inside this box, false otherwise
+   */
+  default boolean contains(double x, double y, double z) {
+    Vector3d c = center();
+    Vector3d local = rotation().applyInverseTo(x - c.x(), y - c.y(), z - c.z());
+    Vector3d h = halfExtents();
+    return Math.abs(local.x()) <= h.x() && Math.abs(local.y()) <= h.y() && Math.abs(local.z()) <= h.z();
+  }
+
+  /**
+   * Check if this box overlaps another oriented box. Boxes that only touch are not considered overlapping.
+   * @param other the other box
+   * @return true if the boxes overlap, false otherwise
+   */
+  default boolean intersects(OBB other) {
+    return SeparatingAxis.intersects(this, other);
+  }
+
+  /**
+   * Check if this box overlaps an axis aligned box. Boxes that only touch are not considered overlapping.
+   * @param other the other box
+   * @return true if the boxes overlap, false otherwise
+   */
+  default boolean intersects(AABB other) {
+    Vector3d min = other.min();
+    Vector3d max = other.max();
+    return SeparatingAxis.intersects(this, min.x(), min.y(), min.z(), max.x(), max.y(), max.z());
+  }
+
+  /**
+   * Test this box against multiple axis aligned boxes stored in an array as consecutive
+   * {@code minX, minY, minZ, maxX, maxY, maxZ} values. The rotation is only evaluated once for all boxes.
+   * @param boxes the array of boxes
+   * @param offset the index of the first component
+   * @param count the amount of boxes
+   * @param out the array to store the indices of overlapping boxes in, relative to the first box
+   * @param outOffset the index to store the first result at
+   * @return the amount of overlapping boxes
+   * @throws IndexOutOfBoundsException if either range is out of bounds, out must have room for count indices
+   * @see #intersects(AABB)
+   */
+  default int intersects(double[] boxes, int offset, int count, int[] out, int outOffset) {
+    return SeparatingAxis.intersects(this, boxes, offset, count, out, outOffset);
+  }
+
+  /**
+   * Find where a ray enters this box.
+   * @param origin the origin of the ray
+   * @param direction the direction of the ray, it does not need to be normalized
+   * @return the smallest non-negative t such that {@code origin + t * direction} is inside this box,
+   * or {@link Double#NaN} if the ray misses the box
+   */
+  default double raycast(Position origin, Vector3d direction) {
+    Vector3d c = center();
+    Rotation r = rotation();
+    Vector3d o = r.applyInverseTo(origin.x() - c.x(), origin.y() - c.y(), origin.z() - c.z());
+    Vector3d d = r.applyInverseTo(direction);
+    Vector3d h = halfExtents();
+    double tMin = 0;
+    double tMax = Double.POSITIVE_INFINITY;
+    for (int i = 0; i < 3; i++) {
+      double oi = i == 0 ? o.x() : i == 1 ? o.y() : o.z();
+      double di = i == 0 ? d.x() : i == 1 ? d.y() : d.z();
+      double hi = i == 0 ? h.x() : i == 1 ? h.y() : h.z();
+      if (di == 0) {
+        if (Math.abs(oi) > hi) {
+          return Double.NaN;
+        }
+      } else {
+        double inv = 1 / di;
+        double t1 = (-hi - oi) * inv;
+        double t2 = (hi - oi) * inv;
+        tMin = Math.max(tMin, Math.min(t1, t2));
+        tMax = Math.min(tMax, Math.max(t1, t2));
+        if (tMin > tMax) {
+          return Double.NaN;
+        }
+      }
+    }
+    return tMin;
+  }
+
+  /**
+   * Create an oriented box.
+   * @param center the center of the box
+   * @param halfExtents half the length of each side along the local axes
+   * @param rotation the rotation that maps local axes to world axes
+   * @return a new oriented box
+   * @throws IllegalArgumentException if any half-extent is negative
+   */
+  static OBB of(Vector3d center, Vector3d halfExtents, Rotation rotation) {
+    if (halfExtents.x() < 0 || halfExtents.y() < 0 || halfExtents.z() < 0) {
+      throw new IllegalArgumentException("Half-extents must be non-negative, found " + halfExtents);
+    }
+    return new DoubleOBB(center, halfExtents, rotation);
+  }
+
+  /**
+   * Create an oriented box from an axis aligned box and a rotation around its center.
+   * @param box the axis aligned box
+   * @param rotation the rotation that maps local axes to world axes
+   * @return a new oriented box
+   */
+  static OBB of(AABB box, Rotation rotation) {
+    return new DoubleOBB(box.center(), box.size().multiply(0.5), rotation);
+  }
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright 2020-2025 Moros
+ *
+ * This file is part of Math.
+ *
+ * Math is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Math is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Math. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package me.moros.math.geometry;
+
+import me.moros.math.Position;
+import me.moros.math.Vector3d;
+
+/**
+ * Immutable plane that contains every point p where {@code normal . p = distance}.
+ */
+public interface Plane {
+  /**
+   * Get the normal of this plane.
+   * @return the normalized normal
+   */
+  Vector3d normal();
+
+  /**
+   * Get the signed distance of this plane from the origin along its normal.
+   * @return the distance from the origin
+   */
+  double distance();
+
+  /**
+   * Calculate the signed distance of a point from this plane.
+   * @param p the point
+   * @return the distance, positive if the point is on the side the normal points to
+   */
+  default double signedDistance(Position p) {
+    Vector3d n = normal();
+    return n.x() * p.x() + n.y() * p.y() + n.z() * p.z() - distance();
+  }
+
+  /**
+   * Project a point onto this plane.
+   * @param p the point
+   * @return the closest point on this plane
+   */
+  default Vector3d project(Position p) {
+    double d = signedDistance(p);
+    Vector3d n = normal();
+    return Vector3d.of(p.x() - d * n.x(), p.y() - d * n.y(), p.z() - d * n.z());
+  }
+
+  /**
+   * Reflect a direction off this plane.
+   * @param direction the incoming direction
+   * @return the reflected direction with the same length
+   */
+  default Vector3d reflect(Vector3d direction) {
+    Vector3d n = normal();
+    double twice = 2 * direction.dot(n);
+    return Vector3d.of(direction.x() - twice * n.x(), direction.y() - twice * n.y(), direction.z() - twice * n.z());
+  }
+
+  /**
+   * Create a plane from a point on it and its normal.
+   * @param point a point on the plane
+   * @param normal the normal of the plane, it does not need to be normalized
+   * @return a new plane
+   * @throws IllegalArgumentException if the normal is zero
+   */
+  static Plane of(Position point, Vector3d normal) {
+    double length = normal.length();
+    if (length == 0) {
+      throw new IllegalArgumentException("Normal cannot be zero");
+    }
+    Vector3d n = normal.multiply(1 / length);
+    return new DoublePlane(n, n.x() * point.x() + n.y() * point.y() + n.z() * point.z());
+  }
+
+  /**
+   * Create a plane through three points. The normal follows the right hand rule for the order of the points.
+   * @param a the first point
+   * @param b the second point
+   * @param c the third point
+   * @return a new plane
+   * @throws IllegalArgumentException if the points are collinear
+   */
+  static Plane of(Position a, Position b, Position c) {
+    Vector3d ab = Vector3d.of(b.x() - a.x(), b.y() - a.y(), b.z() - a.z());
+    Vector3d ac = Vector3d.of(c.x() - a.x(), c.y() - a.y(), c.z() - a.z());
+    Vector3d normal = ab.cross(ac);
+    if (normal.lengthSq() == 0) {
+      throw new IllegalArgumentException("Points cannot be collinear");
+    }
+    return of(a, normal);
+  }
+}
@@ -0,0 +1,147 @@
+/*
+ * Copyright 2020-2025 Moros
+ *
+ * This file is part of Math.
+ *
+ * Math is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Math is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Math. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package me.moros.math.geometry;
+
+import me.moros.math.Position;
+import me.moros.math.Vector3d;
+
+/**
+ * Immutable ray with a normalized direction, so intersection tests return distances along the ray.
+ * <p>Intersection tests only report hits in front of the origin and return {@link Double#NaN} if the ray misses.
+ * Batched variants test one ray against many primitives stored in arrays and report the nearest hit without
+ * allocating.
+ */
+public interface Ray {
+  /**
+   * Get the origin of this ray.
+   * @return the origin
+   */
+  Vector3d origin();
+
+  /**
+   * Get the direction of this ray.
+   * @return the normalized direction
+   */
+  Vector3d direction();
+
+  /**
+   * Compute the point at the given distance along this ray.
+   * @param distance the distance from the origin
+   * @return a new point
+   */
+  default Vector3d point(double distance) {
+    return origin().add(direction().multiply(distance));
+  }
+
+  /**
+   * Find where this ray hits a plane from either side.
+   * @param plane the plane to test
+   * @return the distance to the hit or {@link Double#NaN} if the ray is parallel to or points away from the plane
+   */
+  default double intersect(Plane plane) {
+    Vector3d n = plane.normal();
+    return RayIntersection.plane(this, n.x(), n.y(), n.z(), plane.distance());
+  }
+
+  /**
+   * Find where this ray hits the surface of a sphere.
+   * @param sphere the sphere to test
+   * @return the distance to the hit or {@link Double#NaN} if the ray misses, if the origin is inside the sphere
+   * this is the distance to where the ray exits
+   */
+  default double intersect(Sphere sphere) {
+    Vector3d c = sphere.center();
+    return RayIntersection.sphere(this, c.x(), c.y(), c.z(), sphere.radius());
+  }
+
+  /**
+   * Find where this ray hits a triangle from either side, using the Moller-Trumbore algorithm.
+   * @param a the first vertex of the triangle
+   * @param b the second vertex of the triangle
+   * @param c the third vertex of the triangle
+   * @return the distance to the hit or {@link Double#NaN} if the ray misses or the triangle is degenerate
+   */
+  default double intersectTriangle(Position a, Position b, Position c) {
+    return RayIntersection.triangle(this, a.x(), a.y(), a.z(), b.x(), b.y(), b.z(), c.x(), c.y(), c.z());
+  }
+
+  /**
+   * Find the nearest plane hit by this ray among planes stored in an array as consecutive
+   * {@code normalX, normalY, normalZ, distance} values. Normals must be normalized.
+   * @param planes the array of planes
+   * @param offset the index of the first component
+   * @param count the amount of planes
+   * @param out the array to store the distance to the nearest hit in, only written if a plane is hit
+   * @param outOffset the index to store the distance at
+   * @return the index of the nearest plane hit, relative to the first plane, or -1 if no plane is hit
+   * @throws IndexOutOfBoundsException if either range is out of bounds
+   * @see #intersect(Plane)
+   */
+  default int nearestPlane(double[] planes, int offset, int count, double[] out, int outOffset) {
+    return RayIntersection.nearestPlane(this, planes, offset, count, out, outOffset);
+  }
+
+  /**
+   * Find the nearest sphere hit by this ray among spheres stored in an array as consecutive
+   * {@code centerX, centerY, centerZ, radius} values.
+   * @param spheres the array of spheres
+   * @param offset the index of the first component
+   * @param count the amount of spheres
+   * @param out the array to store the distance to the nearest hit in, only written if a sphere is hit
+   * @param outOffset the index to store the distance at
+   * @return the index of the nearest sphere hit, relative to the first sphere, or -1 if no sphere is hit
+   * @throws IndexOutOfBoundsException if either range is out of bounds
+   * @see #intersect(Sphere)
+   */
+  default int nearestSphere(double[] spheres, int offset, int count, double[] out, int outOffset) {
+    return RayIntersection.nearestSphere(this, spheres, offset, count, out, outOffset);
+  }
+
+  /**
+   * Find the nearest triangle hit by this ray among triangles stored in an array as three consecutive xyz vertex
+   * triples each.
+   * @param triangles the array of triangles
+   * @param offset the index of the first component
+   * @param count the amount of triangles
+   * @param out the array to store the distance to the nearest hit in, only written if a triangle is hit
+   * @param outOffset the index to store the distance at
+   * @return the index of the nearest triangle hit, relative to the first triangle, or -1 if no triangle is hit
+   * @throws IndexOutOfBoundsException if either range is out of bounds
+   * @see #intersectTriangle(Position, Position, Position)
+   */
+  default int nearestTriangle(double[] triangles, int offset, int count, double[] out, int outOffset) {
+    return RayIntersection.nearestTriangle(this, triangles, offset, count, out, outOffset);
+  }
+
+  /**
+   * Create a ray.
+   * @param origin the origin of the ray
+   * @param direction the direction of the ray, it does not need to be normalized
+   * @return a new ray
+   * @throws IllegalArgumentException if the direction is zero
+   */
+  static Ray of(Position origin, Vector3d direction) {
+    double length = direction.length();
+    if (length == 0) {
+      throw new IllegalArgumentException("Direction cannot be zero");
+    }
+    return new DoubleRay(origin.toVector3d(), direction.multiply(1 / length));
+  }
+}
@@ -0,0 +1,173 @@
+/*
+ * Copyright 2020-2025 Moros
+ *
+ * This file is part of Math.
+ *
+ * Math is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Math is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Math. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package me.moros.math.geometry;
+
+import java.util.Objects;
+
+import me.moros.math.Vector3d;
+
+/**
+ * Primitive ray intersection kernels shared by single and batched tests. Directions are assumed to be normalized.
+ */
+final class RayIntersection {
+  // Determinant threshold below which a ray is considered parallel to a triangle
+  private static final double EPSILON = 1e-12;
+
+  private RayIntersection() {
+  }
+
+  static double plane(Ray ray, double nx, double ny, double nz, double distance) {
+    Vector3d o = ray.origin();
+    Vector3d d = ray.direction();
+    return plane(o.x(), o.y(), o.z(), d.x(), d.y(), d.z(), nx, ny, nz, distance);
+  }
+
+  static double sphere(Ray ray, double cx, double cy, double cz, double radius) {
+    Vector3d o = ray.origin();
+    Vector3d d = ray.direction();
+    return sphere(o.x(), o.y(), o.z(), d.x(), d.y(), d.z(), cx, cy, cz, radius);
+  }
+
+  static double triangle(Ray ray, double ax, double ay, double az, double bx, double by, double bz,
+                         double cx, double cy, double cz) {
+    Vector3d o = ray.origin();
+    Vector3d d = ray.direction();
+    return triangle(o.x(), o.y(), o.z(), d.x(), d.y(), d.z(), ax, ay, az, bx, by, bz, cx, cy, cz);
+  }
+
+  static int nearestPlane(Ray ray, double[] planes, int offset, int count, double[] out, int outOffset) {
+    Objects.checkFromIndexSize(offset, 4L * count, planes.length);
+    Objects.checkIndex(outOffset, out.length);
+    int nearest = -1;
+    double best = Double.POSITIVE_INFINITY;
+    // misses are NaN which never compares less than the best distance
+    for (int i = 0, j = offset; i < count; i++, j += 4) {
+      double t = plane(ray, planes[j], planes[j + 1], planes[j + 2], planes[j + 3]);
+      if (t < best) {
+        best = t;
+        nearest = i;
+      }
+    }
+    if (nearest >= 0) {
+      out[outOffset] = best;
+    }
+    return nearest;
+  }
+
+  static int nearestSphere(Ray ray, double[] spheres, int offset, int count, double[] out, int outOffset) {
+    Objects.checkFromIndexSize(offset, 4L * count, spheres.length);
+    Objects.checkIndex(outOffset, out.length);
+    int nearest = -1;
+    double best = Double.POSITIVE_INFINITY;
+    for (int i = 0, j = offset; i < count; i++, j += 4) {
+      double t = sphere(ray, spheres[j], spheres[j + 1], spheres[j + 2], spheres[j + 3]);
+      if (t < best) {
+        best = t;
+        nearest = i;
+      }
+    }
+    if (nearest >= 0) {
+      out[outOffset] = best;
+    }
+    return nearest;
+  }
+
+  static int nearestTriangle(Ray ray, double[] triangles, int offset, int count, double[] out, int outOffset) {
+    Objects.checkFromIndexSize(offset, 9L * count, triangles.length);
+    Objects.checkIndex(outOffset, out.length);
+    int nearest = -1;
+    double best = Double.POSITIVE_INFINITY;
+    for (int i = 0, j = offset; i < count; i++, j += 9) {
+      double t = triangle(ray, triangles[j], triangles[j + 1], triangles[j + 2],
+        triangles[j + 3], triangles[j + 4], triangles[j + 5], triangles[j + 6], triangles[j + 7], triangles[j + 8]);
+      if (t < best) {
+        best = t;
+        nearest = i;
+      }
+    }
+    if (nearest >= 0) {
+      out[outOffset] = best;
+    }
+    return nearest;
+  }
+
+  private static double plane(double ox, double oy, double oz, double dx, double dy, double dz,
+                              double nx, double ny, double nz, double distance) {
+    double denom = nx * dx + ny * dy + nz * dz;
+    if (denom == 0) {
+      return Double.NaN;
+    }
+    double t = (distance - (nx * ox + ny * oy + nz * oz)) / denom;
+    return t >= 0 ? t : Double.NaN;
+  }
+
+  private static double sphere(double ox, double oy, double oz, double dx, double dy, double dz,
+                               double cx, double cy, double cz, double radius) {
+    double mx = ox - cx;
+    double my = oy - cy;
+    double mz = oz - cz;
+    double b = mx * dx + my * dy + mz * dz;
+    double c = mx * mx + my * my + mz * mz - radius * radius;
+    if (c > 0 && b > 0) {
+      return Double.NaN; // outside and pointing away
+    }
+    double discriminant = b * b - c;
+    if (discriminant < 0) {
+      return Double.NaN;
+    }
+    double root = Math.sqrt(discriminant);
+    return c > 0 ? -b - root : -b + root;
+  }
+
+  private static double triangle(double ox, double oy, double oz, double dx, double dy, double dz,
+                                 double ax, double ay, double az, double bx, double by, double bz,
+                                 double cx, double cy, double cz) {
+    double e1x = bx - ax;
+    double e1y = by - ay;
+    double e1z = bz - az;
+    double e2x = cx - ax;
+    double e2y = cy - ay;
+    double e2z = cz - az;
+    double px = dy * e2z - dz * e2y;
+    double py = dz * e2x - dx * e2z;
+    double pz = dx * e2y - dy * e2x;
+    double det = e1x * px + e1y * py + e1z * pz;
+    if (Math.abs(det) < EPSILON) {
+      return Double.NaN;
+    }
+    double inv = 1 / det;
+    double sx = ox - ax;
+    double sy = oy - ay;
+    double sz = oz - az;
+    double u = (sx * px + sy * py + sz * pz) * inv;
+    if (u < 0 || u > 1) {
+      return Double.NaN;
+    }
+    double qx = sy * e1z - sz * e1y;
+    double qy = sz * e1x - sx * e1z;
+    double qz = sx * e1y - sy * e1x;
+    double v = (dx * qx + dy * qy + dz * qz) * inv;
+    if (v < 0 || u + v > 1) {
+      return Double.NaN;
+    }
+    double t = (e2x * qx + e2y * qy + e2z * qz) * inv;
+    return t >= 0 ? t : Double.NaN;
+  }
+}
@@ -0,0 +1,171 @@
+/*
+ * Copyright 2020-2025 Moros
+ *
+ * This file is part of Math.
+ *
+ * Math is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Math is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Math. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package me.moros.math.geometry;
+
+import java.util.Objects;
+
+import me.moros.math.Rotation;
+import me.moros.math.Vector3d;
+
+/**
+ * Separating axis tests for oriented boxes.
+ * <p>Two boxes are disjoint if their projections are disjoint on one of 15 candidate axes: the 3 face normals of each
+ * box and the 9 cross products of their edge directions. All tests are performed in the frame of the first box,
+ * where the candidate axes reduce to rows and columns of the relative rotation matrix. A small tolerance is added to
+ * the edge cross product tests so nearly parallel edges, whose cross product degenerates, never report a false
+ * separation.
+ */
+final class SeparatingAxis {
+  private static final double EPSILON = 1e-10;
+
+  private SeparatingAxis() {
+  }
+
+  static AABB bounds(OBB box) {
+    double[] axes = axes(box.rotation());
+    Vector3d h = box.halfExtents();
+    double ex = Math.abs(axes[0]) * h.x() + Math.abs(axes[3]) * h.y() + Math.abs(axes[6]) * h.z();
+    double ey = Math.abs(axes[1]) * h.x() + Math.abs(axes[4]) * h.y() + Math.abs(axes[7]) * h.z();
+    double ez = Math.abs(axes[2]) * h.x() + Math.abs(axes[5]) * h.y() + Math.abs(axes[8]) * h.z();
+    Vector3d c = box.center();
+    return AABB.of(c.subtract(ex, ey, ez), c.add(ex, ey, ez));
+  }
+
+  static boolean intersects(OBB a, OBB b) {
+    double[] aAxes = axes(a.rotation());
+    double[] bAxes = axes(b.rotation());
+    double[] r = new double[9];
+    for (int i = 0; i < 3; i++) {
+      for (int j = 0; j < 3; j++) {
+        r[3 * i + j] = aAxes[3 * i] * bAxes[3 * j] + aAxes[3 * i + 1] * bAxes[3 * j + 1] + aAxes[3 * i + 2] * bAxes[3 * j + 2];
+      }
+    }
+    Vector3d ea = a.halfExtents();
+    Vector3d eb = b.halfExtents();
+    Vector3d d = b.center().subtract(a.center());
+    return !separated(r, abs(r), ea.x(), ea.y(), ea.z(), eb.x(), eb.y(), eb.z(),
+      dot(aAxes, 0, d.x(), d.y(), d.z()), dot(aAxes, 1, d.x(), d.y(), d.z()), dot(aAxes, 2, d.x(), d.y(), d.z()));
+  }
+
+  static boolean intersects(OBB a, double minX, double minY, double minZ, double maxX, double maxY, double maxZ) {
+    // the axes of an axis aligned box are the identity, so the relative rotation is the axes of the first box
+    double[] r = axes(a.rotation());
+    Vector3d ea = a.halfExtents();
+    Vector3d c = a.center();
+    return !separated(r, abs(r), ea.x(), ea.y(), ea.z(), c, minX, minY, minZ, maxX, maxY, maxZ);
+  }
+
+  static int intersects(OBB a, double[] boxes, int offset, int count, int[] out, int outOffset) {
+    Objects.checkFromIndexSize(offset, 6L * count, boxes.length);
+    Objects.checkFromIndexSize(outOffset, count, out.length);
+    double[] r = axes(a.rotation());
+    double[] abs = abs(r);
+    Vector3d ea = a.halfExtents();
+    Vector3d c = a.center();
+    int hits = 0;
+    for (int i = 0; i < count; i++) {
+      int idx = offset + 6 * i;
+      if (!separated(r, abs, ea.x(), ea.y(), ea.z(), c, boxes[idx], boxes[idx + 1], boxes[idx + 2],
+        boxes[idx + 3], boxes[idx + 4], boxes[idx + 5])) {
+        out[outOffset + hits++] = i;
+      }
+    }
+    return hits;
+  }
+
+  private static boolean separated(double[] r, double[] abs, double ea0, double ea1, double ea2, Vector3d c,
+                                   double minX, double minY, double minZ, double maxX, double maxY, double maxZ) {
+    double dx = 0.5 * (minX + maxX) - c.x();
+    double dy = 0.5 * (minY + maxY) - c.y();
+    double dz = 0.5 * (minZ + maxZ) - c.z();
+    return separated(r, abs, ea0, ea1, ea2, 0.5 * (maxX - minX), 0.5 * (maxY - minY), 0.5 * (maxZ - minZ),
+      dot(r, 0, dx, dy, dz), dot(r, 1, dx, dy, dz), dot(r, 2, dx, dy, dz));
+  }
+
+  /**
+   * Check for a separating axis between two boxes.
+   * @param r the rotation matrix of the second box expressed in the frame of the first box, in row major order
+   * @param abs the absolute values of r
+   * @param t0 the offset between centers along the first axis of the first box
+   * @param t1 the offset between centers along the second axis of the first box
+   * @param t2 the offset between centers along the third axis of the first box
+   * @return true if the boxes are disjoint or only touch, false if they overlap
+   */
+  private static boolean separated(double[] r, double[] abs, double ea0, double ea1, double ea2,
+                                   double eb0, double eb1, double eb2, double t0, double t1, double t2) {
+    // face normals of the first box
+    if (Math.abs(t0) >= ea0 + eb0 * abs[0] + eb1 * abs[1] + eb2 * abs[2]) {
+      return true;
+    }
+    if (Math.abs(t1) >= ea1 + eb0 * abs[3] + eb1 * abs[4] + eb2 * abs[5]) {
+      return true;
+    }
+    if (Math.abs(t2) >= ea2 + eb0 * abs[6] + eb1 * abs[7] + eb2 * abs[8]) {
+      return true;
+    }
+    // face normals of the second box
+    if (Math.abs(t0 * r[0] + t1 * r[3] + t2 * r[6]) >= ea0 * abs[0] + ea1 * abs[3] + ea2 * abs[6] + eb0) {
+      return true;
+    }
+    if (Math.abs(t0 * r[1] + t1 * r[4] + t2 * r[7]) >= ea0 * abs[1] + ea1 * abs[4] + ea2 * abs[7] + eb1) {
+      return true;
+    }
+    if (Math.abs(t0 * r[2] + t1 * r[5] + t2 * r[8]) >= ea0 * abs[2] + ea1 * abs[5] + ea2 * abs[8] + eb2) {
+      return true;
+    }
+    // edge cross products
+    double a00 = abs[0] + EPSILON;
+    double a01 = abs[1] + EPSILON;
+    double a02 = abs[2] + EPSILON;
+    double a10 = abs[3] + EPSILON;
+    double a11 = abs[4] + EPSILON;
+    double a12 = abs[5] + EPSILON;
+    double a20 = abs[6] + EPSILON;
+    double a21 = abs[7] + EPSILON;
+    double a22 = abs[8] + EPSILON;
+    return Math.abs(t2 * r[3] - t1 * r[6]) >= ea1 * a20 + ea2 * a10 + eb1 * a02 + eb2 * a01
+      || Math.abs(t2 * r[4] - t1 * r[7]) >= ea1 * a21 + ea2 * a11 + eb0 * a02 + eb2 * a00
+      || Math.abs(t2 * r[5] - t1 * r[8]) >= ea1 * a22 + ea2 * a12 + eb0 * a01 + eb1 * a00
+      || Math.abs(t0 * r[6] - t2 * r[0]) >= ea0 * a20 + ea2 * a00 + eb1 * a12 + eb2 * a11
+      || Math.abs(t0 * r[7] - t2 * r[1]) >= ea0 * a21 + ea2 * a01 + eb0 * a12 + eb2 * a10
+      || Math.abs(t0 * r[8] - t2 * r[2]) >= ea0 * a22 + ea2 * a02 + eb0 * a11 + eb1 * a10
+      || Math.abs(t1 * r[0] - t0 * r[3]) >= ea0 * a10 + ea1 * a00 + eb1 * a22 + eb2 * a21
+      || Math.abs(t1 * r[1] - t0 * r[4]) >= ea0 * a11 + ea1 * a01 + eb0 * a22 + eb2 * a20
+      || Math.abs(t1 * r[2] - t0 * r[5]) >= ea0 * a12 + ea1 * a02 + eb0 * a21 + eb1 * a20;
+  }
+
+  private static double[] axes(Rotation rotation) {
+    double[] axes = {1, 0, 0, 0, 1, 0, 0, 0, 1};
+    rotation.applyTo(axes, 0, axes, 0, 3);
+    return axes;
+  }
+
+  private static double[] abs(double[] r) {
+    double[] abs = new double[9];
+    for (int i = 0; i < 9; i++) {
+      abs[i] = Math.abs(r[i]);
+    }
+    return abs;
+  }
+
+  private static double dot(double[] axes, int axis, double x, double y, double z) {
+    return axes[3 * axis] * x + axes[3 * axis + 1] * y + axes[3 * axis + 2] * z;
+  }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2020-2025 Moros
+ *
+ * This file is part of Math.
+ *
+ * Math is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Math is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Math. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package me.moros.math.geometry;
+
+import me.moros.math.Position;
+import me.moros.math.Vector3d;
+
+/**
+ * Immutable sphere defined by a center and a radius.
+ */
+public interface Sphere {
+  /**
+   * Get the center of this sphere.
+   * @return the center
+   */
+  Vector3d center();
+
+  /**
+   * Get the radius of this sphere.
+   * @return the radius
+   */
+  double radius();
+
+  /**
+   * Compute a sphere translated by the given offset.
+   * @param p the offset
+   * @return a new translated sphere
+   */
+  default Sphere at(Position p) {
+    return of(center().add(p), radius());
+  }
+
+  /**
+   * Check if a point is inside this sphere, including its surface.
+   * @param p the point to check
+   * @return true if the point is inside this sphere, false otherwise
+   */
+  default boolean contains(Position p) {
+    return center().distanceSq(p) <= radius() * radius();
+  }
+
+  /**
+   * Compute the smallest axis aligned box that contains this sphere.
+   * @return the bounding box
+   */
+  default AABB bounds() {
+    double r = radius();
+    return AABB.of(center().subtract(r, r, r), center().add(r, r, r));
+  }
+
+  /**
+   * Create a sphere.
+   * @param center the center of the sphere
+   * @param radius the radius of the sphere
+   * @return a new sphere
+   * @throws IllegalArgumentException if the radius is negative
+   */
+  static Sphere of(Position center, double radius) {
+    if (!(radius >= 0)) {
+      throw new IllegalArgumentException("Radius must be non-negative, found " + radius);
+    }
+    return new DoubleSphere(center.toVector3d(), radius);
+  }
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2020-2025 Moros
+ *
+ * This file is part of Math.
+ *
+ * Math is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Math is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Math. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package me.moros.math.geometry;
+
+import me.moros.math.Vector3d;
+import me.moros.math.Vector3i;
+
+/**
+ * The result of sweeping a box through a voxel grid.
+ * @see AABB#sweep(Vector3d, me.moros.math.function.IntTriPredicate)
+ */
+public interface SweepResult {
+  /**
+   * Check if the sweep was blocked by a voxel.
+   * @return true if there was a collision, false otherwise
+   */
+  default boolean hit() {
+    return !Vector3i.ZERO.equals(face());
+  }
+
+  /**
+   * Get the time of impact as a fraction of the motion, in the range [0, 1].
+   * @return the time of impact or 1 if there was no collision
+   */
+  double time();
+
+  /**
+   * Get the normal of the voxel face that was hit, pointing back towards the box.
+   * @return the unit normal of the hit face or {@link Vector3i#ZERO} if there was no collision
+   */
+  Vector3i face();
+
+  /**
+   * Get the motion that can be performed before the collision.
+   * @return the allowed motion
+   */
+  Vector3d motion();
+
+  /**
+   * Get the remaining motion after the collision with the component along the hit face normal removed,
+   * so the box slides along the hit face.
+   * @return the slide corrected remaining motion or {@link Vector3d#ZERO} if there was no collision
+   */
+  Vector3d remaining();
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright 2020-2025 Moros
+ *
+ * This file is part of Math.
+ *
+ * Math is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Math is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Math. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package me.moros.math.geometry;
+
+import me.moros.math.FastMath;
+import me.moros.math.Vector3d;
+import me.moros.math.Vector3i;
+import me.moros.math.function.IntTriPredicate;
+
+/**
+ * Continuous collision of a box moving through a voxel grid.
+ * <p>The leading face of the box is traversed voxel by voxel in the order its boundaries are crossed, similar to
+ * Amanatides-Woo ray traversal. At each crossing only the slab of voxels newly entered by the leading face is tested.
+ */
+final class VoxelSweep {
+  private static final double EPSILON = 1e-10;
+
+  private VoxelSweep() {
+  }
+
+  static SweepResult sweep(AABB box, Vector3d motion, IntTriPredicate solid) {
+    double maxT = motion.length();
+    if (!Double.isFinite(maxT)) {
+      throw new IllegalArgumentException("Motion must be finite, found " + motion);
+    }
+    if (!isFinite(box.min()) || !isFinite(box.max())) {
+      throw new IllegalArgumentException("Box bounds must be finite");
+    }
+    if (maxT == 0) {
+      return new DoubleSweepResult(1, Vector3i.ZERO, Vector3d.ZERO, Vector3d.ZERO);
+    }
+    double[] min = box.min().toArray();
+    double[] max = box.max().toArray();
+    double[] vec = motion.toArray();
+    int[] step = new int[3];
+    int[] lead = new int[3];
+    int[] trail = new int[3];
+    double[] trailEdge = new double[3];
+    double[] normed = new double[3];
+    double[] tDelta = new double[3];
+    double[] tNext = new double[3];
+    for (int i = 0; i < 3; i++) {
+      boolean positive = vec[i] >= 0;
+      step[i] = positive ? 1 : -1;
+      double leadEdge = positive ? max[i] : min[i];
+      trailEdge[i] = positive ? min[i] : max[i];
+      lead[i] = FastMath.floor(leadEdge - step[i] * EPSILON);
+      trail[i] = FastMath.floor(trailEdge[i] + step[i] * EPSILON);
+      normed[i] = vec[i] / maxT;
+      tDelta[i] = Math.abs(1 / normed[i]);
+      double dist = positive ? lead[i] + 1 - leadEdge : leadEdge - lead[i];
+      tNext[i] = tDelta[i] < Double.POSITIVE_INFINITY ? tDelta[i] * dist : Double.POSITIVE_INFINITY;
+    }
+    double t = 0;
+    while (true) {
+      int axis = tNext[0] < tNext[1] ? (tNext[0] < tNext[2] ? 0 : 2) : (tNext[1] < tNext[2] ? 1 : 2);
+      double dt = tNext[axis] - t;
+      t = tNext[axis];
+      if (t > maxT) {
+        break;
+      }
+      lead[axis] += step[axis];
+      tNext[axis] += tDelta[axis];
+      for (int i = 0; i < 3; i++) {
+        trailEdge[i] += dt * normed[i];
+        trail[i] = FastMath.floor(trailEdge[i] + step[i] * EPSILON);
+      }
+      if (collides(axis, lead, trail, step, solid)) {
+        double time = t / maxT;
+        vec[axis] = 0;
+        Vector3i face = Vector3i.of(axis == 0 ? -step[0] : 0, axis == 1 ? -step[1] : 0, axis == 2 ? -step[2] : 0);
+        Vector3d remaining = Vector3d.from(vec).multiply(1 - time);
+        return new DoubleSweepResult(time, face, motion.multiply(time), remaining);
+      }
+    }
+    return new DoubleSweepResult(1, Vector3i.ZERO, motion, Vector3d.ZERO);
+  }
+
+  private static boolean isFinite(Vector3d v) {
+    return Double.isFinite(v.x()) && Double.isFinite(v.y()) && Double.isFinite(v.z());
+  }
+
+  private static boolean collides(int axis, int[] lead, int[] trail, int[] step, IntTriPredicate solid) {
+    int x0 = axis == 0 ? lead[0] : trail[0];
+    int y0 = axis == 1 ? lead[1] : trail[1];
+    int z0 = axis == 2 ? lead[2] : trail[2];
+    int nx = (lead[0] - x0) * step[0] + 1;
+    int ny = (lead[1] - y0) * step[1] + 1;
+    int nz = (lead[2] - z0) * step[2] + 1;
+    for (int i = 0; i < nx; i++) {
+      int x = x0 + i * step[0];
+      for (int j = 0; j < ny; j++) {
+        int y = y0 + j * step[1];
+        for (int k = 0; k < nz; k++) {
+          if (solid.test(x, y, z0 + k * step[2])) {
+            return true;
+          }
+        }
+      }
+    }
+    return false;
+  }
+}
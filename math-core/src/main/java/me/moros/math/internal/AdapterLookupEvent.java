@@ -0,0 +1,71 @@
+/*
+ * Copyright 2020-2025 Moros
+ *
+ * This file is part of Math.
+ *
+ * Math is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Math is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Math. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package me.moros.math.internal;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight recorder event for adapter lookups that missed the adapter cache.
+ */
+@Name("me.moros.math.AdapterLookup")
+@Label("Adapter Lookup")
+@Category({"Math", "Adapter"})
+@Description("Search for the closest registered adapter of a type that had no cached adapter")
+@Enabled(false)
+@StackTrace(false)
+public final class AdapterLookupEvent extends Event implements AdapterLookupProbe {
+  @Label("Type")
+  public Class<?> type;
+
+  @Label("Candidates")
+  public int count;
+
+  @Label("Found")
+  public boolean found;
+
+  static AdapterLookupEvent start() {
+    AdapterLookupEvent event = new AdapterLookupEvent();
+    event.begin();
+    return event;
+  }
+
+  /**
+   * End the event and commit it if it is enabled and exceeds its threshold.
+   * @param type the type that was looked up
+   * @param count the amount of registered adapters that were checked
+   * @param found whether a matching adapter was found
+   */
+  @Override
+  public void finish(Class<?> type, int count, boolean found) {
+    end();
+    if (shouldCommit()) {
+      this.type = type;
+      this.count = count;
+      this.found = found;
+      commit();
+    }
+  }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright 2020-2025 Moros
+ *
+ * This file is part of Math.
+ *
+ * Math is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Math is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Math. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package me.moros.math.internal;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight recorder event for operations that process many vectors at once.
+ */
+@Name("me.moros.math.BulkOperation")
+@Label("Bulk Vector Operation")
+@Category({"Math", "Vector"})
+@Description("An operation that processes many vectors in a single call")
+@Enabled(false)
+@StackTrace(false)
+public final class BulkOperationEvent extends Event implements OperationProbe {
+  @Label("Operation")
+  public String operation;
+
+  @Label("Elements")
+  public int count;
+
+  static BulkOperationEvent start() {
+    BulkOperationEvent event = new BulkOperationEvent();
+    event.begin();
+    return event;
+  }
+
+  /**
+   * End the event and commit it if it is enabled and exceeds its threshold.
+   * @param operation the operation name
+   * @param count the amount of processed elements
+   */
+  @Override
+  public void finish(String operation, int count) {
+    end();
+    if (shouldCommit()) {
+      this.operation = operation;
+      this.count = count;
+      commit();
+    }
+  }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright 2020-2025 Moros
+ *
+ * This file is part of Math.
+ *
+ * Math is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Math is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Math. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package me.moros.math.internal;
+
+import java.util.Optional;
+
+/**
+ * Entry point for flight recorder instrumentation.
+ * <p>The {@code jdk.jfr} module is an optional dependency. Event classes are only loaded if it is readable at runtime,
+ * otherwise every probe is a shared no-op.
+ */
+public final class Instrumentation {
+  private static final boolean JFR_AVAILABLE = jfrAvailable();
+  private static final OperationProbe NOOP_OPERATION = (name, count) -> {
+  };
+  private static final AdapterLookupProbe NOOP_ADAPTER_LOOKUP = (type, count, found) -> {
+  };
+
+  private Instrumentation() {
+  }
+
+  /**
+   * Start measuring a bulk vector operation.
+   * @return the started probe
+   */
+  public static OperationProbe bulkOperation() {
+    return JFR_AVAILABLE ? BulkOperationEvent.start() : NOOP_OPERATION;
+  }
+
+  /**
+   * Start measuring the generation of a shape.
+   * @return the started probe
+   */
+  public static OperationProbe shapeGeneration() {
+    return JFR_AVAILABLE ? ShapeGenerationEvent.start() : NOOP_OPERATION;
+  }
+
+  /**
+   * Start measuring an adapter lookup.
+   * @return the started probe
+   */
+  public static AdapterLookupProbe adapterLookup() {
+    return JFR_AVAILABLE ? AdapterLookupEvent.start() : NOOP_ADAPTER_LOOKUP;
+  }
+
+  private static boolean jfrAvailable() {
+    Optional<Module> jfr = ModuleLayer.boot().findModule("jdk.jfr");
+    return jfr.isPresent() && Instrumentation.class.getModule().canRead(jfr.get());
+  }
+}
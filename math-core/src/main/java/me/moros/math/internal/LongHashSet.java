@@ -0,0 +1,236 @@
+/*
+ * Copyright 2020-2025 Moros
+ *
+ * This file is part of Math.
+ *
+ * Math is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Math is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Math. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package me.moros.math.internal;
+
+import java.util.Arrays;
+import java.util.function.LongConsumer;
+
+/**
+ * Open addressing hash set of primitive longs using linear probing.
+ */
+public final class LongHashSet {
+  private static final long EMPTY = 0;
+  private static final float LOAD_FACTOR = 0.5F;
+  private static final int MAX_CAPACITY = 1 << 30;
+  private static final int MAX_EXPECTED = (int) (MAX_CAPACITY * LOAD_FACTOR);
+
+  private long[] keys;
+  private int mask;
+  private int size;
+  private boolean containsEmpty;
+
+  /**
+   * Create a set with the default capacity.
+   */
+  public LongHashSet() {
+    this(16);
+  }
+
+  /**
+   * Create a set that can hold the given amount of elements without resizing.
+   * @param expected the expected amount of elements
+   * @throws IllegalArgumentException if expected is larger than 2<sup>29</sup>
+   */
+  public LongHashSet(int expected) {
+    if (expected > MAX_EXPECTED) {
+      throw new IllegalArgumentException("Expected size must be at most " + MAX_EXPECTED + ", found " + expected);
+    }
+    int capacity = Integer.highestOneBit(Math.max(4, (int) (Math.max(expected, 1) / LOAD_FACTOR)) - 1) << 1;
+    this.keys = new long[capacity];
+    this.mask = capacity - 1;
+  }
+
+  /**
+   * Get the amount of elements in this set.
+   * @return the size of this set
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Check if this set is empty.
+   * @return true if this set has no elements, false otherwise
+   */
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  /**
+   * Check if this set contains a value.
+   * @param value the value to check
+   * @return true if the value is in this set, false otherwise
+   */
+  public boolean contains(long value) {
+    if (value == EMPTY) {
+      return containsEmpty;
+    }
+    for (int idx = index(value); ; idx = (idx + 1) & mask) {
+      long key = keys[idx];
+      if (key == EMPTY) {
+        return false;
+      } else if (key == value) {
+        return true;
+      }
+    }
+  }
+
+  /**
+   * Add a value to this set.
+   * @param value the value to add
+   * @return true if the value was added, false if it was already present
+   * @throws IllegalStateException if the set already holds 2<sup>29</sup> elements
+   */
+  public boolean add(long value) {
+    if (value == EMPTY) {
+      if (containsEmpty) {
+        return false;
+      }
+      containsEmpty = true;
+      size++;
+      return true;
+    }
+    for (int idx = index(value); ; idx = (idx + 1) & mask) {
+      long key = keys[idx];
+      if (key == EMPTY) {
+        if (size == MAX_EXPECTED) {
+          throw new IllegalStateException("Set cannot hold more than " + MAX_EXPECTED + " elements");
+        }
+        keys[idx] = value;
+        if (++size > (keys.length * LOAD_FACTOR)) {
+          rehash(keys.length << 1);
+        }
+        return true;
+      } else if (key == value) {
+        return false;
+      }
+    }
+  }
+
+  /**
+   * Remove a value from this set.
+   * @param value the value to remove
+   * @return true if the value was removed, false if it was not present
+   */
+  public boolean remove(long value) {
+    if (value == EMPTY) {
+      if (!containsEmpty) {
+        return false;
+      }
+      containsEmpty = false;
+      size--;
+      return true;
+    }
+    for (int idx = index(value); ; idx = (idx + 1) & mask) {
+      long key = keys[idx];
+      if (key == EMPTY) {
+        return false;
+      } else if (key == value) {
+        shiftKeys(idx);
+        size--;
+        return true;
+      }
+    }
+  }
+
+  /**
+   * Remove all values from this set.
+   */
+  public void clear() {
+    Arrays.fill(keys, EMPTY);
+    containsEmpty = false;
+    size = 0;
+  }
+
+  /**
+   * Pass each value of this set to a consumer in no particular order.
+   * @param consumer the consumer to accept each value
+   */
+  public void forEach(LongConsumer consumer) {
+    if (containsEmpty) {
+      consumer.accept(EMPTY);
+    }
+    for (long key : keys) {
+      if (key != EMPTY) {
+        consumer.accept(key);
+      }
+    }
+  }
+
+  /**
+   * Copy the values of this set into a new array.
+   * @return an array with all the values in this set, in no particular order
+   */
+  public long[] toArray() {
+    long[] result = new long[size];
+    int idx = 0;
+    if (containsEmpty) {
+      result[idx++] = EMPTY;
+    }
+    for (long key : keys) {
+      if (key != EMPTY) {
+        result[idx++] = key;
+      }
+    }
+    return result;
+  }
+
+  private int index(long value) {
+    long h = value * 0x9E3779B97F4A7C15L;
+    return (int) (h ^ (h >>> 32)) & mask;
+  }
+
+  // Backward shift deletion keeps probe sequences intact without tombstones
+  private void shiftKeys(int pos) {
+    while (true) {
+      int last = pos;
+      pos = (pos + 1) & mask;
+      long key;
+      while (true) {
+        key = keys[pos];
+        if (key == EMPTY) {
+          keys[last] = EMPTY;
+          return;
+        }
+        int slot = index(key);
+        if (last <= pos ? last >= slot || slot > pos : last >= slot && slot > pos) {
+          break;
+        }
+        pos = (pos + 1) & mask;
+      }
+      keys[last] = key;
+    }
+  }
+
+  private void rehash(int capacity) {
+    long[] old = keys;
+    keys = new long[capacity];
+    mask = capacity - 1;
+    for (long key : old) {
+      if (key != EMPTY) {
+        int idx = index(key);
+        while (keys[idx] != EMPTY) {
+          idx = (idx + 1) & mask;
+        }
+        keys[idx] = key;
+      }
+    }
+  }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright 2020-2025 Moros
+ *
+ * This file is part of Math.
+ *
+ * Math is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Math is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Math. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package me.moros.math.internal;
+
+import java.util.NoSuchElementException;
+
+/**
+ * First in, first out queue of primitive longs backed by a growable ring buffer.
+ */
+public final class LongRingQueue {
+  private long[] elements;
+  private int head;
+  private int size;
+
+  /**
+   * Create a queue with the default capacity.
+   */
+  public LongRingQueue() {
+    this(16);
+  }
+
+  /**
+   * Create a queue that can hold the given amount of elements without resizing.
+   * @param expected the expected amount of elements
+   */
+  public LongRingQueue(int expected) {
+    int capacity = Integer.highestOneBit(Math.max(4, expected) - 1) << 1;
+    this.elements = new long[capacity];
+  }
+
+  /**
+   * Get the amount of elements in this queue.
+   * @return the size of this queue
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Check if this queue is empty.
+   * @return true if this queue has no elements, false otherwise
+   */
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  /**
+   * Add a value to the tail of this queue.
+   * @param value the value to add
+   */
+  public void add(long value) {
+    if (size == elements.length) {
+      grow();
+    }
+    elements[(head + size) & (elements.length - 1)] = value;
+    size++;
+  }
+
+  /**
+   * Remove the value at the head of this queue.
+   * @return the removed value
+   * @throws NoSuchElementException if this queue is empty
+   */
+  public long poll() {
+    if (size == 0) {
+      throw new NoSuchElementException();
+    }
+    long value = elements[head];
+    head = (head + 1) & (elements.length - 1);
+    size--;
+    return value;
+  }
+
+  /**
+   * Remove all elements from this queue.
+   */
+  public void clear() {
+    head = 0;
+    size = 0;
+  }
+
+  private void grow() {
+    long[] next = new long[elements.length << 1];
+    int firstPart = elements.length - head;
+    System.arraycopy(elements, head, next, 0, firstPart);
+    System.arraycopy(elements, 0, next, firstPart, head);
+    elements = next;
+    head = 0;
+  }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2020-2025 Moros
+ *
+ * This file is part of Math.
+ *
+ * Math is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Math is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Math. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package me.moros.math.internal;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Stable least significant digit radix sort of long values by unsigned long keys.
+ */
+public final class RadixSort {
+  private static final int DIGIT_BITS = 11;
+  private static final int RADIX = 1 << DIGIT_BITS;
+  private static final int MASK = RADIX - 1;
+
+  private RadixSort() {
+  }
+
+  /**
+   * Sort a range of values by their matching keys in ascending unsigned order.
+   * The key at {@code keys[keyOffset + i]} belongs to the value at {@code values[valueOffset + i]}.
+   * Both ranges are reordered and values with equal keys keep their relative order.
+   * @param keys the sort keys
+   * @param keyOffset the index of the first key
+   * @param values the values to sort
+   * @param valueOffset the index of the first value
+   * @param length the amount of elements
+   * @param keyBits the amount of low bits of each key that are significant
+   */
+  public static void sort(long[] keys, int keyOffset, long[] values, int valueOffset, int length, int keyBits) {
+    Objects.checkFromIndexSize(keyOffset, length, keys.length);
+    Objects.checkFromIndexSize(valueOffset, length, values.length);
+    if (length < 2) {
+      return;
+    }
+    long[] srcKeys = Arrays.copyOfRange(keys, keyOffset, keyOffset + length);
+    long[] srcValues = Arrays.copyOfRange(values, valueOffset, valueOffset + length);
+    long[] dstKeys = new long[length];
+    long[] dstValues = new long[length];
+    int[] counts = new int[RADIX];
+    for (int shift = 0; shift < keyBits; shift += DIGIT_BITS) {
+      Arrays.fill(counts, 0);
+      for (int i = 0; i < length; i++) {
+        counts[(int) (srcKeys[i] >>> shift) & MASK]++;
+      }
+      if (counts[(int) (srcKeys[0] >>> shift) & MASK] == length) {
+        continue; // All keys share this digit
+      }
+      int sum = 0;
+      for (int d = 0; d < RADIX; d++) {
+        int c = counts[d];
+        counts[d] = sum;
+        sum += c;
+      }
+      for (int i = 0; i < length; i++) {
+        int idx = counts[(int) (srcKeys[i] >>> shift) & MASK]++;
+        dstKeys[idx] = srcKeys[i];
+        dstValues[idx] = srcValues[i];
+      }
+      long[] tempKeys = srcKeys;
+      long[] tempValues = srcValues;
+      srcKeys = dstKeys;
+      srcValues = dstValues;
+      dstKeys = tempKeys;
+      dstValues = tempValues;
+    }
+    System.arraycopy(srcKeys, 0, keys, keyOffset, length);
+    System.arraycopy(srcValues, 0, values, valueOffset, length);
+  }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright 2020-2025 Moros
+ *
+ * This file is part of Math.
+ *
+ * Math is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Math is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Math. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package me.moros.math.internal;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight recorder event for generating points of a shape.
+ */
+@Name("me.moros.math.ShapeGeneration")
+@Label("Shape Generation")
+@Category({"Math", "Shape"})
+@Description("Generation of the points that make up a shape")
+@Enabled(false)
+@StackTrace(false)
+public final class ShapeGenerationEvent extends Event implements OperationProbe {
+  @Label("Shape")
+  public String shape;
+
+  @Label("Points")
+  public int count;
+
+  static ShapeGenerationEvent start() {
+    ShapeGenerationEvent event = new ShapeGenerationEvent();
+    event.begin();
+    return event;
+  }
+
+  /**
+   * End the event and commit it if it is enabled and exceeds its threshold.
+   * @param shape the shape name
+   * @param count the amount of generated points
+   */
+  @Override
+  public void finish(String shape, int count) {
+    end();
+    if (shouldCommit()) {
+      this.shape = shape;
+      this.count = count;
+      commit();
+    }
+  }
+}
@@ -0,0 +1,210 @@
+/*
+ * Copyright 2020-2025 Moros
+ *
+ * This file is part of Math.
+ *
+ * Math is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Math is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Math. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package me.moros.math.io;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Objects;
+import java.util.function.LongConsumer;
+
+import me.moros.math.PackedPosition;
+import me.moros.math.Vector3i;
+
+/**
+ * Binary codec for sets of block positions.
+ * <p>Positions are stored as {@link PackedPosition packed longs}, sorted and delta encoded using variable length
+ * integers. Neighbouring positions usually take one or two bytes each. Duplicate positions are only stored once.
+ */
+public final class BlockPositionCodec {
+  private static final int MIN_BUFFER_CAPACITY = 2 * Codecs.MAX_VAR_LONG_SIZE;
+
+  private BlockPositionCodec() {
+  }
+
+  /**
+   * Get the maximum amount of bytes required to encode the given amount of positions.
+   * @param count the amount of positions
+   * @return the maximum encoded size in bytes
+   */
+  public static long maxEncodedSize(int count) {
+    return Codecs.MAX_VAR_INT_SIZE + (long) count * Codecs.MAX_VAR_LONG_SIZE;
+  }
+
+  /**
+   * Encode a collection of vectors.
+   * @param positions the positions to encode
+   * @param out the buffer to write to
+   * @return the amount of unique positions that were encoded
+   * @see #encode(long[], int, int, ByteBuffer)
+   */
+  public static int encode(Collection<? extends Vector3i> positions, ByteBuffer out) {
+    long[] packed = new long[positions.size()];
+    int idx = 0;
+    for (Vector3i pos : positions) {
+      packed[idx++] = pos.pack();
+    }
+    return encode(packed, 0, packed.length, out);
+  }
+
+  /**
+   * Encode a range of packed positions. The range is sorted in place.
+   * @param positions the array of packed positions
+   * @param from the index of the first position, inclusive
+   * @param to the index of the last position, exclusive
+   * @param out the buffer to write to
+   * @return the amount of unique positions that were encoded
+   * @throws java.nio.BufferOverflowException if the buffer does not have enough space remaining
+   */
+  public static int encode(long[] positions, int from, int to, ByteBuffer out) {
+    Objects.checkFromToIndex(from, to, positions.length);
+    Arrays.sort(positions, from, to);
+    int count = uniqueCount(positions, from, to);
+    Codecs.writeCount(out, count);
+    long prev = 0;
+    for (int i = from; i < to; i++) {
+      long value = positions[i];
+      if (i == from) {
+        Codecs.writeVarLong(out, Codecs.zigZag(value));
+      } else if (value != prev) {
+        Codecs.writeVarLong(out, value - prev);
+      }
+      prev = value;
+    }
+    return count;
+  }
+
+  /**
+   * Encode a range of packed positions and write them to a channel. The range is sorted in place.
+   * @param positions the array of packed positions
+   * @param from the index of the first position, inclusive
+   * @param to the index of the last position, exclusive
+   * @param channel the channel to write to
+   * @param buffer the buffer to stage encoded data in, it will be cleared before use
+   * @return the amount of bytes written
+   * @throws IOException if an I/O error occurs
+   * @throws IllegalArgumentException if the buffer capacity is less than 20 bytes
+   */
+  public static long write(long[] positions, int from, int to, WritableByteChannel channel, ByteBuffer buffer) throws IOException {
+    Objects.checkFromToIndex(from, to, positions.length);
+    Codecs.checkCapacity(buffer, MIN_BUFFER_CAPACITY);
+    Arrays.sort(positions, from, to);
+    buffer.clear();
+    Codecs.writeCount(buffer, uniqueCount(positions, from, to));
+    long written = 0;
+    long prev = 0;
+    for (int i = from; i < to; i++) {
+      if (buffer.remaining() < Codecs.MAX_VAR_LONG_SIZE) {
+        written += Codecs.drain(buffer, channel);
+      }
+      long value = positions[i];
+      if (i == from) {
+        Codecs.writeVarLong(buffer, Codecs.zigZag(value));
+      } else if (value != prev) {
+        Codecs.writeVarLong(buffer, value - prev);
+      }
+      prev = value;
+    }
+    return written + Codecs.drain(buffer, channel);
+  }
+
+  /**
+   * Read the amount of encoded positions without consuming any data from the buffer.
+   * @param in the buffer to read from
+   * @return the amount of encoded positions
+   */
+  public static int decodedCount(ByteBuffer in) {
+    int position = in.position();
+    int count = Codecs.readCount(in);
+    in.position(position);
+    return count;
+  }
+
+  /**
+   * Decode packed positions into an array.
+   * @param in the buffer to read from
+   * @param out the array to store the decoded packed positions in
+   * @param offset the index to store the first decoded position at
+   * @return the amount of decoded positions
+   * @throws IndexOutOfBoundsException if the array does not have enough space
+   * @see #decodedCount(ByteBuffer)
+   */
+  public static int decode(ByteBuffer in, long[] out, int offset) {
+    int count = Codecs.readCount(in);
+    Objects.checkFromIndexSize(offset, count, out.length);
+    long value = 0;
+    for (int i = 0; i < count; i++) {
+      value = i == 0 ? Codecs.unZigZag(Codecs.readVarLong(in)) : value + Codecs.readVarLong(in);
+      out[offset + i] = value;
+    }
+    return count;
+  }
+
+  /**
+   * Decode positions into an array of consecutive xyz integer triples.
+   * @param in the buffer to read from
+   * @param out the array to store the decoded coordinates in
+   * @param offset the index to store the first decoded coordinate at
+   * @return the amount of decoded positions
+   * @throws IndexOutOfBoundsException if the array does not have enough space
+   * @see #decodedCount(ByteBuffer)
+   */
+  public static int decode(ByteBuffer in, int[] out, int offset) {
+    int count = Codecs.readCount(in);
+    Objects.checkFromIndexSize(offset, 3L * count, out.length);
+    long value = 0;
+    for (int i = 0; i < count; i++) {
+      value = i == 0 ? Codecs.unZigZag(Codecs.readVarLong(in)) : value + Codecs.readVarLong(in);
+      int idx = offset + 3 * i;
+      out[idx] = PackedPosition.unpackX(value);
+      out[idx + 1] = PackedPosition.unpackY(value);
+      out[idx + 2] = PackedPosition.unpackZ(value);
+    }
+    return count;
+  }
+
+  /**
+   * Decode packed positions and pass each one to a consumer in ascending order.
+   * @param in the buffer to read from
+   * @param consumer the consumer to accept the decoded packed positions
+   * @return the amount of decoded positions
+   */
+  public static int decode(ByteBuffer in, LongConsumer consumer) {
+    int count = Codecs.readCount(in);
+    long value = 0;
+    for (int i = 0; i < count; i++) {
+      value = i == 0 ? Codecs.unZigZag(Codecs.readVarLong(in)) : value + Codecs.readVarLong(in);
+      consumer.accept(value);
+    }
+    return count;
+  }
+
+  private static int uniqueCount(long[] sorted, int from, int to) {
+    int count = 0;
+    for (int i = from; i < to; i++) {
+      if (i == from || sorted[i] != sorted[i - 1]) {
+        count++;
+      }
+    }
+    return count;
+  }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright 2020-2025 Moros
+ *
+ * This file is part of Math.
+ *
+ * Math is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Math is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Math. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package me.moros.math.io;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+
+final class Codecs {
+  static final int MAX_VAR_LONG_SIZE = 10;
+  static final int MAX_VAR_INT_SIZE = 5;
+
+  private Codecs() {
+  }
+
+  static void writeVarLong(ByteBuffer out, long value) {
+    while ((value & ~0x7FL) != 0) {
+      out.put((byte) ((value & 0x7F) | 0x80));
+      value >>>= 7;
+    }
+    out.put((byte) value);
+  }
+
+  static long readVarLong(ByteBuffer in) {
+    long result = 0;
+    for (int shift = 0; shift < Long.SIZE; shift += 7) {
+      byte b = in.get();
+      result |= (long) (b & 0x7F) << shift;
+      if ((b & 0x80) == 0) {
+        return result;
+      }
+    }
+    throw new IllegalArgumentException("Malformed variable length long");
+  }
+
+  static void writeCount(ByteBuffer out, int count) {
+    writeVarLong(out, count);
+  }
+
+  static int readCount(ByteBuffer in) {
+    long count = readVarLong(in);
+    if (count < 0 || count > Integer.MAX_VALUE) {
+      throw new IllegalArgumentException("Invalid element count " + count);
+    }
+    return (int) count;
+  }
+
+  static long zigZag(long value) {
+    return (value << 1) ^ (value >> 63);
+  }
+
+  static long unZigZag(long value) {
+    return (value >>> 1) ^ -(value & 1);
+  }
+
+  static void checkCapacity(ByteBuffer buffer, int required) {
+    if (buffer.capacity() < required) {
+      throw new IllegalArgumentException("Buffer capacity must be at least " + required);
+    }
+  }
+
+  static long drain(ByteBuffer buffer, WritableByteChannel channel) throws IOException {
+    buffer.flip();
+    long written = buffer.remaining();
+    while (buffer.hasRemaining()) {
+      channel.write(buffer);
+    }
+    buffer.clear();
+    return written;
+  }
+}
@@ -0,0 +1,433 @@
+/*
+ * Copyright 2020-2025 Moros
+ *
+ * This file is part of Math.
+ *
+ * Math is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Math is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Math. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package me.moros.math.io;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.LongConsumer;
+
+import me.moros.math.PackedPosition;
+import me.moros.math.internal.LongHashSet;
+
+/**
+ * Persistent set of {@link PackedPosition packed block positions} backed by a memory-mapped file.
+ * <p>The data file stores a sorted array of packed positions which is mapped into memory, so opening a set is
+ * nearly instant and lookups are binary searches against the mapping. Incremental updates are appended to a log file
+ * next to the data file and kept in memory until the set is compacted. Compaction merges the log into a new data
+ * file and happens automatically once the log exceeds the configured threshold.
+ * <p>The JDK offers no way to unmap a file explicitly, a mapping is released once it becomes unreachable. Compaction
+ * and {@link #close()} drop every reference to the mapping, but on platforms that refuse to replace a mapped file
+ * (such as Windows) compaction may still fail until the old mapping has been garbage collected.
+ * <p>Instances are not thread-safe.
+ */
+public final class MappedPositionSet implements Closeable {
+  private static final int MAGIC = 0x4D504F53;
+  private static final int VERSION = 1;
+  private static final int HEADER_SIZE = 2 * Integer.BYTES + Long.BYTES;
+  private static final int RECORD_SIZE = 1 + Long.BYTES;
+  private static final byte OP_REMOVE = 0;
+  private static final byte OP_ADD = 1;
+  private static final int BUFFER_SIZE = 1 << 16;
+  private static final int DEFAULT_COMPACT_THRESHOLD = 1 << 16;
+  private static final ByteBuffer UNMAPPED = ByteBuffer.allocate(0);
+
+  private final Path path;
+  private final Path logPath;
+  private final int compactThreshold;
+  private final LongHashSet added;
+  private final LongHashSet removed;
+  private final ByteBuffer record;
+
+  private FileChannel log;
+  private ByteBuffer data;
+  private int baseSize;
+  private int logEntries;
+  private long logPosition;
+
+  private MappedPositionSet(Path path, int compactThreshold) throws IOException {
+    this.path = path;
+    this.logPath = path.resolveSibling(path.getFileName() + ".log");
+    this.compactThreshold = compactThreshold;
+    this.added = new LongHashSet();
+    this.removed = new LongHashSet();
+    this.record = ByteBuffer.allocate(RECORD_SIZE);
+    this.data = UNMAPPED;
+    if (Files.notExists(path)) {
+      write(path, new long[0], 0, 0);
+    }
+    map();
+    this.log = FileChannel.open(logPath, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+    replayLog();
+  }
+
+  /**
+   * Open a set with the default compaction threshold, creating an empty one if it does not exist.
+   * @param path the path of the data file
+   * @return the opened set
+   * @throws IOException if an I/O error occurs or the file is not a valid position set
+   */
+  public static MappedPositionSet open(Path path) throws IOException {
+    return open(path, DEFAULT_COMPACT_THRESHOLD);
+  }
+
+  /**
+   * Open a set, creating an empty one if it does not exist.
+   * @param path the path of the data file
+   * @param compactThreshold the amount of log entries after which the set is compacted automatically
+   * @return the opened set
+   * @throws IOException if an I/O error occurs or the file is not a valid position set
+   * @throws IllegalArgumentException if compactThreshold is not positive
+   */
+  public static MappedPositionSet open(Path path, int compactThreshold) throws IOException {
+    if (compactThreshold <= 0) {
+      throw new IllegalArgumentException("Compaction threshold must be positive");
+    }
+    return new MappedPositionSet(path, compactThreshold);
+  }
+
+  /**
+   * Write a data file containing the given packed positions, replacing any existing file. The range is sorted in place.
+   * <p>The positions are written to a temporary file next to the data file which is then atomically moved into place,
+   * so an existing data file is never left partially written.
+   * @param path the path of the data file
+   * @param positions the array of packed positions
+   * @param from the index of the first position, inclusive
+   * @param to the index of the last position, exclusive
+   * @throws IOException if an I/O error occurs
+   */
+  public static void write(Path path, long[] positions, int from, int to) throws IOException {
+    Objects.checkFromToIndex(from, to, positions.length);
+    Arrays.sort(positions, from, to);
+    Path temp = tempPath(path);
+    try {
+      try (SortedWriter writer = new SortedWriter(temp)) {
+        for (int i = from; i < to; i++) {
+          writer.put(positions[i]);
+        }
+      }
+      Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    } finally {
+      Files.deleteIfExists(temp);
+    }
+  }
+
+  /**
+   * Get the amount of positions in this set.
+   * @return the size of this set
+   */
+  public int size() {
+    return baseSize + added.size() - removed.size();
+  }
+
+  /**
+   * Check if this set contains a position.
+   * @param x the x coordinate
+   * @param y the y coordinate
+   * @param z the z coordinate
+   * @return true if the position is in this set, false otherwise
+   */
+  public boolean contains(int x, int y, int z) {
+    return contains(PackedPosition.pack(x, y, z));
+  }
+
+  /**
+   * Check if this set contains a packed position.
+   * @param packed the packed position
+   * @return true if the position is in this set, false otherwise
+   */
+  public boolean contains(long packed) {
+    if (!added.isEmpty() && added.contains(packed)) {
+      return true;
+    }
+    return baseContains(packed) && (removed.isEmpty() || !removed.contains(packed));
+  }
+
+  /**
+   * Add a packed position to this set and record it in the log.
+   * @param packed the packed position
+   * @return true if the position was added, false if it was already present
+   * @throws IOException if an I/O error occurs
+   */
+  public boolean add(long packed) throws IOException {
+    if (contains(packed)) {
+      return false;
+    }
+    append(OP_ADD, packed);
+    applyAdd(packed);
+    compactIfNeeded();
+    return true;
+  }
+
+  /**
+   * Remove a packed position from this set and record it in the log.
+   * @param packed the packed position
+   * @return true if the position was removed, false if it was not present
+   * @throws IOException if an I/O error occurs
+   */
+  public boolean remove(long packed) throws IOException {
+    if (!contains(packed)) {
+      return false;
+    }
+    append(OP_REMOVE, packed);
+    applyRemove(packed);
+    compactIfNeeded();
+    return true;
+  }
+
+  /**
+   * Pass each packed position in this set to a consumer in ascending order.
+   * @param consumer the consumer to accept each packed position
+   */
+  public void forEach(LongConsumer consumer) {
+    long[] extra = added.toArray();
+    Arrays.sort(extra);
+    int extraIdx = 0;
+    for (int i = 0; i < baseSize; i++) {
+      long value = baseGet(i);
+      while (extraIdx < extra.length && extra[extraIdx] < value) {
+        consumer.accept(extra[extraIdx++]);
+      }
+      if (removed.isEmpty() || !removed.contains(value)) {
+        consumer.accept(value);
+      }
+    }
+    while (extraIdx < extra.length) {
+      consumer.accept(extra[extraIdx++]);
+    }
+  }
+
+  /**
+   * Force any logged updates to be written to the storage device.
+   * @throws IOException if an I/O error occurs
+   */
+  public void flush() throws IOException {
+    log.force(false);
+  }
+
+  /**
+   * Merge all logged updates into a new data file and clear the log.
+   * @throws IOException if an I/O error occurs
+   */
+  public void compact() throws IOException {
+    if (logEntries == 0) {
+      return;
+    }
+    Path temp = tempPath(path);
+    try (SortedWriter writer = new SortedWriter(temp)) {
+      forEach(writer::putUnchecked);
+    } catch (UncheckedIOException e) {
+      throw e.getCause();
+    }
+    unmap();
+    try {
+      Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    } finally {
+      map();
+    }
+    log.truncate(0);
+    log.force(true);
+    logPosition = 0;
+    added.clear();
+    removed.clear();
+    logEntries = 0;
+  }
+
+  @Override
+  public void close() throws IOException {
+    unmap();
+    log.close();
+  }
+
+  private static Path tempPath(Path path) {
+    return path.resolveSibling(path.getFileName() + ".tmp");
+  }
+
+  private boolean applyAdd(long packed) {
+    if (removed.remove(packed)) {
+      return true;
+    }
+    return !baseContains(packed) && added.add(packed);
+  }
+
+  private boolean applyRemove(long packed) {
+    if (added.remove(packed)) {
+      return true;
+    }
+    return baseContains(packed) && removed.add(packed);
+  }
+
+  private void append(byte op, long packed) throws IOException {
+    record.clear();
+    record.put(op).putLong(packed).flip();
+    while (record.hasRemaining()) {
+      logPosition += log.write(record, logPosition);
+    }
+    logEntries++;
+  }
+
+  private void compactIfNeeded() throws IOException {
+    if (logEntries >= compactThreshold) {
+      compact();
+    }
+  }
+
+  private void replayLog() throws IOException {
+    long size = log.size();
+    long valid = size - (size % RECORD_SIZE);
+    if (valid != size) {
+      log.truncate(valid); // Discard incomplete trailing record
+    }
+    ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE - (BUFFER_SIZE % RECORD_SIZE));
+    long position = 0;
+    while (position < valid) {
+      buffer.clear();
+      int read = log.read(buffer, position);
+      if (read <= 0) {
+        break;
+      }
+      buffer.flip();
+      while (buffer.remaining() >= RECORD_SIZE) {
+        byte op = buffer.get();
+        long packed = buffer.getLong();
+        if (op == OP_ADD) {
+          applyAdd(packed);
+        } else if (op == OP_REMOVE) {
+          applyRemove(packed);
+        } else {
+          throw new IOException("Corrupted log entry in " + logPath);
+        }
+        logEntries++;
+      }
+      position += read - buffer.remaining();
+    }
+    logPosition = valid;
+  }
+
+  private void map() throws IOException {
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      long size = channel.size();
+      if (size < HEADER_SIZE || size > Integer.MAX_VALUE) {
+        throw new IOException("Invalid position set file size " + size);
+      }
+      MappedByteBuffer buffer = channel.map(MapMode.READ_ONLY, 0, size);
+      if (buffer.getInt(0) != MAGIC || buffer.getInt(Integer.BYTES) != VERSION) {
+        throw new IOException("Not a valid position set file " + path);
+      }
+      long count = buffer.getLong(2 * Integer.BYTES);
+      if (count < 0 || HEADER_SIZE + count * Long.BYTES != size) {
+        throw new IOException("Corrupted position set file " + path);
+      }
+      this.data = buffer;
+      this.baseSize = (int) count;
+    }
+  }
+
+  private void unmap() {
+    this.data = UNMAPPED;
+    this.baseSize = 0;
+  }
+
+  private long baseGet(int index) {
+    return data.getLong(HEADER_SIZE + index * Long.BYTES);
+  }
+
+  private boolean baseContains(long packed) {
+    int low = 0;
+    int high = baseSize - 1;
+    while (low <= high) {
+      int mid = (low + high) >>> 1;
+      long value = baseGet(mid);
+      if (value < packed) {
+        low = mid + 1;
+      } else if (value > packed) {
+        high = mid - 1;
+      } else {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static final class SortedWriter implements Closeable {
+    private final FileChannel channel;
+    private final ByteBuffer buffer;
+    private long count;
+    private long last;
+
+    private SortedWriter(Path path) throws IOException {
+      this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+        StandardOpenOption.TRUNCATE_EXISTING);
+      this.buffer = ByteBuffer.allocate(BUFFER_SIZE);
+      buffer.position(HEADER_SIZE);
+    }
+
+    private void put(long value) throws IOException {
+      if (count > 0 && value == last) {
+        return;
+      }
+      if (buffer.remaining() < Long.BYTES) {
+        drain();
+      }
+      buffer.putLong(value);
+      last = value;
+      count++;
+    }
+
+    private void putUnchecked(long value) {
+      try {
+        put(value);
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    }
+
+    private void drain() throws IOException {
+      buffer.flip();
+      while (buffer.hasRemaining()) {
+        channel.write(buffer);
+      }
+      buffer.clear();
+    }
+
+    @Override
+    public void close() throws IOException {
+      try (channel) {
+        drain();
+        buffer.putInt(MAGIC).putInt(VERSION).putLong(count).flip();
+        long position = 0;
+        while (buffer.hasRemaining()) {
+          position += channel.write(buffer, position);
+        }
+        channel.force(true);
+      }
+    }
+  }
+}
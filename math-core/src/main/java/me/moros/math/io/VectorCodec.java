@@ -0,0 +1,235 @@
+/*
+ * Copyright 2020-2025 Moros
+ *
+ * This file is part of Math.
+ *
+ * Math is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Math is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Math. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package me.moros.math.io;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.util.Objects;
+
+/**
+ * Binary codec for sequences of double precision vectors.
+ * <p>Vectors are read from and written to arrays of consecutive xyz triples and their order is preserved.
+ * Two formats are supported:
+ * <ul>
+ *   <li>raw, storing each component as a double in the byte order of the buffer</li>
+ *   <li>quantized, storing each component as a fixed-point delta from the previous vector using variable length
+ *   integers</li>
+ * </ul>
+ * {@link #decode(ByteBuffer, double[], int)} detects the format automatically.
+ */
+public final class VectorCodec {
+  private static final byte RAW = 0;
+  private static final byte QUANTIZED = 1;
+  private static final int RAW_HEADER_SIZE = 1 + Codecs.MAX_VAR_INT_SIZE;
+  private static final int QUANTIZED_HEADER_SIZE = RAW_HEADER_SIZE + Double.BYTES;
+  private static final int MIN_BUFFER_CAPACITY = QUANTIZED_HEADER_SIZE + 3 * Codecs.MAX_VAR_LONG_SIZE;
+
+  private VectorCodec() {
+  }
+
+  /**
+   * Get the maximum amount of bytes required to encode the given amount of vectors in the raw format.
+   * @param count the amount of vectors
+   * @return the maximum encoded size in bytes
+   */
+  public static long maxRawSize(int count) {
+    return RAW_HEADER_SIZE + 3L * Double.BYTES * count;
+  }
+
+  /**
+   * Get the maximum amount of bytes required to encode the given amount of vectors in the quantized format.
+   * @param count the amount of vectors
+   * @return the maximum encoded size in bytes
+   */
+  public static long maxQuantizedSize(int count) {
+    return QUANTIZED_HEADER_SIZE + 3L * Codecs.MAX_VAR_LONG_SIZE * count;
+  }
+
+  /**
+   * Encode vectors without any loss of precision.
+   * @param xyz the array of consecutive xyz triples
+   * @param offset the index of the first component
+   * @param count the amount of vectors to encode
+   * @param out the buffer to write to
+   * @throws java.nio.BufferOverflowException if the buffer does not have enough space remaining
+   */
+  public static void encodeRaw(double[] xyz, int offset, int count, ByteBuffer out) {
+    Objects.checkFromIndexSize(offset, 3L * count, xyz.length);
+    out.put(RAW);
+    Codecs.writeCount(out, count);
+    for (int i = offset; i < offset + 3 * count; i++) {
+      out.putDouble(xyz[i]);
+    }
+  }
+
+  /**
+   * Encode vectors as fixed-point values, rounding each component to the nearest multiple of the given precision.
+   * @param xyz the array of consecutive xyz triples
+   * @param offset the index of the first component
+   * @param count the amount of vectors to encode
+   * @param precision the quantization step, for example {@code 1 / 4096.0}
+   * @param out the buffer to write to
+   * @throws IllegalArgumentException if precision is not a positive finite number
+   * @throws java.nio.BufferOverflowException if the buffer does not have enough space remaining
+   */
+  public static void encodeQuantized(double[] xyz, int offset, int count, double precision, ByteBuffer out) {
+    Objects.checkFromIndexSize(offset, 3L * count, xyz.length);
+    checkPrecision(precision);
+    out.put(QUANTIZED);
+    Codecs.writeCount(out, count);
+    out.putDouble(precision);
+    long prevX = 0, prevY = 0, prevZ = 0;
+    for (int i = offset; i < offset + 3 * count; i += 3) {
+      long x = Math.round(xyz[i] / precision);
+      long y = Math.round(xyz[i + 1] / precision);
+      long z = Math.round(xyz[i + 2] / precision);
+      Codecs.writeVarLong(out, Codecs.zigZag(x - prevX));
+      Codecs.writeVarLong(out, Codecs.zigZag(y - prevY));
+      Codecs.writeVarLong(out, Codecs.zigZag(z - prevZ));
+      prevX = x;
+      prevY = y;
+      prevZ = z;
+    }
+  }
+
+  /**
+   * Encode vectors without any loss of precision and write them to a channel.
+   * @param xyz the array of consecutive xyz triples
+   * @param offset the index of the first component
+   * @param count the amount of vectors to encode
+   * @param channel the channel to write to
+   * @param buffer the buffer to stage encoded data in, it will be cleared before use
+   * @return the amount of bytes written
+   * @throws IOException if an I/O error occurs
+   * @throws IllegalArgumentException if the buffer capacity is less than 44 bytes
+   */
+  public static long writeRaw(double[] xyz, int offset, int count, WritableByteChannel channel, ByteBuffer buffer) throws IOException {
+    Objects.checkFromIndexSize(offset, 3L * count, xyz.length);
+    Codecs.checkCapacity(buffer, MIN_BUFFER_CAPACITY);
+    buffer.clear();
+    buffer.put(RAW);
+    Codecs.writeCount(buffer, count);
+    long written = 0;
+    for (int i = offset; i < offset + 3 * count; i++) {
+      if (buffer.remaining() < Double.BYTES) {
+        written += Codecs.drain(buffer, channel);
+      }
+      buffer.putDouble(xyz[i]);
+    }
+    return written + Codecs.drain(buffer, channel);
+  }
+
+  /**
+   * Encode vectors as fixed-point values and write them to a channel.
+   * @param xyz the array of consecutive xyz triples
+   * @param offset the index of the first component
+   * @param count the amount of vectors to encode
+   * @param precision the quantization step, for example {@code 1 / 4096.0}
+   * @param channel the channel to write to
+   * @param buffer the buffer to stage encoded data in, it will be cleared before use
+   * @return the amount of bytes written
+   * @throws IOException if an I/O error occurs
+   * @throws IllegalArgumentException if precision is not a positive finite number
+   * or if the buffer capacity is less than 44 bytes
+   * @see #encodeQuantized(double[], int, int, double, ByteBuffer)
+   */
+  public static long writeQuantized(double[] xyz, int offset, int count, double precision,
+                                    WritableByteChannel channel, ByteBuffer buffer) throws IOException {
+    Objects.checkFromIndexSize(offset, 3L * count, xyz.length);
+    checkPrecision(precision);
+    Codecs.checkCapacity(buffer, MIN_BUFFER_CAPACITY);
+    buffer.clear();
+    buffer.put(QUANTIZED);
+    Codecs.writeCount(buffer, count);
+    buffer.putDouble(precision);
+    long written = 0;
+    long prevX = 0, prevY = 0, prevZ = 0;
+    for (int i = offset; i < offset + 3 * count; i += 3) {
+      if (buffer.remaining() < 3 * Codecs.MAX_VAR_LONG_SIZE) {
+        written += Codecs.drain(buffer, channel);
+      }
+      long x = Math.round(xyz[i] / precision);
+      long y = Math.round(xyz[i + 1] / precision);
+      long z = Math.round(xyz[i + 2] / precision);
+      Codecs.writeVarLong(buffer, Codecs.zigZag(x - prevX));
+      Codecs.writeVarLong(buffer, Codecs.zigZag(y - prevY));
+      Codecs.writeVarLong(buffer, Codecs.zigZag(z - prevZ));
+      prevX = x;
+      prevY = y;
+      prevZ = z;
+    }
+    return written + Codecs.drain(buffer, channel);
+  }
+
+  /**
+   * Read the amount of encoded vectors without consuming any data from the buffer.
+   * @param in the buffer to read from
+   * @return the amount of encoded vectors
+   */
+  public static int decodedCount(ByteBuffer in) {
+    int position = in.position();
+    in.get();
+    int count = Codecs.readCount(in);
+    in.position(position);
+    return count;
+  }
+
+  /**
+   * Decode vectors into an array of consecutive xyz triples.
+   * @param in the buffer to read from
+   * @param out the array to store the decoded components in
+   * @param offset the index to store the first decoded component at
+   * @return the amount of decoded vectors
+   * @throws IllegalArgumentException if the data is not in a known format
+   * @throws IndexOutOfBoundsException if the array does not have enough space
+   * @see #decodedCount(ByteBuffer)
+   */
+  public static int decode(ByteBuffer in, double[] out, int offset) {
+    byte format = in.get();
+    int count = Codecs.readCount(in);
+    Objects.checkFromIndexSize(offset, 3L * count, out.length);
+    if (format == RAW) {
+      for (int i = offset; i < offset + 3 * count; i++) {
+        out[i] = in.getDouble();
+      }
+    } else if (format == QUANTIZED) {
+      double precision = in.getDouble();
+      long x = 0, y = 0, z = 0;
+      for (int i = offset; i < offset + 3 * count; i += 3) {
+        x += Codecs.unZigZag(Codecs.readVarLong(in));
+        y += Codecs.unZigZag(Codecs.readVarLong(in));
+        z += Codecs.unZigZag(Codecs.readVarLong(in));
+        out[i] = x * precision;
+        out[i + 1] = y * precision;
+        out[i + 2] = z * precision;
+      }
+    } else {
+      throw new IllegalArgumentException("Unknown vector format " + format);
+    }
+    return count;
+  }
+
+  private static void checkPrecision(double precision) {
+    if (!(precision > 0) || !Double.isFinite(precision)) {
+      throw new IllegalArgumentException("Precision must be a positive finite number, found " + precision);
+    }
+  }
+}
@@ -0,0 +1,185 @@
+/*
+ * Copyright 2020-2025 Moros
+ *
+ * This file is part of Math.
+ *
+ * Math is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Math is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Math. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package me.moros.math.io;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntFunction;
+import java.util.function.ToIntFunction;
+
+import me.moros.math.Vector3i;
+import me.moros.math.region.PalettedVolume;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Binary codec for {@link PalettedVolume paletted volumes}.
+ * <p>Values are mapped to non-negative integer ids by the caller. The bounds and the default value id are stored
+ * first, followed by each section in order: its palette as a list of ids and, unless the palette has a single entry,
+ * its palette indices as run-length encoded pairs of run length and palette index. All integers use variable length
+ * encoding, so uniform and mostly uniform sections take a few bytes each.
+ */
+public final class VolumeCodec {
+  private static final int HEADER_SIZE = 6 * Codecs.MAX_VAR_LONG_SIZE + Codecs.MAX_VAR_INT_SIZE;
+  private static final int ENTRY_SIZE = 2 * Codecs.MAX_VAR_INT_SIZE;
+
+  private VolumeCodec() {
+  }
+
+  /**
+   * Encode a volume.
+   * @param volume the volume to encode
+   * @param ids the function that maps each value to a non-negative id
+   * @param out the buffer to write to
+   * @param <T> the type of values
+   * @throws java.nio.BufferOverflowException if the buffer does not have enough space remaining
+   * @throws IllegalArgumentException if a value is mapped to a negative id
+   */
+  public static <T> void encode(PalettedVolume<T> volume, ToIntFunction<? super T> ids, ByteBuffer out) {
+    try {
+      encode(volume, ids, out, null);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e); // unreachable without a channel
+    }
+  }
+
+  /**
+   * Encode a volume and write it to a channel.
+   * @param volume the volume to encode
+   * @param ids the function that maps each value to a non-negative id
+   * @param channel the channel to write to
+   * @param buffer the buffer to stage encoded data in, it will be cleared before use
+   * @param <T> the type of values
+   * @return the amount of bytes written
+   * @throws IOException if an I/O error occurs
+   * @throws IllegalArgumentException if a value is mapped to a negative id or if the buffer capacity is less than
+   * 65 bytes
+   */
+  public static <T> long write(PalettedVolume<T> volume, ToIntFunction<? super T> ids, WritableByteChannel channel,
+                               ByteBuffer buffer) throws IOException {
+    Codecs.checkCapacity(buffer, HEADER_SIZE);
+    buffer.clear();
+    return encode(volume, ids, buffer, channel) + Codecs.drain(buffer, channel);
+  }
+
+  /**
+   * Decode a volume.
+   * @param in the buffer to read from
+   * @param values the function that maps each id back to its value
+   * @param <T> the type of values
+   * @return the decoded volume
+   * @throws IllegalArgumentException if the encoded data is malformed
+   */
+  public static <T> PalettedVolume<T> decode(ByteBuffer in, IntFunction<? extends T> values) {
+    Vector3i min = Vector3i.of(readCoordinate(in), readCoordinate(in), readCoordinate(in));
+    Vector3i max = Vector3i.of(readCoordinate(in), readCoordinate(in), readCoordinate(in));
+    PalettedVolume<T> volume = PalettedVolume.of(min, max, values.apply(Codecs.readCount(in)));
+    int[] indices = new int[PalettedVolume.SECTION_VOLUME];
+    List<T> palette = new ArrayList<>();
+    for (int section = 0; section < volume.sectionCount(); section++) {
+      palette.clear();
+      int paletteSize = Codecs.readCount(in);
+      for (int i = 0; i < paletteSize; i++) {
+        palette.add(values.apply(Codecs.readCount(in)));
+      }
+      if (paletteSize > 1) {
+        int filled = 0;
+        while (filled < indices.length) {
+          int length = Codecs.readCount(in);
+          int index = Codecs.readCount(in);
+          if (length == 0 || length > indices.length - filled) {
+            throw new IllegalArgumentException("Malformed run of length " + length + " in section " + section);
+          }
+          for (int end = filled + length; filled < end; filled++) {
+            indices[filled] = index;
+          }
+        }
+      }
+      volume.setSection(section, palette, indices, 0);
+    }
+    return volume;
+  }
+
+  private static <T> long encode(PalettedVolume<T> volume, ToIntFunction<? super T> ids, ByteBuffer buffer,
+                                 @Nullable WritableByteChannel channel) throws IOException {
+    Vector3i min = volume.min();
+    Vector3i max = volume.max();
+    writeCoordinate(buffer, min.blockX());
+    writeCoordinate(buffer, min.blockY());
+    writeCoordinate(buffer, min.blockZ());
+    writeCoordinate(buffer, max.blockX());
+    writeCoordinate(buffer, max.blockY());
+    writeCoordinate(buffer, max.blockZ());
+    writeId(buffer, ids.applyAsInt(volume.defaultValue()));
+    long written = 0;
+    int[] indices = new int[PalettedVolume.SECTION_VOLUME];
+    for (int section = 0; section < volume.sectionCount(); section++) {
+      List<T> palette = volume.sectionPalette(section);
+      if (channel != null && buffer.remaining() < ENTRY_SIZE) {
+        written += Codecs.drain(buffer, channel);
+      }
+      Codecs.writeCount(buffer, palette.size());
+      for (T value : palette) {
+        if (channel != null && buffer.remaining() < ENTRY_SIZE) {
+          written += Codecs.drain(buffer, channel);
+        }
+        writeId(buffer, ids.applyAsInt(value));
+      }
+      if (palette.size() == 1) {
+        continue;
+      }
+      volume.sectionIndices(section, indices, 0);
+      int start = 0;
+      for (int i = 1; i <= indices.length; i++) {
+        if (i == indices.length || indices[i] != indices[start]) {
+          if (channel != null && buffer.remaining() < ENTRY_SIZE) {
+            written += Codecs.drain(buffer, channel);
+          }
+          Codecs.writeCount(buffer, i - start);
+          Codecs.writeCount(buffer, indices[start]);
+          start = i;
+        }
+      }
+    }
+    return written;
+  }
+
+  private static void writeId(ByteBuffer out, int id) {
+    if (id < 0) {
+      throw new IllegalArgumentException("Value ids must be non-negative, found " + id);
+    }
+    Codecs.writeCount(out, id);
+  }
+
+  private static void writeCoordinate(ByteBuffer out, int value) {
+    Codecs.writeVarLong(out, Codecs.zigZag(value));
+  }
+
+  private static int readCoordinate(ByteBuffer in) {
+    long value = Codecs.unZigZag(Codecs.readVarLong(in));
+    if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) {
+      throw new IllegalArgumentException("Invalid coordinate " + value);
+    }
+    return (int) value;
+  }
+}
@@ -0,0 +1,349 @@
+/*
+ * Copyright 2020-2025 Moros
+ *
+ * This file is part of Math.
+ *
+ * Math is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Math is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Math. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package me.moros.math.region;
+
+import java.util.Objects;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.ThreadFactory;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import me.moros.math.ChunkUtil;
+import me.moros.math.FastMath;
+import me.moros.math.PackedPosition;
+import me.moros.math.Position;
+import me.moros.math.Vector3d;
+import me.moros.math.Vector3i;
+import me.moros.math.function.IntTriPredicate;
+import me.moros.math.geometry.AABB;
+import me.moros.math.geometry.OBB;
+
+/**
+ * Immutable description of a region that can be rasterized asynchronously, one chunk column at a time.
+ * <p>Each chunk column is rasterized into its own {@link VoxelMask}, clipped to the intersection of the column and
+ * the bounds of the region, so rasterizers and predicates must be safe to call from multiple threads at once. Results
+ * are streamed back as {@link ChunkBatch batches} through a bounded {@link RegionStream}, which lets the caller apply
+ * them over several ticks and cancel the remaining work at any time.
+ * <p>Bounds are clipped to the range that {@link PackedPosition} can hold, which is [-2^25, 2^25) for x and z and
+ * [-2048, 2048) for y. Blocks outside that range are never rasterized.
+ */
+public final class AsyncRegion {
+  /**
+   * The default amount of completed batches that can wait in a stream before workers block.
+   */
+  public static final int DEFAULT_CAPACITY = 64;
+
+  private static final int MIN_XZ = -(1 << 25);
+  private static final int MAX_XZ = (1 << 25) - 1;
+  private static final int MIN_Y = -(1 << 11);
+  private static final int MAX_Y = (1 << 11) - 1;
+
+  private static final ThreadFactory VIRTUAL_THREADS = Thread.ofVirtual().name("math-region-", 0).factory();
+  private static final Executor VIRTUAL_EXECUTOR = task -> VIRTUAL_THREADS.newThread(task).start();
+
+  private final Vector3i min;
+  private final Vector3i max;
+  private final Supplier<Consumer<VoxelMask>> rasterizers;
+
+  // The supplier provides a fresh rasterizer for each computation, so rasterizers may hold per-computation state
+  private AsyncRegion(Vector3i min, Vector3i max, Supplier<Consumer<VoxelMask>> rasterizers) {
+    this.min = min;
+    this.max = max;
+    this.rasterizers = rasterizers;
+  }
+
+  /**
+   * Create a region from a rasterizer. The rasterizer is called once for each chunk column with an empty mask and
+   * must set the voxels of the region that lie within the bounds of that mask.
+   * @param first the first corner of the region bounds, inclusive
+   * @param second the second corner of the region bounds, inclusive
+   * @param rasterizer the thread-safe rasterizer
+   * @return a new region
+   */
+  public static AsyncRegion of(Vector3i first, Vector3i second, Consumer<VoxelMask> rasterizer) {
+    Objects.requireNonNull(rasterizer);
+    return new AsyncRegion(clipMin(first, second), clipMax(first, second), () -> rasterizer);
+  }
+
+  /**
+   * Create a region that contains every block in the given bounds that matches a predicate.
+   * @param first the first corner of the region bounds, inclusive
+   * @param second the second corner of the region bounds, inclusive
+   * @param predicate the thread-safe predicate to test block coordinates against
+   * @return a new region
+   */
+  public static AsyncRegion of(Vector3i first, Vector3i second, IntTriPredicate predicate) {
+    Objects.requireNonNull(predicate);
+    return of(first, second, mask -> fill(mask, predicate));
+  }
+
+  /**
+   * Create a region that contains every block whose center is within a radius from the given center.
+   * @param center the center of the sphere
+   * @param radius the radius of the sphere
+   * @return a new region
+   * @see VoxelMask#fillSphere(Position, double)
+   */
+  public static AsyncRegion sphere(Position center, double radius) {
+    Vector3d c = center.toVector3d();
+    double r = Math.max(0, radius);
+    return of(Vector3i.of(c.x() - r, c.y() - r, c.z() - r), Vector3i.of(c.x() + r, c.y() + r, c.z() + r),
+      mask -> mask.fillSphere(c, r));
+  }
+
+  /**
+   * Create a region that contains every block whose center is inside a vertical cylinder.
+   * @param base the center of the bottom face of the cylinder
+   * @param radius the radius of the cylinder
+   * @param height the height of the cylinder
+   * @return a new region
+   * @see VoxelMask#fillCylinder(Position, double, double)
+   */
+  public static AsyncRegion cylinder(Position base, double radius, double height) {
+    Vector3d b = base.toVector3d();
+    double r = Math.max(0, radius);
+    double h = Math.max(0, height);
+    return of(Vector3i.of(b.x() - r, b.y(), b.z() - r), Vector3i.of(b.x() + r, b.y() + h, b.z() + r),
+      mask -> mask.fillCylinder(b, r, h));
+  }
+
+  /**
+   * Create a region that contains every block whose center is inside an oriented box.
+   * @param box the oriented box, such as the rotated bounds of a structure
+   * @return a new region
+   */
+  public static AsyncRegion of(OBB box) {
+    AABB bounds = box.bounds();
+    Vector3i first = Vector3i.of(FastMath.ceil(bounds.min().x() - 0.5), FastMath.ceil(bounds.min().y() - 0.5), FastMath.ceil(bounds.min().z() - 0.5));
+    Vector3i second = Vector3i.of(FastMath.floor(bounds.max().x() - 0.5), FastMath.floor(bounds.max().y() - 0.5), FastMath.floor(bounds.max().z() - 0.5));
+    return of(first, second, (x, y, z) -> box.contains(x + 0.5, y + 0.5, z + 0.5));
+  }
+
+  /**
+   * Create a region that contains every passable block connected to a start position through shared faces, without
+   * leaving the given bounds.
+   * @param start the start position, the region is empty if it is out of bounds or not passable
+   * @param first the first corner of the region bounds, inclusive
+   * @param second the second corner of the region bounds, inclusive
+   * @param passable the predicate that determines which blocks can be filled
+   * @return a new region
+   * @throws IllegalArgumentException if the clipped bounds contain more than {@link Integer#MAX_VALUE} blocks
+   * @see #of(FloodFill, Vector3i)
+   */
+  public static AsyncRegion floodFill(Vector3i start, Vector3i first, Vector3i second, IntTriPredicate passable) {
+    return of(FloodFill.of(passable).bounds(first, second), start);
+  }
+
+  /**
+   * Create a region that contains the blocks a flood fill visits from a start position. The bounds of the region are
+   * the bounds of the flood fill.
+   * <p>A flood fill cannot be split into independent chunk columns, so each computation runs it once over the whole
+   * bounds on the first worker that needs it, while the other workers wait for it. The filled blocks are then
+   * streamed per chunk column like any other region. The predicate of the fill is only called from the thread running
+   * it. Cancelling a stream does not interrupt a fill that is already running.
+   * @param fill the flood fill
+   * @param start the start position, the region is empty if it is out of bounds or not passable
+   * @return a new region
+   * @throws IllegalArgumentException if the bounds of the fill contain more than {@link Integer#MAX_VALUE} blocks
+   */
+  public static AsyncRegion of(FloodFill fill, Vector3i start) {
+    Objects.requireNonNull(fill);
+    Objects.requireNonNull(start);
+    Vector3i min = fill.min();
+    Vector3i max = fill.max();
+    AsyncRegion region = new AsyncRegion(min, max, () -> {
+      FutureTask<VoxelMask> task = new FutureTask<>(() -> {
+        VoxelMask filled = VoxelMask.of(min, max);
+        fill.fill(start, filled::set);
+        return filled;
+      });
+      return mask -> {
+        task.run();
+        VoxelMask filled = await(task);
+        fill(mask, filled::get);
+      };
+    });
+    if (!region.isEmpty()) {
+      long volume = ((long) max.blockX() - min.blockX() + 1) * (max.blockY() - min.blockY() + 1)
+        * ((long) max.blockZ() - min.blockZ() + 1);
+      if (volume > Integer.MAX_VALUE) {
+        throw new IllegalArgumentException("Flood fill bounds are too large: " + min + " to " + max);
+      }
+    }
+    return region;
+  }
+
+  /**
+   * Get the minimum corner of the bounds of this region.
+   * @return the minimum corner, inclusive
+   */
+  public Vector3i min() {
+    return min;
+  }
+
+  /**
+   * Get the maximum corner of the bounds of this region.
+   * @return the maximum corner, inclusive
+   */
+  public Vector3i max() {
+    return max;
+  }
+
+  /**
+   * Check if the bounds of this region are empty, which happens when they lie entirely outside the packable range.
+   * @return true if this region contains no blocks, false otherwise
+   */
+  public boolean isEmpty() {
+    return min.blockX() > max.blockX() || min.blockY() > max.blockY() || min.blockZ() > max.blockZ();
+  }
+
+  /**
+   * Create a region that only contains the blocks of this region that also match a predicate.
+   * @param predicate the thread-safe predicate to test block coordinates against
+   * @return a new region
+   */
+  public AsyncRegion filter(IntTriPredicate predicate) {
+    Objects.requireNonNull(predicate);
+    Supplier<Consumer<VoxelMask>> source = rasterizers;
+    return new AsyncRegion(min, max, () -> {
+      Consumer<VoxelMask> rasterizer = source.get();
+      return mask -> {
+        rasterizer.accept(mask);
+        mask.forEach((x, y, z) -> {
+          if (!predicate.test(x, y, z)) {
+            mask.clear(x, y, z);
+          }
+        });
+      };
+    });
+  }
+
+  /**
+   * Start rasterizing this region on virtual threads, using one worker per available processor and the default
+   * capacity.
+   * @return the stream of results
+   */
+  public RegionStream compute() {
+    return compute(VIRTUAL_EXECUTOR, Runtime.getRuntime().availableProcessors(), DEFAULT_CAPACITY);
+  }
+
+  /**
+   * Start rasterizing this region using the given executor.
+   * @param executor the executor to run workers in
+   * @param parallelism the maximum amount of workers
+   * @param capacity the amount of completed batches that can wait in the stream before workers block
+   * @return the stream of results
+   * @throws IllegalArgumentException if parallelism or capacity is not positive, or if the bounds span more than
+   * {@link Integer#MAX_VALUE} chunk columns
+   */
+  public RegionStream compute(Executor executor, int parallelism, int capacity) {
+    Objects.requireNonNull(executor);
+    if (parallelism <= 0) {
+      throw new IllegalArgumentException("Parallelism must be positive, found " + parallelism);
+    }
+    if (capacity <= 0) {
+      throw new IllegalArgumentException("Capacity must be positive, found " + capacity);
+    }
+    long[] chunks = chunks();
+    RegionStream stream = new RegionStream(this, rasterizers.get(), chunks, Math.min(parallelism, chunks.length),
+      capacity);
+    stream.start(executor);
+    return stream;
+  }
+
+  private long[] chunks() {
+    if (isEmpty()) {
+      return new long[0];
+    }
+    int cx0 = ChunkUtil.toChunk(min.blockX());
+    int cz0 = ChunkUtil.toChunk(min.blockZ());
+    int sizeX = ChunkUtil.toChunk(max.blockX()) - cx0 + 1;
+    int sizeZ = ChunkUtil.toChunk(max.blockZ()) - cz0 + 1;
+    long count = (long) sizeX * sizeZ;
+    if (count > Integer.MAX_VALUE) {
+      throw new IllegalArgumentException("Region spans too many chunk columns: " + count);
+    }
+    long[] chunks = new long[(int) count];
+    for (int z = 0; z < sizeZ; z++) {
+      for (int x = 0; x < sizeX; x++) {
+        chunks[z * sizeX + x] = ChunkUtil.chunkKey(cx0 + x, cz0 + z);
+      }
+    }
+    return chunks;
+  }
+
+  /**
+   * Rasterize a single chunk column of this region.
+   * @param chunkKey the key of the chunk column
+   * @param rasterizer the rasterizer of the current computation
+   * @return the batch of positions in that column
+   */
+  ChunkBatch rasterize(long chunkKey, Consumer<VoxelMask> rasterizer) {
+    int chunkX = ChunkUtil.chunkX(chunkKey);
+    int chunkZ = ChunkUtil.chunkZ(chunkKey);
+    Vector3i first = Vector3i.of(Math.max(chunkX << 4, min.blockX()), min.blockY(), Math.max(chunkZ << 4, min.blockZ()));
+    Vector3i second = Vector3i.of(Math.min((chunkX << 4) + 15, max.blockX()), max.blockY(), Math.min((chunkZ << 4) + 15, max.blockZ()));
+    VoxelMask mask = VoxelMask.of(first, second);
+    rasterizer.accept(mask);
+    long[] positions = new long[mask.cardinality()];
+    int[] size = {0};
+    mask.forEach((x, y, z) -> positions[size[0]++] = PackedPosition.pack(x, y, z));
+    return new PackedChunkBatch(chunkX, chunkZ, positions);
+  }
+
+  private static Vector3i clipMin(Vector3i first, Vector3i second) {
+    Vector3i lower = first.min(second);
+    return Vector3i.of(Math.max(lower.blockX(), MIN_XZ), Math.max(lower.blockY(), MIN_Y), Math.max(lower.blockZ(), MIN_XZ));
+  }
+
+  private static Vector3i clipMax(Vector3i first, Vector3i second) {
+    Vector3i upper = first.max(second);
+    return Vector3i.of(Math.min(upper.blockX(), MAX_XZ), Math.min(upper.blockY(), MAX_Y), Math.min(upper.blockZ(), MAX_XZ));
+  }
+
+  private static VoxelMask await(FutureTask<VoxelMask> task) {
+    try {
+      return task.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new CancellationException("Interrupted while waiting for the flood fill");
+    } catch (ExecutionException e) {
+      throw e.getCause() instanceof RuntimeException cause ? cause : new CompletionException(e.getCause());
+    }
+  }
+
+  private static void fill(VoxelMask mask, IntTriPredicate predicate) {
+    Vector3i min = mask.min();
+    Vector3i max = mask.max();
+    for (int y = min.blockY(); y <= max.blockY(); y++) {
+      for (int z = min.blockZ(); z <= max.blockZ(); z++) {
+        for (int x = min.blockX(); x <= max.blockX(); x++) {
+          if (predicate.test(x, y, z)) {
+            mask.set(x, y, z);
+          }
+        }
+      }
+    }
+  }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2020-2025 Moros
+ *
+ * This file is part of Math.
+ *
+ * Math is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Math is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Math. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package me.moros.math.region;
+
+import me.moros.math.PackedPosition;
+import me.moros.math.function.IntTriConsumer;
+
+/**
+ * Immutable group of block positions that belong to a single chunk column, produced by a {@link RegionStream}.
+ */
+public interface ChunkBatch {
+  /**
+   * Get the chunk x coordinate of the positions in this batch.
+   * @return the chunk x coordinate
+   */
+  int chunkX();
+
+  /**
+   * Get the chunk z coordinate of the positions in this batch.
+   * @return the chunk z coordinate
+   */
+  int chunkZ();
+
+  /**
+   * Get the amount of positions in this batch.
+   * @return the amount of positions
+   */
+  int size();
+
+  /**
+   * Get the {@link PackedPosition packed} position at the given index. Positions are ordered by ascending y, z, x,
+   * so positions in the same chunk section are contiguous.
+   * @param index the index of the position
+   * @return the packed position
+   * @throws IndexOutOfBoundsException if index is out of bounds
+   */
+  long packed(int index);
+
+  /**
+   * Copy the {@link PackedPosition packed} positions of this batch.
+   * @return a new array of packed positions
+   */
+  long[] toPackedArray();
+
+  /**
+   * Perform an action for each position in this batch, in ascending y, z, x order.
+   * @param consumer the action to perform with the coordinates of each position
+   */
+  default void forEach(IntTriConsumer consumer) {
+    for (int i = 0; i < size(); i++) {
+      long packed = packed(i);
+      consumer.accept(PackedPosition.unpackX(packed), PackedPosition.unpackY(packed), PackedPosition.unpackZ(packed));
+    }
+  }
+}
@@ -0,0 +1,268 @@
+/*
+ * Copyright 2020-2025 Moros
+ *
+ * This file is part of Math.
+ *
+ * Math is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Math is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Math. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package me.moros.math.region;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.LongConsumer;
+
+import me.moros.math.PackedPosition;
+import me.moros.math.Vector3i;
+import me.moros.math.function.IntTriConsumer;
+import me.moros.math.function.IntTriPredicate;
+import me.moros.math.internal.LongHashSet;
+import me.moros.math.internal.LongRingQueue;
+
+/**
+ * Immutable breadth-first flood fill over block positions.
+ * <p>Positions are {@link PackedPosition packed} into longs and tracked in a primitive ring buffer queue and a
+ * primitive hash set, so filling does not allocate per block. The passability predicate is evaluated at most once
+ * for each position. Positions are visited in breadth-first order, so when the count limit is reached the visited
+ * positions are the ones closest to the start in steps.
+ * <p>Instances are reusable and thread-safe as long as the predicate is.
+ */
+public final class FloodFill {
+  private static final int MIN_XZ = -(1 << 25);
+  private static final int MAX_XZ = (1 << 25) - 1;
+  private static final int MIN_Y = -(1 << 11);
+  private static final int MAX_Y = (1 << 11) - 1;
+
+  private final IntTriPredicate passable;
+  private final Connectivity connectivity;
+  private final int maxCount;
+  private final Vector3i min;
+  private final Vector3i max;
+
+  private FloodFill(IntTriPredicate passable, Connectivity connectivity, int maxCount, Vector3i min, Vector3i max) {
+    this.passable = passable;
+    this.connectivity = connectivity;
+    this.maxCount = maxCount;
+    this.min = min;
+    this.max = max;
+  }
+
+  /**
+   * Create a flood fill with face connectivity, no count limit and bounds covering every packable position.
+   * @param passable the predicate that determines which positions can be filled
+   * @return a new flood fill
+   */
+  public static FloodFill of(IntTriPredicate passable) {
+    Objects.requireNonNull(passable);
+    return new FloodFill(passable, Connectivity.FACES, Integer.MAX_VALUE, Vector3i.of(MIN_XZ, MIN_Y, MIN_XZ),
+      Vector3i.of(MAX_XZ, MAX_Y, MAX_XZ));
+  }
+
+  /**
+   * Create a copy of this flood fill with the given connectivity.
+   * @param connectivity the neighbours to spread to
+   * @return a new flood fill
+   */
+  public FloodFill connectivity(Connectivity connectivity) {
+    return new FloodFill(passable, Objects.requireNonNull(connectivity), maxCount, min, max);
+  }
+
+  /**
+   * Create a copy of this flood fill that stops after visiting the given amount of positions.
+   * @param maxCount the maximum amount of positions to visit
+   * @return a new flood fill
+   * @throws IllegalArgumentException if maxCount is not positive
+   */
+  public FloodFill maxCount(int maxCount) {
+    if (maxCount <= 0) {
+      throw new IllegalArgumentException("Max count must be positive, found " + maxCount);
+    }
+    return new FloodFill(passable, connectivity, maxCount, min, max);
+  }
+
+  /**
+   * Create a copy of this flood fill that never leaves the given bounds. Bounds are clipped to the packable range.
+   * @param first the first corner of the bounds, inclusive
+   * @param second the second corner of the bounds, inclusive
+   * @return a new flood fill
+   */
+  public FloodFill bounds(Vector3i first, Vector3i second) {
+    Vector3i lower = first.min(second);
+    Vector3i upper = first.max(second);
+    Vector3i newMin = Vector3i.of(Math.max(lower.blockX(), MIN_XZ), Math.max(lower.blockY(), MIN_Y), Math.max(lower.blockZ(), MIN_XZ));
+    Vector3i newMax = Vector3i.of(Math.min(upper.blockX(), MAX_XZ), Math.min(upper.blockY(), MAX_Y), Math.min(upper.blockZ(), MAX_XZ));
+    return new FloodFill(passable, connectivity, maxCount, newMin, newMax);
+  }
+
+  /**
+   * Get the connectivity of this flood fill.
+   * @return the connectivity
+   */
+  public Connectivity connectivity() {
+    return connectivity;
+  }
+
+  /**
+   * Get the maximum amount of positions this flood fill visits.
+   * @return the count limit
+   */
+  public int maxCount() {
+    return maxCount;
+  }
+
+  /**
+   * Get the minimum corner of the bounds of this flood fill.
+   * @return the minimum corner, inclusive
+   */
+  public Vector3i min() {
+    return min;
+  }
+
+  /**
+   * Get the maximum corner of the bounds of this flood fill.
+   * @return the maximum corner, inclusive
+   */
+  public Vector3i max() {
+    return max;
+  }
+
+  /**
+   * Fill from a start position.
+   * @param start the start position
+   * @param consumer the action to perform with the coordinates of each visited position
+   * @return the amount of visited positions, 0 if the start position is out of bounds or not passable
+   */
+  public int fill(Vector3i start, IntTriConsumer consumer) {
+    return fill(start.blockX(), start.blockY(), start.blockZ(), consumer);
+  }
+
+  /**
+   * Fill from a start position.
+   * @param x the x coordinate of the start position
+   * @param y the y coordinate of the start position
+   * @param z the z coordinate of the start position
+   * @param consumer the action to perform with the coordinates of each visited position
+   * @return the amount of visited positions, 0 if the start position is out of bounds or not passable
+   */
+  public int fill(int x, int y, int z, IntTriConsumer consumer) {
+    Objects.requireNonNull(consumer);
+    return fill(x, y, z, (px, py, pz, packed) -> consumer.accept(px, py, pz));
+  }
+
+  /**
+   * Fill from a packed start position.
+   * @param start the packed start position
+   * @param consumer the action to perform with each visited packed position
+   * @return the amount of visited positions, 0 if the start position is out of bounds or not passable
+   * @see PackedPosition
+   */
+  public int fillPacked(long start, LongConsumer consumer) {
+    Objects.requireNonNull(consumer);
+    return fill(PackedPosition.unpackX(start), PackedPosition.unpackY(start), PackedPosition.unpackZ(start),
+      (px, py, pz, packed) -> consumer.accept(packed));
+  }
+
+  private int fill(int x, int y, int z, Visitor visitor) {
+    if (!inBounds(x, y, z) || !passable.test(x, y, z)) {
+      return 0;
+    }
+    int[] offsets = connectivity.offsets;
+    LongRingQueue queue = new LongRingQueue(256);
+    LongHashSet seen = new LongHashSet(1024);
+    long start = PackedPosition.pack(x, y, z);
+    seen.add(start);
+    queue.add(start);
+    visitor.visit(x, y, z, start);
+    int count = 1;
+    while (count < maxCount && !queue.isEmpty()) {
+      long current = queue.poll();
+      int cx = PackedPosition.unpackX(current);
+      int cy = PackedPosition.unpackY(current);
+      int cz = PackedPosition.unpackZ(current);
+      for (int i = 0; i < offsets.length; i += 3) {
+        int nx = cx + offsets[i];
+        int ny = cy + offsets[i + 1];
+        int nz = cz + offsets[i + 2];
+        if (!inBounds(nx, ny, nz)) {
+          continue;
+        }
+        long next = PackedPosition.pack(nx, ny, nz);
+        if (seen.add(next) && passable.test(nx, ny, nz)) {
+          queue.add(next);
+          visitor.visit(nx, ny, nz, next);
+          if (++count >= maxCount) {
+            break;
+          }
+        }
+      }
+    }
+    return count;
+  }
+
+  private boolean inBounds(int x, int y, int z) {
+    return x >= min.blockX() && x <= max.blockX() && y >= min.blockY() && y <= max.blockY()
+      && z >= min.blockZ() && z <= max.blockZ();
+  }
+
+  @FunctionalInterface
+  private interface Visitor {
+    void visit(int x, int y, int z, long packed);
+  }
+
+  /**
+   * The neighbours a flood fill spreads to.
+   */
+  public enum Connectivity {
+    /**
+     * The 6 neighbours that share a face.
+     */
+    FACES(1),
+    /**
+     * The 18 neighbours that share a face or an edge.
+     */
+    EDGES(2),
+    /**
+     * All 26 neighbours, including those that only share a corner.
+     */
+    VERTICES(3);
+
+    private final int[] offsets;
+
+    Connectivity(int maxChanged) {
+      int[] values = new int[26 * 3];
+      int size = 0;
+      for (int dy = -1; dy <= 1; dy++) {
+        for (int dz = -1; dz <= 1; dz++) {
+          for (int dx = -1; dx <= 1; dx++) {
+            int changed = Math.abs(dx) + Math.abs(dy) + Math.abs(dz);
+            if (changed > 0 && changed <= maxChanged) {
+              values[size++] = dx;
+              values[size++] = dy;
+              values[size++] = dz;
+            }
+          }
+        }
+      }
+      this.offsets = Arrays.copyOf(values, size);
+    }
+
+    /**
+     * Get the amount of neighbours of each position.
+     * @return the amount of neighbours
+     */
+    public int neighbours() {
+      return offsets.length / 3;
+    }
+  }
+}
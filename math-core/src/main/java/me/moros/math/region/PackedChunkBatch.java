@@ -0,0 +1,41 @@
+/*
+ * Copyright 2020-2025 Moros
+ *
+ * This file is part of Math.
+ *
+ * Math is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Math is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Math. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package me.moros.math.region;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+record PackedChunkBatch(int chunkX, int chunkZ, long[] positions) implements ChunkBatch {
+  @Override
+  public int size() {
+    return positions.length;
+  }
+
+  @Override
+  public long packed(int index) {
+    Objects.checkIndex(index, positions.length);
+    return positions[index];
+  }
+
+  @Override
+  public long[] toPackedArray() {
+    return Arrays.copyOf(positions, positions.length);
+  }
+}
@@ -0,0 +1,483 @@
+/*
+ * Copyright 2020-2025 Moros
+ *
+ * This file is part of Math.
+ *
+ * Math is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Math is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Math. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package me.moros.math.region;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import me.moros.math.ChunkUtil;
+import me.moros.math.Vector3i;
+import me.moros.math.function.IntTriObjConsumer;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Compressed volume that stores a value for each voxel inside a fixed bounding box.
+ * <p>The box is split into 16x16x16 sections aligned to the world section grid. Each section keeps a palette of the
+ * distinct values it contains and stores a bit-packed palette index per voxel, using as few bits as the palette size
+ * allows. Sections that contain a single value store no indices at all, and sections that were never modified are
+ * not allocated. Values are compared using {@link Object#equals(Object)}.
+ * <p>Get and set run in constant time. Palettes only grow while values are set; use {@link #trim()} to drop unused
+ * entries after large edits. Instances are mutable and not thread-safe.
+ * @param <T> the type of values
+ * @see me.moros.math.io.VolumeCodec
+ */
+public final class PalettedVolume<T> {
+  /**
+   * The amount of voxels in a section.
+   */
+  public static final int SECTION_VOLUME = 4096;
+
+  private final int minX;
+  private final int minY;
+  private final int minZ;
+  private final int maxX;
+  private final int maxY;
+  private final int maxZ;
+  private final int sectionMinX;
+  private final int sectionMinY;
+  private final int sectionMinZ;
+  private final int sectionsX;
+  private final int sectionsZ;
+  private final T defaultValue;
+  private final @Nullable Section[] sections;
+
+  private PalettedVolume(Vector3i min, Vector3i max, T defaultValue) {
+    this.minX = min.blockX();
+    this.minY = min.blockY();
+    this.minZ = min.blockZ();
+    this.maxX = max.blockX();
+    this.maxY = max.blockY();
+    this.maxZ = max.blockZ();
+    this.sectionMinX = minX >> 4;
+    this.sectionMinY = minY >> 4;
+    this.sectionMinZ = minZ >> 4;
+    this.sectionsX = (maxX >> 4) - sectionMinX + 1;
+    this.sectionsZ = (maxZ >> 4) - sectionMinZ + 1;
+    int sectionsY = (maxY >> 4) - sectionMinY + 1;
+    this.defaultValue = defaultValue;
+    this.sections = new Section[sectionsX * sectionsY * sectionsZ];
+  }
+
+  /**
+   * Create a volume covering the box between two corners, inclusive, with every voxel set to a default value.
+   * @param first the first corner
+   * @param second the second corner
+   * @param defaultValue the initial value of every voxel
+   * @param <T> the type of values
+   * @return a new volume
+   * @throws IllegalArgumentException if the box spans more than {@link Integer#MAX_VALUE} sections
+   */
+  public static <T> PalettedVolume<T> of(Vector3i first, Vector3i second, T defaultValue) {
+    Objects.requireNonNull(defaultValue);
+    Vector3i min = first.min(second);
+    Vector3i max = first.max(second);
+    long sections = ((long) (max.blockX() >> 4) - (min.blockX() >> 4) + 1) * ((max.blockY() >> 4) - (min.blockY() >> 4) + 1)
+      * ((max.blockZ() >> 4) - (min.blockZ() >> 4) + 1);
+    if (sections > Integer.MAX_VALUE) {
+      throw new IllegalArgumentException("Volume is too large: " + min + " - " + max);
+    }
+    return new PalettedVolume<>(min, max, defaultValue);
+  }
+
+  /**
+   * Get the minimum corner of the bounds of this volume.
+   * @return the minimum corner
+   */
+  public Vector3i min() {
+    return Vector3i.of(minX, minY, minZ);
+  }
+
+  /**
+   * Get the maximum corner of the bounds of this volume.
+   * @return the maximum corner
+   */
+  public Vector3i max() {
+    return Vector3i.of(maxX, maxY, maxZ);
+  }
+
+  /**
+   * Get the value that voxels are initialized with.
+   * @return the default value
+   */
+  public T defaultValue() {
+    return defaultValue;
+  }
+
+  /**
+   * Check if the given coordinates are inside the bounds of this volume.
+   * @param x the x coordinate
+   * @param y the y coordinate
+   * @param z the z coordinate
+   * @return true if the coordinates are inside the bounds, false otherwise
+   */
+  public boolean inBounds(int x, int y, int z) {
+    return x >= minX && x <= maxX && y >= minY && y <= maxY && z >= minZ && z <= maxZ;
+  }
+
+  /**
+   * Get the value of the voxel at the given position.
+   * @param pos the position
+   * @return the value of the voxel
+   * @throws IndexOutOfBoundsException if the position is outside the bounds
+   */
+  public T get(Vector3i pos) {
+    return get(pos.blockX(), pos.blockY(), pos.blockZ());
+  }
+
+  /**
+   * Get the value of the voxel at the given coordinates.
+   * @param x the x coordinate
+   * @param y the y coordinate
+   * @param z the z coordinate
+   * @return the value of the voxel
+   * @throws IndexOutOfBoundsException if the coordinates are outside the bounds
+   */
+  @SuppressWarnings("unchecked")
+  public T get(int x, int y, int z) {
+    Section section = sections[checkedSection(x, y, z)];
+    return section == null ? defaultValue : (T) section.get(ChunkUtil.localIndex(x, y, z));
+  }
+
+  /**
+   * Set the value of the voxel at the given position.
+   * @param pos the position
+   * @param value the new value
+   * @return the previous value of the voxel
+   * @throws IndexOutOfBoundsException if the position is outside the bounds
+   */
+  public T set(Vector3i pos, T value) {
+    return set(pos.blockX(), pos.blockY(), pos.blockZ(), value);
+  }
+
+  /**
+   * Set the value of the voxel at the given coordinates.
+   * @param x the x coordinate
+   * @param y the y coordinate
+   * @param z the z coordinate
+   * @param value the new value
+   * @return the previous value of the voxel
+   * @throws IndexOutOfBoundsException if the coordinates are outside the bounds
+   */
+  @SuppressWarnings("unchecked")
+  public T set(int x, int y, int z, T value) {
+    Objects.requireNonNull(value);
+    int idx = checkedSection(x, y, z);
+    Section section = sections[idx];
+    if (section == null) {
+      if (value.equals(defaultValue)) {
+        return defaultValue;
+      }
+      section = new Section(defaultValue);
+      sections[idx] = section;
+    }
+    return (T) section.set(ChunkUtil.localIndex(x, y, z), value);
+  }
+
+  /**
+   * Reset every voxel to the default value.
+   */
+  public void clear() {
+    Arrays.fill(sections, null);
+  }
+
+  /**
+   * Remove unused palette entries, shrink indices to the fewest bits required and release sections that only contain
+   * the default value.
+   */
+  public void trim() {
+    for (int i = 0; i < sections.length; i++) {
+      Section section = sections[i];
+      if (section != null && section.trim() && section.palette[0].equals(defaultValue)) {
+        sections[i] = null;
+      }
+    }
+  }
+
+  /**
+   * Perform an action for each voxel inside the bounds, in section order.
+   * <p>Sections are visited in ascending y, z, x order of their section coordinates and voxels within a section are
+   * visited in ascending y, z, x order.
+   * @param consumer the action to perform with the coordinates and value of each voxel
+   */
+  @SuppressWarnings("unchecked")
+  public void forEach(IntTriObjConsumer<? super T> consumer) {
+    for (int i = 0; i < sections.length; i++) {
+      Section section = sections[i];
+      int sx = ((i % sectionsX) + sectionMinX) << 4;
+      int sz = (((i / sectionsX) % sectionsZ) + sectionMinZ) << 4;
+      int sy = ((i / (sectionsX * sectionsZ)) + sectionMinY) << 4;
+      int y0 = Math.max(sy, minY);
+      int y1 = Math.min(sy + 15, maxY);
+      int z0 = Math.max(sz, minZ);
+      int z1 = Math.min(sz + 15, maxZ);
+      int x0 = Math.max(sx, minX);
+      int x1 = Math.min(sx + 15, maxX);
+      for (int y = y0; y <= y1; y++) {
+        for (int z = z0; z <= z1; z++) {
+          for (int x = x0; x <= x1; x++) {
+            T value = section == null ? defaultValue : (T) section.get(ChunkUtil.localIndex(x, y, z));
+            consumer.accept(x, y, z, value);
+          }
+        }
+      }
+    }
+  }
+
+  /**
+   * Get the amount of sections in this volume. Sections are numbered in ascending y, z, x order of their section
+   * coordinates.
+   * @return the amount of sections
+   */
+  public int sectionCount() {
+    return sections.length;
+  }
+
+  /**
+   * Get the palette of a section.
+   * @param section the index of the section
+   * @return an immutable copy of the section palette
+   * @throws IndexOutOfBoundsException if the section index is out of bounds
+   */
+  @SuppressWarnings("unchecked")
+  public List<T> sectionPalette(int section) {
+    Section s = sections[Objects.checkIndex(section, sections.length)];
+    return s == null ? List.of(defaultValue) : (List<T>) List.of(Arrays.copyOf(s.palette, s.size));
+  }
+
+  /**
+   * Copy the palette indices of a section, in the local index order of {@link ChunkUtil#localIndex(int, int, int)}.
+   * Voxels of the section that lie outside the bounds of this volume are included.
+   * @param section the index of the section
+   * @param out the array to store the {@value #SECTION_VOLUME} indices in
+   * @param offset the index to store the first palette index at
+   * @throws IndexOutOfBoundsException if the section index or the output range is out of bounds
+   * @see #sectionPalette(int)
+   */
+  public void sectionIndices(int section, int[] out, int offset) {
+    Objects.checkFromIndexSize(offset, SECTION_VOLUME, out.length);
+    Section s = sections[Objects.checkIndex(section, sections.length)];
+    if (s == null || s.data == null) {
+      Arrays.fill(out, offset, offset + SECTION_VOLUME, 0);
+    } else {
+      for (int i = 0; i < SECTION_VOLUME; i++) {
+        out[offset + i] = s.read(i);
+      }
+    }
+  }
+
+  /**
+   * Replace the contents of a section.
+   * @param section the index of the section
+   * @param palette the distinct values of the section
+   * @param indices the palette index of each voxel, in the local index order of
+   * {@link ChunkUtil#localIndex(int, int, int)}
+   * @param offset the index of the first palette index
+   * @throws IndexOutOfBoundsException if the section index or the input range is out of bounds
+   * @throws IllegalArgumentException if the palette is empty or any index is outside the palette
+   */
+  public void setSection(int section, List<? extends T> palette, int[] indices, int offset) {
+    Objects.checkIndex(section, sections.length);
+    Objects.checkFromIndexSize(offset, SECTION_VOLUME, indices.length);
+    if (palette.isEmpty()) {
+      throw new IllegalArgumentException("Palette cannot be empty");
+    }
+    Section s = new Section(palette.toArray(), indices, offset);
+    sections[section] = s.data == null && s.palette[0].equals(defaultValue) ? null : s;
+  }
+
+  private int checkedSection(int x, int y, int z) {
+    if (!inBounds(x, y, z)) {
+      throw new IndexOutOfBoundsException("[" + x + ", " + y + ", " + z + "] is outside " + min() + " - " + max());
+    }
+    return (((y >> 4) - sectionMinY) * sectionsZ + ((z >> 4) - sectionMinZ)) * sectionsX + ((x >> 4) - sectionMinX);
+  }
+
+  private static final class Section {
+    private static final int LINEAR_LOOKUP_LIMIT = 16;
+
+    private Object[] palette;
+    private int size;
+    private long @Nullable [] data;
+    private int bits;
+    private @Nullable Map<Object, Integer> lookup;
+
+    private Section(Object value) {
+      this.palette = new Object[]{value};
+      this.size = 1;
+    }
+
+    private Section(Object[] palette, int[] indices, int offset) {
+      for (Object value : palette) {
+        Objects.requireNonNull(value);
+      }
+      this.palette = palette;
+      this.size = palette.length;
+      if (size > LINEAR_LOOKUP_LIMIT) {
+        buildLookup();
+      }
+      if (size > 1) {
+        resize(bitsFor(size));
+        for (int i = 0; i < SECTION_VOLUME; i++) {
+          int index = indices[offset + i];
+          if (index < 0 || index >= size) {
+            throw new IllegalArgumentException("Palette index " + index + " is out of bounds for palette size " + size);
+          }
+          write(i, index);
+        }
+      }
+    }
+
+    private Object get(int local) {
+      return data == null ? palette[0] : palette[read(local)];
+    }
+
+    private Object set(int local, Object value) {
+      Object previous = get(local);
+      if (previous.equals(value)) {
+        return previous;
+      }
+      int index = indexOf(value);
+      if (index < 0) {
+        index = add(value);
+      }
+      write(local, index);
+      return previous;
+    }
+
+    private int indexOf(Object value) {
+      if (lookup != null) {
+        return lookup.getOrDefault(value, -1);
+      }
+      for (int i = 0; i < size; i++) {
+        if (palette[i].equals(value)) {
+          return i;
+        }
+      }
+      return -1;
+    }
+
+    private int add(Object value) {
+      if (size == palette.length) {
+        palette = Arrays.copyOf(palette, 2 * size);
+      }
+      int index = size++;
+      palette[index] = value;
+      if (lookup != null) {
+        lookup.put(value, index);
+      } else if (size > LINEAR_LOOKUP_LIMIT) {
+        buildLookup();
+      }
+      if (size > (1 << bits)) {
+        resize(bits + 1);
+      }
+      return index;
+    }
+
+    /**
+     * Remove unused palette entries.
+     * @return true if the section now contains a single value
+     */
+    private boolean trim() {
+      if (data == null) {
+        return true;
+      }
+      int[] remap = new int[size];
+      for (int i = 0; i < SECTION_VOLUME; i++) {
+        remap[read(i)] = 1;
+      }
+      int used = 0;
+      for (int i = 0; i < size; i++) {
+        if (remap[i] != 0) {
+          palette[used] = palette[i];
+          remap[i] = used++;
+        }
+      }
+      if (used == size) {
+        return false;
+      }
+      int[] indices = new int[SECTION_VOLUME];
+      for (int i = 0; i < SECTION_VOLUME; i++) {
+        indices[i] = remap[read(i)];
+      }
+      palette = Arrays.copyOf(palette, used);
+      size = used;
+      lookup = null;
+      if (size > LINEAR_LOOKUP_LIMIT) {
+        buildLookup();
+      }
+      if (size == 1) {
+        data = null;
+        bits = 0;
+        return true;
+      }
+      data = null;
+      resize(bitsFor(size));
+      for (int i = 0; i < SECTION_VOLUME; i++) {
+        write(i, indices[i]);
+      }
+      return false;
+    }
+
+    private void buildLookup() {
+      Map<Object, Integer> map = new HashMap<>(2 * size);
+      for (int i = 0; i < size; i++) {
+        map.put(palette[i], i);
+      }
+      lookup = map;
+    }
+
+    private void resize(int newBits) {
+      long[] old = data;
+      int oldBits = bits;
+      int perWord = 64 / newBits;
+      data = new long[(SECTION_VOLUME + perWord - 1) / perWord];
+      bits = newBits;
+      if (old != null) {
+        int oldPerWord = 64 / oldBits;
+        long oldMask = (1L << oldBits) - 1;
+        for (int i = 0; i < SECTION_VOLUME; i++) {
+          write(i, (int) ((old[i / oldPerWord] >>> ((i % oldPerWord) * oldBits)) & oldMask));
+        }
+      }
+    }
+
+    // Entries never span two words, as in the vanilla format
+    private int read(int local) {
+      long[] words = Objects.requireNonNull(data);
+      int perWord = 64 / bits;
+      return (int) ((words[local / perWord] >>> ((local % perWord) * bits)) & ((1L << bits) - 1));
+    }
+
+    private void write(int local, int index) {
+      long[] words = Objects.requireNonNull(data);
+      int perWord = 64 / bits;
+      int shift = (local % perWord) * bits;
+      int word = local / perWord;
+      words[word] = (words[word] & ~(((1L << bits) - 1) << shift)) | ((long) index << shift);
+    }
+
+    private static int bitsFor(int size) {
+      return Math.max(1, 32 - Integer.numberOfLeadingZeros(size - 1));
+    }
+  }
+}
@@ -0,0 +1,201 @@
+/*
+ * Copyright 2020-2025 Moros
+ *
+ * This file is part of Math.
+ *
+ * Math is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Math is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Math. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package me.moros.math.region;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Handle to an {@link AsyncRegion} that is being rasterized in the background.
+ * <p>Workers claim chunk columns one at a time and publish each non-empty column as a {@link ChunkBatch} to a bounded
+ * queue, blocking while it is full. The consumer, usually the main thread, polls a limited amount of batches per tick.
+ * Batches arrive in completion order, so their order is unspecified.
+ * <p>Cancelling stops workers after their current column and discards queued batches. This class is thread-safe.
+ */
+public final class RegionStream implements AutoCloseable {
+  private static final long OFFER_TIMEOUT_MILLIS = 10;
+
+  private final AsyncRegion region;
+  private final Consumer<VoxelMask> rasterizer;
+  private final long[] chunks;
+  private final int workers;
+  private final BlockingQueue<ChunkBatch> queue;
+  private final AtomicInteger nextChunk = new AtomicInteger();
+  private final AtomicInteger activeWorkers;
+  private final CompletableFuture<Void> completion = new CompletableFuture<>();
+
+  RegionStream(AsyncRegion region, Consumer<VoxelMask> rasterizer, long[] chunks, int workers, int capacity) {
+    this.region = region;
+    this.rasterizer = rasterizer;
+    this.chunks = chunks;
+    this.workers = workers;
+    this.queue = new ArrayBlockingQueue<>(capacity);
+    this.activeWorkers = new AtomicInteger(workers);
+  }
+
+  void start(Executor executor) {
+    if (workers == 0) {
+      completion.complete(null);
+      return;
+    }
+    for (int i = 0; i < workers; i++) {
+      try {
+        executor.execute(this::work);
+      } catch (RejectedExecutionException e) {
+        completion.completeExceptionally(e);
+        for (int j = i; j < workers; j++) {
+          workerFinished();
+        }
+        return;
+      }
+    }
+  }
+
+  /**
+   * Get the total amount of chunk columns in the bounds of the region.
+   * @return the amount of chunk columns
+   */
+  public int chunkCount() {
+    return chunks.length;
+  }
+
+  /**
+   * Retrieve the next completed batch without waiting.
+   * @return the next batch or null if none is currently available
+   */
+  public @Nullable ChunkBatch poll() {
+    return stopped() ? null : queue.poll();
+  }
+
+  /**
+   * Retrieve up to the given amount of completed batches without waiting.
+   * @param maxBatches the maximum amount of batches to retrieve
+   * @param consumer the consumer to accept each batch
+   * @return the amount of batches retrieved
+   */
+  public int drain(int maxBatches, Consumer<? super ChunkBatch> consumer) {
+    int drained = 0;
+    ChunkBatch batch;
+    while (drained < maxBatches && (batch = poll()) != null) {
+      consumer.accept(batch);
+      drained++;
+    }
+    return drained;
+  }
+
+  /**
+   * Get the future that completes when all workers have finished. It completes exceptionally if a rasterizer failed
+   * or with a {@link java.util.concurrent.CancellationException} if this stream was cancelled. Batches may still be
+   * waiting in the queue when it completes normally. Completing it early, for example by cancelling it, stops this
+   * stream.
+   * @return the completion future
+   */
+  public CompletableFuture<Void> completion() {
+    return completion;
+  }
+
+  /**
+   * Check if all batches have been produced and retrieved, or if this stream was cancelled or failed.
+   * @return true if no more batches will become available, false otherwise
+   */
+  public boolean isDone() {
+    return completion.isDone() && (stopped() || queue.isEmpty());
+  }
+
+  /**
+   * Check if this stream was cancelled.
+   * @return true if this stream was cancelled, false otherwise
+   */
+  public boolean isCancelled() {
+    return completion.isCancelled();
+  }
+
+  /**
+   * Stop all workers after their current chunk column and discard any queued batches.
+   */
+  public void cancel() {
+    completion.cancel(false);
+    queue.clear();
+  }
+
+  /**
+   * Cancel this stream.
+   * @see #cancel()
+   */
+  @Override
+  public void close() {
+    cancel();
+  }
+
+  private void work() {
+    try {
+      int index;
+      while (!completion.isDone() && (index = nextChunk.getAndIncrement()) < chunks.length) {
+        ChunkBatch batch = region.rasterize(chunks[index], rasterizer);
+        if (batch.size() > 0 && !publish(batch)) {
+          return;
+        }
+      }
+    } catch (Throwable t) {
+      completion.completeExceptionally(t);
+      queue.clear();
+    } finally {
+      workerFinished();
+    }
+  }
+
+  private boolean publish(ChunkBatch batch) {
+    try {
+      while (!queue.offer(batch, OFFER_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+        if (stopped()) {
+          return false;
+        }
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      cancel();
+      return false;
+    }
+    if (stopped()) {
+      queue.clear();
+      return false;
+    }
+    return true;
+  }
+
+  // Cancelled or failed, queued batches are discarded
+  private boolean stopped() {
+    return completion.isCompletedExceptionally();
+  }
+
+  private void workerFinished() {
+    if (activeWorkers.decrementAndGet() == 0) {
+      completion.complete(null);
+    }
+  }
+}
@@ -0,0 +1,418 @@
+/*
+ * Copyright 2020-2025 Moros
+ *
+ * This file is part of Math.
+ *
+ * Math is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Math is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Math. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package me.moros.math.region;
+
+import java.util.Arrays;
+
+import me.moros.math.FastMath;
+import me.moros.math.Position;
+import me.moros.math.Vector3i;
+import me.moros.math.function.IntTriConsumer;
+
+/**
+ * Dense set of voxels inside a fixed bounding box, backed by a bitset.
+ * <p>Each voxel in the box maps to a single bit. Bits are ordered by y, then z, then x, so each row along the x axis
+ * is contiguous and shapes can be filled a row range at a time. Set operations between masks with the same bounds
+ * process 64 voxels per step. Instances are mutable and not thread-safe.
+ */
+public final class VoxelMask {
+  private final int minX;
+  private final int minY;
+  private final int minZ;
+  private final int sizeX;
+  private final int sizeY;
+  private final int sizeZ;
+  private final long[] words;
+
+  private VoxelMask(int minX, int minY, int minZ, int sizeX, int sizeY, int sizeZ, long[] words) {
+    this.minX = minX;
+    this.minY = minY;
+    this.minZ = minZ;
+    this.sizeX = sizeX;
+    this.sizeY = sizeY;
+    this.sizeZ = sizeZ;
+    this.words = words;
+  }
+
+  /**
+   * Create an empty mask covering the box between two corners, inclusive.
+   * @param first the first corner
+   * @param second the second corner
+   * @return a new empty mask
+   * @throws IllegalArgumentException if the box contains more than {@link Integer#MAX_VALUE} voxels
+   */
+  public static VoxelMask of(Vector3i first, Vector3i second) {
+    Vector3i min = first.min(second);
+    Vector3i max = first.max(second);
+    long sizeX = (long) max.blockX() - min.blockX() + 1;
+    long sizeY = (long) max.blockY() - min.blockY() + 1;
+    long sizeZ = (long) max.blockZ() - min.blockZ() + 1;
+    long volume = sizeX * sizeY * sizeZ;
+    if (sizeX > Integer.MAX_VALUE || sizeY > Integer.MAX_VALUE || sizeZ > Integer.MAX_VALUE || volume > Integer.MAX_VALUE) {
+      throw new IllegalArgumentException("Mask volume is too large: " + sizeX + "x" + sizeY + "x" + sizeZ);
+    }
+    return new VoxelMask(min.blockX(), min.blockY(), min.blockZ(), (int) sizeX, (int) sizeY, (int) sizeZ,
+      new long[(int) ((volume + 63) >>> 6)]);
+  }
+
+  /**
+   * Create an independent copy of this mask.
+   * @return a new mask with the same bounds and voxels
+   */
+  public VoxelMask copy() {
+    return new VoxelMask(minX, minY, minZ, sizeX, sizeY, sizeZ, words.clone());
+  }
+
+  /**
+   * Get the minimum corner of the bounds of this mask.
+   * @return the minimum corner
+   */
+  public Vector3i min() {
+    return Vector3i.of(minX, minY, minZ);
+  }
+
+  /**
+   * Get the maximum corner of the bounds of this mask.
+   * @return the maximum corner
+   */
+  public Vector3i max() {
+    return Vector3i.of(minX + sizeX - 1, minY + sizeY - 1, minZ + sizeZ - 1);
+  }
+
+  /**
+   * Get the amount of voxels covered by the bounds of this mask.
+   * @return the volume of the bounds
+   */
+  public int volume() {
+    return sizeX * sizeY * sizeZ;
+  }
+
+  /**
+   * Check if the given coordinates are inside the bounds of this mask.
+   * @param x the x coordinate
+   * @param y the y coordinate
+   * @param z the z coordinate
+   * @return true if the coordinates are inside the bounds, false otherwise
+   */
+  public boolean inBounds(int x, int y, int z) {
+    return Integer.compareUnsigned(x - minX, sizeX) < 0 && Integer.compareUnsigned(y - minY, sizeY) < 0
+      && Integer.compareUnsigned(z - minZ, sizeZ) < 0;
+  }
+
+  /**
+   * Check if the voxel at the given position is set.
+   * @param p the position
+   * @return true if the voxel is set, false if it is unset or outside the bounds
+   */
+  public boolean get(Position p) {
+    return get(p.blockX(), p.blockY(), p.blockZ());
+  }
+
+  /**
+   * Check if the voxel at the given coordinates is set.
+   * @param x the x coordinate
+   * @param y the y coordinate
+   * @param z the z coordinate
+   * @return true if the voxel is set, false if it is unset or outside the bounds
+   */
+  public boolean get(int x, int y, int z) {
+    if (!inBounds(x, y, z)) {
+      return false;
+    }
+    int index = index(x, y, z);
+    return (words[index >>> 6] & (1L << index)) != 0;
+  }
+
+  /**
+   * Set the voxel at the given position.
+   * @param p the position
+   * @return true if the voxel was previously unset, false otherwise
+   * @throws IndexOutOfBoundsException if the position is outside the bounds
+   */
+  public boolean set(Position p) {
+    return set(p.blockX(), p.blockY(), p.blockZ());
+  }
+
+  /**
+   * Set the voxel at the given coordinates.
+   * @param x the x coordinate
+   * @param y the y coordinate
+   * @param z the z coordinate
+   * @return true if the voxel was previously unset, false otherwise
+   * @throws IndexOutOfBoundsException if the coordinates are outside the bounds
+   */
+  public boolean set(int x, int y, int z) {
+    int index = checkedIndex(x, y, z);
+    long word = words[index >>> 6];
+    words[index >>> 6] = word | (1L << index);
+    return (word & (1L << index)) == 0;
+  }
+
+  /**
+   * Clear the voxel at the given coordinates.
+   * @param x the x coordinate
+   * @param y the y coordinate
+   * @param z the z coordinate
+   * @return true if the voxel was previously set, false otherwise
+   * @throws IndexOutOfBoundsException if the coordinates are outside the bounds
+   */
+  public boolean clear(int x, int y, int z) {
+    int index = checkedIndex(x, y, z);
+    long word = words[index >>> 6];
+    words[index >>> 6] = word & ~(1L << index);
+    return (word & (1L << index)) != 0;
+  }
+
+  /**
+   * Clear all voxels.
+   */
+  public void clear() {
+    Arrays.fill(words, 0);
+  }
+
+  /**
+   * Count the set voxels.
+   * @return the amount of set voxels
+   */
+  public int cardinality() {
+    int count = 0;
+    for (long word : words) {
+      count += Long.bitCount(word);
+    }
+    return count;
+  }
+
+  /**
+   * Check if no voxels are set.
+   * @return true if this mask is empty, false otherwise
+   */
+  public boolean isEmpty() {
+    for (long word : words) {
+      if (word != 0) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Set all voxels that are set in another mask. Voxels of the other mask outside the bounds of this mask are ignored.
+   * @param other the other mask
+   * @return this mask
+   */
+  public VoxelMask union(VoxelMask other) {
+    if (sameBounds(other)) {
+      for (int i = 0; i < words.length; i++) {
+        words[i] |= other.words[i];
+      }
+    } else {
+      other.forEach((x, y, z) -> {
+        if (inBounds(x, y, z)) {
+          set(x, y, z);
+        }
+      });
+    }
+    return this;
+  }
+
+  /**
+   * Clear all voxels that are not set in another mask.
+   * @param other the other mask
+   * @return this mask
+   */
+  public VoxelMask intersect(VoxelMask other) {
+    if (sameBounds(other)) {
+      for (int i = 0; i < words.length; i++) {
+        words[i] &= other.words[i];
+      }
+    } else {
+      forEach((x, y, z) -> {
+        if (!other.get(x, y, z)) {
+          clear(x, y, z);
+        }
+      });
+    }
+    return this;
+  }
+
+  /**
+   * Clear all voxels that are set in another mask.
+   * @param other the other mask
+   * @return this mask
+   */
+  public VoxelMask difference(VoxelMask other) {
+    if (sameBounds(other)) {
+      for (int i = 0; i < words.length; i++) {
+        words[i] &= ~other.words[i];
+      }
+    } else {
+      forEach((x, y, z) -> {
+        if (other.get(x, y, z)) {
+          clear(x, y, z);
+        }
+      });
+    }
+    return this;
+  }
+
+  /**
+   * Set all voxels in the box between two corners, inclusive. The box is clipped to the bounds of this mask.
+   * @param first the first corner
+   * @param second the second corner
+   * @return this mask
+   */
+  public VoxelMask fillBox(Vector3i first, Vector3i second) {
+    int x0 = Math.max(Math.min(first.blockX(), second.blockX()), minX);
+    int x1 = Math.min(Math.max(first.blockX(), second.blockX()), minX + sizeX - 1);
+    int y0 = Math.max(Math.min(first.blockY(), second.blockY()), minY);
+    int y1 = Math.min(Math.max(first.blockY(), second.blockY()), minY + sizeY - 1);
+    int z0 = Math.max(Math.min(first.blockZ(), second.blockZ()), minZ);
+    int z1 = Math.min(Math.max(first.blockZ(), second.blockZ()), minZ + sizeZ - 1);
+    for (int y = y0; y <= y1; y++) {
+      for (int z = z0; z <= z1; z++) {
+        fillRow(x0, x1, y, z);
+      }
+    }
+    return this;
+  }
+
+  /**
+   * Set all voxels whose centers are within a radius from the given center. The sphere is clipped to the bounds of
+   * this mask.
+   * @param center the center of the sphere
+   * @param radius the radius of the sphere
+   * @return this mask
+   */
+  public VoxelMask fillSphere(Position center, double radius) {
+    if (!(radius >= 0)) {
+      return this;
+    }
+    double rSq = radius * radius;
+    int y0 = Math.max(FastMath.ceil(center.y() - radius - 0.5), minY);
+    int y1 = Math.min(FastMath.floor(center.y() + radius - 0.5), minY + sizeY - 1);
+    int z0 = Math.max(FastMath.ceil(center.z() - radius - 0.5), minZ);
+    int z1 = Math.min(FastMath.floor(center.z() + radius - 0.5), minZ + sizeZ - 1);
+    for (int y = y0; y <= y1; y++) {
+      double dy = y + 0.5 - center.y();
+      for (int z = z0; z <= z1; z++) {
+        double dz = z + 0.5 - center.z();
+        double remaining = rSq - dy * dy - dz * dz;
+        if (remaining >= 0) {
+          fillSpan(center.x(), Math.sqrt(remaining), y, z);
+        }
+      }
+    }
+    return this;
+  }
+
+  /**
+   * Set all voxels whose centers are inside a vertical cylinder. The cylinder is clipped to the bounds of this mask.
+   * @param base the center of the bottom face of the cylinder
+   * @param radius the radius of the cylinder
+   * @param height the height of the cylinder
+   * @return this mask
+   */
+  public VoxelMask fillCylinder(Position base, double radius, double height) {
+    if (!(radius >= 0) || !(height >= 0)) {
+      return this;
+    }
+    double rSq = radius * radius;
+    int y0 = Math.max(FastMath.ceil(base.y() - 0.5), minY);
+    int y1 = Math.min(FastMath.floor(base.y() + height - 0.5), minY + sizeY - 1);
+    int z0 = Math.max(FastMath.ceil(base.z() - radius - 0.5), minZ);
+    int z1 = Math.min(FastMath.floor(base.z() + radius - 0.5), minZ + sizeZ - 1);
+    for (int z = z0; z <= z1; z++) {
+      double dz = z + 0.5 - base.z();
+      double remaining = rSq - dz * dz;
+      if (remaining < 0) {
+        continue;
+      }
+      double half = Math.sqrt(remaining);
+      for (int y = y0; y <= y1; y++) {
+        fillSpan(base.x(), half, y, z);
+      }
+    }
+    return this;
+  }
+
+  /**
+   * Perform an action for each set voxel, in ascending y, z, x order.
+   * @param consumer the action to perform with the coordinates of each set voxel
+   */
+  public void forEach(IntTriConsumer consumer) {
+    int rowSize = sizeX;
+    int layerSize = sizeX * sizeZ;
+    for (int w = 0; w < words.length; w++) {
+      long word = words[w];
+      while (word != 0) {
+        int index = (w << 6) + Long.numberOfTrailingZeros(word);
+        int y = index / layerSize;
+        int rest = index - y * layerSize;
+        int z = rest / rowSize;
+        consumer.accept(minX + rest - z * rowSize, minY + y, minZ + z);
+        word &= word - 1;
+      }
+    }
+  }
+
+  // Set the voxels whose centers are within half of cx along the x axis
+  private void fillSpan(double cx, double half, int y, int z) {
+    int x0 = Math.max(FastMath.ceil(cx - half - 0.5), minX);
+    int x1 = Math.min(FastMath.floor(cx + half - 0.5), minX + sizeX - 1);
+    fillRow(x0, x1, y, z);
+  }
+
+  private void fillRow(int x0, int x1, int y, int z) {
+    if (x0 > x1) {
+      return;
+    }
+    int from = index(x0, y, z);
+    int to = from + (x1 - x0) + 1;
+    int fromWord = from >>> 6;
+    int toWord = (to - 1) >>> 6;
+    long firstMask = -1L << from;
+    long lastMask = -1L >>> -to;
+    if (fromWord == toWord) {
+      words[fromWord] |= firstMask & lastMask;
+      return;
+    }
+    words[fromWord] |= firstMask;
+    for (int i = fromWord + 1; i < toWord; i++) {
+      words[i] = -1L;
+    }
+    words[toWord] |= lastMask;
+  }
+
+  private boolean sameBounds(VoxelMask other) {
+    return minX == other.minX && minY == other.minY && minZ == other.minZ
+      && sizeX == other.sizeX && sizeY == other.sizeY && sizeZ == other.sizeZ;
+  }
+
+  private int index(int x, int y, int z) {
+    return ((y - minY) * sizeZ + (z - minZ)) * sizeX + (x - minX);
+  }
+
+  private int checkedIndex(int x, int y, int z) {
+    if (!inBounds(x, y, z)) {
+      throw new IndexOutOfBoundsException("[" + x + ", " + y + ", " + z + "] is outside " + min() + " - " + max());
+    }
+    return index(x, y, z);
+  }
+}
@@ -0,0 +1,197 @@
+/*
+ * Copyright 2020-2025 Moros
+ *
+ * This file is part of Math.
+ *
+ * Math is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Math is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Math. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package me.moros.math.shape;
+
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
+import java.util.random.RandomGenerator.SplittableGenerator;
+
+/**
+ * Fills arrays of consecutive xyz triples with random points in bulk.
+ * <p>Shapes are centered at the origin and axis aligned; cones and discs use the y axis.
+ * Use the bulk {@link me.moros.math.Rotation} and {@link me.moros.math.VectorArrays} operations to orient and
+ * translate the results. Instances are as thread-safe as their generator; use {@link #split()} to derive independent
+ * samplers for parallel work when the generator is splittable.
+ */
+public final class RandomSampler {
+  private static final double TAU = 2 * Math.PI;
+
+  private final RandomGenerator random;
+
+  private RandomSampler(RandomGenerator random) {
+    this.random = random;
+  }
+
+  /**
+   * Create a sampler for the current thread's {@link ThreadLocalRandom}.
+   * The sampler must not be shared with other threads.
+   * @return a new sampler
+   */
+  public static RandomSampler current() {
+    return new RandomSampler(ThreadLocalRandom.current());
+  }
+
+  /**
+   * Create a sampler backed by the given generator, for example a seeded one for reproducible results.
+   * @param random the random generator
+   * @return a new sampler
+   */
+  public static RandomSampler of(RandomGenerator random) {
+    return new RandomSampler(Objects.requireNonNull(random));
+  }
+
+  /**
+   * Create a new sampler with an independent generator split off from this sampler's generator.
+   * Splitting is deterministic for seeded generators, which keeps parallel sampling reproducible.
+   * @return a new sampler
+   * @throws UnsupportedOperationException if the generator is not a {@link SplittableGenerator}
+   */
+  public RandomSampler split() {
+    if (random instanceof SplittableGenerator splittable) {
+      return new RandomSampler(splittable.split());
+    }
+    throw new UnsupportedOperationException("Generator " + random.getClass().getName() + " is not splittable");
+  }
+
+  /**
+   * Fill an array with Gaussian distributed offsets using the Box-Muller transform.
+   * @param out the array to store the offsets in
+   * @param offset the index to store the first component at
+   * @param count the amount of offsets
+   * @param deviationX the standard deviation for the x component
+   * @param deviationY the standard deviation for the y component
+   * @param deviationZ the standard deviation for the z component
+   * @throws IndexOutOfBoundsException if the array does not have enough space
+   */
+  public void gaussian(double[] out, int offset, int count, double deviationX, double deviationY, double deviationZ) {
+    Objects.checkFromIndexSize(offset, 3L * count, out.length);
+    int end = offset + 3 * count;
+    for (int i = offset; i < end; i += 2) {
+      double r = Math.sqrt(-2 * Math.log(1 - random.nextDouble()));
+      double theta = TAU * random.nextDouble();
+      out[i] = r * Math.cos(theta);
+      if (i + 1 < end) {
+        out[i + 1] = r * Math.sin(theta);
+      }
+    }
+    for (int i = offset; i < end; i += 3) {
+      out[i] *= deviationX;
+      out[i + 1] *= deviationY;
+      out[i + 2] *= deviationZ;
+    }
+  }
+
+  /**
+   * Fill an array with uniformly distributed points inside a cube.
+   * @param out the array to store the points in
+   * @param offset the index to store the first component at
+   * @param count the amount of points
+   * @param halfExtent half the length of the cube's side
+   * @throws IndexOutOfBoundsException if the array does not have enough space
+   */
+  public void inCube(double[] out, int offset, int count, double halfExtent) {
+    Objects.checkFromIndexSize(offset, 3L * count, out.length);
+    for (int i = offset; i < offset + 3 * count; i++) {
+      out[i] = halfExtent * (2 * random.nextDouble() - 1);
+    }
+  }
+
+  /**
+   * Fill an array with uniformly distributed points inside a sphere.
+   * @param out the array to store the points in
+   * @param offset the index to store the first component at
+   * @param count the amount of points
+   * @param radius the radius of the sphere
+   * @throws IndexOutOfBoundsException if the array does not have enough space
+   */
+  public void inSphere(double[] out, int offset, int count, double radius) {
+    Objects.checkFromIndexSize(offset, 3L * count, out.length);
+    for (int i = offset; i < offset + 3 * count; i += 3) {
+      double r = radius * Math.cbrt(random.nextDouble());
+      sphereDirection(out, i, r);
+    }
+  }
+
+  /**
+   * Fill an array with uniformly distributed points on the surface of a sphere.
+   * @param out the array to store the points in
+   * @param offset the index to store the first component at
+   * @param count the amount of points
+   * @param radius the radius of the sphere
+   * @throws IndexOutOfBoundsException if the array does not have enough space
+   */
+  public void onSphere(double[] out, int offset, int count, double radius) {
+    Objects.checkFromIndexSize(offset, 3L * count, out.length);
+    for (int i = offset; i < offset + 3 * count; i += 3) {
+      sphereDirection(out, i, radius);
+    }
+  }
+
+  /**
+   * Fill an array with uniformly distributed points inside a disc on the xz plane.
+   * @param out the array to store the points in
+   * @param offset the index to store the first component at
+   * @param count the amount of points
+   * @param radius the radius of the disc
+   * @throws IndexOutOfBoundsException if the array does not have enough space
+   */
+  public void inDisc(double[] out, int offset, int count, double radius) {
+    Objects.checkFromIndexSize(offset, 3L * count, out.length);
+    for (int i = offset; i < offset + 3 * count; i += 3) {
+      double r = radius * Math.sqrt(random.nextDouble());
+      double theta = TAU * random.nextDouble();
+      out[i] = r * Math.cos(theta);
+      out[i + 1] = 0;
+      out[i + 2] = r * Math.sin(theta);
+    }
+  }
+
+  /**
+   * Fill an array with uniformly distributed points inside a solid cone.
+   * The apex is at the origin and the base is centered at {@code [0, height, 0]}.
+   * @param out the array to store the points in
+   * @param offset the index to store the first component at
+   * @param count the amount of points
+   * @param height the height of the cone
+   * @param radius the radius of the cone's base
+   * @throws IndexOutOfBoundsException if the array does not have enough space
+   */
+  public void inCone(double[] out, int offset, int count, double height, double radius) {
+    Objects.checkFromIndexSize(offset, 3L * count, out.length);
+    for (int i = offset; i < offset + 3 * count; i += 3) {
+      double h = Math.cbrt(random.nextDouble());
+      double r = radius * h * Math.sqrt(random.nextDouble());
+      double theta = TAU * random.nextDouble();
+      out[i] = r * Math.cos(theta);
+      out[i + 1] = height * h;
+      out[i + 2] = r * Math.sin(theta);
+    }
+  }
+
+  private void sphereDirection(double[] out, int idx, double radius) {
+    double z = 2 * random.nextDouble() - 1;
+    double theta = TAU * random.nextDouble();
+    double r = radius * Math.sqrt(1 - z * z);
+    out[idx] = r * Math.cos(theta);
+    out[idx + 1] = r * Math.sin(theta);
+    out[idx + 2] = radius * z;
+  }
+}
@@ -0,0 +1,339 @@
+/*
+ * Copyright 2020-2025 Moros
+ *
+ * This file is part of Math.
+ *
+ * Math is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Math is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Math. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package me.moros.math.shape;
+
+import java.util.Objects;
+
+import me.moros.math.Position;
+import me.moros.math.Rotation;
+import me.moros.math.function.DoubleTriConsumer;
+import me.moros.math.internal.Instrumentation;
+import me.moros.math.internal.OperationProbe;
+
+/**
+ * Immutable set of points that make up a unit shape, computed once and placed many times.
+ * <p>Shapes are centered at the origin and axis aligned; planar shapes lie on the xz plane and helices and cones use
+ * the y axis. All trigonometry happens when the template is created. Placing a template scales, rotates and
+ * translates its points into an array or a consumer without allocating a vector per point, so templates can be
+ * stored in constants and reused every tick.
+ */
+public final class ShapeTemplate {
+  private static final double TAU = 2 * Math.PI;
+  private static final double GOLDEN_ANGLE = Math.PI * (3 - Math.sqrt(5));
+
+  private final double[] points;
+
+  private ShapeTemplate(double[] points) {
+    this.points = points;
+  }
+
+  /**
+   * Create a circle with a radius of 1.
+   * @param points the amount of points on the circle
+   * @return a new template
+   * @throws IllegalArgumentException if points is not positive
+   */
+  public static ShapeTemplate circle(int points) {
+    checkPositive(points, "points");
+    OperationProbe event = Instrumentation.shapeGeneration();
+    double[] xyz = new double[3 * points];
+    for (int i = 0; i < points; i++) {
+      double angle = TAU * i / points;
+      put(xyz, i, Math.cos(angle), 0, Math.sin(angle));
+    }
+    event.finish("circle", points);
+    return new ShapeTemplate(xyz);
+  }
+
+  /**
+   * Create the outline of a regular polygon with its vertices on a circle with a radius of 1.
+   * @param sides the amount of sides
+   * @param pointsPerSide the amount of points on each side, including the starting vertex
+   * @return a new template
+   * @throws IllegalArgumentException if there are less than 3 sides or pointsPerSide is not positive
+   */
+  public static ShapeTemplate polygon(int sides, int pointsPerSide) {
+    if (sides < 3) {
+      throw new IllegalArgumentException("Polygons require at least 3 sides, found " + sides);
+    }
+    checkPositive(pointsPerSide, "pointsPerSide");
+    OperationProbe event = Instrumentation.shapeGeneration();
+    int count = sides * pointsPerSide;
+    double[] xyz = new double[3 * count];
+    for (int side = 0; side < sides; side++) {
+      double x0 = Math.cos(TAU * side / sides);
+      double z0 = Math.sin(TAU * side / sides);
+      double x1 = Math.cos(TAU * (side + 1) / sides);
+      double z1 = Math.sin(TAU * (side + 1) / sides);
+      for (int j = 0; j < pointsPerSide; j++) {
+        double f = (double) j / pointsPerSide;
+        put(xyz, side * pointsPerSide + j, x0 + f * (x1 - x0), 0, z0 + f * (z1 - z0));
+      }
+    }
+    event.finish("polygon", count);
+    return new ShapeTemplate(xyz);
+  }
+
+  /**
+   * Create a sphere with a radius of 1 whose surface is covered evenly using a Fibonacci lattice.
+   * @param points the amount of points on the sphere
+   * @return a new template
+   * @throws IllegalArgumentException if points is not positive
+   */
+  public static ShapeTemplate fibonacciSphere(int points) {
+    checkPositive(points, "points");
+    OperationProbe event = Instrumentation.shapeGeneration();
+    double[] xyz = new double[3 * points];
+    for (int i = 0; i < points; i++) {
+      double y = 1 - (2 * i + 1.0) / points;
+      double r = Math.sqrt(1 - y * y);
+      double angle = GOLDEN_ANGLE * i;
+      put(xyz, i, r * Math.cos(angle), y, r * Math.sin(angle));
+    }
+    event.finish("fibonacciSphere", points);
+    return new ShapeTemplate(xyz);
+  }
+
+  /**
+   * Create a helix with a radius of 1 that rises along the y axis.
+   * @param points the amount of points on the helix
+   * @param turns the amount of full turns
+   * @param height the height of the helix
+   * @return a new template
+   * @throws IllegalArgumentException if points is not positive
+   */
+  public static ShapeTemplate helix(int points, double turns, double height) {
+    checkPositive(points, "points");
+    OperationProbe event = Instrumentation.shapeGeneration();
+    double[] xyz = new double[3 * points];
+    double step = points > 1 ? 1.0 / (points - 1) : 0;
+    for (int i = 0; i < points; i++) {
+      double t = i * step;
+      double angle = TAU * turns * t;
+      put(xyz, i, Math.cos(angle), height * t, Math.sin(angle));
+    }
+    event.finish("helix", points);
+    return new ShapeTemplate(xyz);
+  }
+
+  /**
+   * Create an Archimedean spiral that starts at the origin and ends on a circle with a radius of 1.
+   * @param points the amount of points on the spiral
+   * @param turns the amount of full turns
+   * @return a new template
+   * @throws IllegalArgumentException if points is not positive
+   */
+  public static ShapeTemplate spiral(int points, double turns) {
+    checkPositive(points, "points");
+    OperationProbe event = Instrumentation.shapeGeneration();
+    double[] xyz = new double[3 * points];
+    double step = points > 1 ? 1.0 / (points - 1) : 0;
+    for (int i = 0; i < points; i++) {
+      double t = i * step;
+      double angle = TAU * turns * t;
+      put(xyz, i, t * Math.cos(angle), 0, t * Math.sin(angle));
+    }
+    event.finish("spiral", points);
+    return new ShapeTemplate(xyz);
+  }
+
+  /**
+   * Create a torus whose tube is centered on a circle with a radius of 1.
+   * @param majorPoints the amount of rings around the torus
+   * @param minorPoints the amount of points on each ring
+   * @param minorRadius the radius of the tube
+   * @return a new template
+   * @throws IllegalArgumentException if majorPoints or minorPoints is not positive
+   */
+  public static ShapeTemplate torus(int majorPoints, int minorPoints, double minorRadius) {
+    checkPositive(majorPoints, "majorPoints");
+    checkPositive(minorPoints, "minorPoints");
+    OperationProbe event = Instrumentation.shapeGeneration();
+    int count = majorPoints * minorPoints;
+    double[] xyz = new double[3 * count];
+    double[] cos = new double[minorPoints];
+    double[] sin = new double[minorPoints];
+    for (int j = 0; j < minorPoints; j++) {
+      cos[j] = Math.cos(TAU * j / minorPoints);
+      sin[j] = Math.sin(TAU * j / minorPoints);
+    }
+    for (int i = 0; i < majorPoints; i++) {
+      double angle = TAU * i / majorPoints;
+      double cu = Math.cos(angle);
+      double su = Math.sin(angle);
+      for (int j = 0; j < minorPoints; j++) {
+        double r = 1 + minorRadius * cos[j];
+        put(xyz, i * minorPoints + j, r * cu, minorRadius * sin[j], r * su);
+      }
+    }
+    event.finish("torus", count);
+    return new ShapeTemplate(xyz);
+  }
+
+  /**
+   * Create the surface of a cone with its apex at the origin and a height of 1 along the y axis.
+   * Rings are evenly spaced and the amount of points on each ring grows with its radius, so the surface is covered
+   * evenly.
+   * @param rings the amount of rings below the apex
+   * @param basePoints the amount of points on the base ring
+   * @param radius the radius of the base
+   * @return a new template
+   * @throws IllegalArgumentException if rings or basePoints is not positive
+   */
+  public static ShapeTemplate cone(int rings, int basePoints, double radius) {
+    checkPositive(rings, "rings");
+    checkPositive(basePoints, "basePoints");
+    OperationProbe event = Instrumentation.shapeGeneration();
+    int count = 1;
+    for (int ring = 1; ring <= rings; ring++) {
+      count += ringPoints(ring, rings, basePoints);
+    }
+    double[] xyz = new double[3 * count]; // the apex is the first point
+    int idx = 1;
+    for (int ring = 1; ring <= rings; ring++) {
+      double t = (double) ring / rings;
+      int ringPoints = ringPoints(ring, rings, basePoints);
+      for (int j = 0; j < ringPoints; j++) {
+        double angle = TAU * j / ringPoints;
+        put(xyz, idx++, t * radius * Math.cos(angle), t, t * radius * Math.sin(angle));
+      }
+    }
+    event.finish("cone", count);
+    return new ShapeTemplate(xyz);
+  }
+
+  /**
+   * Get the amount of points in this template.
+   * @return the amount of points
+   */
+  public int size() {
+    return points.length / 3;
+  }
+
+  /**
+   * Copy the unit points of this template as consecutive xyz triples.
+   * @param out the array to store the points in
+   * @param offset the index to store the first component at
+   * @return the amount of points
+   * @throws IndexOutOfBoundsException if the array does not have enough space
+   */
+  public int copyTo(double[] out, int offset) {
+    Objects.checkFromIndexSize(offset, points.length, out.length);
+    System.arraycopy(points, 0, out, offset, points.length);
+    return size();
+  }
+
+  /**
+   * Scale and translate the points of this template and store them as consecutive xyz triples.
+   * @param center the position to move the origin of the template to
+   * @param scale the uniform scale
+   * @param out the array to store the points in
+   * @param offset the index to store the first component at
+   * @return the amount of points
+   * @throws IndexOutOfBoundsException if the array does not have enough space
+   */
+  public int place(Position center, double scale, double[] out, int offset) {
+    Objects.checkFromIndexSize(offset, points.length, out.length);
+    transform(points, 0, out, offset, size(), center, scale);
+    return size();
+  }
+
+  /**
+   * Scale, rotate and translate the points of this template and store them as consecutive xyz triples.
+   * @param center the position to move the origin of the template to
+   * @param scale the uniform scale
+   * @param rotation the rotation to orient the template with
+   * @param out the array to store the points in
+   * @param offset the index to store the first component at
+   * @return the amount of points
+   * @throws IndexOutOfBoundsException if the array does not have enough space
+   */
+  public int place(Position center, double scale, Rotation rotation, double[] out, int offset) {
+    int count = size();
+    rotation.applyTo(points, 0, out, offset, count);
+    transform(out, offset, out, offset, count, center, scale);
+    return count;
+  }
+
+  /**
+   * Scale and translate the points of this template and pass them to a consumer.
+   * @param center the position to move the origin of the template to
+   * @param scale the uniform scale
+   * @param consumer the consumer to accept the coordinates of each point
+   * @return the amount of points
+   */
+  public int place(Position center, double scale, DoubleTriConsumer consumer) {
+    double cx = center.x();
+    double cy = center.y();
+    double cz = center.z();
+    for (int i = 0; i < points.length; i += 3) {
+      consumer.accept(cx + scale * points[i], cy + scale * points[i + 1], cz + scale * points[i + 2]);
+    }
+    return size();
+  }
+
+  /**
+   * Scale, rotate and translate the points of this template and pass them to a consumer.
+   * @param center the position to move the origin of the template to
+   * @param scale the uniform scale
+   * @param rotation the rotation to orient the template with
+   * @param consumer the consumer to accept the coordinates of each point
+   * @return the amount of points
+   */
+  public int place(Position center, double scale, Rotation rotation, DoubleTriConsumer consumer) {
+    double cx = center.x();
+    double cy = center.y();
+    double cz = center.z();
+    double[] xyz = new double[3];
+    for (int i = 0; i < points.length; i += 3) {
+      rotation.applyTo(points, i, xyz, 0, 1);
+      consumer.accept(cx + scale * xyz[0], cy + scale * xyz[1], cz + scale * xyz[2]);
+    }
+    return size();
+  }
+
+  private static void transform(double[] in, int inOffset, double[] out, int outOffset, int count, Position center,
+                                double scale) {
+    double cx = center.x();
+    double cy = center.y();
+    double cz = center.z();
+    for (int i = 0; i < 3 * count; i += 3) {
+      out[outOffset + i] = cx + scale * in[inOffset + i];
+      out[outOffset + i + 1] = cy + scale * in[inOffset + i + 1];
+      out[outOffset + i + 2] = cz + scale * in[inOffset + i + 2];
+    }
+  }
+
+  private static int ringPoints(int ring, int rings, int basePoints) {
+    return Math.max(1, (int) Math.round((double) basePoints * ring / rings));
+  }
+
+  private static void put(double[] xyz, int index, double x, double y, double z) {
+    xyz[3 * index] = x;
+    xyz[3 * index + 1] = y;
+    xyz[3 * index + 2] = z;
+  }
+
+  private static void checkPositive(int value, String name) {
+    if (value <= 0) {
+      throw new IllegalArgumentException(name + " must be positive, found " + value);
+    }
+  }
+}
@@ -0,0 +1,422 @@
+/*
+ * Copyright 2020-2025 Moros
+ *
+ * This file is part of Math.
+ *
+ * Math is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Math is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Math. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package me.moros.math.spatial;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Consumer;
+
+import me.moros.math.Position;
+import me.moros.math.Vector3d;
+import me.moros.math.geometry.AABB;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Thread-safe spatial index that maps values to positions in a uniform grid of cubic cells.
+ * <p>Cells are guarded by a fixed set of {@link StampedLock lock stripes}, so updates in different parts of the world
+ * rarely contend. Inserting, moving and removing a value write-locks the stripes of its old and new cells in a fixed
+ * order. Queries first scan their cells under optimistic reads and only fall back to read locks if a concurrent
+ * update touched one of their stripes. Either way, a query observes every value at exactly one position that the
+ * value occupied at a single point in time, so a value that moves between cells during a query is never reported
+ * twice or missed.
+ * <p>Values are compared using {@link Object#equals(Object)}. Query results are delivered after all locks are
+ * released, so consumers may update the index.
+ * @param <T> the type of values
+ */
+public final class ConcurrentSpatialIndex<T> {
+  /**
+   * The default amount of lock stripes.
+   */
+  public static final int DEFAULT_STRIPES = 64;
+
+  private static final int KEY_BITS = 21;
+  private static final long KEY_MASK = (1L << KEY_BITS) - 1;
+
+  private final double cellSize;
+  private final double inverseCellSize;
+  private final StampedLock[] stripes;
+  private final Map<Long, Cell> cells = new ConcurrentHashMap<>();
+  private final Map<T, Entry<T>> entries = new ConcurrentHashMap<>();
+
+  /**
+   * Create an index with the default amount of lock stripes.
+   * @param cellSize the side length of each cell, ideally close to the typical query radius
+   * @throws IllegalArgumentException if cellSize is not a positive finite number
+   */
+  public ConcurrentSpatialIndex(double cellSize) {
+    this(cellSize, DEFAULT_STRIPES);
+  }
+
+  /**
+   * Create an index.
+   * @param cellSize the side length of each cell, ideally close to the typical query radius
+   * @param stripes the amount of lock stripes, rounded up to a power of two
+   * @throws IllegalArgumentException if cellSize is not a positive finite number or stripes is not positive
+   */
+  public ConcurrentSpatialIndex(double cellSize, int stripes) {
+    if (!(cellSize > 0) || !Double.isFinite(cellSize)) {
+      throw new IllegalArgumentException("Cell size must be a positive finite number, found " + cellSize);
+    }
+    if (stripes <= 0 || stripes > 1 << 16) {
+      throw new IllegalArgumentException("Stripes must be in range [1, 65536], found " + stripes);
+    }
+    this.cellSize = cellSize;
+    this.inverseCellSize = 1 / cellSize;
+    int count = Integer.highestOneBit(stripes);
+    this.stripes = new StampedLock[count < stripes ? count << 1 : count];
+    for (int i = 0; i < this.stripes.length; i++) {
+      this.stripes[i] = new StampedLock();
+    }
+  }
+
+  /**
+   * Get the side length of each cell.
+   * @return the cell size
+   */
+  public double cellSize() {
+    return cellSize;
+  }
+
+  /**
+   * Get the amount of values in this index.
+   * @return the amount of values
+   */
+  public int size() {
+    return entries.size();
+  }
+
+  /**
+   * Check if a value is in this index.
+   * @param value the value to check
+   * @return true if the value is in this index, false otherwise
+   */
+  public boolean contains(T value) {
+    return entries.containsKey(value);
+  }
+
+  /**
+   * Get the position of a value.
+   * @param value the value
+   * @return the position of the value or null if it is not in this index
+   */
+  public @Nullable Vector3d position(T value) {
+    Entry<T> entry = entries.get(value);
+    return entry == null ? null : Vector3d.of(entry.x, entry.y, entry.z);
+  }
+
+  /**
+   * Insert a value or move it if it is already in this index.
+   * @param value the value
+   * @param pos the new position of the value
+   * @return true if the value was inserted, false if it was moved
+   */
+  public boolean put(T value, Position pos) {
+    Entry<T> next = new Entry<>(value, pos.x(), pos.y(), pos.z(), cellKey(pos.x(), pos.y(), pos.z()));
+    int newStripe = stripe(next.cell);
+    while (true) {
+      Entry<T> previous = entries.get(value);
+      int oldStripe = previous == null ? newStripe : stripe(previous.cell);
+      int first = Math.min(oldStripe, newStripe);
+      int second = Math.max(oldStripe, newStripe);
+      long firstStamp = stripes[first].writeLock();
+      long secondStamp = first == second ? 0 : stripes[second].writeLock();
+      try {
+        boolean claimed = previous == null ? entries.putIfAbsent(value, next) == null : entries.replace(value, previous, next);
+        if (claimed) {
+          if (previous != null) {
+            removeFromCell(previous);
+          }
+          cells.computeIfAbsent(next.cell, k -> new Cell()).add(next);
+          return previous == null;
+        }
+      } finally {
+        if (first != second) {
+          stripes[second].unlockWrite(secondStamp);
+        }
+        stripes[first].unlockWrite(firstStamp);
+      }
+    }
+  }
+
+  /**
+   * Remove a value.
+   * @param value the value to remove
+   * @return true if the value was removed, false if it was not in this index
+   */
+  public boolean remove(T value) {
+    while (true) {
+      Entry<T> previous = entries.get(value);
+      if (previous == null) {
+        return false;
+      }
+      StampedLock lock = stripes[stripe(previous.cell)];
+      long stamp = lock.writeLock();
+      try {
+        if (entries.remove(value, previous)) {
+          removeFromCell(previous);
+          return true;
+        }
+      } finally {
+        lock.unlockWrite(stamp);
+      }
+    }
+  }
+
+  /**
+   * Remove all values.
+   */
+  public void clear() {
+    long[] stamps = new long[stripes.length];
+    for (int i = 0; i < stripes.length; i++) {
+      stamps[i] = stripes[i].writeLock();
+    }
+    try {
+      entries.clear();
+      cells.clear();
+    } finally {
+      for (int i = stripes.length - 1; i >= 0; i--) {
+        stripes[i].unlockWrite(stamps[i]);
+      }
+    }
+  }
+
+  /**
+   * Find all values within a radius of a position.
+   * @param center the center of the query
+   * @param radius the maximum distance from the center
+   * @param consumer the consumer to accept each value
+   * @return the amount of values found
+   * @throws IllegalArgumentException if the radius or the center is not finite
+   */
+  public int query(Position center, double radius, Consumer<? super T> consumer) {
+    double cx = center.x();
+    double cy = center.y();
+    double cz = center.z();
+    if (!Double.isFinite(radius) || !Double.isFinite(cx) || !Double.isFinite(cy) || !Double.isFinite(cz)) {
+      throw new IllegalArgumentException("Query radius and center must be finite, found " + radius + " at " + center);
+    }
+    if (radius < 0) {
+      return 0;
+    }
+    double radiusSq = radius * radius;
+    return query(cx - radius, cy - radius, cz - radius, cx + radius, cy + radius, cz + radius, e -> {
+      double dx = e.x - cx;
+      double dy = e.y - cy;
+      double dz = e.z - cz;
+      return dx * dx + dy * dy + dz * dz <= radiusSq;
+    }, consumer);
+  }
+
+  /**
+   * Find all values inside a box, including its boundary.
+   * @param box the box to query
+   * @param consumer the consumer to accept each value
+   * @return the amount of values found
+   */
+  public int query(AABB box, Consumer<? super T> consumer) {
+    Vector3d min = box.min();
+    Vector3d max = box.max();
+    return query(min.x(), min.y(), min.z(), max.x(), max.y(), max.z(), e -> box.contains(e.x, e.y, e.z), consumer);
+  }
+
+  private int query(double minX, double minY, double minZ, double maxX, double maxY, double maxZ,
+                    EntryFilter filter, Consumer<? super T> consumer) {
+    int x0 = cell(minX);
+    int y0 = cell(minY);
+    int z0 = cell(minZ);
+    int x1 = cell(maxX);
+    int y1 = cell(maxY);
+    int z1 = cell(maxZ);
+    long dx = (long) x1 - x0 + 1;
+    long dy = (long) y1 - y0 + 1;
+    long dz = (long) z1 - z0 + 1;
+    long range;
+    try {
+      range = Math.multiplyExact(Math.multiplyExact(dx, dy), dz);
+    } catch (ArithmeticException e) {
+      range = Long.MAX_VALUE;
+    }
+    boolean[] used = new boolean[stripes.length];
+    long @Nullable [] keys;
+    if (range > Math.max(64, 2L * cells.size()) || Math.max(dx, Math.max(dy, dz)) > 1L << KEY_BITS) {
+      // scanning every occupied cell is cheaper than enumerating a huge range of mostly empty cells,
+      // and a range wider than the key space would visit aliased cells more than once
+      keys = null;
+      Arrays.fill(used, true);
+    } else {
+      keys = new long[(int) range];
+      int n = 0;
+      // iterate offsets instead of coordinates, so bounds clamped to Integer.MAX_VALUE do not overflow
+      for (int y = 0; y < dy; y++) {
+        for (int z = 0; z < dz; z++) {
+          for (int x = 0; x < dx; x++) {
+            long key = cellKey(x0 + x, y0 + y, z0 + z);
+            keys[n++] = key;
+            used[stripe(key)] = true;
+          }
+        }
+      }
+    }
+    List<Entry<T>> found = new ArrayList<>();
+    long[] stamps = new long[stripes.length];
+    boolean valid = true;
+    for (int i = 0; i < stripes.length && valid; i++) {
+      if (used[i]) {
+        stamps[i] = stripes[i].tryOptimisticRead();
+        valid = stamps[i] != 0;
+      }
+    }
+    if (valid) {
+      collect(keys, filter, found);
+      for (int i = 0; i < stripes.length && valid; i++) {
+        valid = !used[i] || stripes[i].validate(stamps[i]);
+      }
+    }
+    if (!valid) {
+      found.clear();
+      for (int i = 0; i < stripes.length; i++) {
+        if (used[i]) {
+          stamps[i] = stripes[i].readLock();
+        }
+      }
+      try {
+        collect(keys, filter, found);
+      } finally {
+        for (int i = stripes.length - 1; i >= 0; i--) {
+          if (used[i]) {
+            stripes[i].unlockRead(stamps[i]);
+          }
+        }
+      }
+    }
+    for (Entry<T> entry : found) {
+      consumer.accept(entry.value);
+    }
+    return found.size();
+  }
+
+  @SuppressWarnings("unchecked")
+  private void collect(long @Nullable [] keys, EntryFilter filter, List<Entry<T>> found) {
+    if (keys == null) {
+      for (Cell cell : cells.values()) {
+        for (Entry<?> entry : cell.entries) {
+          if (filter.test(entry)) {
+            found.add((Entry<T>) entry);
+          }
+        }
+      }
+      return;
+    }
+    for (long key : keys) {
+      Cell cell = cells.get(key);
+      if (cell == null) {
+        continue;
+      }
+      for (Entry<?> entry : cell.entries) {
+        if (filter.test(entry)) {
+          found.add((Entry<T>) entry);
+        }
+      }
+    }
+  }
+
+  private void removeFromCell(Entry<T> entry) {
+    Cell cell = cells.get(entry.cell);
+    if (cell != null && cell.remove(entry)) {
+      cells.remove(entry.cell, cell);
+    }
+  }
+
+  private long cellKey(double x, double y, double z) {
+    return cellKey(cell(x), cell(y), cell(z));
+  }
+
+  // The cast clamps coordinates beyond the int range instead of wrapping around
+  private int cell(double coordinate) {
+    return (int) Math.floor(coordinate * inverseCellSize);
+  }
+
+  private int stripe(long cellKey) {
+    long h = cellKey * 0x9E3779B97F4A7C15L;
+    return (int) (h >>> 40) & (stripes.length - 1);
+  }
+
+  private static long cellKey(int x, int y, int z) {
+    return ((x & KEY_MASK) << (2 * KEY_BITS)) | ((z & KEY_MASK) << KEY_BITS) | (y & KEY_MASK);
+  }
+
+  @FunctionalInterface
+  private interface EntryFilter {
+    boolean test(Entry<?> entry);
+  }
+
+  // Identity equality matters, a value can return to the exact same position while another thread is moving it
+  private static final class Entry<T> {
+    private final T value;
+    private final double x;
+    private final double y;
+    private final double z;
+    private final long cell;
+
+    private Entry(T value, double x, double y, double z, long cell) {
+      this.value = value;
+      this.x = x;
+      this.y = y;
+      this.z = z;
+      this.cell = cell;
+    }
+  }
+
+  // Copy on write, so optimistic readers always see a complete array
+  private static final class Cell {
+    private static final Entry<?>[] EMPTY = new Entry<?>[0];
+
+    private volatile Entry<?>[] entries = EMPTY;
+
+    private void add(Entry<?> entry) {
+      Entry<?>[] current = entries;
+      Entry<?>[] next = Arrays.copyOf(current, current.length + 1);
+      next[current.length] = entry;
+      entries = next;
+    }
+
+    /**
+     * Remove an entry.
+     * @return true if the cell is now empty
+     */
+    private boolean remove(Entry<?> entry) {
+      Entry<?>[] current = entries;
+      for (int i = 0; i < current.length; i++) {
+        if (current[i] == entry) {
+          Entry<?>[] next = new Entry<?>[current.length - 1];
+          System.arraycopy(current, 0, next, 0, i);
+          System.arraycopy(current, i + 1, next, i, current.length - i - 1);
+          entries = next;
+          return next.length == 0;
+        }
+      }
+      return current.length == 0;
+    }
+  }
+}
@@ -0,0 +1,240 @@
+/*
+ * Copyright 2020-2025 Moros
+ *
+ * This file is part of Math.
+ *
+ * Math is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Math is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Math. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package me.moros.math.spatial;
+
+import java.util.Objects;
+
+import me.moros.math.Position;
+
+/**
+ * Selects the k nearest points to an origin from points stored in primitive arrays.
+ * <p>Candidates are kept in a bounded max-heap keyed by squared distance, so each point costs at most a few
+ * comparisons and points further than the current k-th nearest are rejected early.
+ * Points at equal distance are ranked by index, so the selection is the same as the first k points of a stable sort by
+ * distance. Instances are reusable and do not allocate after construction, but they are not thread-safe.
+ */
+public final class NearestSelector {
+  private final int capacity;
+  private final int[] indices;
+  private final double[] distances;
+  private int size;
+
+  /**
+   * Create a selector for up to k nearest points.
+   * @param k the maximum amount of points to select
+   * @throws IllegalArgumentException if k is negative
+   */
+  public NearestSelector(int k) {
+    if (k < 0) {
+      throw new IllegalArgumentException("k must be non-negative, found " + k);
+    }
+    this.capacity = k;
+    this.indices = new int[k];
+    this.distances = new double[k];
+  }
+
+  /**
+   * Select the nearest points within a radius from points stored as consecutive xyz triples.
+   * @param origin the origin to measure distance from
+   * @param radius the maximum distance of selected points
+   * @param xyz the array of points
+   * @param offset the index of the first component
+   * @param count the amount of points
+   * @return the amount of selected points
+   * @throws IndexOutOfBoundsException if the range is out of bounds
+   */
+  public int select(Position origin, double radius, double[] xyz, int offset, int count) {
+    Objects.checkFromIndexSize(offset, 3L * count, xyz.length);
+    size = 0;
+    if (capacity == 0 || !(radius >= 0)) {
+      return 0;
+    }
+    double ox = origin.x();
+    double oy = origin.y();
+    double oz = origin.z();
+    double bound = radius * radius;
+    for (int i = 0; i < count; i++) {
+      int idx = offset + 3 * i;
+      double dx = xyz[idx] - ox;
+      double d = dx * dx;
+      if (d > bound) {
+        continue;
+      }
+      double dy = xyz[idx + 1] - oy;
+      d += dy * dy;
+      if (d > bound) {
+        continue;
+      }
+      double dz = xyz[idx + 2] - oz;
+      d += dz * dz;
+      if (d <= bound) {
+        bound = offer(i, d, bound);
+      }
+    }
+    return finish();
+  }
+
+  /**
+   * Select the nearest points within a radius from points stored in separate component arrays.
+   * @param origin the origin to measure distance from
+   * @param radius the maximum distance of selected points
+   * @param xs the array of x coordinates
+   * @param ys the array of y coordinates
+   * @param zs the array of z coordinates
+   * @param offset the index of the first point
+   * @param count the amount of points
+   * @return the amount of selected points
+   * @throws IndexOutOfBoundsException if any range is out of bounds
+   */
+  public int select(Position origin, double radius, double[] xs, double[] ys, double[] zs, int offset, int count) {
+    Objects.checkFromIndexSize(offset, count, xs.length);
+    Objects.checkFromIndexSize(offset, count, ys.length);
+    Objects.checkFromIndexSize(offset, count, zs.length);
+    size = 0;
+    if (capacity == 0 || !(radius >= 0)) {
+      return 0;
+    }
+    double ox = origin.x();
+    double oy = origin.y();
+    double oz = origin.z();
+    double bound = radius * radius;
+    for (int i = 0; i < count; i++) {
+      double dx = xs[offset + i] - ox;
+      double d = dx * dx;
+      if (d > bound) {
+        continue;
+      }
+      double dy = ys[offset + i] - oy;
+      d += dy * dy;
+      if (d > bound) {
+        continue;
+      }
+      double dz = zs[offset + i] - oz;
+      d += dz * dz;
+      if (d <= bound) {
+        bound = offer(i, d, bound);
+      }
+    }
+    return finish();
+  }
+
+  /**
+   * Get the amount of points selected by the last query.
+   * @return the amount of selected points
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Get the index of a selected point, relative to the first point of the queried range.
+   * Results are ordered by ascending distance.
+   * @param rank the rank of the selected point, 0 being the nearest
+   * @return the index of the selected point
+   * @throws IndexOutOfBoundsException if rank is not less than {@link #size()}
+   */
+  public int index(int rank) {
+    return indices[Objects.checkIndex(rank, size)];
+  }
+
+  /**
+   * Get the square of the distance of a selected point.
+   * @param rank the rank of the selected point, 0 being the nearest
+   * @return the squared distance of the selected point
+   * @throws IndexOutOfBoundsException if rank is not less than {@link #size()}
+   */
+  public double distanceSq(int rank) {
+    return distances[Objects.checkIndex(rank, size)];
+  }
+
+  /**
+   * Copy the indices of the selected points, ordered by ascending distance.
+   * @param out the array to store the indices in
+   * @param offset the index to store the first index at
+   * @return the amount of copied indices
+   * @throws IndexOutOfBoundsException if the array does not have enough space
+   */
+  public int indices(int[] out, int offset) {
+    Objects.checkFromIndexSize(offset, size, out.length);
+    System.arraycopy(indices, 0, out, offset, size);
+    return size;
+  }
+
+  // Returns the updated pruning bound
+  private double offer(int index, double distance, double bound) {
+    if (size < capacity) {
+      int i = size++;
+      while (i > 0) {
+        int parent = (i - 1) >>> 1;
+        // Earlier points rank lower than later ones at the same distance
+        if (distances[parent] > distance) {
+          break;
+        }
+        indices[i] = indices[parent];
+        distances[i] = distances[parent];
+        i = parent;
+      }
+      indices[i] = index;
+      distances[i] = distance;
+      return size == capacity ? distances[0] : bound;
+    }
+    // The offered point comes after every selected one, so it loses ties against the current k-th nearest
+    if (distance >= distances[0]) {
+      return bound;
+    }
+    siftDown(0, index, distance, size);
+    return distances[0];
+  }
+
+  private void siftDown(int i, int index, double distance, int length) {
+    int half = length >>> 1;
+    while (i < half) {
+      int child = 2 * i + 1;
+      int right = child + 1;
+      if (right < length && ranksAbove(distances[right], indices[right], distances[child], indices[child])) {
+        child = right;
+      }
+      if (ranksAbove(distance, index, distances[child], indices[child])) {
+        break;
+      }
+      indices[i] = indices[child];
+      distances[i] = distances[child];
+      i = child;
+    }
+    indices[i] = index;
+    distances[i] = distance;
+  }
+
+  private static boolean ranksAbove(double distance, int index, double otherDistance, int otherIndex) {
+    return distance > otherDistance || (distance == otherDistance && index > otherIndex);
+  }
+
+  // Heap sort in place so results are ordered by ascending distance
+  private int finish() {
+    for (int end = size - 1; end > 0; end--) {
+      int index = indices[end];
+      double distance = distances[end];
+      indices[end] = indices[0];
+      distances[end] = distances[0];
+      siftDown(0, index, distance, end);
+    }
+    return size;
+  }
+}
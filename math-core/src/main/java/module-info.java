@@ -1,6 +1,14 @@
 module me.moros.math {
   exports me.moros.math;
   exports me.moros.math.adapter;
+  exports me.moros.math.curve;
+  exports me.moros.math.function;
+  exports me.moros.math.geometry;
+  exports me.moros.math.io;
+  exports me.moros.math.region;
+  exports me.moros.math.shape;
+  exports me.moros.math.spatial;
 
-  requires static org.jspecify;
+  requires static jdk.jfr;
+  requires static transitive org.jspecify;
 }
@@ -0,0 +1,78 @@
+/*
+ * Copyright 2020-2025 Moros
+ *
+ * This file is part of Math.
+ *
+ * Math is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Math is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Math. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package me.moros.math;
+
+import java.lang.management.ManagementFactory;
+
+import com.sun.management.ThreadMXBean;
+import org.jspecify.annotations.Nullable;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Measures the bytes a thread allocates while repeatedly running an operation.
+ * <p>The allocationTest task disables escape analysis, so allocations the JIT would only scalar replace are still
+ * reported.
+ */
+final class AllocationAssertions {
+  private static final int WARMUP = 50_000;
+  private static final int ITERATIONS = 100_000;
+  private static final int ROUNDS = 5;
+  // Slack for allocations outside the measured operation, such as class loading or the bean call itself
+  private static final long TOLERANCE = 1024;
+
+  private static final @Nullable ThreadMXBean THREADS = threadBean();
+
+  private AllocationAssertions() {
+  }
+
+  /**
+   * Assert that an operation does not allocate once warmed up.
+   * @param name the name of the operation to include in failure messages
+   * @param operation the operation to measure
+   */
+  static void assertNoAllocation(String name, Runnable operation) {
+    ThreadMXBean threads = THREADS;
+    assumeTrue(threads != null, "Thread allocation accounting is not supported by this JVM");
+    for (int i = 0; i < WARMUP; i++) {
+      operation.run();
+    }
+    // Take the best round so one-off allocations, such as a deoptimization while measuring, do not cause failures
+    long allocated = Long.MAX_VALUE;
+    for (int round = 0; round < ROUNDS && allocated > TOLERANCE; round++) {
+      long before = threads.getCurrentThreadAllocatedBytes();
+      for (int i = 0; i < ITERATIONS; i++) {
+        operation.run();
+      }
+      allocated = Math.min(allocated, threads.getCurrentThreadAllocatedBytes() - before);
+    }
+    assertTrue(allocated <= TOLERANCE, name + " allocated " + allocated + " bytes over " + ITERATIONS + " calls");
+  }
+
+  private static @Nullable ThreadMXBean threadBean() {
+    if (ManagementFactory.getThreadMXBean() instanceof ThreadMXBean bean
+      && bean.isThreadAllocatedMemorySupported()) {
+      bean.setThreadAllocatedMemoryEnabled(true);
+      return bean;
+    }
+    return null;
+  }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright 2020-2025 Moros
+ *
+ * This file is part of Math.
+ *
+ * Math is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Math is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Math. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package me.moros.math;
+
+import me.moros.math.shape.ShapeTemplate;
+import me.moros.math.spatial.NearestSelector;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import static me.moros.math.AllocationAssertions.assertNoAllocation;
+
+/**
+ * Regression tests for methods that must stay allocation free. Results are accumulated into fields so the JIT cannot
+ * discard the measured calls.
+ * <p>These run in the allocationTest task instead of the regular test task.
+ */
+@Tag("allocation")
+class AllocationTest {
+  private final double[] in = new double[3 * 64];
+  private final double[] out = new double[3 * 64];
+  private final double[] xs = new double[64];
+  private final double[] ys = new double[64];
+  private final double[] zs = new double[64];
+  private final Vector3d a = Vector3d.of(1.5, -2.25, 3);
+  private final Vector3d b = Vector3d.of(-4, 0.5, 7.75);
+  private final Rotation rotation = Rotation.from(Vector3d.of(1, 2, 3), 0.75);
+  private double doubleSink;
+  private long longSink;
+
+  AllocationTest() {
+    for (int i = 0; i < in.length; i++) {
+      in[i] = i * 0.37 - 20;
+    }
+    for (int i = 0; i < xs.length; i++) {
+      xs[i] = in[3 * i];
+      ys[i] = in[3 * i + 1];
+      zs[i] = in[3 * i + 2];
+    }
+  }
+
+  @Test
+  void fastMath() {
+    assertNoAllocation("FastMath.floor", () -> longSink += FastMath.floor(doubleSink * 1e-9 - 3.5));
+    assertNoAllocation("FastMath.ceil", () -> longSink += FastMath.ceil(doubleSink * 1e-9 - 3.5));
+    assertNoAllocation("FastMath.round", () -> longSink += FastMath.round(doubleSink * 1e-9 - 3.5));
+  }
+
+  @Test
+  void positionQueries() {
+    assertNoAllocation("Position.distanceSq", () -> doubleSink += a.distanceSq(b));
+    assertNoAllocation("Position.distance", () -> doubleSink += a.distance(b));
+    assertNoAllocation("Vector3d.dot", () -> doubleSink += a.dot(b));
+    assertNoAllocation("Vector3d.lengthSq", () -> doubleSink += a.lengthSq());
+  }
+
+  @Test
+  void rotationArrays() {
+    assertNoAllocation("Rotation.applyTo(double[], double[])", () -> rotation.applyTo(in, out));
+    assertNoAllocation("Rotation.applyInverseTo(double[], double[])", () -> rotation.applyInverseTo(in, out));
+    assertNoAllocation("Rotation.applyTo bulk", () -> rotation.applyTo(in, 0, out, 0, 64));
+    assertNoAllocation("Rotation.applyInverseTo bulk", () -> rotation.applyInverseTo(in, 0, out, 0, 64));
+  }
+
+  @Test
+  void vectorArrays() {
+    assertNoAllocation("VectorArrays.add", () -> VectorArrays.add(in, 0, 1, 2, 3, out, 0, 64));
+    assertNoAllocation("VectorArrays.multiply", () -> VectorArrays.multiply(in, 0, 1, 2, 3, out, 0, 64));
+    assertNoAllocation("VectorArrays.normalize", () -> VectorArrays.normalize(in, 0, out, 0, 64));
+    assertNoAllocation("VectorArrays.floor", () -> VectorArrays.floor(in, 0, out, 0, 64));
+    assertNoAllocation("VectorArrays.distanceSq", () -> VectorArrays.distanceSq(a, in, 0, 64, out, 0));
+    assertNoAllocation("VectorArrays.distanceSq components", () -> VectorArrays.distanceSq(a, xs, ys, zs, 0, 64, out, 0));
+  }
+
+  @Test
+  void vectorPipeline() {
+    VectorPipeline pipeline = VectorPipeline.identity().subtract(a).rotate(rotation).normalize().multiply(4).floor();
+    assertNoAllocation("VectorPipeline.applyTo", () -> pipeline.applyTo(in, 0, out, 0, 64));
+  }
+
+  @Test
+  void nearestSelection() {
+    NearestSelector selector = new NearestSelector(8);
+    assertNoAllocation("NearestSelector.select", () -> longSink += selector.select(a, 50, in, 0, 64));
+    assertNoAllocation("NearestSelector.select components", () -> longSink += selector.select(a, 50, xs, ys, zs, 0, 64));
+  }
+
+  @Test
+  void packedPositions() {
+    assertNoAllocation("PackedPosition.pack", () -> longSink += PackedPosition.pack((int) longSink & 1023, 64, -7));
+    assertNoAllocation("PackedPosition.unpack", () -> longSink += PackedPosition.unpackX(longSink)
+      + PackedPosition.unpackY(longSink) + PackedPosition.unpackZ(longSink));
+  }
+
+  @Test
+  void shapeTemplates() {
+    ShapeTemplate sphere = ShapeTemplate.fibonacciSphere(64);
+    assertNoAllocation("ShapeTemplate.place", () -> longSink += sphere.place(a, 2, out, 0));
+    assertNoAllocation("ShapeTemplate.place rotated", () -> longSink += sphere.place(a, 2, rotation, out, 0));
+  }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2020-2025 Moros
+ *
+ * This file is part of Math.
+ *
+ * Math is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Math is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Math. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package me.moros.math;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ChunkUtilTest {
+  private static long[] sample() {
+    SplittableRandom random = new SplittableRandom(43);
+    long[] packed = new long[30_000];
+    for (int i = 0; i < packed.length; i++) {
+      int x = random.nextInt(-100, 100);
+      int y = random.nextInt(-64, 64);
+      int z = random.nextInt(-100, 100);
+      packed[i] = PackedPosition.pack(x, y, z);
+    }
+    packed[0] = PackedPosition.pack(-(1 << 25), -2048, -(1 << 25));
+    packed[1] = PackedPosition.pack((1 << 25) - 1, 2047, (1 << 25) - 1);
+    return packed;
+  }
+
+  private static long section(long packed) {
+    return PackedPosition.pack(ChunkUtil.toChunk(PackedPosition.unpackX(packed)),
+      ChunkUtil.toChunk(PackedPosition.unpackY(packed)), ChunkUtil.toChunk(PackedPosition.unpackZ(packed)));
+  }
+
+  @Test
+  void chunkKeyRoundTrip() {
+    int[] coords = {-(1 << 21), -1, 0, 1, (1 << 21) - 1};
+    for (int x : coords) {
+      for (int z : coords) {
+        long key = ChunkUtil.chunkKey(x, z);
+        assertEquals(x, ChunkUtil.chunkX(key));
+        assertEquals(z, ChunkUtil.chunkZ(key));
+      }
+    }
+    assertEquals(ChunkUtil.chunkKey(-1, 0), ChunkUtil.chunkKeyOfPacked(PackedPosition.pack(-1, 5, 15)));
+  }
+
+  @Test
+  void groupBySectionKeepsSectionsContiguous() {
+    long[] packed = sample();
+    long[] grouped = packed.clone();
+    int from = 7;
+    int to = grouped.length - 3;
+    ChunkUtil.groupBySection(grouped, from, to);
+    assertArrayEquals(Arrays.copyOfRange(packed, 0, from), Arrays.copyOfRange(grouped, 0, from));
+    Set<Long> seenSections = new HashSet<>();
+    Set<Long> seenChunks = new HashSet<>();
+    int[] total = {0};
+    ChunkUtil.forEachSection(grouped, from, to, (chunkX, sectionY, chunkZ, start, end) -> {
+      long key = PackedPosition.pack(chunkX, sectionY, chunkZ);
+      assertTrue(seenSections.add(key));
+      List<Long> expected = new ArrayList<>();
+      for (int i = from; i < to; i++) {
+        if (section(packed[i]) == key) {
+          expected.add(packed[i]);
+        }
+      }
+      assertEquals(expected.size(), end - start);
+      for (int i = start; i < end; i++) {
+        assertEquals((long) expected.get(i - start), grouped[i]);
+      }
+      total[0] += end - start;
+    });
+    assertEquals(to - from, total[0]);
+    ChunkUtil.forEachChunk(grouped, from, to, (chunkX, chunkZ, start, end) -> {
+      assertTrue(seenChunks.add(ChunkUtil.chunkKey(chunkX, chunkZ)));
+      for (int i = start; i < end; i++) {
+        assertEquals(ChunkUtil.chunkKey(chunkX, chunkZ), ChunkUtil.chunkKeyOfPacked(grouped[i]));
+      }
+    });
+  }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright 2020-2025 Moros
+ *
+ * This file is part of Math.
+ *
+ * Math is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Math is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Math. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package me.moros.math;
+
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DirectionTest {
+  private static final Direction[] VALUES = Direction.values();
+
+  // The first match wins ties, the loop VectorUtil.nearestFace used before the lookups were added
+  private static Direction bruteForce(Vector3d dir, int candidates) {
+    Vector3d normal = dir.normalize();
+    Direction result = VALUES[0];
+    double best = Double.MIN_VALUE;
+    for (int i = 0; i < candidates; i++) {
+      double dot = normal.dot(VALUES[i].toVector3d());
+      if (dot > best) {
+        best = dot;
+        result = VALUES[i];
+      }
+    }
+    return result;
+  }
+
+  private static void assertNearest(Direction expected, Direction actual, Vector3d dir, boolean exactTies) {
+    if (expected == actual) {
+      return;
+    }
+    Vector3d normal = dir.normalize();
+    double difference = Math.abs(normal.dot(expected.toVector3d()) - normal.dot(actual.toVector3d()));
+    // Rounding can only matter for near ties, exact ties must follow the documented order
+    assertTrue(!exactTies && difference < 1e-12, dir + " expected " + expected + " but was " + actual);
+  }
+
+  private static Vector3d[] samples() {
+    SplittableRandom random = new SplittableRandom(35);
+    Vector3d[] samples = new Vector3d[20_000];
+    for (int i = 0; i < samples.length; i++) {
+      // Small integer components produce many exact ties, the rest are arbitrary directions
+      samples[i] = i % 2 == 0
+        ? Vector3d.of(random.nextInt(-3, 4), random.nextInt(-3, 4), random.nextInt(-3, 4))
+        : Vector3d.of(random.nextDouble(-1, 1), random.nextDouble(-1, 1), random.nextDouble(-1, 1));
+    }
+    return samples;
+  }
+
+  @Test
+  void nearestFaceMatchesBruteForce() {
+    for (Vector3d dir : samples()) {
+      assertNearest(bruteForce(dir, 6), Direction.nearestFace(dir), dir, true);
+    }
+  }
+
+  @Test
+  void nearestFaceOrDiagonalMatchesBruteForce() {
+    for (Vector3d dir : samples()) {
+      assertNearest(bruteForce(dir, 10), Direction.nearestFaceOrDiagonal(dir), dir, false);
+    }
+  }
+
+  @Test
+  void nearestMatchesBruteForce() {
+    for (Vector3d dir : samples()) {
+      assertNearest(bruteForce(dir, VALUES.length), Direction.nearest(dir), dir, false);
+    }
+  }
+
+  @Test
+  void faceTiesPreferPositiveDirections() {
+    assertSame(Direction.UP, Direction.nearestFace(-1, 1, 0));
+    assertSame(Direction.EAST, Direction.nearestFace(1, -1, 0));
+    assertSame(Direction.SOUTH, Direction.nearestFace(-2, -1, 2));
+    assertSame(Direction.WEST, Direction.nearestFace(-1, -1, -1));
+    assertSame(Direction.UP, Direction.nearestFaceOrDiagonal(-1, 1, 0));
+    assertSame(Direction.EAST, Direction.nearestFace(0, 0, 0));
+    assertSame(Direction.EAST, Direction.nearest(Double.NaN, 1, 0));
+  }
+
+  @Test
+  void offsetsAndOpposites() {
+    for (Direction direction : VALUES) {
+      assertSame(direction, Direction.fromOffset(direction.x(), direction.y(), direction.z()));
+      assertSame(direction, direction.opposite().opposite());
+      assertEquals(Vector3i.ZERO, direction.toVector3i().add(direction.opposite().toVector3i()));
+      assertEquals(1, direction.toVector3d().length(), 1e-12);
+      assertEquals(direction.ordinal() < 6, direction.isFace());
+      for (int turns = 0; turns < 4; turns++) {
+        assertSame(direction, direction.rotateY(turns).rotateY(-turns));
+      }
+      assertSame(direction, direction.rotateX(1).rotateX(1).rotateX(1).rotateX(1));
+    }
+    assertSame(Direction.SOUTH, Direction.EAST.rotateY(-1));
+    assertThrows(IllegalArgumentException.class, () -> Direction.fromOffset(0, 0, 0));
+    assertThrows(IllegalArgumentException.class, () -> Direction.fromOffset(2, 0, 0));
+  }
+}
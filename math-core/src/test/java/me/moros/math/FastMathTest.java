@@ -0,0 +1,59 @@
+/*
+ * Copyright 2020-2025 Moros
+ *
+ * This file is part of Math.
+ *
+ * Math is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Math is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Math. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package me.moros.math;
+
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class FastMathTest {
+  private static final double TRIG_ERROR = 5e-5;
+
+  @Test
+  void sinCosMatchWithinErrorBound() {
+    SplittableRandom random = new SplittableRandom(44);
+    for (double magnitude : new double[]{10, 1e4, 1e6, 1e9}) {
+      for (int i = 0; i < 200_000; i++) {
+        double radians = random.nextDouble(-magnitude, magnitude);
+        assertEquals(Math.sin(radians), FastMath.sin(radians), TRIG_ERROR);
+        assertEquals(Math.cos(radians), FastMath.cos(radians), TRIG_ERROR);
+      }
+    }
+  }
+
+  @Test
+  void largeAnglesAreReduced() {
+    for (double radians : new double[]{205_887, 1e6, -1e6, 123_456_789.5}) {
+      assertEquals(Math.sin(radians), FastMath.sin(radians), TRIG_ERROR);
+      assertEquals(Math.cos(radians), FastMath.cos(radians), TRIG_ERROR);
+    }
+  }
+
+  @Test
+  void quarterTurnsRoundToExactEntries() {
+    assertEquals(0, FastMath.sin(0));
+    assertEquals(1, FastMath.cos(0));
+    assertEquals(1, FastMath.sin(Math.PI / 2));
+    assertEquals(-1, FastMath.sin(-Math.PI / 2));
+    assertEquals(-1, FastMath.cos(Math.PI));
+  }
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright 2020-2025 Moros
+ *
+ * This file is part of Math.
+ *
+ * Math is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Math is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Math. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package me.moros.math;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MortonCodeTest {
+  private static final int[] XZ = {-(1 << 25), -(1 << 25) + 1, -4097, -4096, -1, 0, 1, 4095, 4096, (1 << 25) - 1};
+  private static final int[] Y = {-2048, -2047, -1, 0, 1, 2046, 2047};
+
+  private static Set<List<Integer>> triples(int[] xyz, int offset, int count) {
+    return new HashSet<>(tripleList(xyz, offset, count));
+  }
+
+  private static List<List<Integer>> tripleList(int[] xyz, int offset, int count) {
+    List<List<Integer>> result = new ArrayList<>();
+    for (int i = 0; i < count; i++) {
+      int idx = offset + 3 * i;
+      result.add(List.of(xyz[idx], xyz[idx + 1], xyz[idx + 2]));
+    }
+    return result;
+  }
+
+  private static void assertRoundTrip(int x, int y, int z) {
+    long code = MortonCode.encode(x, y, z);
+    assertEquals(x, MortonCode.decodeX(code));
+    assertEquals(y, MortonCode.decodeY(code));
+    assertEquals(z, MortonCode.decodeZ(code));
+    long packed = PackedPosition.pack(x, y, z);
+    assertEquals(code, MortonCode.encodePacked(packed));
+    assertEquals(packed, MortonCode.decodePacked(code));
+  }
+
+  @Test
+  void boundaryRoundTrip() {
+    for (int x : XZ) {
+      for (int y : Y) {
+        for (int z : XZ) {
+          assertRoundTrip(x, y, z);
+        }
+      }
+    }
+    Vector3i pos = Vector3i.of(-(1 << 25), 2047, (1 << 25) - 1);
+    assertEquals(pos, MortonCode.decode(MortonCode.encode(pos)));
+  }
+
+  @Test
+  void randomRoundTrip() {
+    SplittableRandom random = new SplittableRandom(43);
+    for (int i = 0; i < 100_000; i++) {
+      assertRoundTrip(random.nextInt(-(1 << 25), 1 << 25), random.nextInt(-2048, 2048), random.nextInt(-(1 << 25), 1 << 25));
+    }
+  }
+
+  @Test
+  void codesOrderEachAxis() {
+    SplittableRandom random = new SplittableRandom(43);
+    for (int i = 0; i < 10_000; i++) {
+      int x = random.nextInt(-(1 << 25), (1 << 25) - 1);
+      int y = random.nextInt(-2048, 2047);
+      int z = random.nextInt(-(1 << 25), (1 << 25) - 1);
+      long code = MortonCode.encode(x, y, z);
+      assertTrue(Long.compareUnsigned(code, MortonCode.encode(x + 1, y, z)) < 0);
+      assertTrue(Long.compareUnsigned(code, MortonCode.encode(x, y + 1, z)) < 0);
+      assertTrue(Long.compareUnsigned(code, MortonCode.encode(x, y, z + 1)) < 0);
+    }
+  }
+
+  @Test
+  void sortOrdersByCode() {
+    SplittableRandom random = new SplittableRandom(43);
+    long[] packed = new long[20_000];
+    int[] xyz = new int[3 * packed.length];
+    for (int i = 0; i < packed.length; i++) {
+      int x = random.nextInt(-5000, 5000);
+      int y = random.nextInt(-2048, 2048);
+      int z = random.nextInt(-5000, 5000);
+      packed[i] = PackedPosition.pack(x, y, z);
+      xyz[3 * i] = x;
+      xyz[3 * i + 1] = y;
+      xyz[3 * i + 2] = z;
+    }
+    long[] sorted = packed.clone();
+    MortonCode.sort(sorted, 0, sorted.length);
+    MortonCode.sort(xyz, 0, packed.length);
+    for (int i = 1; i < sorted.length; i++) {
+      assertTrue(Long.compareUnsigned(MortonCode.encodePacked(sorted[i - 1]), MortonCode.encodePacked(sorted[i])) <= 0);
+    }
+    for (int i = 0; i < sorted.length; i++) {
+      assertEquals(sorted[i], PackedPosition.pack(xyz[3 * i], xyz[3 * i + 1], xyz[3 * i + 2]));
+    }
+    long[] expected = packed.clone();
+    Arrays.sort(expected);
+    Arrays.sort(sorted);
+    assertArrayEquals(expected, sorted);
+  }
+
+  @Test
+  void sortMovesOriginalTriples() {
+    int[] xyz = {
+      7, 7, 7,
+      1 << 25, 5000, Integer.MIN_VALUE,
+      0, 0, 0,
+      Integer.MAX_VALUE, -3000, 1 << 26,
+      0, 0, 0,
+      -1, -1, -1
+    };
+    int[] sorted = xyz.clone();
+    MortonCode.sort(sorted, 3, 4);
+    // Everything outside the range is untouched and the sorted range holds the same triples
+    assertArrayEquals(Arrays.copyOfRange(xyz, 0, 3), Arrays.copyOfRange(sorted, 0, 3));
+    assertArrayEquals(Arrays.copyOfRange(xyz, 15, 18), Arrays.copyOfRange(sorted, 15, 18));
+    assertEquals(Set.of(List.of(1 << 25, 5000, Integer.MIN_VALUE), List.of(0, 0, 0),
+      List.of(Integer.MAX_VALUE, -3000, 1 << 26)), triples(sorted, 3, 4));
+    assertEquals(2, Collections.frequency(tripleList(sorted, 3, 4), List.of(0, 0, 0)));
+  }
+
+  @Test
+  void sortRejectsInvalidRanges() {
+    assertThrows(IndexOutOfBoundsException.class, () -> MortonCode.sort(new int[6], 3, 2));
+    assertThrows(IndexOutOfBoundsException.class, () -> MortonCode.sort(new int[6], 0, 0x55555556));
+    assertThrows(IndexOutOfBoundsException.class, () -> MortonCode.sort(new long[4], 3, 2));
+  }
+}
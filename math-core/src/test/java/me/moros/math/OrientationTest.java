@@ -0,0 +1,130 @@
+/*
+ * Copyright 2020-2025 Moros
+ *
+ * This file is part of Math.
+ *
+ * Math is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Math is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Math. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package me.moros.math;
+
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class OrientationTest {
+  private static final double EPSILON = 1e-9;
+  private static final double FAST_COMPONENT_ERROR = 1e-4;
+  private static final double FAST_ANGLE_ERROR = 6e-4;
+  private static final double FAST_LOOK_ERROR = 5e-4;
+
+  private static void assertClose(Position expected, Position actual, double delta, String message) {
+    assertEquals(expected.x(), actual.x(), delta, message);
+    assertEquals(expected.y(), actual.y(), delta, message);
+    assertEquals(expected.z(), actual.z(), delta, message);
+  }
+
+  // Difference between two yaw angles in degrees, ignoring whole turns
+  private static double yawDelta(double a, double b) {
+    double delta = Math.abs(a - b) % 360;
+    return Math.min(delta, 360 - delta);
+  }
+
+  @Test
+  void directionMatchesRotatedForward() {
+    double[] out = new double[4];
+    for (double yaw = -540; yaw <= 540; yaw += 15) {
+      for (double pitch = -90; pitch <= 90; pitch += 7.5) {
+        String message = "yaw " + yaw + ", pitch " + pitch;
+        Vector3d direction = Orientation.direction(yaw, pitch);
+        assertEquals(1, direction.length(), EPSILON, message);
+        assertClose(direction, Orientation.rotation(yaw, pitch).applyTo(Vector3d.PLUS_K), EPSILON, message);
+        Orientation.direction(yaw, pitch, out, 1);
+        assertArrayEquals(new double[]{0, direction.x(), direction.y(), direction.z()}, out);
+      }
+    }
+    // Minecraft conventions: yaw 90 faces negative x and positive pitch faces down
+    assertClose(Vector3d.PLUS_K, Orientation.direction(0, 0), EPSILON, "forward");
+    assertClose(Vector3d.MINUS_I, Orientation.direction(90, 0), EPSILON, "yaw 90");
+    assertClose(Vector3d.MINUS_J, Orientation.direction(0, 90), EPSILON, "pitch 90");
+  }
+
+  @Test
+  void anglesRoundTrip() {
+    SplittableRandom random = new SplittableRandom(44);
+    for (int i = 0; i < 10_000; i++) {
+      double yaw = random.nextDouble(-180, 180);
+      double pitch = random.nextDouble(-89.9, 89.9);
+      String message = "yaw " + yaw + ", pitch " + pitch;
+      Vector3d direction = Orientation.direction(yaw, pitch).multiply(random.nextDouble(0.1, 10));
+      assertEquals(0, yawDelta(yaw, Orientation.yaw(direction)), 1e-9, message);
+      assertEquals(pitch, Orientation.pitch(direction), 1e-9, message);
+      Rotation rotation = Orientation.rotation(yaw, pitch);
+      assertEquals(0, yawDelta(yaw, Orientation.yaw(rotation)), 1e-9, message);
+      assertEquals(pitch, Orientation.pitch(rotation), 1e-9, message);
+    }
+  }
+
+  @Test
+  void lookAtHasNoRoll() {
+    SplittableRandom random = new SplittableRandom(4444);
+    for (int i = 0; i < 10_000; i++) {
+      Vector3d eye = Vector3d.of(random.nextDouble(-50, 50), random.nextDouble(-50, 50), random.nextDouble(-50, 50));
+      Vector3d target = Vector3d.of(random.nextDouble(-50, 50), random.nextDouble(-50, 50), random.nextDouble(-50, 50));
+      Vector3d forward = target.subtract(eye).normalize();
+      if (Math.abs(forward.y()) > 0.999) {
+        continue;
+      }
+      String message = "eye " + eye + ", target " + target;
+      Rotation rotation = Orientation.lookAt(eye, target);
+      assertClose(forward, rotation.applyTo(Vector3d.PLUS_K), 1e-9, message);
+      // Without roll the local x axis stays horizontal and the local y axis keeps pointing up
+      assertEquals(0, rotation.applyTo(Vector3d.PLUS_I).y(), 1e-9, message);
+      assertTrue(rotation.applyTo(Vector3d.PLUS_J).y() > 0, message);
+      assertClose(forward, Orientation.fastLookAt(eye, target).applyTo(Vector3d.PLUS_K), FAST_LOOK_ERROR, message);
+    }
+  }
+
+  @Test
+  void fastVariantsStayWithinBounds() {
+    SplittableRandom random = new SplittableRandom(44444);
+    double[] precise = new double[3];
+    double[] fast = new double[3];
+    for (int i = 0; i < 100_000; i++) {
+      double yaw = random.nextDouble(-720, 720);
+      double pitch = random.nextDouble(-90, 90);
+      String message = "yaw " + yaw + ", pitch " + pitch;
+      assertClose(Orientation.direction(yaw, pitch), Orientation.fastDirection(yaw, pitch), FAST_COMPONENT_ERROR,
+        message);
+      Orientation.direction(yaw, pitch, precise, 0);
+      Orientation.fastDirection(yaw, pitch, fast, 0);
+      assertArrayEquals(precise, fast, FAST_COMPONENT_ERROR, message);
+      Rotation expected = Orientation.rotation(yaw, pitch);
+      Rotation actual = Orientation.fastRotation(yaw, pitch);
+      assertEquals(expected.q0(), actual.q0(), FAST_COMPONENT_ERROR, message);
+      assertEquals(expected.q1(), actual.q1(), FAST_COMPONENT_ERROR, message);
+      assertEquals(expected.q2(), actual.q2(), FAST_COMPONENT_ERROR, message);
+      assertEquals(expected.q3(), actual.q3(), FAST_COMPONENT_ERROR, message);
+      double x = random.nextDouble(-1, 1);
+      double y = random.nextDouble(-1, 1);
+      double z = random.nextDouble(-1, 1);
+      assertEquals(0, yawDelta(Orientation.yaw(x, z), Orientation.fastYaw(x, z)), FAST_ANGLE_ERROR);
+      assertEquals(Orientation.pitch(x, y, z), Orientation.fastPitch(x, y, z), FAST_ANGLE_ERROR);
+    }
+  }
+}
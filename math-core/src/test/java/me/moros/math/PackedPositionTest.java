@@ -0,0 +1,89 @@
+/*
+ * Copyright 2020-2025 Moros
+ *
+ * This file is part of Math.
+ *
+ * Math is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Math is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Math. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package me.moros.math;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class PackedPositionTest {
+  private static final int MIN_XZ = -(1 << 25);
+  private static final int MAX_XZ = (1 << 25) - 1;
+  private static final int MIN_Y = -(1 << 11);
+  private static final int MAX_Y = (1 << 11) - 1;
+
+  @Test
+  void boundaryRoundTrip() {
+    int[] xz = {MIN_XZ, MIN_XZ + 1, -1, 0, 1, MAX_XZ - 1, MAX_XZ};
+    int[] ys = {MIN_Y, MIN_Y + 1, -64, -1, 0, 1, 319, MAX_Y};
+    for (int x : xz) {
+      for (int y : ys) {
+        for (int z : xz) {
+          assertRoundTrip(x, y, z);
+        }
+      }
+    }
+  }
+
+  @Test
+  void randomRoundTrip() {
+    SplittableRandom random = new SplittableRandom(26);
+    for (int i = 0; i < 100_000; i++) {
+      assertRoundTrip(random.nextInt(MIN_XZ, MAX_XZ + 1), random.nextInt(MIN_Y, MAX_Y + 1), random.nextInt(MIN_XZ, MAX_XZ + 1));
+    }
+  }
+
+  @Test
+  void vectorRoundTrip() {
+    Vector3i v = Vector3i.of(-123456, -64, 7654321);
+    assertEquals(v, Vector3i.unpack(v.pack()));
+  }
+
+  @Test
+  void sortOrder() {
+    long[] packed = {
+      PackedPosition.pack(1, 0, 0),
+      PackedPosition.pack(0, -1, 0),
+      PackedPosition.pack(0, 5, -1),
+      PackedPosition.pack(-1, 0, 0),
+      PackedPosition.pack(0, 5, 3)
+    };
+    Arrays.sort(packed);
+    long[] expected = {
+      PackedPosition.pack(-1, 0, 0),
+      PackedPosition.pack(0, -1, 0), // negative y sorts after non-negative y, but z = 0 comes first
+      PackedPosition.pack(0, 5, 3),
+      PackedPosition.pack(0, 5, -1), // negative z sorts after non-negative z
+      PackedPosition.pack(1, 0, 0)
+    };
+    assertArrayEquals(expected, packed);
+  }
+
+  private static void assertRoundTrip(int x, int y, int z) {
+    long packed = PackedPosition.pack(x, y, z);
+    assertEquals(x, PackedPosition.unpackX(packed));
+    assertEquals(y, PackedPosition.unpackY(packed));
+    assertEquals(z, PackedPosition.unpackZ(packed));
+  }
+}
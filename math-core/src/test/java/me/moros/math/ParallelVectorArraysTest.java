@@ -0,0 +1,110 @@
+/*
+ * Copyright 2020-2025 Moros
+ *
+ * This file is part of Math.
+ *
+ * Math is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Math is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Math. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package me.moros.math;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ParallelVectorArraysTest {
+  private static final Rotation ROTATION = Rotation.from(Vector3d.of(1, 2, 3).normalize(), 0.7);
+  private static final Vector3d ORIGIN = Vector3d.of(3, -1, 2);
+  private static final VectorPipeline PIPELINE = VectorPipeline.identity().subtract(ORIGIN).rotate(ROTATION)
+    .normalize();
+
+  private static double[] random(int length) {
+    SplittableRandom random = new SplittableRandom(32);
+    double[] values = new double[length];
+    for (int i = 0; i < length; i++) {
+      values[i] = random.nextDouble(-1000, 1000);
+    }
+    return values;
+  }
+
+  // Runs every operation on a range that starts at an offset and compares the whole output array bit for bit
+  private static void assertMatchesSequential(ParallelVectorArrays parallel, int count) {
+    int offset = 3;
+    double[] in = random(offset + 3 * count);
+    assertSame(in, count, (out, o) -> VectorArrays.add(in, offset, 1, -2, 0.5, out, o, count),
+      (out, o) -> parallel.add(in, offset, 1, -2, 0.5, out, o, count));
+    assertSame(in, count, (out, o) -> VectorArrays.subtract(in, offset, 1, -2, 0.5, out, o, count),
+      (out, o) -> parallel.subtract(in, offset, 1, -2, 0.5, out, o, count));
+    assertSame(in, count, (out, o) -> VectorArrays.multiply(in, offset, 2, 0.5, -1, out, o, count),
+      (out, o) -> parallel.multiply(in, offset, 2, 0.5, -1, out, o, count));
+    assertSame(in, count, (out, o) -> VectorArrays.normalize(in, offset, out, o, count),
+      (out, o) -> parallel.normalize(in, offset, out, o, count));
+    assertSame(in, count, (out, o) -> VectorArrays.floor(in, offset, out, o, count),
+      (out, o) -> parallel.floor(in, offset, out, o, count));
+    assertSame(in, count, (out, o) -> ROTATION.applyTo(in, offset, out, o, count),
+      (out, o) -> parallel.rotate(ROTATION, in, offset, out, o, count));
+    assertSame(in, count, (out, o) -> ROTATION.applyInverseTo(in, offset, out, o, count),
+      (out, o) -> parallel.rotateInverse(ROTATION, in, offset, out, o, count));
+    assertSame(in, count, (out, o) -> PIPELINE.applyTo(in, offset, out, o, count),
+      (out, o) -> parallel.apply(PIPELINE, in, offset, out, o, count));
+    assertSame(in, count, (out, o) -> VectorArrays.distanceSq(ORIGIN, in, offset, count, out, o),
+      (out, o) -> parallel.distanceSq(ORIGIN, in, offset, count, out, o));
+  }
+
+  private static void assertSame(double[] in, int count, Operation sequential, Operation parallel) {
+    double[] expected = new double[in.length + 1];
+    double[] actual = new double[in.length + 1];
+    sequential.apply(expected, 1);
+    parallel.apply(actual, 1);
+    assertArrayEquals(expected, actual, "count " + count);
+  }
+
+  @Test
+  void commonPoolAroundDefaultThreshold() {
+    int threshold = ParallelVectorArrays.DEFAULT_THRESHOLD;
+    for (int count : new int[]{0, 1, threshold - 1, threshold, threshold + 1, 2 * threshold, 3 * threshold + 7}) {
+      assertMatchesSequential(ParallelVectorArrays.common(), count);
+    }
+  }
+
+  @Test
+  void customPoolAndThreshold() {
+    ForkJoinPool pool = new ForkJoinPool(3);
+    try {
+      ParallelVectorArrays parallel = ParallelVectorArrays.of(pool, 7);
+      for (int count = 0; count <= 100; count++) {
+        assertMatchesSequential(parallel, count);
+      }
+      assertMatchesSequential(parallel, 12_345);
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+  @Test
+  void rejectsInvalidArguments() {
+    assertThrows(IllegalArgumentException.class, () -> ParallelVectorArrays.of(ForkJoinPool.commonPool(), 0));
+    assertThrows(IndexOutOfBoundsException.class,
+      () -> ParallelVectorArrays.common().normalize(new double[6], 0, new double[6], 0, 0x55555556));
+  }
+
+  @FunctionalInterface
+  private interface Operation {
+    void apply(double[] out, int outOffset);
+  }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2020-2025 Moros
+ *
+ * This file is part of Math.
+ *
+ * Math is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Math is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Math. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package me.moros.math;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RotationTest {
+  private static final Rotation ROTATION = Rotation.from(Vector3d.of(1, 2, 3), 0.75);
+
+  @Test
+  void bulkMatchesSingleVectors() {
+    double[] in = {1, 2, 3, -4, 5.5, 0, 0.25, -7, 9};
+    double[] out = new double[in.length];
+    double[] inverse = new double[in.length];
+    ROTATION.applyTo(in, 0, out, 0, 3);
+    ROTATION.applyInverseTo(in, 0, inverse, 0, 3);
+    for (int i = 0; i < in.length; i += 3) {
+      Vector3d expected = ROTATION.applyTo(in[i], in[i + 1], in[i + 2]);
+      assertEquals(expected.x(), out[i], 1e-12);
+      assertEquals(expected.y(), out[i + 1], 1e-12);
+      assertEquals(expected.z(), out[i + 2], 1e-12);
+      Vector3d expectedInverse = ROTATION.applyInverseTo(in[i], in[i + 1], in[i + 2]);
+      assertEquals(expectedInverse.x(), inverse[i], 1e-12);
+      assertEquals(expectedInverse.y(), inverse[i + 1], 1e-12);
+      assertEquals(expectedInverse.z(), inverse[i + 2], 1e-12);
+    }
+  }
+
+  @Test
+  void bulkInPlaceWithEqualOffsets() {
+    double[] in = {9, 1, 2, 3, -4, 5.5, 0};
+    double[] expected = in.clone();
+    ROTATION.applyTo(in, 1, expected, 1, 2);
+    ROTATION.applyTo(in, 1, in, 1, 2);
+    assertArrayEquals(expected, in);
+  }
+
+  @Test
+  void bulkRejectsOverflowingCount() {
+    double[] in = {1, 2, 3, 4, 5, 6};
+    double[] out = new double[6];
+    // 3 * count wraps around to 2, which fits both arrays if the range is computed with int arithmetic
+    int count = 0x55555556;
+    assertThrows(IndexOutOfBoundsException.class, () -> ROTATION.applyTo(in, 0, out, 0, count));
+    assertThrows(IndexOutOfBoundsException.class, () -> ROTATION.applyInverseTo(in, 0, out, 0, count));
+    assertArrayEquals(new double[6], out);
+  }
+
+  @Test
+  void rotationBetweenNamesZeroVector() {
+    Vector3d zero = Vector3d.ZERO;
+    Vector3d unit = Vector3d.PLUS_I;
+    String fromMessage = assertThrows(IllegalArgumentException.class, () -> Rotation.between(zero, unit)).getMessage();
+    assertTrue(fromMessage.contains("from"), fromMessage);
+    String toMessage = assertThrows(IllegalArgumentException.class, () -> Rotation.between(unit, zero)).getMessage();
+    assertTrue(toMessage.contains("to a zero"), toMessage);
+  }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2020-2025 Moros
+ *
+ * This file is part of Math.
+ *
+ * Math is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Math is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Math. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package me.moros.math;
+
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class VectorArraysTest {
+  private static double[] random(int length, long seed) {
+    SplittableRandom random = new SplittableRandom(seed);
+    double[] values = new double[length];
+    for (int i = 0; i < length; i++) {
+      values[i] = random.nextDouble(-100, 100);
+    }
+    return values;
+  }
+
+  @Test
+  void distanceSqMatchesPosition() {
+    Vector3d origin = Vector3d.of(1.5, -2, 7.25);
+    double[] xyz = random(3 * 50 + 3, 31);
+    double[] xs = new double[50];
+    double[] ys = new double[50];
+    double[] zs = new double[50];
+    double[] out = new double[52];
+    double[] split = new double[52];
+    for (int i = 0; i < 50; i++) {
+      xs[i] = xyz[3 + 3 * i];
+      ys[i] = xyz[4 + 3 * i];
+      zs[i] = xyz[5 + 3 * i];
+    }
+    VectorArrays.distanceSq(origin, xyz, 3, 50, out, 2);
+    VectorArrays.distanceSq(origin, xs, ys, zs, 0, 50, split, 2);
+    for (int i = 0; i < 50; i++) {
+      double expected = origin.distanceSq(Vector3d.of(xs[i], ys[i], zs[i]));
+      assertEquals(expected, out[2 + i]);
+      assertEquals(expected, split[2 + i]);
+    }
+    assertEquals(0, out[0]);
+    assertEquals(0, split[1]);
+  }
+
+  @Test
+  void distanceSqRejectsInvalidRanges() {
+    double[] xyz = new double[6];
+    assertThrows(IndexOutOfBoundsException.class, () -> VectorArrays.distanceSq(Vector3d.ZERO, xyz, 0, 3, new double[3], 0));
+    assertThrows(IndexOutOfBoundsException.class, () -> VectorArrays.distanceSq(Vector3d.ZERO, xyz, 0, 2, new double[1], 0));
+    assertThrows(IndexOutOfBoundsException.class,
+      () -> VectorArrays.distanceSq(Vector3d.ZERO, xyz, 0, 0x55555556, new double[2], 0));
+  }
+}
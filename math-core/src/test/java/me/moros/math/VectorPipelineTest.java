@@ -0,0 +1,116 @@
+/*
+ * Copyright 2020-2025 Moros
+ *
+ * This file is part of Math.
+ *
+ * Math is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Math is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Math. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package me.moros.math;
+
+import java.lang.reflect.Proxy;
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class VectorPipelineTest {
+  private static final Rotation ROTATION = Rotation.from(Vector3d.of(1, 2, 3).normalize(), 0.7);
+  private static final Vector3d OFFSET = Vector3d.of(0.5, -2, 3.25);
+
+  private static double[] random(int count) {
+    SplittableRandom random = new SplittableRandom(38);
+    double[] values = new double[3 * count];
+    for (int i = 0; i < values.length; i++) {
+      values[i] = random.nextDouble(-100, 100);
+    }
+    return values;
+  }
+
+  // The step-by-step chain the pipeline in assertMatchesChain must reproduce bit for bit
+  private static Vector3d chain(Vector3d v, Rotation rotation) {
+    return rotation.applyInverseTo(rotation.applyTo(v.subtract(OFFSET).multiply(2, 0.5, -3)).normalize().multiply(8))
+      .add(OFFSET).floor();
+  }
+
+  private static void assertMatchesChain(Rotation rotation) {
+    VectorPipeline pipeline = VectorPipeline.identity().subtract(OFFSET).multiply(2, 0.5, -3)
+      .rotate(rotation).normalize().multiply(8).rotateInverse(rotation).add(OFFSET).floor();
+    assertEquals(8, pipeline.size());
+    int count = 64;
+    double[] in = random(count);
+    // Includes a vector that becomes zero before the normalize stage
+    in[0] = OFFSET.x();
+    in[1] = OFFSET.y();
+    in[2] = OFFSET.z();
+    double[] expected = new double[in.length];
+    for (int i = 0; i < in.length; i += 3) {
+      Vector3d result = chain(Vector3d.of(in[i], in[i + 1], in[i + 2]), rotation);
+      expected[i] = result.x();
+      expected[i + 1] = result.y();
+      expected[i + 2] = result.z();
+    }
+    double[] out = new double[in.length];
+    pipeline.applyTo(in, 0, out, 0, count);
+    assertArrayEquals(expected, out);
+    pipeline.applyTo(in, 0, in, 0, count);
+    assertArrayEquals(expected, in);
+  }
+
+  @Test
+  void matchesStepByStepChain() {
+    assertMatchesChain(ROTATION);
+  }
+
+  @Test
+  void customRotationFallsBackToItsOwnImplementation() {
+    // A rotation that is not a DoubleQuaternion, so the pipeline cannot inline it
+    Rotation custom = (Rotation) Proxy.newProxyInstance(Rotation.class.getClassLoader(), new Class<?>[]{Rotation.class},
+      (proxy, method, args) -> method.invoke(ROTATION, args));
+    assertMatchesChain(custom);
+  }
+
+  @Test
+  void normalizeDefaultsZeroVectors() {
+    VectorPipeline pipeline = VectorPipeline.identity().normalize();
+    assertEquals(Vector3d.ZERO.normalize(), pipeline.apply(Vector3d.ZERO));
+    assertEquals(Vector3d.PLUS_I, pipeline.apply(Vector3d.ZERO));
+    assertEquals(Vector3d.of(3, 4, 0).normalize(), pipeline.apply(Vector3d.of(3, 4, 0)));
+  }
+
+  @Test
+  void identityAndConcatenation() {
+    Vector3d v = Vector3d.of(1.5, -2, 7);
+    assertEquals(v, VectorPipeline.identity().apply(v));
+    VectorPipeline first = VectorPipeline.identity().add(1, 2, 3).rotate(ROTATION);
+    VectorPipeline second = VectorPipeline.identity().multiply(0.5).floor();
+    VectorPipeline combined = first.andThen(second);
+    assertEquals(4, combined.size());
+    assertEquals(second.apply(first.apply(v)), combined.apply(v));
+    assertSame(first, first.andThen(VectorPipeline.identity()));
+  }
+
+  @Test
+  void rejectsOutOfBoundsRanges() {
+    VectorPipeline pipeline = VectorPipeline.identity().add(1, 1, 1);
+    double[] xyz = new double[9];
+    assertThrows(IndexOutOfBoundsException.class, () -> pipeline.applyTo(xyz, 3, xyz, 0, 3));
+    assertThrows(IndexOutOfBoundsException.class, () -> pipeline.applyTo(xyz, 0, xyz, -1, 1));
+    assertThrows(IndexOutOfBoundsException.class, () -> pipeline.applyTo(xyz, 0, xyz, 0, 0x55555556));
+  }
+}
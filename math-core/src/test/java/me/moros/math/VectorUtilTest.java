@@ -0,0 +1,133 @@
+/*
+ * Copyright 2020-2025 Moros
+ *
+ * This file is part of Math.
+ *
+ * Math is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Math is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Math. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package me.moros.math;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.stream.StreamSupport;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class VectorUtilTest {
+  private static List<Vector3i> rasterize(Vector3i start, Vector3i end) {
+    List<Vector3i> blocks = new ArrayList<>();
+    int count = VectorUtil.rasterizeLine(start, end, (x, y, z) -> blocks.add(Vector3i.of(x, y, z)));
+    assertEquals(blocks.size(), count);
+    return blocks;
+  }
+
+  private static int maxComponentDistance(Vector3i a, Vector3i b) {
+    return Math.max(Math.abs(a.blockX() - b.blockX()), Math.max(Math.abs(a.blockY() - b.blockY()),
+      Math.abs(a.blockZ() - b.blockZ())));
+  }
+
+  @Test
+  void rasterizedLineVisitsEachStepOnce() {
+    SplittableRandom random = new SplittableRandom(30);
+    for (int i = 0; i < 2_000; i++) {
+      Vector3i start = Vector3i.of(random.nextInt(-50, 50), random.nextInt(-50, 50), random.nextInt(-50, 50));
+      Vector3i end = Vector3i.of(random.nextInt(-50, 50), random.nextInt(-50, 50), random.nextInt(-50, 50));
+      List<Vector3i> blocks = rasterize(start, end);
+      assertEquals(maxComponentDistance(start, end) + 1, blocks.size());
+      assertEquals(start, blocks.get(0));
+      assertEquals(end, blocks.get(blocks.size() - 1));
+      for (int j = 1; j < blocks.size(); j++) {
+        // Every step moves to one of the 26 neighbours, so no block repeats and the line has no gaps
+        assertEquals(1, maxComponentDistance(blocks.get(j - 1), blocks.get(j)));
+      }
+    }
+  }
+
+  @Test
+  void rasterizedLineMatchesSpliterator() {
+    Vector3i start = Vector3i.of(-7, 64, 12);
+    Vector3i end = Vector3i.of(25, 50, -3);
+    List<Vector3i> lazy = StreamSupport.stream(VectorUtil.rasterizeLine(start, end), false).toList();
+    assertEquals(rasterize(start, end), lazy);
+    assertEquals(lazy.size(), VectorUtil.rasterizeLine(start, end).estimateSize());
+  }
+
+  @Test
+  void rasterizedLineOfSingleBlock() {
+    Vector3i block = Vector3i.of(3, -4, 5);
+    assertEquals(List.of(block), rasterize(block, block));
+  }
+
+  @Test
+  void rasterizedLineAtCoordinateExtremes() {
+    Vector3i start = Vector3i.of(Integer.MAX_VALUE - 3, 0, Integer.MIN_VALUE);
+    Vector3i end = Vector3i.of(Integer.MAX_VALUE, 2, Integer.MIN_VALUE + 1);
+    List<Vector3i> blocks = rasterize(start, end);
+    assertEquals(4, blocks.size());
+    assertEquals(start, blocks.get(0));
+    assertEquals(end, blocks.get(3));
+  }
+
+  @Test
+  void sampledLineKeepsSpacing() {
+    Vector3d start = Vector3d.of(1, 2, 3);
+    Vector3d end = Vector3d.of(4, 6, 3);
+    // The segment is 5 long, so a spacing of 0.75 yields 7 points with the last one 0.5 short of end
+    assertEquals(7, VectorUtil.sampleCount(start, end, 0.75));
+    double[] out = new double[3 * 7 + 1];
+    assertEquals(7, VectorUtil.sampleLine(start, end, 0.75, out, 1));
+    List<Vector3d> points = new ArrayList<>();
+    VectorUtil.sampleLine(start, end, 0.75, (x, y, z) -> points.add(Vector3d.of(x, y, z)));
+    assertEquals(StreamSupport.stream(VectorUtil.sampleLine(start, end, 0.75), false).toList(), points);
+    for (int i = 0; i < points.size(); i++) {
+      Vector3d point = points.get(i);
+      assertArrayEquals(point.toArray(), new double[]{out[1 + 3 * i], out[2 + 3 * i], out[3 + 3 * i]});
+      assertEquals(0.75 * i, start.distance(point), 1e-9);
+    }
+    assertTrue(points.get(6).distance(end) < 0.75);
+  }
+
+  @Test
+  void sampledLineOfZeroLength() {
+    Vector3d point = Vector3d.of(1, 2, 3);
+    List<Vector3d> points = new ArrayList<>();
+    assertEquals(1, VectorUtil.sampleLine(point, point, 0.5, (x, y, z) -> points.add(Vector3d.of(x, y, z))));
+    assertEquals(List.of(point), points);
+  }
+
+  @Test
+  void sampledLineRejectsInvalidSpacing() {
+    Vector3d start = Vector3d.ZERO;
+    Vector3d end = Vector3d.PLUS_I;
+    assertThrows(IllegalArgumentException.class, () -> VectorUtil.sampleCount(start, end, 0));
+    assertThrows(IllegalArgumentException.class, () -> VectorUtil.sampleCount(start, end, Double.NaN));
+    assertThrows(IndexOutOfBoundsException.class, () -> VectorUtil.sampleLine(start, end, 0.5, new double[8], 0));
+  }
+
+  @Test
+  void nearestFaceKeepsTieOrder() {
+    assertEquals(Vector3d.PLUS_J, VectorUtil.nearestFace(Vector3d.of(-1, 1, 0)));
+    assertEquals(Vector3d.PLUS_I, VectorUtil.nearestFace(Vector3d.of(1, 1, 0)));
+    assertEquals(Vector3d.MINUS_I, VectorUtil.nearestFace(Vector3d.of(-1, -1, 0)));
+    assertEquals(Vector3d.PLUS_I, VectorUtil.nearestFace(Vector3d.ZERO));
+    assertEquals(Vector3d.of(-1, 0, 1).normalize(), VectorUtil.nearestFace(Vector3d.of(-3, 1, 2.5)));
+  }
+}
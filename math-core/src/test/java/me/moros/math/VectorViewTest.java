@@ -0,0 +1,107 @@
+/*
+ * Copyright 2020-2025 Moros
+ *
+ * This file is part of Math.
+ *
+ * Math is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Math is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Math. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package me.moros.math;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class VectorViewTest {
+  @Test
+  void doubleViewsEqualLibraryVectors() {
+    Vector3d vector = Vector3d.of(1, 2.5, -3);
+    Vector3d view = new DoubleView(new Native(1, 2.5, -3));
+    assertEquals(vector, view);
+    assertEquals(view, vector);
+    assertEquals(vector.hashCode(), view.hashCode());
+    assertEquals(vector.toString(), view.toString());
+    assertNotEquals(Vector3d.of(1, 2.5, 3), view);
+    assertNotEquals(view, Vector3i.of(1, 2, -3));
+  }
+
+  @Test
+  void intViewsEqualLibraryVectors() {
+    Vector3i vector = Vector3i.of(1, 2, -4);
+    Vector3i view = new IntView(new Native(1.5, 2.25, -3.5));
+    assertEquals(vector, view);
+    assertEquals(view, vector);
+    assertEquals(vector.hashCode(), view.hashCode());
+    assertEquals(vector.toString(), view.toString());
+  }
+
+  @Test
+  void snapshotsDetachFromTheView() {
+    Vector3d vector = Vector3d.of(1, 2, 3);
+    assertSame(vector, vector.snapshot());
+    Vector3d view = new DoubleView(new Native(1, 2, 3));
+    Vector3d snapshot = view.snapshot();
+    assertInstanceOf(DoublePoint.class, snapshot);
+    assertEquals(view, snapshot);
+    assertInstanceOf(IntPoint.class, new IntView(new Native(1, 2, 3)).snapshot());
+  }
+
+  private record Native(double x, double y, double z) {
+  }
+
+  private static final class DoubleView extends Vector3dView<Native> {
+    private DoubleView(Native handle) {
+      super(handle);
+    }
+
+    @Override
+    public double x() {
+      return handle.x();
+    }
+
+    @Override
+    public double y() {
+      return handle.y();
+    }
+
+    @Override
+    public double z() {
+      return handle.z();
+    }
+  }
+
+  private static final class IntView extends Vector3iView<Native> {
+    private IntView(Native handle) {
+      super(handle);
+    }
+
+    @Override
+    public int blockX() {
+      return FastMath.floor(handle.x());
+    }
+
+    @Override
+    public int blockY() {
+      return FastMath.floor(handle.y());
+    }
+
+    @Override
+    public int blockZ() {
+      return FastMath.floor(handle.z());
+    }
+  }
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright 2020-2025 Moros
+ *
+ * This file is part of Math.
+ *
+ * Math is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Math is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Math. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package me.moros.math.adapter;
+
+import me.moros.math.Vector3d;
+import me.moros.math.Vector3dView;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class AdaptersTest {
+  @Test
+  void adaptsSubtypesOfRegisteredTypes() {
+    Adapters<Vector3d> adapters = Adapters.vector3d();
+    adapters.registerAdapter(Point.class, p -> Vector3d.of(p.x, p.y, p.z));
+    assertEquals(Vector3d.of(1, 2, 3), adapters.adapt(new Point(1, 2, 3)));
+    assertEquals(Vector3d.of(4, 5, 6), adapters.adapt(new NamedPoint(4, 5, 6)));
+  }
+
+  @Test
+  void missingAdapterIsReportedUntilRegistered() {
+    Adapters<Vector3d> adapters = Adapters.vector3d();
+    Unregistered value = new UnregisteredChild(7);
+    assertThrows(IllegalArgumentException.class, () -> adapters.adapt(value));
+    // The failed lookup is cached and must not hide an adapter registered afterwards for a supertype
+    assertThrows(IllegalArgumentException.class, () -> adapters.adapt(value));
+    adapters.registerAdapter(Unregistered.class, u -> Vector3d.of(u.value, u.value, u.value));
+    assertEquals(Vector3d.of(7, 7, 7), adapters.adapt(value));
+  }
+
+  @Test
+  void viewFallsBackToCopyUntilRegistered() {
+    Adapters<Vector3d> adapters = Adapters.vector3d();
+    adapters.registerAdapter(Viewed.class, v -> Vector3d.of(v.value, v.value, v.value));
+    Viewed value = new Viewed(2);
+    assertFalse(adapters.view(value) instanceof Vector3dView);
+    adapters.registerView(Viewed.class, ViewedView::new);
+    Vector3d view = adapters.view(value);
+    assertInstanceOf(ViewedView.class, view);
+    assertEquals(Vector3d.of(2, 2, 2), view);
+  }
+
+  private static class Point {
+    private final double x;
+    private final double y;
+    private final double z;
+
+    private Point(double x, double y, double z) {
+      this.x = x;
+      this.y = y;
+      this.z = z;
+    }
+  }
+
+  private static final class NamedPoint extends Point {
+    private NamedPoint(double x, double y, double z) {
+      super(x, y, z);
+    }
+  }
+
+  private static class Unregistered {
+    private final double value;
+
+    private Unregistered(double value) {
+      this.value = value;
+    }
+  }
+
+  private static final class Viewed {
+    private final double value;
+
+    private Viewed(double value) {
+      this.value = value;
+    }
+  }
+
+  private static final class ViewedView extends Vector3dView<Viewed> {
+    private ViewedView(Viewed handle) {
+      super(handle);
+    }
+
+    @Override
+    public double x() {
+      return handle.value;
+    }
+
+    @Override
+    public double y() {
+      return handle.value;
+    }
+
+    @Override
+    public double z() {
+      return handle.value;
+    }
+  }
+
+  private static final class UnregisteredChild extends Unregistered {
+    private UnregisteredChild(double value) {
+      super(value);
+    }
+  }
+}
@@ -0,0 +1,187 @@
+/*
+ * Copyright 2020-2025 Moros
+ *
+ * This file is part of Math.
+ *
+ * Math is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Math is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Math. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package me.moros.math.curve;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import me.moros.math.Position;
+import me.moros.math.Vector3d;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SplineTest {
+  private static final double EPSILON = 1e-9;
+  private static final List<Vector3d> POINTS = List.of(Vector3d.of(0, 64, 0), Vector3d.of(4, 70, 2),
+    Vector3d.of(10, 66, -3), Vector3d.of(12, 64, 6), Vector3d.of(20, 72, 8), Vector3d.of(22, 65, 1));
+
+  private static List<Spline> splines() {
+    return List.of(
+      Spline.quadraticBezier(POINTS.get(0), POINTS.get(1), POINTS.get(2)),
+      Spline.cubicBezier(POINTS.get(0), POINTS.get(1), POINTS.get(2), POINTS.get(3)),
+      Spline.catmullRom(POINTS),
+      Spline.bSpline(POINTS)
+    );
+  }
+
+  private static void assertClose(Position expected, Position actual, double delta, String message) {
+    assertEquals(expected.x(), actual.x(), delta, message);
+    assertEquals(expected.y(), actual.y(), delta, message);
+    assertEquals(expected.z(), actual.z(), delta, message);
+  }
+
+  // Reference arc length from the start to a parameter, measured along a finely subdivided polyline
+  private static double polylineLength(Spline spline, double t) {
+    int steps = 20_000;
+    double length = 0;
+    Vector3d previous = spline.at(0);
+    for (int i = 1; i <= steps; i++) {
+      Vector3d current = spline.at(t * i / steps);
+      length += current.distance(previous);
+      previous = current;
+    }
+    return length;
+  }
+
+  @Test
+  void interpolatesEndpoints() {
+    Spline quadratic = Spline.quadraticBezier(POINTS.get(0), POINTS.get(1), POINTS.get(2));
+    assertClose(POINTS.get(0), quadratic.at(0), EPSILON, "quadratic start");
+    assertClose(POINTS.get(2), quadratic.at(1), EPSILON, "quadratic end");
+    Spline cubic = Spline.cubicBezier(POINTS.get(0), POINTS.get(1), POINTS.get(2), POINTS.get(3));
+    assertClose(POINTS.get(0), cubic.at(0), EPSILON, "cubic start");
+    assertClose(POINTS.get(3), cubic.at(1), EPSILON, "cubic end");
+    // Bezier tangents at the endpoints point towards the adjacent control points
+    assertClose(POINTS.get(1).subtract(POINTS.get(0)).multiply(3), cubic.derivative(0), EPSILON, "cubic tangent");
+
+    Spline catmullRom = Spline.catmullRom(POINTS);
+    assertEquals(POINTS.size() - 1, catmullRom.segments());
+    for (int i = 0; i < POINTS.size(); i++) {
+      assertClose(POINTS.get(i), catmullRom.at((double) i / catmullRom.segments()), EPSILON, "point " + i);
+    }
+
+    Spline bSpline = Spline.bSpline(POINTS);
+    assertEquals(POINTS.size() - 3, bSpline.segments());
+    Vector3d start = POINTS.get(0).add(POINTS.get(1).multiply(4)).add(POINTS.get(2)).multiply(1 / 6.0);
+    assertClose(start, bSpline.at(0), EPSILON, "b-spline start");
+
+    for (Spline spline : splines()) {
+      assertClose(spline.at(0), spline.at(-3), 0, "clamped below");
+      assertClose(spline.at(1), spline.at(7), 0, "clamped above");
+      assertClose(spline.at(0), spline.atDistance(0), EPSILON, "distance 0");
+      assertClose(spline.at(1), spline.atDistance(spline.length()), EPSILON, "full length");
+      assertClose(spline.at(1), spline.atDistance(spline.length() + 5), 0, "past the end");
+    }
+  }
+
+  @Test
+  void twoPointCatmullRomIsStraight() {
+    Vector3d a = Vector3d.of(1, 2, 3);
+    Vector3d b = Vector3d.of(7, -2, 5);
+    Spline spline = Spline.catmullRom(List.of(a, b));
+    assertEquals(a.distance(b), spline.length(), EPSILON);
+    assertClose(a.add(b).multiply(0.5), spline.at(0.5), EPSILON, "midpoint");
+  }
+
+  @Test
+  void derivativeMatchesFiniteDifference() {
+    double h = 1e-6;
+    for (Spline spline : splines()) {
+      for (double t = 0.05; t < 1; t += 0.1) {
+        Vector3d expected = spline.at(t + h).subtract(spline.at(t - h)).multiply(1 / (2 * h));
+        assertClose(expected, spline.derivative(t), 1e-4, spline + " at " + t);
+      }
+    }
+  }
+
+  @Test
+  void lengthMatchesPolyline() {
+    for (Spline spline : splines()) {
+      assertEquals(polylineLength(spline, 1), spline.length(), 1e-5 * spline.length(), spline.toString());
+    }
+  }
+
+  @Test
+  void distanceParameterizationIsArcLength() {
+    for (Spline spline : splines()) {
+      double length = spline.length();
+      double previous = 0;
+      for (int i = 1; i < 20; i++) {
+        double distance = length * i / 20;
+        double t = spline.parameterAt(distance);
+        assertTrue(t > previous, spline + " parameters must increase");
+        previous = t;
+        assertEquals(distance, polylineLength(spline, t), 1e-5 * length, spline + " at " + distance);
+      }
+    }
+  }
+
+  @Test
+  void uniformSpeedAlongStraightLine() {
+    // Control points bunched near the end make the parameter speed vary strongly along the line
+    Spline spline = Spline.quadraticBezier(Vector3d.ZERO, Vector3d.of(9, 0, 0), Vector3d.of(10, 0, 0));
+    assertEquals(10, spline.length(), EPSILON);
+    for (double d = 0; d <= 10; d += 0.25) {
+      assertClose(Vector3d.of(d, 0, 0), spline.atDistance(d), 1e-5 * spline.length(), "distance " + d);
+    }
+  }
+
+  @Test
+  void samplesAreEvenlySpaced() {
+    double spacing = 0.05;
+    for (Spline spline : splines()) {
+      int count = spline.sampleCount(spacing);
+      assertEquals((int) Math.floor(spline.length() / spacing) + 1, count);
+      double[] out = new double[3 * count + 2];
+      assertEquals(count, spline.sample(spacing, out, 2));
+      List<Vector3d> consumed = new ArrayList<>();
+      assertEquals(count, spline.sample(spacing, (x, y, z) -> consumed.add(Vector3d.of(x, y, z))));
+      assertEquals(count, consumed.size());
+      double[] expected = new double[3];
+      for (int i = 0; i < count; i++) {
+        spline.atDistance(i * spacing, expected, 0);
+        double[] actual = {out[2 + 3 * i], out[3 + 3 * i], out[4 + 3 * i]};
+        assertArrayEquals(expected, actual, 1e-9);
+        assertClose(Vector3d.of(actual[0], actual[1], actual[2]), consumed.get(i), 0, "consumer " + i);
+        if (i > 0) {
+          // Chords of short arcs are nearly as long as the arcs themselves
+          double chord = Vector3d.of(out[3 * i - 1], out[3 * i], out[3 * i + 1]).distance(consumed.get(i));
+          assertEquals(spacing, chord, 1e-4, spline + " sample " + i);
+        }
+      }
+    }
+  }
+
+  @Test
+  void invalidInput() {
+    Spline spline = splines().get(1);
+    assertThrows(IllegalArgumentException.class, () -> spline.sampleCount(0));
+    assertThrows(IllegalArgumentException.class, () -> spline.sampleCount(Double.NaN));
+    assertThrows(IllegalArgumentException.class, () -> spline.sample(-1, new double[3], 0));
+    assertThrows(IndexOutOfBoundsException.class, () -> spline.sample(0.5, new double[3], 0));
+    assertThrows(IndexOutOfBoundsException.class, () -> spline.at(0.5, new double[3], 1));
+    assertThrows(IllegalArgumentException.class, () -> Spline.catmullRom(List.of(Vector3d.ZERO)));
+    assertThrows(IllegalArgumentException.class, () -> Spline.bSpline(POINTS.subList(0, 3)));
+  }
+}
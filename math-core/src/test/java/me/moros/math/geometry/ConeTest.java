@@ -0,0 +1,145 @@
+/*
+ * Copyright 2020-2025 Moros
+ *
+ * This file is part of Math.
+ *
+ * Math is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Math is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Math. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package me.moros.math.geometry;
+
+import java.util.SplittableRandom;
+
+import me.moros.math.Rotation;
+import me.moros.math.Vector3d;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ConeTest {
+  private static final Vector3d APEX = Vector3d.of(2, -1, 0.5);
+  private static final Vector3d DIRECTION = Vector3d.of(1, 2, 3);
+  private static final double[] HALF_ANGLES = {0.1, 0.7, Math.PI / 2, 2.2, Math.PI};
+
+  // A unit vector at the given angle from the normalized cone axis
+  private static Vector3d atAngle(Vector3d axis, double angle, double spin) {
+    Vector3d side = axis.cross(Vector3d.PLUS_I).normalize();
+    Vector3d tilted = Rotation.from(side, angle).applyTo(axis);
+    return Rotation.from(axis, spin).applyTo(tilted);
+  }
+
+  @Test
+  void containsMatchesAngleAndDistance() {
+    SplittableRandom random = new SplittableRandom(40);
+    for (double halfAngle : HALF_ANGLES) {
+      Cone cone = Cone.of(APEX, DIRECTION, halfAngle, 1.5, 6);
+      Vector3d axis = cone.direction();
+      for (int i = 0; i < 2000; i++) {
+        Vector3d v = Vector3d.of(random.nextDouble(-7, 7), random.nextDouble(-7, 7), random.nextDouble(-7, 7));
+        double length = v.length();
+        double angle = Math.acos(Math.max(-1, Math.min(1, v.dot(axis) / length)));
+        if (Math.abs(angle - halfAngle) < 1e-9 || Math.abs(length - 1.5) < 1e-9 || Math.abs(length - 6) < 1e-9) {
+          continue;
+        }
+        boolean expected = angle <= halfAngle && length >= 1.5 && length <= 6;
+        assertEquals(expected, cone.contains(APEX.add(v)), "half-angle " + halfAngle + ", offset " + v);
+      }
+    }
+  }
+
+  @Test
+  void surfaceSeparatesInsideFromOutside() {
+    for (double halfAngle : HALF_ANGLES) {
+      Cone cone = Cone.of(APEX, DIRECTION, halfAngle, 4);
+      Vector3d axis = cone.direction();
+      for (double spin = 0; spin < 2 * Math.PI; spin += 0.5) {
+        assertTrue(cone.contains(APEX.add(atAngle(axis, halfAngle - 1e-6, spin).multiply(3))),
+          "half-angle " + halfAngle + ", spin " + spin);
+        if (halfAngle < Math.PI) {
+          assertFalse(cone.contains(APEX.add(atAngle(axis, halfAngle + 1e-6, spin).multiply(3))),
+            "half-angle " + halfAngle + ", spin " + spin);
+        }
+      }
+    }
+  }
+
+  @Test
+  void fullAngleContainsEveryPointInRange() {
+    Cone cone = Cone.of(APEX, DIRECTION, Math.PI, 2, 5);
+    SplittableRandom random = new SplittableRandom(4040);
+    for (int i = 0; i < 1000; i++) {
+      Vector3d dir = Vector3d.of(random.nextDouble(-1, 1), random.nextDouble(-1, 1), random.nextDouble(-1, 1));
+      assertTrue(cone.contains(APEX.add(dir.normalize().multiply(random.nextDouble(2, 5)))));
+    }
+    assertTrue(cone.contains(APEX.subtract(cone.direction().multiply(3))));
+  }
+
+  @Test
+  void rangeLimitsAreInclusive() {
+    Cone cone = Cone.of(Vector3d.ZERO, Vector3d.PLUS_I, 0.5, 2, 5);
+    assertTrue(cone.contains(2, 0, 0));
+    assertTrue(cone.contains(5, 0, 0));
+    assertFalse(cone.contains(Math.nextDown(2.0), 0, 0));
+    assertFalse(cone.contains(Math.nextUp(5.0), 0, 0));
+    // A zero minimum range includes the apex itself
+    assertTrue(Cone.of(Vector3d.ZERO, Vector3d.PLUS_I, 0.5, 5).contains(Vector3d.ZERO));
+    assertFalse(cone.contains(Vector3d.ZERO));
+  }
+
+  @Test
+  void bulkMatchesSinglePoints() {
+    SplittableRandom random = new SplittableRandom(404);
+    Cone cone = Cone.of(APEX, DIRECTION, 0.9, 1, 8);
+    int count = 500;
+    double[] xyz = new double[3 + 3 * count];
+    double[] xs = new double[1 + count];
+    double[] ys = new double[1 + count];
+    double[] zs = new double[1 + count];
+    for (int i = 0; i < count; i++) {
+      xs[1 + i] = xyz[3 + 3 * i] = random.nextDouble(-8, 8);
+      ys[1 + i] = xyz[4 + 3 * i] = random.nextDouble(-8, 8);
+      zs[1 + i] = xyz[5 + 3 * i] = random.nextDouble(-8, 8);
+    }
+    int[] out = new int[count + 1];
+    int[] components = new int[count + 1];
+    int hits = cone.contains(xyz, 3, count, out, 1);
+    assertEquals(hits, cone.contains(xs, ys, zs, 1, count, components, 1));
+    int next = 0;
+    for (int i = 0; i < count; i++) {
+      if (cone.contains(xs[1 + i], ys[1 + i], zs[1 + i])) {
+        assertEquals(i, out[1 + next]);
+        assertEquals(i, components[1 + next]);
+        next++;
+      }
+    }
+    assertEquals(next, hits);
+    assertTrue(hits > 0);
+  }
+
+  @Test
+  void rejectsInvalidArguments() {
+    assertThrows(IllegalArgumentException.class, () -> Cone.of(APEX, Vector3d.ZERO, 0.5, 1));
+    assertThrows(IllegalArgumentException.class, () -> Cone.of(APEX, DIRECTION, -0.1, 1));
+    assertThrows(IllegalArgumentException.class, () -> Cone.of(APEX, DIRECTION, Math.nextUp(Math.PI), 1));
+    assertThrows(IllegalArgumentException.class, () -> Cone.of(APEX, DIRECTION, Double.NaN, 1));
+    assertThrows(IllegalArgumentException.class, () -> Cone.of(APEX, DIRECTION, 0.5, 2, 1));
+    assertThrows(IllegalArgumentException.class, () -> Cone.of(APEX, DIRECTION, 0.5, -1, 1));
+    Cone cone = Cone.of(APEX, DIRECTION, 0.5, 1);
+    assertThrows(IndexOutOfBoundsException.class, () -> cone.contains(new double[3], 0, 2, new int[2], 0));
+    assertThrows(IndexOutOfBoundsException.class, () -> cone.contains(new double[3], 0, 0x55555556, new int[1], 0));
+  }
+}
@@ -0,0 +1,232 @@
+/*
+ * Copyright 2020-2025 Moros
+ *
+ * This file is part of Math.
+ *
+ * Math is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Math is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Math. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package me.moros.math.geometry;
+
+import java.util.SplittableRandom;
+
+import me.moros.math.Rotation;
+import me.moros.math.Vector3d;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class OBBTest {
+  private static final Rotation IDENTITY = Rotation.from(Vector3d.PLUS_J, 0);
+  private static final Vector3d[] LOCAL_AXES = {Vector3d.PLUS_I, Vector3d.PLUS_J, Vector3d.PLUS_K};
+
+  private static OBB randomBox(SplittableRandom random) {
+    Vector3d center = Vector3d.of(random.nextDouble(-3, 3), random.nextDouble(-3, 3), random.nextDouble(-3, 3));
+    Vector3d half = Vector3d.of(random.nextDouble(0.2, 2), random.nextDouble(0.2, 2), random.nextDouble(0.2, 2));
+    Vector3d axis = Vector3d.of(random.nextDouble(-1, 1), random.nextDouble(-1, 1), random.nextDouble(-1, 1));
+    return OBB.of(center, half, Rotation.from(axis.normalize(), random.nextDouble(-Math.PI, Math.PI)));
+  }
+
+  private static Vector3d[] corners(OBB box) {
+    Vector3d[] corners = new Vector3d[8];
+    Vector3d h = box.halfExtents();
+    for (int i = 0; i < 8; i++) {
+      Vector3d local = Vector3d.of((i & 1) == 0 ? -h.x() : h.x(), (i & 2) == 0 ? -h.y() : h.y(),
+        (i & 4) == 0 ? -h.z() : h.z());
+      corners[i] = box.rotation().applyTo(local).add(box.center());
+    }
+    return corners;
+  }
+
+  private static Vector3d samplePoint(OBB box, SplittableRandom random) {
+    Vector3d h = box.halfExtents();
+    Vector3d local = Vector3d.of(random.nextDouble(-1, 1) * h.x(), random.nextDouble(-1, 1) * h.y(),
+      random.nextDouble(-1, 1) * h.z());
+    return box.rotation().applyTo(local).add(box.center());
+  }
+
+  /**
+   * Brute force separating axis test in world space that projects all corners on all 15 axes.
+   * @return the largest gap between projections, positive if the boxes are separated
+   */
+  private static double largestGap(OBB a, OBB b) {
+    Vector3d[] axes = new Vector3d[15];
+    for (int i = 0; i < 3; i++) {
+      axes[i] = a.rotation().applyTo(LOCAL_AXES[i]);
+      axes[3 + i] = b.rotation().applyTo(LOCAL_AXES[i]);
+    }
+    for (int i = 0; i < 3; i++) {
+      for (int j = 0; j < 3; j++) {
+        axes[6 + 3 * i + j] = axes[i].cross(axes[3 + j]);
+      }
+    }
+    Vector3d[] ca = corners(a);
+    Vector3d[] cb = corners(b);
+    double gap = Double.NEGATIVE_INFINITY;
+    for (Vector3d axis : axes) {
+      if (axis.lengthSq() < 1e-12) {
+        continue;
+      }
+      Vector3d n = axis.normalize();
+      gap = Math.max(gap, Math.max(min(ca, n) - max(cb, n), min(cb, n) - max(ca, n)));
+    }
+    return gap;
+  }
+
+  private static double min(Vector3d[] corners, Vector3d axis) {
+    double min = Double.POSITIVE_INFINITY;
+    for (Vector3d c : corners) {
+      min = Math.min(min, c.dot(axis));
+    }
+    return min;
+  }
+
+  private static double max(Vector3d[] corners, Vector3d axis) {
+    double max = Double.NEGATIVE_INFINITY;
+    for (Vector3d c : corners) {
+      max = Math.max(max, c.dot(axis));
+    }
+    return max;
+  }
+
+  @Test
+  void intersectsMatchesBruteForce() {
+    SplittableRandom random = new SplittableRandom(39);
+    int overlapping = 0;
+    for (int i = 0; i < 2000; i++) {
+      OBB a = randomBox(random);
+      OBB b = randomBox(random);
+      double gap = largestGap(a, b);
+      if (Math.abs(gap) < 1e-6) {
+        continue;
+      }
+      boolean expected = gap < 0;
+      overlapping += expected ? 1 : 0;
+      assertEquals(expected, a.intersects(b), "boxes " + a + " and " + b);
+      assertEquals(expected, b.intersects(a), "boxes " + b + " and " + a);
+    }
+    // Both outcomes must be well represented for the comparison to mean anything
+    assertTrue(overlapping > 400 && overlapping < 1600, "overlapping pairs " + overlapping);
+  }
+
+  @Test
+  void sampledOverlapAgreesWithIntersects() {
+    SplittableRandom random = new SplittableRandom(3939);
+    for (int i = 0; i < 300; i++) {
+      OBB a = randomBox(random);
+      OBB b = randomBox(random);
+      boolean shared = false;
+      for (int s = 0; s < 2000 && !shared; s++) {
+        shared = b.contains(samplePoint(a, random));
+      }
+      // A shared sample proves overlap, separated boxes must never share one
+      if (shared) {
+        assertTrue(a.intersects(b), "boxes " + a + " and " + b);
+      } else if (!a.intersects(b)) {
+        assertTrue(largestGap(a, b) > -1e-9, "boxes " + a + " and " + b);
+      }
+    }
+  }
+
+  @Test
+  void axisAlignedBoxesMatchOrientedBoxes() {
+    SplittableRandom random = new SplittableRandom(391);
+    int count = 500;
+    double[] boxes = new double[6 * count + 6];
+    boolean[] expected = new boolean[count];
+    OBB box = randomBox(random);
+    for (int i = 0; i < count; i++) {
+      OBB other = randomBox(random);
+      AABB aabb = AABB.of(other.center().subtract(other.halfExtents()), other.center().add(other.halfExtents()));
+      expected[i] = box.intersects(OBB.of(aabb, IDENTITY));
+      assertEquals(expected[i], box.intersects(aabb));
+      int idx = 6 + 6 * i;
+      boxes[idx] = aabb.min().x();
+      boxes[idx + 1] = aabb.min().y();
+      boxes[idx + 2] = aabb.min().z();
+      boxes[idx + 3] = aabb.max().x();
+      boxes[idx + 4] = aabb.max().y();
+      boxes[idx + 5] = aabb.max().z();
+    }
+    int[] out = new int[count + 1];
+    int hits = box.intersects(boxes, 6, count, out, 1);
+    int next = 0;
+    for (int i = 0; i < count; i++) {
+      if (expected[i]) {
+        assertEquals(i, out[1 + next++]);
+      }
+    }
+    assertEquals(next, hits);
+  }
+
+  @Test
+  void touchingBoxesDoNotIntersect() {
+    OBB a = OBB.of(Vector3d.ZERO, Vector3d.of(1, 1, 1), IDENTITY);
+    assertFalse(a.intersects(a.at(Vector3d.of(2, 0, 0))));
+    assertTrue(a.intersects(a.at(Vector3d.of(1.999, 0, 0))));
+    // Parallel edges must not report a separation that does not exist
+    Rotation quarter = Rotation.from(Vector3d.PLUS_J, Math.PI / 2);
+    assertTrue(a.intersects(OBB.of(Vector3d.of(0.5, 0.5, 0.5), Vector3d.of(1, 1, 1), quarter)));
+  }
+
+  @Test
+  void raycastHitsRotatedBox() {
+    OBB box = OBB.of(Vector3d.ZERO, Vector3d.of(1, 1, 1), Rotation.from(Vector3d.PLUS_J, Math.PI / 4));
+    assertEquals(5 - Math.sqrt(2), box.raycast(Vector3d.of(-5, 0, 0), Vector3d.PLUS_I), 1e-12);
+    // The direction does not need to be normalized
+    assertEquals((5 - Math.sqrt(2)) / 4, box.raycast(Vector3d.of(-5, 0, 0), Vector3d.of(4, 0, 0)), 1e-12);
+    assertEquals(0, box.raycast(Vector3d.of(0.2, 0.5, -0.1), Vector3d.of(1, 2, 3)));
+    assertTrue(Double.isNaN(box.raycast(Vector3d.of(-5, 0, 0), Vector3d.MINUS_I)));
+    assertTrue(Double.isNaN(box.raycast(Vector3d.of(-5, 1.5, 0), Vector3d.PLUS_I)));
+  }
+
+  @Test
+  void raycastMatchesMarching() {
+    SplittableRandom random = new SplittableRandom(39039);
+    for (int i = 0; i < 300; i++) {
+      OBB box = randomBox(random);
+      Vector3d origin = Vector3d.of(random.nextDouble(-8, 8), random.nextDouble(-8, 8), random.nextDouble(-8, 8));
+      Vector3d target = samplePoint(i % 2 == 0 ? box : randomBox(random), random);
+      Vector3d dir = target.subtract(origin).normalize();
+      double t = box.raycast(origin, dir);
+      double marched = Double.NaN;
+      for (int s = 0; s <= 40000; s++) {
+        if (box.contains(origin.add(dir.multiply(s * 1e-3)))) {
+          marched = s * 1e-3;
+          break;
+        }
+      }
+      if (Double.isNaN(t)) {
+        assertTrue(Double.isNaN(marched), "ray from " + origin + " to " + target + " entered at " + marched);
+      } else {
+        assertTrue(box.contains(origin.add(dir.multiply(t + 1e-9))) || t == 0, "entry " + t);
+        if (!Double.isNaN(marched)) {
+          assertEquals(marched, t, 1e-3);
+        }
+      }
+    }
+  }
+
+  @Test
+  void rejectsInvalidInput() {
+    assertThrows(IllegalArgumentException.class, () -> OBB.of(Vector3d.ZERO, Vector3d.of(1, -1, 1), IDENTITY));
+    OBB box = OBB.of(Vector3d.ZERO, Vector3d.of(1, 1, 1), IDENTITY);
+    assertThrows(IndexOutOfBoundsException.class, () -> box.intersects(new double[6], 0, 2, new int[2], 0));
+    assertThrows(IndexOutOfBoundsException.class, () -> box.intersects(new double[12], 0, 2, new int[1], 0));
+    assertThrows(IndexOutOfBoundsException.class, () -> box.intersects(new double[6], 0, 0x2AAAAAAB, new int[1], 0));
+  }
+}
@@ -0,0 +1,221 @@
+/*
+ * Copyright 2020-2025 Moros
+ *
+ * This file is part of Math.
+ *
+ * Math is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Math is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Math. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package me.moros.math.geometry;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+import me.moros.math.Vector3d;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RayTest {
+  private static final double EPSILON = 1e-9;
+  private static final Vector3d A = Vector3d.of(0, 0, 5);
+  private static final Vector3d B = Vector3d.of(4, 0, 5);
+  private static final Vector3d C = Vector3d.of(0, 4, 5);
+
+  private static Vector3d random(SplittableRandom random, double range) {
+    return Vector3d.of(random.nextDouble(-range, range), random.nextDouble(-range, range),
+      random.nextDouble(-range, range));
+  }
+
+  private static void assertMiss(double distance) {
+    assertTrue(Double.isNaN(distance), "expected a miss, found " + distance);
+  }
+
+  @Test
+  void normalizesDirection() {
+    Ray ray = Ray.of(Vector3d.of(1, 2, 3), Vector3d.of(0, 0, 10));
+    assertEquals(Vector3d.PLUS_K, ray.direction());
+    assertEquals(Vector3d.of(1, 2, 5.5), ray.point(2.5));
+    assertThrows(IllegalArgumentException.class, () -> Ray.of(Vector3d.ZERO, Vector3d.ZERO));
+  }
+
+  @Test
+  void planeHitsAndMisses() {
+    Plane plane = Plane.of(Vector3d.of(0, 10, 0), Vector3d.of(0, 3, 0));
+    // Hits from either side of the plane
+    assertEquals(6, Ray.of(Vector3d.of(1, 4, 1), Vector3d.PLUS_J).intersect(plane), EPSILON);
+    assertEquals(5, Ray.of(Vector3d.of(1, 15, 1), Vector3d.MINUS_J).intersect(plane), EPSILON);
+    Ray slanted = Ray.of(Vector3d.of(0, 4, 0), Vector3d.of(3, 6, 2));
+    double t = slanted.intersect(plane);
+    assertEquals(10, slanted.point(t).y(), EPSILON);
+    assertEquals(0, plane.signedDistance(slanted.point(t)), EPSILON);
+    assertEquals(0, Ray.of(Vector3d.of(7, 10, 7), Vector3d.PLUS_J).intersect(plane), EPSILON);
+    // Parallel, pointing away and behind the origin
+    assertMiss(Ray.of(Vector3d.of(0, 4, 0), Vector3d.PLUS_I).intersect(plane));
+    assertMiss(Ray.of(Vector3d.of(0, 4, 0), Vector3d.MINUS_J).intersect(plane));
+    assertMiss(Ray.of(Vector3d.of(0, 12, 0), Vector3d.of(1, 0.5, 0)).intersect(plane));
+  }
+
+  @Test
+  void sphereHitsAndMisses() {
+    Sphere sphere = Sphere.of(Vector3d.of(10, 0, 0), 2);
+    assertEquals(8, Ray.of(Vector3d.ZERO, Vector3d.PLUS_I).intersect(sphere), EPSILON);
+    // The origin is inside the sphere, so the exit is reported
+    assertEquals(3, Ray.of(Vector3d.of(9, 0, 0), Vector3d.PLUS_I).intersect(sphere), EPSILON);
+    assertEquals(1, Ray.of(Vector3d.of(9, 0, 0), Vector3d.MINUS_I).intersect(sphere), EPSILON);
+    // Grazing the surface
+    assertEquals(10, Ray.of(Vector3d.of(0, 2, 0), Vector3d.PLUS_I).intersect(sphere), 1e-6);
+    Ray diagonal = Ray.of(Vector3d.of(0, 1, -1), Vector3d.of(10, -1, 1.5));
+    double t = diagonal.intersect(sphere);
+    assertEquals(2, diagonal.point(t).distance(sphere.center()), EPSILON);
+    // Passing beside, pointing away and behind the origin
+    assertMiss(Ray.of(Vector3d.of(0, 2.01, 0), Vector3d.PLUS_I).intersect(sphere));
+    assertMiss(Ray.of(Vector3d.ZERO, Vector3d.MINUS_I).intersect(sphere));
+    assertMiss(Ray.of(Vector3d.of(13, 0, 0), Vector3d.of(1, 1, 0)).intersect(sphere));
+  }
+
+  @Test
+  void triangleHitsAndMisses() {
+    assertEquals(5, Ray.of(Vector3d.of(1, 1, 0), Vector3d.PLUS_K).intersectTriangle(A, B, C), EPSILON);
+    // Moller-Trumbore hits from either side and with either winding
+    assertEquals(5, Ray.of(Vector3d.of(1, 1, 10), Vector3d.MINUS_K).intersectTriangle(A, B, C), EPSILON);
+    assertEquals(5, Ray.of(Vector3d.of(1, 1, 0), Vector3d.PLUS_K).intersectTriangle(A, C, B), EPSILON);
+    // Edges and vertices count as hits
+    assertEquals(5, Ray.of(Vector3d.of(2, 0, 0), Vector3d.PLUS_K).intersectTriangle(A, B, C), EPSILON);
+    assertEquals(5, Ray.of(Vector3d.of(2, 2, 0), Vector3d.PLUS_K).intersectTriangle(A, B, C), EPSILON);
+    assertEquals(5, Ray.of(Vector3d.of(0, 4, 0), Vector3d.PLUS_K).intersectTriangle(A, B, C), EPSILON);
+    Ray slanted = Ray.of(Vector3d.of(-3, -2, -1), Vector3d.of(4, 3, 6));
+    double t = slanted.intersectTriangle(A, B, C);
+    assertEquals(5, slanted.point(t).z(), EPSILON);
+    // Outside the triangle, parallel, behind the origin and degenerate
+    assertMiss(Ray.of(Vector3d.of(3, 3, 0), Vector3d.PLUS_K).intersectTriangle(A, B, C));
+    assertMiss(Ray.of(Vector3d.of(-0.01, 1, 0), Vector3d.PLUS_K).intersectTriangle(A, B, C));
+    assertMiss(Ray.of(Vector3d.of(1, 1, 5), Vector3d.PLUS_I).intersectTriangle(A, B, C));
+    assertMiss(Ray.of(Vector3d.of(1, 1, 6), Vector3d.PLUS_K).intersectTriangle(A, B, C));
+    assertMiss(Ray.of(Vector3d.of(1, 0, 0), Vector3d.PLUS_K).intersectTriangle(A, B, Vector3d.of(8, 0, 5)));
+  }
+
+  @Test
+  void nearestHitsMatchSingleTests() {
+    SplittableRandom random = new SplittableRandom(49);
+    int count = 200;
+    double[] planes = new double[1 + 4 * count];
+    double[] spheres = new double[1 + 4 * count];
+    double[] triangles = new double[1 + 9 * count];
+    Plane[] planeList = new Plane[count];
+    Sphere[] sphereList = new Sphere[count];
+    Vector3d[] vertices = new Vector3d[3 * count];
+    for (int i = 0; i < count; i++) {
+      Plane plane = Plane.of(random(random, 50), random(random, 1));
+      planeList[i] = plane;
+      planes[1 + 4 * i] = plane.normal().x();
+      planes[2 + 4 * i] = plane.normal().y();
+      planes[3 + 4 * i] = plane.normal().z();
+      planes[4 + 4 * i] = plane.distance();
+      Sphere sphere = Sphere.of(random(random, 50), random.nextDouble(0.5, 4));
+      sphereList[i] = sphere;
+      spheres[1 + 4 * i] = sphere.center().x();
+      spheres[2 + 4 * i] = sphere.center().y();
+      spheres[3 + 4 * i] = sphere.center().z();
+      spheres[4 + 4 * i] = sphere.radius();
+      Vector3d center = random(random, 30);
+      for (int v = 0; v < 3; v++) {
+        Vector3d vertex = center.add(random(random, 8));
+        vertices[3 * i + v] = vertex;
+        triangles[1 + 9 * i + 3 * v] = vertex.x();
+        triangles[2 + 9 * i + 3 * v] = vertex.y();
+        triangles[3 + 9 * i + 3 * v] = vertex.z();
+      }
+    }
+    int[] hits = new int[3];
+    for (int r = 0; r < 500; r++) {
+      Ray ray = Ray.of(random(random, 40), random(random, 1));
+      int nearestPlane = -1;
+      int nearestSphere = -1;
+      int nearestTriangle = -1;
+      double planeDistance = Double.POSITIVE_INFINITY;
+      double sphereDistance = Double.POSITIVE_INFINITY;
+      double triangleDistance = Double.POSITIVE_INFINITY;
+      for (int i = 0; i < count; i++) {
+        double t = ray.intersect(planeList[i]);
+        if (t < planeDistance) {
+          planeDistance = t;
+          nearestPlane = i;
+        }
+        t = ray.intersect(sphereList[i]);
+        if (t < sphereDistance) {
+          sphereDistance = t;
+          nearestSphere = i;
+        }
+        t = ray.intersectTriangle(vertices[3 * i], vertices[3 * i + 1], vertices[3 * i + 2]);
+        if (t < triangleDistance) {
+          triangleDistance = t;
+          nearestTriangle = i;
+        }
+      }
+      double[] out = {-1, -1};
+      assertEquals(nearestPlane, ray.nearestPlane(planes, 1, count, out, 1));
+      assertEquals(nearestPlane < 0 ? -1 : planeDistance, out[1]);
+      out[1] = -1;
+      assertEquals(nearestSphere, ray.nearestSphere(spheres, 1, count, out, 1));
+      assertEquals(nearestSphere < 0 ? -1 : sphereDistance, out[1]);
+      out[1] = -1;
+      assertEquals(nearestTriangle, ray.nearestTriangle(triangles, 1, count, out, 1));
+      assertEquals(nearestTriangle < 0 ? -1 : triangleDistance, out[1]);
+      assertEquals(-1, out[0]);
+      hits[0] += nearestPlane >= 0 ? 1 : 0;
+      hits[1] += nearestSphere >= 0 ? 1 : 0;
+      hits[2] += nearestTriangle >= 0 ? 1 : 0;
+    }
+    // Random planes are hit by almost every ray, spheres and triangles exercise misses as well
+    assertTrue(hits[0] > 0 && hits[1] > 0 && hits[2] > 0, Arrays.toString(hits));
+    assertTrue(hits[1] < 500 && hits[2] < 500, Arrays.toString(hits));
+  }
+
+  @Test
+  void nearestHitPrefersFirstOfEqualDistances() {
+    Ray ray = Ray.of(Vector3d.ZERO, Vector3d.PLUS_K);
+    double[] triangles = {
+      5, 5, 5, 6, 5, 5, 5, 6, 5,
+      0, 0, 3, 4, 0, 3, 0, 4, 3,
+      0, 0, 2, 4, 0, 2, 0, 4, 2,
+      -1, -1, 2, 4, -1, 2, -1, 4, 2
+    };
+    double[] out = new double[1];
+    assertEquals(2, ray.nearestTriangle(triangles, 0, 4, out, 0));
+    assertEquals(2, out[0], EPSILON);
+    assertEquals(-1, ray.nearestTriangle(triangles, 0, 1, out, 0));
+    assertEquals(2, out[0], EPSILON);
+    assertEquals(-1, ray.nearestTriangle(triangles, 0, 0, out, 0));
+    // A parallel plane and one behind the origin, then a sphere behind the origin
+    assertEquals(-1, ray.nearestPlane(new double[]{1, 0, 0, 5, 0, 0, 1, -3}, 0, 2, out, 0));
+    assertEquals(-1, ray.nearestSphere(new double[]{0, 0, -5, 1}, 0, 1, out, 0));
+    assertEquals(2, out[0], EPSILON);
+  }
+
+  @Test
+  void nearestHitRangeChecks() {
+    Ray ray = Ray.of(Vector3d.ZERO, Vector3d.PLUS_K);
+    double[] out = new double[1];
+    assertThrows(IndexOutOfBoundsException.class, () -> ray.nearestPlane(new double[8], 1, 2, out, 0));
+    assertThrows(IndexOutOfBoundsException.class, () -> ray.nearestSphere(new double[8], 0, 2, out, 1));
+    assertThrows(IndexOutOfBoundsException.class, () -> ray.nearestTriangle(new double[9], 0, 2, out, 0));
+    // Counts whose component count wraps around to a small int must still be rejected
+    assertThrows(IndexOutOfBoundsException.class, () -> ray.nearestPlane(new double[8], 0, (1 << 30) + 1, out, 0));
+    assertThrows(IndexOutOfBoundsException.class, () -> ray.nearestSphere(new double[8], 0, (1 << 30) + 1, out, 0));
+    assertThrows(IndexOutOfBoundsException.class, () -> ray.nearestTriangle(new double[9], 0, 477_218_589, out, 0));
+  }
+}
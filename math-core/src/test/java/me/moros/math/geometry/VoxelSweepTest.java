@@ -0,0 +1,55 @@
+/*
+ * Copyright 2020-2025 Moros
+ *
+ * This file is part of Math.
+ *
+ * Math is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Math is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Math. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package me.moros.math.geometry;
+
+import me.moros.math.Vector3d;
+import me.moros.math.Vector3i;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class VoxelSweepTest {
+  private static final AABB BOX = AABB.of(Vector3d.of(0.25, 0.25, 0.25), Vector3d.of(0.75, 0.75, 0.75));
+
+  @Test
+  void stopsAtFirstSolidVoxel() {
+    SweepResult result = BOX.sweep(Vector3d.of(4, 0, 0), (x, y, z) -> x == 3);
+    assertEquals(2.25 / 4, result.time(), 1e-9);
+    assertEquals(Vector3i.of(-1, 0, 0), result.face());
+  }
+
+  @Test
+  void unblockedSweepCompletes() {
+    SweepResult result = BOX.sweep(Vector3d.of(-3, 2, 5), (x, y, z) -> false);
+    assertEquals(1, result.time());
+    assertEquals(Vector3i.ZERO, result.face());
+  }
+
+  @Test
+  void rejectsNonFiniteInput() {
+    double[] invalid = {Double.NaN, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY};
+    for (double value : invalid) {
+      assertThrows(IllegalArgumentException.class, () -> BOX.sweep(Vector3d.of(1, value, 0), (x, y, z) -> false));
+      AABB box = AABB.of(Vector3d.of(value, 0, 0), Vector3d.of(1, 1, 1));
+      assertThrows(IllegalArgumentException.class, () -> box.sweep(Vector3d.of(1, 0, 0), (x, y, z) -> false));
+    }
+  }
+}
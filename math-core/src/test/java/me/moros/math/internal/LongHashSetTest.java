@@ -0,0 +1,104 @@
+/*
+ * Copyright 2020-2025 Moros
+ *
+ * This file is part of Math.
+ *
+ * Math is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Math is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Math. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package me.moros.math.internal;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LongHashSetTest {
+  private static void assertSame(Set<Long> expected, LongHashSet actual) {
+    assertEquals(expected.size(), actual.size());
+    assertEquals(expected.isEmpty(), actual.isEmpty());
+    long[] values = actual.toArray();
+    Arrays.sort(values);
+    assertArrayEquals(expected.stream().mapToLong(Long::longValue).sorted().toArray(), values);
+    for (long value : expected) {
+      assertTrue(actual.contains(value));
+    }
+  }
+
+  @Test
+  void removeKeepsProbeChainsIntact() {
+    LongHashSet set = new LongHashSet(16);
+    Set<Long> expected = new HashSet<>();
+    // a dense run of values forms long probe chains, removing from the middle must not hide later values
+    for (long i = -50; i < 200; i++) {
+      assertTrue(set.add(i));
+      expected.add(i);
+    }
+    for (long i = -50; i < 200; i += 3) {
+      assertTrue(set.remove(i));
+      assertFalse(set.remove(i));
+      assertFalse(set.contains(i));
+      expected.remove(i);
+    }
+    assertSame(expected, set);
+  }
+
+  @Test
+  void zeroIsStoredSeparately() {
+    LongHashSet set = new LongHashSet();
+    assertFalse(set.contains(0));
+    assertTrue(set.add(0));
+    assertFalse(set.add(0));
+    assertTrue(set.contains(0));
+    assertEquals(1, set.size());
+    assertTrue(set.remove(0));
+    assertFalse(set.remove(0));
+    assertTrue(set.isEmpty());
+  }
+
+  @Test
+  void matchesReferenceUnderRandomUpdates() {
+    LongHashSet set = new LongHashSet();
+    Set<Long> expected = new HashSet<>();
+    SplittableRandom random = new SplittableRandom(50);
+    for (int i = 0; i < 200_000; i++) {
+      long value = random.nextInt(4) == 0 ? random.nextLong() : random.nextLong(-2000, 2000) << 20;
+      if (random.nextInt(3) == 0) {
+        assertEquals(expected.remove(value), set.remove(value));
+      } else {
+        assertEquals(expected.add(value), set.add(value));
+      }
+      assertEquals(expected.contains(value), set.contains(value));
+    }
+    assertSame(expected, set);
+    set.clear();
+    assertSame(Set.of(), set);
+  }
+
+  @Test
+  void rejectsCapacityBeyondLimit() {
+    // 2^29 elements already need the largest table, more would overflow the power of two capacity
+    assertThrows(IllegalArgumentException.class, () -> new LongHashSet((1 << 29) + 1));
+    assertThrows(IllegalArgumentException.class, () -> new LongHashSet(Integer.MAX_VALUE));
+    assertTrue(new LongHashSet(-1).isEmpty());
+  }
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright 2020-2025 Moros
+ *
+ * This file is part of Math.
+ *
+ * Math is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Math is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Math. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package me.moros.math.io;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+import me.moros.math.PackedPosition;
+import me.moros.math.Vector3i;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class BlockPositionCodecTest {
+  private static final int MIN_XZ = -(1 << 25);
+  private static final int MAX_XZ = (1 << 25) - 1;
+  private static final int MIN_Y = -(1 << 11);
+  private static final int MAX_Y = (1 << 11) - 1;
+
+  @Test
+  void boundaryRoundTrip() {
+    int[] xz = {MIN_XZ, -1, 0, 1, MAX_XZ};
+    int[] ys = {MIN_Y, -1, 0, 1, MAX_Y};
+    List<Long> values = new ArrayList<>();
+    for (int x : xz) {
+      for (int y : ys) {
+        for (int z : xz) {
+          values.add(PackedPosition.pack(x, y, z));
+        }
+      }
+    }
+    assertRoundTrip(values.stream().mapToLong(Long::longValue).toArray());
+  }
+
+  @Test
+  void randomRoundTripWithDuplicates() {
+    SplittableRandom random = new SplittableRandom(28);
+    long[] packed = new long[20_000];
+    for (int i = 0; i < packed.length; i++) {
+      packed[i] = i % 7 == 0 && i > 0 ? packed[i - 1]
+        : PackedPosition.pack(random.nextInt(-300, 300), random.nextInt(-64, 320), random.nextInt(-300, 300));
+    }
+    assertRoundTrip(packed);
+  }
+
+  @Test
+  void emptyRoundTrip() {
+    assertRoundTrip(new long[0]);
+  }
+
+  @Test
+  void vectorCollectionRoundTrip() {
+    Set<Vector3i> positions = new LinkedHashSet<>();
+    positions.add(Vector3i.of(MIN_XZ, MIN_Y, MAX_XZ));
+    positions.add(Vector3i.of(-5, -64, 12));
+    positions.add(Vector3i.of(5, 319, -12));
+    ByteBuffer buffer = ByteBuffer.allocate((int) BlockPositionCodec.maxEncodedSize(positions.size()));
+    assertEquals(positions.size(), BlockPositionCodec.encode(positions, buffer));
+    buffer.flip();
+    int[] xyz = new int[3 * BlockPositionCodec.decodedCount(buffer)];
+    BlockPositionCodec.decode(buffer, xyz, 0);
+    Set<Vector3i> decoded = new LinkedHashSet<>();
+    for (int i = 0; i < xyz.length; i += 3) {
+      decoded.add(Vector3i.of(xyz[i], xyz[i + 1], xyz[i + 2]));
+    }
+    assertEquals(positions, decoded);
+  }
+
+  @Test
+  void decodeRejectsOverflowingCount() {
+    ByteBuffer buffer = ByteBuffer.allocate(32);
+    // 3 * count wraps around to 2 with int arithmetic
+    Codecs.writeCount(buffer, 0x55555556);
+    Codecs.writeVarLong(buffer, Codecs.zigZag(PackedPosition.pack(1, 2, 3)));
+    buffer.flip();
+    int[] out = new int[3];
+    assertThrows(IndexOutOfBoundsException.class, () -> BlockPositionCodec.decode(buffer, out, 0));
+    assertArrayEquals(new int[3], out);
+  }
+
+  private static void assertRoundTrip(long[] packed) {
+    long[] expected = Arrays.stream(packed).sorted().distinct().toArray();
+
+    ByteBuffer buffer = ByteBuffer.allocate((int) BlockPositionCodec.maxEncodedSize(packed.length));
+    assertEquals(expected.length, BlockPositionCodec.encode(packed.clone(), 0, packed.length, buffer));
+    buffer.flip();
+    assertEquals(expected.length, BlockPositionCodec.decodedCount(buffer));
+    long[] decoded = new long[expected.length + 1];
+    assertEquals(expected.length, BlockPositionCodec.decode(buffer, decoded, 1));
+    assertArrayEquals(expected, Arrays.copyOfRange(decoded, 1, decoded.length));
+    assertEquals(0, buffer.remaining());
+
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try {
+      BlockPositionCodec.write(packed.clone(), 0, packed.length, Channels.newChannel(bytes), ByteBuffer.allocate(32));
+    } catch (IOException e) {
+      throw new AssertionError(e);
+    }
+    List<Long> streamed = new ArrayList<>();
+    BlockPositionCodec.decode(ByteBuffer.wrap(bytes.toByteArray()), streamed::add);
+    assertArrayEquals(expected, streamed.stream().mapToLong(Long::longValue).toArray());
+  }
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright 2020-2025 Moros
+ *
+ * This file is part of Math.
+ *
+ * Math is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Math is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Math. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package me.moros.math.io;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.TreeSet;
+import java.util.stream.Stream;
+
+import me.moros.math.PackedPosition;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MappedPositionSetTest {
+  private static long[] toArray(MappedPositionSet set) {
+    long[] result = new long[set.size()];
+    int[] index = {0};
+    set.forEach(packed -> result[index[0]++] = packed);
+    return result;
+  }
+
+  private static void delete(Path dir) throws IOException {
+    try (Stream<Path> files = Files.walk(dir)) {
+      for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+        Files.delete(file);
+      }
+    }
+  }
+
+  @Test
+  void matchesReferenceAcrossCompactionAndReopen() throws IOException {
+    Path dir = Files.createTempDirectory("positions");
+    try {
+      Path path = dir.resolve("set.bin");
+      TreeSet<Long> expected = new TreeSet<>();
+      SplittableRandom random = new SplittableRandom(29);
+      try (MappedPositionSet set = MappedPositionSet.open(path, 97)) {
+        for (int i = 0; i < 5_000; i++) {
+          long packed = PackedPosition.pack(random.nextInt(-20, 20), random.nextInt(-8, 8), random.nextInt(-20, 20));
+          if (random.nextBoolean()) {
+            assertEquals(expected.add(packed), set.add(packed));
+          } else {
+            assertEquals(expected.remove(packed), set.remove(packed));
+          }
+          assertEquals(expected.size(), set.size());
+        }
+        assertArrayEquals(expected.stream().mapToLong(Long::longValue).toArray(), toArray(set));
+      }
+      try (MappedPositionSet set = MappedPositionSet.open(path, 97)) {
+        assertArrayEquals(expected.stream().mapToLong(Long::longValue).toArray(), toArray(set));
+        set.compact();
+        assertArrayEquals(expected.stream().mapToLong(Long::longValue).toArray(), toArray(set));
+      }
+    } finally {
+      delete(dir);
+    }
+  }
+
+  @Test
+  void logAppendsAfterReplay() throws IOException {
+    Path dir = Files.createTempDirectory("positions");
+    try {
+      Path path = dir.resolve("set.bin");
+      try (MappedPositionSet set = MappedPositionSet.open(path)) {
+        assertTrue(set.add(PackedPosition.pack(1, 2, 3)));
+        assertFalse(set.add(PackedPosition.pack(1, 2, 3)));
+      }
+      try (MappedPositionSet set = MappedPositionSet.open(path)) {
+        assertTrue(set.contains(1, 2, 3));
+        assertTrue(set.add(PackedPosition.pack(4, 5, 6)));
+        assertTrue(set.remove(PackedPosition.pack(1, 2, 3)));
+      }
+      assertEquals(3 * (1 + Long.BYTES), Files.size(dir.resolve("set.bin.log")));
+      try (MappedPositionSet set = MappedPositionSet.open(path)) {
+        assertFalse(set.contains(1, 2, 3));
+        assertTrue(set.contains(4, 5, 6));
+        assertEquals(1, set.size());
+      }
+    } finally {
+      delete(dir);
+    }
+  }
+
+  @Test
+  void writeReplacesExistingFile() throws IOException {
+    Path dir = Files.createTempDirectory("positions");
+    try {
+      Path path = dir.resolve("set.bin");
+      MappedPositionSet.write(path, new long[]{PackedPosition.pack(1, 2, 3), PackedPosition.pack(4, 5, 6)}, 0, 2);
+      long[] positions = {PackedPosition.pack(9, 8, 7), PackedPosition.pack(-1, -2, -3), PackedPosition.pack(9, 8, 7)};
+      MappedPositionSet.write(path, positions, 0, positions.length);
+      try (Stream<Path> files = Files.list(dir)) {
+        assertEquals(List.of(path), files.toList());
+      }
+      try (MappedPositionSet set = MappedPositionSet.open(path)) {
+        assertArrayEquals(new long[]{PackedPosition.pack(-1, -2, -3), PackedPosition.pack(9, 8, 7)}, toArray(set));
+      }
+    } finally {
+      delete(dir);
+    }
+  }
+}
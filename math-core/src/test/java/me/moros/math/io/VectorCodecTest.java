@@ -0,0 +1,123 @@
+/*
+ * Copyright 2020-2025 Moros
+ *
+ * This file is part of Math.
+ *
+ * Math is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Math is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Math. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package me.moros.math.io;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.Channels;
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class VectorCodecTest {
+  private static final double PRECISION = 1 / 4096.0;
+
+  private static double[] sample() {
+    SplittableRandom random = new SplittableRandom(28);
+    double[] xyz = new double[3 * 5_000];
+    for (int i = 0; i < xyz.length; i++) {
+      xyz[i] = random.nextDouble(-30_000_000, 30_000_000);
+    }
+    xyz[0] = -0.0;
+    xyz[1] = Double.MAX_VALUE;
+    xyz[2] = -Double.MIN_VALUE;
+    xyz[3] = Double.NaN;
+    xyz[4] = Double.NEGATIVE_INFINITY;
+    return xyz;
+  }
+
+  @Test
+  void rawRoundTrip() throws IOException {
+    double[] xyz = sample();
+    int count = xyz.length / 3;
+    for (ByteOrder order : new ByteOrder[]{ByteOrder.BIG_ENDIAN, ByteOrder.LITTLE_ENDIAN}) {
+      ByteBuffer buffer = ByteBuffer.allocate((int) VectorCodec.maxRawSize(count)).order(order);
+      VectorCodec.encodeRaw(xyz, 0, count, buffer);
+      buffer.flip();
+      assertArrayEquals(xyz, decode(buffer));
+    }
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    VectorCodec.writeRaw(xyz, 0, count, Channels.newChannel(bytes), ByteBuffer.allocate(64));
+    assertArrayEquals(xyz, decode(ByteBuffer.wrap(bytes.toByteArray())));
+  }
+
+  @Test
+  void quantizedRoundTrip() throws IOException {
+    double[] xyz = sample();
+    xyz[1] = 29_999_999.5;
+    xyz[2] = -29_999_999.5;
+    xyz[3] = 0;
+    xyz[4] = -1e-9;
+    int count = xyz.length / 3;
+    ByteBuffer buffer = ByteBuffer.allocate((int) VectorCodec.maxQuantizedSize(count));
+    VectorCodec.encodeQuantized(xyz, 0, count, PRECISION, buffer);
+    buffer.flip();
+    double[] decoded = decode(buffer);
+    for (int i = 0; i < xyz.length; i++) {
+      assertEquals(xyz[i], decoded[i], PRECISION / 2);
+    }
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    VectorCodec.writeQuantized(xyz, 0, count, PRECISION, Channels.newChannel(bytes), ByteBuffer.allocate(64));
+    assertArrayEquals(decoded, decode(ByteBuffer.wrap(bytes.toByteArray())));
+  }
+
+  @Test
+  void offsetsAreRespected() {
+    double[] xyz = {9, 9, 9, 1, -2, 3, -4, 5, -6};
+    ByteBuffer buffer = ByteBuffer.allocate((int) VectorCodec.maxRawSize(2));
+    VectorCodec.encodeRaw(xyz, 3, 2, buffer);
+    buffer.flip();
+    double[] out = new double[7];
+    assertEquals(2, VectorCodec.decode(buffer, out, 1));
+    assertArrayEquals(new double[]{0, 1, -2, 3, -4, 5, -6}, out);
+  }
+
+  @Test
+  void rejectsInvalidPrecision() {
+    ByteBuffer buffer = ByteBuffer.allocate(64);
+    assertThrows(IllegalArgumentException.class, () -> VectorCodec.encodeQuantized(new double[3], 0, 1, 0, buffer));
+    assertThrows(IllegalArgumentException.class, () -> VectorCodec.encodeQuantized(new double[3], 0, 1, Double.NaN, buffer));
+  }
+
+  @Test
+  void decodeRejectsOverflowingCount() {
+    ByteBuffer buffer = ByteBuffer.allocate(32);
+    buffer.put((byte) 0);
+    // 3 * count wraps around to 2 with int arithmetic
+    Codecs.writeCount(buffer, 0x55555556);
+    buffer.putDouble(1).putDouble(2).flip();
+    double[] out = new double[2];
+    assertThrows(IndexOutOfBoundsException.class, () -> VectorCodec.decode(buffer, out, 0));
+    assertArrayEquals(new double[2], out);
+  }
+
+  private static double[] decode(ByteBuffer buffer) {
+    double[] out = new double[3 * VectorCodec.decodedCount(buffer)];
+    VectorCodec.decode(buffer, out, 0);
+    assertEquals(0, buffer.remaining());
+    return out;
+  }
+}
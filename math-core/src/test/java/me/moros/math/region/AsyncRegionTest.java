@@ -0,0 +1,232 @@
+/*
+ * Copyright 2020-2025 Moros
+ *
+ * This file is part of Math.
+ *
+ * Math is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Math is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Math. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package me.moros.math.region;
+
+import java.util.ArrayDeque;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import me.moros.math.PackedPosition;
+import me.moros.math.Rotation;
+import me.moros.math.Vector3d;
+import me.moros.math.Vector3i;
+import me.moros.math.function.IntTriPredicate;
+import me.moros.math.geometry.OBB;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AsyncRegionTest {
+  private static Set<Long> collect(AsyncRegion region) throws InterruptedException {
+    ExecutorService executor = Executors.newFixedThreadPool(3);
+    try {
+      RegionStream stream = region.compute(executor, 3, 4);
+      Set<Long> positions = new HashSet<>();
+      long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+      while (!stream.isDone()) {
+        assertTrue(System.nanoTime() < deadline, "stream did not finish");
+        ChunkBatch batch = stream.poll();
+        if (batch == null) {
+          Thread.sleep(1);
+          continue;
+        }
+        for (long packed : batch.toPackedArray()) {
+          assertTrue(positions.add(packed), "position delivered twice");
+        }
+      }
+      stream.completion().join();
+      return positions;
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  private static Set<Long> expected(Vector3i min, Vector3i max, IntTriPredicate predicate) {
+    Set<Long> positions = new HashSet<>();
+    for (int y = min.blockY(); y <= max.blockY(); y++) {
+      for (int z = min.blockZ(); z <= max.blockZ(); z++) {
+        for (int x = min.blockX(); x <= max.blockX(); x++) {
+          if (predicate.test(x, y, z)) {
+            positions.add(PackedPosition.pack(x, y, z));
+          }
+        }
+      }
+    }
+    return positions;
+  }
+
+  // Reference breadth-first fill through shared faces
+  private static Set<Long> reference(Vector3i start, Vector3i min, Vector3i max, IntTriPredicate passable) {
+    Set<Long> filled = new HashSet<>();
+    Queue<Vector3i> queue = new ArrayDeque<>();
+    if (passable.test(start.blockX(), start.blockY(), start.blockZ())) {
+      filled.add(PackedPosition.pack(start.blockX(), start.blockY(), start.blockZ()));
+      queue.add(start);
+    }
+    int[][] faces = {{1, 0, 0}, {-1, 0, 0}, {0, 1, 0}, {0, -1, 0}, {0, 0, 1}, {0, 0, -1}};
+    while (!queue.isEmpty()) {
+      Vector3i current = queue.poll();
+      for (int[] face : faces) {
+        Vector3i next = current.add(Vector3i.of(face[0], face[1], face[2]));
+        if (next.blockX() < min.blockX() || next.blockY() < min.blockY() || next.blockZ() < min.blockZ()
+          || next.blockX() > max.blockX() || next.blockY() > max.blockY() || next.blockZ() > max.blockZ()) {
+          continue;
+        }
+        if (passable.test(next.blockX(), next.blockY(), next.blockZ())
+          && filled.add(PackedPosition.pack(next.blockX(), next.blockY(), next.blockZ()))) {
+          queue.add(next);
+        }
+      }
+    }
+    return filled;
+  }
+
+  @Test
+  void shapesMatchVoxelMasks() throws InterruptedException {
+    Vector3d center = Vector3d.of(3.3, 64.5, -7.8);
+    AsyncRegion sphere = AsyncRegion.sphere(center, 21.5);
+    VoxelMask mask = VoxelMask.of(sphere.min(), sphere.max()).fillSphere(center, 21.5);
+    assertEquals(expected(sphere.min(), sphere.max(), mask::get), collect(sphere));
+
+    Vector3d base = Vector3d.of(-20.5, 10, 30.25);
+    AsyncRegion cylinder = AsyncRegion.cylinder(base, 18, 6.5);
+    mask = VoxelMask.of(cylinder.min(), cylinder.max()).fillCylinder(base, 18, 6.5);
+    assertEquals(expected(cylinder.min(), cylinder.max(), mask::get), collect(cylinder));
+
+    OBB box = OBB.of(Vector3d.of(5, 70, 5), Vector3d.of(20, 4, 9), Rotation.from(Vector3d.PLUS_J, 0.6));
+    AsyncRegion oriented = AsyncRegion.of(box);
+    assertEquals(expected(oriented.min(), oriented.max(), (x, y, z) -> box.contains(x + 0.5, y + 0.5, z + 0.5)),
+      collect(oriented));
+
+    AsyncRegion filtered = sphere.filter((x, y, z) -> y >= 64);
+    mask = VoxelMask.of(sphere.min(), sphere.max()).fillSphere(center, 21.5);
+    VoxelMask sphereMask = mask;
+    assertEquals(expected(sphere.min(), sphere.max(), (x, y, z) -> y >= 64 && sphereMask.get(x, y, z)),
+      collect(filtered));
+  }
+
+  @Test
+  void boundsAreClippedToPackableRange() throws InterruptedException {
+    AsyncRegion region = AsyncRegion.of(Vector3i.of(Integer.MIN_VALUE, -5000, -40_000_000),
+      Vector3i.of(Integer.MAX_VALUE, 5000, 40_000_000), (x, y, z) -> true);
+    assertEquals(Vector3i.of(-(1 << 25), -2048, -(1 << 25)), region.min());
+    assertEquals(Vector3i.of((1 << 25) - 1, 2047, (1 << 25) - 1), region.max());
+    assertFalse(region.isEmpty());
+
+    // Blocks at the edge of the range keep their coordinates instead of wrapping
+    Vector3i edge = Vector3i.of((1 << 25) - 1, 2047, -(1 << 25));
+    AsyncRegion corner = AsyncRegion.of(edge.subtract(Vector3i.of(1, 1, 0)), edge.add(Vector3i.of(50, 50, -50)),
+      (x, y, z) -> true);
+    Set<Long> positions = collect(corner);
+    assertEquals(expected(corner.min(), corner.max(), (x, y, z) -> true), positions);
+    assertEquals(4, positions.size());
+    assertTrue(positions.contains(PackedPosition.pack(edge.blockX(), edge.blockY(), edge.blockZ())));
+
+    AsyncRegion outside = AsyncRegion.of(Vector3i.of(0, 2048, 0), Vector3i.of(40, 3000, 40), (x, y, z) -> true);
+    assertTrue(outside.isEmpty());
+    assertTrue(collect(outside).isEmpty());
+  }
+
+  @Test
+  void floodFillMatchesReference() throws InterruptedException {
+    Vector3i min = Vector3i.of(-30, 0, -20);
+    Vector3i max = Vector3i.of(45, 12, 35);
+    SplittableRandom random = new SplittableRandom(48);
+    Set<Long> solid = new HashSet<>();
+    for (int i = 0; i < 25_000; i++) {
+      solid.add(PackedPosition.pack(random.nextInt(-35, 50), random.nextInt(-2, 15), random.nextInt(-25, 40)));
+    }
+    Vector3i start = Vector3i.of(0, 5, 0);
+    solid.remove(PackedPosition.pack(start.blockX(), start.blockY(), start.blockZ()));
+    // A wall splits the bounds so part of them is unreachable
+    IntTriPredicate passable = (x, y, z) -> x != 10 && !solid.contains(PackedPosition.pack(x, y, z));
+    Map<Long, AtomicInteger> tests = new ConcurrentHashMap<>();
+    AsyncRegion region = AsyncRegion.floodFill(start, max, min, (x, y, z) -> {
+      tests.computeIfAbsent(PackedPosition.pack(x, y, z), k -> new AtomicInteger()).incrementAndGet();
+      return passable.test(x, y, z);
+    });
+    assertEquals(min, region.min());
+    assertEquals(max, region.max());
+    Set<Long> expected = reference(start, min, max, passable);
+    assertTrue(expected.size() > 1000);
+    assertEquals(expected, collect(region));
+    tests.forEach((packed, count) -> assertEquals(1, count.get(), "tested more than once"));
+    // Every computation runs its own fill
+    assertEquals(expected, collect(region));
+    assertEquals(2, tests.get(PackedPosition.pack(start.blockX(), start.blockY(), start.blockZ())).get());
+  }
+
+  @Test
+  void configuredFloodFillMatchesDirectFill() throws InterruptedException {
+    // Diagonal stairs are only connected through edges and corners
+    FloodFill fill = FloodFill.of((x, y, z) -> x == y && Math.abs(z) <= 2).connectivity(FloodFill.Connectivity.VERTICES)
+      .maxCount(150).bounds(Vector3i.of(-10, -10, -10), Vector3i.of(80, 80, 10));
+    Vector3i start = Vector3i.of(0, 0, 0);
+    Set<Long> expected = new HashSet<>();
+    fill.fill(start, (x, y, z) -> expected.add(PackedPosition.pack(x, y, z)));
+    assertEquals(150, expected.size());
+    AsyncRegion region = AsyncRegion.of(fill, start);
+    assertEquals(fill.min(), region.min());
+    assertEquals(fill.max(), region.max());
+    assertEquals(expected, collect(region));
+  }
+
+  @Test
+  void floodFillWithBlockedStartIsEmpty() throws InterruptedException {
+    Vector3i min = Vector3i.of(0, 0, 0);
+    Vector3i max = Vector3i.of(40, 4, 40);
+    assertTrue(collect(AsyncRegion.floodFill(Vector3i.of(5, 1, 5), min, max, (x, y, z) -> x != 5)).isEmpty());
+    assertTrue(collect(AsyncRegion.floodFill(Vector3i.of(5, 10, 5), min, max, (x, y, z) -> true)).isEmpty());
+    assertEquals(41 * 5 * 41, collect(AsyncRegion.floodFill(Vector3i.of(5, 1, 5), min, max, (x, y, z) -> true)).size());
+  }
+
+  @Test
+  void floodFillFailureCompletesExceptionally() {
+    AsyncRegion region = AsyncRegion.floodFill(Vector3i.of(0, 0, 0), Vector3i.of(-40, 0, -40), Vector3i.of(40, 3, 40),
+      (x, y, z) -> {
+        if (x == 20) {
+          throw new IllegalStateException("unloaded chunk");
+        }
+        return true;
+      });
+    RegionStream stream = region.compute(Executors.newVirtualThreadPerTaskExecutor(), 4, 4);
+    CompletionException thrown = assertThrows(CompletionException.class, () -> stream.completion().join());
+    assertInstanceOf(IllegalStateException.class, thrown.getCause());
+  }
+
+  @Test
+  void floodFillRejectsHugeBounds() {
+    assertThrows(IllegalArgumentException.class, () -> AsyncRegion.floodFill(Vector3i.of(0, 0, 0),
+      Vector3i.of(-100_000, -64, -100_000), Vector3i.of(100_000, 320, 100_000), (x, y, z) -> true));
+  }
+}
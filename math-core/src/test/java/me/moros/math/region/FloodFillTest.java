@@ -0,0 +1,140 @@
+/*
+ * Copyright 2020-2025 Moros
+ *
+ * This file is part of Math.
+ *
+ * Math is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Math is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Math. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package me.moros.math.region;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+import me.moros.math.PackedPosition;
+import me.moros.math.Vector3i;
+import me.moros.math.function.IntTriPredicate;
+import me.moros.math.region.FloodFill.Connectivity;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FloodFillTest {
+  private static Set<Vector3i> fill(FloodFill fill, int x, int y, int z) {
+    Set<Vector3i> visited = new HashSet<>();
+    int count = fill.fill(x, y, z, (px, py, pz) -> assertTrue(visited.add(Vector3i.of(px, py, pz))));
+    assertEquals(visited.size(), count);
+    return visited;
+  }
+
+  private static int steps(Vector3i pos) {
+    return Math.abs(pos.blockX()) + Math.abs(pos.blockY()) + Math.abs(pos.blockZ());
+  }
+
+  @Test
+  void boundedFillVisitsWholeBox() {
+    FloodFill fill = FloodFill.of((x, y, z) -> true).bounds(Vector3i.of(-2, 0, -1), Vector3i.of(2, 2, 2));
+    Set<Vector3i> visited = fill(fill, 0, 1, 0);
+    assertEquals(5 * 3 * 4, visited.size());
+    for (Vector3i pos : visited) {
+      assertTrue(pos.blockX() >= -2 && pos.blockX() <= 2 && pos.blockY() >= 0 && pos.blockY() <= 2
+        && pos.blockZ() >= -1 && pos.blockZ() <= 2);
+    }
+    assertEquals(0, fill.fill(10, 1, 0, (x, y, z) -> {
+    }));
+  }
+
+  @Test
+  void maxCountKeepsClosestPositions() {
+    FloodFill fill = FloodFill.of((x, y, z) -> true).maxCount(100);
+    Set<Vector3i> visited = fill(fill, 0, 0, 0);
+    assertEquals(100, visited.size());
+    // 63 positions are within 3 steps of the start and 66 more are exactly 4 steps away
+    int within3 = 0;
+    for (Vector3i pos : visited) {
+      assertTrue(steps(pos) <= 4);
+      if (steps(pos) <= 3) {
+        within3++;
+      }
+    }
+    assertEquals(63, within3);
+  }
+
+  @Test
+  void connectivityControlsDiagonalSpread() {
+    Set<Vector3i> open = Set.of(Vector3i.ZERO, Vector3i.of(1, 1, 0), Vector3i.of(2, 2, 1));
+    FloodFill fill = FloodFill.of((x, y, z) -> open.contains(Vector3i.of(x, y, z)));
+    assertEquals(1, fill.connectivity(Connectivity.FACES).fill(0, 0, 0, (x, y, z) -> {
+    }));
+    assertEquals(2, fill.connectivity(Connectivity.EDGES).fill(0, 0, 0, (x, y, z) -> {
+    }));
+    assertEquals(3, fill.connectivity(Connectivity.VERTICES).fill(0, 0, 0, (x, y, z) -> {
+    }));
+  }
+
+  @Test
+  void matchesReferenceOnRandomGrid() {
+    int size = 24;
+    boolean[] solid = new boolean[size * size * size];
+    SplittableRandom random = new SplittableRandom(50);
+    for (int i = 0; i < solid.length; i++) {
+      solid[i] = random.nextInt(10) < 4;
+    }
+    IntTriPredicate passable = (x, y, z) -> x >= 0 && y >= 0 && z >= 0 && x < size && y < size && z < size
+      && !solid[(y * size + z) * size + x];
+    solid[0] = false;
+    for (Connectivity connectivity : Connectivity.values()) {
+      FloodFill fill = FloodFill.of(passable).connectivity(connectivity);
+      Set<Vector3i> expected = reference(passable, connectivity);
+      assertEquals(expected, fill(fill, 0, 0, 0));
+      List<Long> packed = new ArrayList<>();
+      fill.fillPacked(PackedPosition.pack(0, 0, 0), packed::add);
+      assertEquals(expected.size(), packed.size());
+      for (long p : packed) {
+        assertTrue(expected.contains(Vector3i.of(PackedPosition.unpackX(p), PackedPosition.unpackY(p), PackedPosition.unpackZ(p))));
+      }
+    }
+  }
+
+  private static Set<Vector3i> reference(IntTriPredicate passable, Connectivity connectivity) {
+    Set<Vector3i> seen = new HashSet<>();
+    Queue<Vector3i> queue = new ArrayDeque<>();
+    seen.add(Vector3i.ZERO);
+    queue.add(Vector3i.ZERO);
+    while (!queue.isEmpty()) {
+      Vector3i current = queue.poll();
+      for (int dx = -1; dx <= 1; dx++) {
+        for (int dy = -1; dy <= 1; dy++) {
+          for (int dz = -1; dz <= 1; dz++) {
+            int changed = Math.abs(dx) + Math.abs(dy) + Math.abs(dz);
+            if (changed == 0 || changed > connectivity.ordinal() + 1) {
+              continue;
+            }
+            Vector3i next = Vector3i.of(current.blockX() + dx, current.blockY() + dy, current.blockZ() + dz);
+            if (passable.test(next.blockX(), next.blockY(), next.blockZ()) && seen.add(next)) {
+              queue.add(next);
+            }
+          }
+        }
+      }
+    }
+    return seen;
+  }
+}
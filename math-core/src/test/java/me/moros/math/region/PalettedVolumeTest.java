@@ -0,0 +1,77 @@
+/*
+ * Copyright 2020-2025 Moros
+ *
+ * This file is part of Math.
+ *
+ * Math is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Math is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Math. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package me.moros.math.region;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import me.moros.math.Vector3i;
+import me.moros.math.io.VolumeCodec;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class PalettedVolumeTest {
+  @Test
+  void largePaletteSectionAcceptsUpdates() {
+    PalettedVolume<Integer> volume = PalettedVolume.of(Vector3i.ZERO, Vector3i.of(15, 15, 15), 0);
+    List<Integer> palette = new ArrayList<>();
+    for (int i = 0; i < 40; i++) {
+      palette.add(i);
+    }
+    int[] indices = new int[PalettedVolume.SECTION_VOLUME];
+    for (int i = 0; i < indices.length; i++) {
+      indices[i] = i % palette.size();
+    }
+    volume.setSection(0, palette, indices, 0);
+    volume.set(0, 0, 0, 39);
+    assertEquals(39, volume.get(0, 0, 0));
+    assertEquals(40, volume.sectionPalette(0).size());
+    volume.set(1, 0, 0, 100);
+    assertEquals(100, volume.get(1, 0, 0));
+    assertEquals(41, volume.sectionPalette(0).size());
+  }
+
+  @Test
+  void codecRoundTrip() throws IOException {
+    Vector3i min = Vector3i.of(-20, -5, -20);
+    Vector3i max = Vector3i.of(20, 40, 20);
+    PalettedVolume<Integer> volume = PalettedVolume.of(min, max, 0);
+    SplittableRandom random = new SplittableRandom(42);
+    for (int x = min.blockX(); x <= max.blockX(); x++) {
+      for (int y = min.blockY(); y <= max.blockY(); y++) {
+        for (int z = min.blockZ(); z <= max.blockZ(); z++) {
+          volume.set(x, y, z, y < 10 ? random.nextInt(50) : y);
+        }
+      }
+    }
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    VolumeCodec.write(volume, Integer::intValue, Channels.newChannel(bytes), ByteBuffer.allocate(256));
+    PalettedVolume<Integer> decoded = VolumeCodec.decode(ByteBuffer.wrap(bytes.toByteArray()), Integer::valueOf);
+    assertEquals(min, decoded.min());
+    assertEquals(max, decoded.max());
+    volume.forEach((x, y, z, value) -> assertEquals(value, decoded.get(x, y, z)));
+  }
+}
@@ -0,0 +1,256 @@
+/*
+ * Copyright 2020-2025 Moros
+ *
+ * This file is part of Math.
+ *
+ * Math is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Math is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Math. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package me.moros.math.region;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import me.moros.math.ChunkUtil;
+import me.moros.math.PackedPosition;
+import me.moros.math.Vector3i;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RegionStreamTest {
+  private static final Vector3i MIN = Vector3i.of(-40, 60, -20);
+  private static final Vector3i MAX = Vector3i.of(70, 63, 50);
+  // 8 chunk columns along x and 6 along z
+  private static final int COLUMNS = 48;
+
+  private static List<ChunkBatch> drainAll(RegionStream stream) throws InterruptedException {
+    List<ChunkBatch> batches = new ArrayList<>();
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+    while (!stream.isDone()) {
+      assertTrue(System.nanoTime() < deadline, "stream did not finish");
+      // Take a couple of batches per iteration, like a main thread draining a few per tick
+      if (stream.drain(2, batches::add) == 0) {
+        Thread.sleep(1);
+      }
+    }
+    return batches;
+  }
+
+  private static void await(CountDownLatch latch) {
+    try {
+      assertTrue(latch.await(30, TimeUnit.SECONDS));
+    } catch (InterruptedException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  @Test
+  void deliversEachColumnOnce() throws InterruptedException {
+    AsyncRegion region = AsyncRegion.of(MIN, MAX, (x, y, z) -> ((x ^ y ^ z) & 1) == 0);
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      // A tiny capacity keeps workers blocked on the queue most of the time
+      RegionStream stream = region.compute(executor, 4, 2);
+      assertEquals(COLUMNS, stream.chunkCount());
+      List<ChunkBatch> batches = drainAll(stream);
+      stream.completion().join();
+      assertEquals(COLUMNS, batches.size());
+      Set<Long> columns = new HashSet<>();
+      Set<Long> positions = new HashSet<>();
+      for (ChunkBatch batch : batches) {
+        assertTrue(columns.add(ChunkUtil.chunkKey(batch.chunkX(), batch.chunkZ())), "column delivered twice");
+        long previous = Long.MIN_VALUE;
+        for (int i = 0; i < batch.size(); i++) {
+          long packed = batch.packed(i);
+          int x = PackedPosition.unpackX(packed);
+          int y = PackedPosition.unpackY(packed);
+          int z = PackedPosition.unpackZ(packed);
+          assertEquals(batch.chunkX(), ChunkUtil.toChunk(x));
+          assertEquals(batch.chunkZ(), ChunkUtil.toChunk(z));
+          // Ascending y, z, x order
+          long order = ((long) y << 42) + ((long) (z + (1 << 20)) << 21) + (x + (1 << 20));
+          assertTrue(order > previous, "positions out of order");
+          previous = order;
+          assertTrue(positions.add(packed));
+        }
+      }
+      int expected = 0;
+      for (int y = MIN.blockY(); y <= MAX.blockY(); y++) {
+        for (int z = MIN.blockZ(); z <= MAX.blockZ(); z++) {
+          for (int x = MIN.blockX(); x <= MAX.blockX(); x++) {
+            if (((x ^ y ^ z) & 1) == 0) {
+              assertTrue(positions.contains(PackedPosition.pack(x, y, z)));
+              expected++;
+            }
+          }
+        }
+      }
+      assertEquals(expected, positions.size());
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  void virtualThreadsDeliverEveryColumn() throws InterruptedException {
+    RegionStream stream = AsyncRegion.of(MIN, MAX, (x, y, z) -> true).compute();
+    Set<Long> columns = new HashSet<>();
+    for (ChunkBatch batch : drainAll(stream)) {
+      assertTrue(columns.add(ChunkUtil.chunkKey(batch.chunkX(), batch.chunkZ())));
+      int sizeX = Math.min(16 * batch.chunkX() + 15, MAX.blockX()) - Math.max(16 * batch.chunkX(), MIN.blockX()) + 1;
+      int sizeZ = Math.min(16 * batch.chunkZ() + 15, MAX.blockZ()) - Math.max(16 * batch.chunkZ(), MIN.blockZ()) + 1;
+      assertEquals(4 * sizeX * sizeZ, batch.size());
+    }
+    assertEquals(COLUMNS, columns.size());
+  }
+
+  @Test
+  void skipsEmptyColumns() throws InterruptedException {
+    RegionStream stream = AsyncRegion.of(MIN, MAX, (x, y, z) -> x < 0 && z < 0).compute();
+    List<ChunkBatch> batches = drainAll(stream);
+    // Only the columns with negative x and z contain blocks
+    assertEquals(3 * 2, batches.size());
+  }
+
+  @Test
+  void cancelStopsWorkersAndDiscardsBatches() throws InterruptedException {
+    AtomicInteger rasterized = new AtomicInteger();
+    CountDownLatch blocked = new CountDownLatch(3);
+    AsyncRegion region = AsyncRegion.of(Vector3i.of(0, 0, 0), Vector3i.of(16 * 20 - 1, 0, 16 * 20 - 1), mask -> {
+      rasterized.incrementAndGet();
+      mask.set(mask.min());
+      blocked.countDown();
+    });
+    ExecutorService executor = Executors.newFixedThreadPool(2);
+    RegionStream stream = region.compute(executor, 2, 1);
+    // One batch fills the queue and both workers end up waiting to publish another one
+    await(blocked);
+    stream.cancel();
+    assertTrue(stream.isCancelled());
+    assertTrue(stream.completion().isCancelled());
+    assertNull(stream.poll());
+    assertEquals(0, stream.drain(10, batch -> {
+    }));
+    assertTrue(stream.isDone());
+    executor.shutdown();
+    assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS), "workers did not stop");
+    int count = rasterized.get();
+    assertTrue(count < stream.chunkCount(), "rasterized " + count + " columns");
+    Thread.sleep(20);
+    assertEquals(count, rasterized.get());
+    assertNull(stream.poll());
+  }
+
+  @Test
+  void cancellingCompletionStopsStream() {
+    CountDownLatch started = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    AsyncRegion region = AsyncRegion.of(MIN, MAX, mask -> {
+      started.countDown();
+      await(release);
+      mask.set(mask.min());
+    });
+    RegionStream stream = region.compute(Executors.newVirtualThreadPerTaskExecutor(), 1, 4);
+    await(started);
+    assertTrue(stream.completion().cancel(false));
+    release.countDown();
+    assertThrows(CancellationException.class, () -> stream.completion().join());
+    assertNull(stream.poll());
+    assertTrue(stream.isDone());
+  }
+
+  @Test
+  void rasterizerFailureCompletesExceptionally() {
+    IllegalStateException failure = new IllegalStateException("broken rasterizer");
+    AsyncRegion region = AsyncRegion.of(MIN, MAX, mask -> {
+      if (mask.min().blockX() >= 0) {
+        throw failure;
+      }
+      mask.set(mask.min());
+    });
+    ExecutorService executor = Executors.newFixedThreadPool(3);
+    try {
+      RegionStream stream = region.compute(executor, 3, 64);
+      CompletionException thrown = assertThrows(CompletionException.class, () -> stream.completion().join());
+      assertSame(failure, thrown.getCause());
+      assertTrue(stream.completion().isCompletedExceptionally());
+      assertTrue(stream.isDone());
+      assertNull(stream.poll());
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  void rejectedWorkersCompleteExceptionally() throws InterruptedException {
+    AsyncRegion region = AsyncRegion.of(MIN, MAX, (x, y, z) -> true);
+    RegionStream rejected = region.compute(task -> {
+      throw new RejectedExecutionException("shut down");
+    }, 4, 8);
+    CompletionException thrown = assertThrows(CompletionException.class, () -> rejected.completion().join());
+    assertInstanceOf(RejectedExecutionException.class, thrown.getCause());
+    assertTrue(rejected.isDone());
+
+    // Workers that were accepted before the rejection stop as well
+    List<Thread> accepted = new ArrayList<>();
+    RegionStream partial = region.compute(task -> {
+      if (!accepted.isEmpty()) {
+        throw new RejectedExecutionException("saturated");
+      }
+      Thread thread = new Thread(task);
+      accepted.add(thread);
+      thread.start();
+    }, 4, 8);
+    thrown = assertThrows(CompletionException.class, () -> partial.completion().join());
+    assertInstanceOf(RejectedExecutionException.class, thrown.getCause());
+    accepted.get(0).join(TimeUnit.SECONDS.toMillis(30));
+    assertFalse(accepted.get(0).isAlive(), "accepted worker did not stop");
+    assertNull(partial.poll());
+  }
+
+  @Test
+  void emptyRegionCompletesImmediately() {
+    AsyncRegion region = AsyncRegion.of(Vector3i.of(0, 3000, 0), Vector3i.of(15, 4000, 15), (x, y, z) -> true);
+    assertTrue(region.isEmpty());
+    RegionStream stream = region.compute();
+    assertEquals(0, stream.chunkCount());
+    assertTrue(stream.completion().isDone());
+    assertTrue(stream.isDone());
+    assertNull(stream.poll());
+  }
+
+  @Test
+  void invalidArguments() {
+    AsyncRegion region = AsyncRegion.of(MIN, MAX, (x, y, z) -> true);
+    assertThrows(IllegalArgumentException.class, () -> region.compute(Runnable::run, 0, 1));
+    assertThrows(IllegalArgumentException.class, () -> region.compute(Runnable::run, 1, 0));
+  }
+}
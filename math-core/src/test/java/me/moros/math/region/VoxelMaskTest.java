@@ -0,0 +1,175 @@
+/*
+ * Copyright 2020-2025 Moros
+ *
+ * This file is part of Math.
+ *
+ * Math is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Math is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Math. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package me.moros.math.region;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.function.Predicate;
+
+import me.moros.math.Vector3d;
+import me.moros.math.Vector3i;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class VoxelMaskTest {
+  private static final Vector3i MIN = Vector3i.of(-5, 60, 3);
+  private static final Vector3i MAX = Vector3i.of(70, 75, 12);
+
+  private static VoxelMask random(Vector3i min, Vector3i max, long seed) {
+    SplittableRandom random = new SplittableRandom(seed);
+    VoxelMask mask = VoxelMask.of(min, max);
+    for (int y = min.blockY(); y <= max.blockY(); y++) {
+      for (int z = min.blockZ(); z <= max.blockZ(); z++) {
+        for (int x = min.blockX(); x <= max.blockX(); x++) {
+          if (random.nextInt(3) == 0) {
+            mask.set(x, y, z);
+          }
+        }
+      }
+    }
+    return mask;
+  }
+
+  private static void assertMatches(VoxelMask mask, Predicate<Vector3i> expected) {
+    Vector3i min = mask.min();
+    Vector3i max = mask.max();
+    int count = 0;
+    for (int y = min.blockY(); y <= max.blockY(); y++) {
+      for (int z = min.blockZ(); z <= max.blockZ(); z++) {
+        for (int x = min.blockX(); x <= max.blockX(); x++) {
+          boolean set = expected.test(Vector3i.of(x, y, z));
+          assertEquals(set, mask.get(x, y, z), "voxel [" + x + ", " + y + ", " + z + "]");
+          count += set ? 1 : 0;
+        }
+      }
+    }
+    assertEquals(count, mask.cardinality());
+  }
+
+  @Test
+  void setOperationsWithSameBounds() {
+    VoxelMask a = random(MIN, MAX, 41);
+    VoxelMask b = random(MIN, MAX, 42);
+    assertMatches(a.copy().union(b), v -> a.get(v) || b.get(v));
+    assertMatches(a.copy().intersect(b), v -> a.get(v) && b.get(v));
+    assertMatches(a.copy().difference(b), v -> a.get(v) && !b.get(v));
+  }
+
+  @Test
+  void setOperationsWithOtherBounds() {
+    VoxelMask a = random(MIN, MAX, 41);
+    VoxelMask b = random(Vector3i.of(30, 50, 0), Vector3i.of(90, 65, 20), 43);
+    // Voxels of b outside the bounds of a are ignored
+    assertMatches(a.copy().union(b), v -> a.get(v) || b.get(v));
+    assertMatches(a.copy().intersect(b), v -> a.get(v) && b.get(v));
+    assertMatches(a.copy().difference(b), v -> a.get(v) && !b.get(v));
+    assertTrue(a.copy().intersect(VoxelMask.of(Vector3i.of(100, 0, 0), Vector3i.of(101, 1, 1))).isEmpty());
+  }
+
+  @Test
+  void fillBoxClipsToBounds() {
+    VoxelMask mask = VoxelMask.of(MIN, MAX);
+    assertSame(mask, mask.fillBox(Vector3i.of(65, 80, 5), Vector3i.of(-20, 70, 7)));
+    assertMatches(mask, v -> v.blockX() <= 65 && v.blockY() >= 70 && v.blockZ() >= 5 && v.blockZ() <= 7);
+    assertMatches(VoxelMask.of(MIN, MAX).fillBox(Vector3i.of(80, 60, 3), Vector3i.of(90, 75, 12)), v -> false);
+  }
+
+  @Test
+  void fillSphereMatchesVoxelCenters() {
+    SplittableRandom random = new SplittableRandom(4141);
+    for (int i = 0; i < 20; i++) {
+      Vector3d center = Vector3d.of(random.nextDouble(-10, 75), random.nextDouble(55, 80), random.nextDouble(0, 15));
+      double radius = random.nextDouble(0, 9);
+      VoxelMask mask = VoxelMask.of(MIN, MAX).fillSphere(center, radius);
+      assertMatches(mask, v -> v.center().distanceSq(center) <= radius * radius);
+    }
+    assertTrue(VoxelMask.of(MIN, MAX).fillSphere(Vector3d.of(0, 65, 5), -1).isEmpty());
+    assertTrue(VoxelMask.of(MIN, MAX).fillSphere(Vector3d.of(0, 65, 5), Double.NaN).isEmpty());
+  }
+
+  @Test
+  void fillCylinderMatchesVoxelCenters() {
+    SplittableRandom random = new SplittableRandom(414141);
+    for (int i = 0; i < 20; i++) {
+      Vector3d base = Vector3d.of(random.nextDouble(-10, 75), random.nextDouble(55, 80), random.nextDouble(0, 15));
+      double radius = random.nextDouble(0, 9);
+      double height = random.nextDouble(0, 12);
+      VoxelMask mask = VoxelMask.of(MIN, MAX).fillCylinder(base, radius, height);
+      assertMatches(mask, v -> {
+        Vector3d c = v.center();
+        double dx = c.x() - base.x();
+        double dz = c.z() - base.z();
+        return dx * dx + dz * dz <= radius * radius && c.y() >= base.y() && c.y() <= base.y() + height;
+      });
+    }
+    assertTrue(VoxelMask.of(MIN, MAX).fillCylinder(Vector3d.of(0, 65, 5), 3, -1).isEmpty());
+  }
+
+  @Test
+  void singleVoxelAccess() {
+    VoxelMask mask = VoxelMask.of(MAX, MIN);
+    assertEquals(MIN, mask.min());
+    assertEquals(MAX, mask.max());
+    assertEquals(76 * 16 * 10, mask.volume());
+    assertTrue(mask.set(MIN));
+    assertFalse(mask.set(MIN));
+    assertTrue(mask.set(MAX.blockX(), MAX.blockY(), MAX.blockZ()));
+    assertTrue(mask.get(MAX));
+    assertFalse(mask.get(MAX.add(Vector3i.of(1, 0, 0))));
+    assertTrue(mask.clear(MIN.blockX(), MIN.blockY(), MIN.blockZ()));
+    assertFalse(mask.clear(MIN.blockX(), MIN.blockY(), MIN.blockZ()));
+    assertEquals(1, mask.cardinality());
+    mask.clear();
+    assertTrue(mask.isEmpty());
+    assertThrows(IndexOutOfBoundsException.class, () -> mask.set(MIN.blockX() - 1, MIN.blockY(), MIN.blockZ()));
+    assertThrows(IndexOutOfBoundsException.class, () -> mask.clear(MIN.blockX(), MAX.blockY() + 1, MIN.blockZ()));
+  }
+
+  @Test
+  void forEachVisitsInYZXOrder() {
+    VoxelMask mask = random(MIN, MAX, 44);
+    List<Vector3i> expected = new ArrayList<>();
+    for (int y = MIN.blockY(); y <= MAX.blockY(); y++) {
+      for (int z = MIN.blockZ(); z <= MAX.blockZ(); z++) {
+        for (int x = MIN.blockX(); x <= MAX.blockX(); x++) {
+          if (mask.get(x, y, z)) {
+            expected.add(Vector3i.of(x, y, z));
+          }
+        }
+      }
+    }
+    List<Vector3i> visited = new ArrayList<>();
+    mask.forEach((x, y, z) -> visited.add(Vector3i.of(x, y, z)));
+    assertEquals(expected, visited);
+  }
+
+  @Test
+  void rejectsOversizedBounds() {
+    assertThrows(IllegalArgumentException.class, () -> VoxelMask.of(Vector3i.ZERO, Vector3i.of(2000, 2000, 2000)));
+    assertThrows(IllegalArgumentException.class,
+      () -> VoxelMask.of(Vector3i.of(Integer.MIN_VALUE, 0, 0), Vector3i.of(Integer.MAX_VALUE, 0, 0)));
+  }
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright 2020-2025 Moros
+ *
+ * This file is part of Math.
+ *
+ * Math is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Math is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Math. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package me.moros.math.shape;
+
+import java.util.Random;
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RandomSamplerTest {
+  private static final int COUNT = 20_000;
+  private static final double EPSILON = 1e-9;
+
+  private static double[] sample(RandomSampler sampler, Fill fill) {
+    // One leading and one trailing slot check that nothing is written outside the requested range
+    double[] out = new double[3 * COUNT + 2];
+    out[0] = Double.NaN;
+    out[out.length - 1] = Double.NaN;
+    fill.apply(sampler, out, 1, COUNT);
+    assertTrue(Double.isNaN(out[0]));
+    assertTrue(Double.isNaN(out[out.length - 1]));
+    return out;
+  }
+
+  private static double length(double[] out, int idx) {
+    return Math.sqrt(out[idx] * out[idx] + out[idx + 1] * out[idx + 1] + out[idx + 2] * out[idx + 2]);
+  }
+
+  @Test
+  void seededSamplersAreReproducible() {
+    Fill[] fills = {
+      (s, out, offset, count) -> s.gaussian(out, offset, count, 1, 2, 3),
+      (s, out, offset, count) -> s.inCube(out, offset, count, 2),
+      (s, out, offset, count) -> s.inSphere(out, offset, count, 2),
+      (s, out, offset, count) -> s.onSphere(out, offset, count, 2),
+      (s, out, offset, count) -> s.inDisc(out, offset, count, 2),
+      (s, out, offset, count) -> s.inCone(out, offset, count, 3, 2)
+    };
+    for (Fill fill : fills) {
+      double[] first = sample(RandomSampler.of(new SplittableRandom(34)), fill);
+      double[] second = sample(RandomSampler.of(new SplittableRandom(34)), fill);
+      assertArrayEquals(first, second);
+      double[] split = sample(RandomSampler.of(new SplittableRandom(34)).split(), fill);
+      assertArrayEquals(split, sample(RandomSampler.of(new SplittableRandom(34)).split(), fill));
+    }
+  }
+
+  @Test
+  void splitRequiresSplittableGenerator() {
+    RandomSampler sampler = RandomSampler.of(new Random(34));
+    assertThrows(UnsupportedOperationException.class, sampler::split);
+  }
+
+  @Test
+  void pointsStayInsideShapes() {
+    RandomSampler sampler = RandomSampler.of(new SplittableRandom(34));
+    double[] cube = sample(sampler, (s, out, offset, count) -> s.inCube(out, offset, count, 1.5));
+    double[] inSphere = sample(sampler, (s, out, offset, count) -> s.inSphere(out, offset, count, 2));
+    double[] onSphere = sample(sampler, (s, out, offset, count) -> s.onSphere(out, offset, count, 2));
+    double[] disc = sample(sampler, (s, out, offset, count) -> s.inDisc(out, offset, count, 2));
+    double[] cone = sample(sampler, (s, out, offset, count) -> s.inCone(out, offset, count, 3, 2));
+    int innerHalf = 0;
+    for (int idx = 1; idx < 3 * COUNT; idx += 3) {
+      for (int c = 0; c < 3; c++) {
+        assertTrue(Math.abs(cube[idx + c]) <= 1.5);
+      }
+      double r = length(inSphere, idx);
+      assertTrue(r <= 2 + EPSILON);
+      if (r <= 1) {
+        innerHalf++;
+      }
+      assertEquals(2, length(onSphere, idx), EPSILON);
+      assertEquals(0, disc[idx + 1]);
+      assertTrue(length(disc, idx) <= 2 + EPSILON);
+      double y = cone[idx + 1];
+      assertTrue(y >= 0 && y <= 3);
+      // The cone widens linearly from the apex to the base
+      assertTrue(Math.hypot(cone[idx], cone[idx + 2]) <= 2 * y / 3 + EPSILON);
+    }
+    // A uniform ball has one eighth of its volume within half the radius
+    assertEquals(0.125, innerHalf / (double) COUNT, 0.01);
+  }
+
+  @Test
+  void gaussianMatchesDeviation() {
+    double[] out = sample(RandomSampler.of(new SplittableRandom(34)),
+      (s, o, offset, count) -> s.gaussian(o, offset, count, 1, 2, 0.5));
+    double[] deviations = {1, 2, 0.5};
+    for (int c = 0; c < 3; c++) {
+      double sum = 0;
+      double sumSq = 0;
+      for (int idx = 1 + c; idx < 3 * COUNT; idx += 3) {
+        sum += out[idx];
+        sumSq += out[idx] * out[idx];
+      }
+      double mean = sum / COUNT;
+      assertEquals(0, mean, 0.05 * deviations[c]);
+      assertEquals(deviations[c], Math.sqrt(sumSq / COUNT - mean * mean), 0.03 * deviations[c]);
+    }
+  }
+
+  @Test
+  void rejectsInvalidRanges() {
+    RandomSampler sampler = RandomSampler.of(new SplittableRandom(34));
+    double[] out = new double[6];
+    assertThrows(IndexOutOfBoundsException.class, () -> sampler.inCube(out, 1, 2, 1));
+    assertThrows(IndexOutOfBoundsException.class, () -> sampler.inSphere(out, 0, 0x55555556, 1));
+  }
+
+  @FunctionalInterface
+  private interface Fill {
+    void apply(RandomSampler sampler, double[] out, int offset, int count);
+  }
+}
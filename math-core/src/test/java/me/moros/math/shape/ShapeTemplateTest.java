@@ -0,0 +1,219 @@
+/*
+ * Copyright 2020-2025 Moros
+ *
+ * This file is part of Math.
+ *
+ * Math is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Math is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Math. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package me.moros.math.shape;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import me.moros.math.Rotation;
+import me.moros.math.Vector3d;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ShapeTemplateTest {
+  private static final double EPSILON = 1e-9;
+  private static final Vector3d CENTER = Vector3d.of(12.5, 70, -3.25);
+  private static final double SCALE = 2.5;
+  private static final Rotation ROTATION = Rotation.from(Vector3d.of(1, 2, -0.5), 0.7);
+
+  private static List<ShapeTemplate> templates() {
+    return List.of(ShapeTemplate.circle(36), ShapeTemplate.polygon(5, 8), ShapeTemplate.fibonacciSphere(200),
+      ShapeTemplate.helix(60, 3, 4), ShapeTemplate.spiral(50, 2.5), ShapeTemplate.torus(24, 12, 0.25),
+      ShapeTemplate.cone(6, 30, 0.5));
+  }
+
+  private static double[] unit(ShapeTemplate template) {
+    double[] out = new double[3 * template.size()];
+    assertEquals(template.size(), template.copyTo(out, 0));
+    return out;
+  }
+
+  private static Vector3d point(double[] xyz, int index) {
+    return Vector3d.of(xyz[3 * index], xyz[3 * index + 1], xyz[3 * index + 2]);
+  }
+
+  private static double horizontal(Vector3d v) {
+    return Math.sqrt(v.x() * v.x() + v.z() * v.z());
+  }
+
+  @Test
+  void pointCounts() {
+    assertEquals(36, ShapeTemplate.circle(36).size());
+    assertEquals(40, ShapeTemplate.polygon(5, 8).size());
+    assertEquals(200, ShapeTemplate.fibonacciSphere(200).size());
+    assertEquals(60, ShapeTemplate.helix(60, 3, 4).size());
+    assertEquals(50, ShapeTemplate.spiral(50, 2.5).size());
+    assertEquals(288, ShapeTemplate.torus(24, 12, 0.25).size());
+    // Apex plus rings of round(30 * ring / 6) points
+    assertEquals(1 + 5 + 10 + 15 + 20 + 25 + 30, ShapeTemplate.cone(6, 30, 0.5).size());
+    // Small rings keep at least one point
+    assertEquals(1 + 1 + 1 + 2 + 2, ShapeTemplate.cone(4, 2, 1).size());
+    assertEquals(1 + 1 + 1 + 1, ShapeTemplate.cone(3, 1, 1).size());
+    assertEquals(1, ShapeTemplate.helix(1, 2, 3).size());
+  }
+
+  @Test
+  void unitShapes() {
+    double[] circle = unit(ShapeTemplate.circle(36));
+    for (int i = 0; i < 36; i++) {
+      Vector3d p = point(circle, i);
+      assertEquals(0, p.y());
+      assertEquals(1, p.length(), EPSILON);
+      assertEquals(2 * Math.PI * i / 36, (Math.atan2(p.z(), p.x()) + 2 * Math.PI) % (2 * Math.PI), EPSILON);
+    }
+
+    double[] polygon = unit(ShapeTemplate.polygon(5, 8));
+    for (int side = 0; side < 5; side++) {
+      Vector3d vertex = point(polygon, side * 8);
+      Vector3d next = point(polygon, ((side + 1) % 5) * 8);
+      assertEquals(1, vertex.length(), EPSILON);
+      for (int j = 1; j < 8; j++) {
+        Vector3d p = point(polygon, side * 8 + j);
+        // Points on a side lie on the segment between consecutive vertices at even steps
+        assertEquals(0, vertex.add(next.subtract(vertex).multiply(j / 8.0)).distance(p), EPSILON);
+      }
+    }
+
+    double[] sphere = unit(ShapeTemplate.fibonacciSphere(200));
+    Vector3d sum = Vector3d.ZERO;
+    for (int i = 0; i < 200; i++) {
+      Vector3d p = point(sphere, i);
+      assertEquals(1, p.length(), EPSILON);
+      sum = sum.add(p);
+    }
+    // An even covering has its centroid near the center
+    assertTrue(sum.multiply(1 / 200.0).length() < 0.02, "centroid " + sum);
+
+    double[] helix = unit(ShapeTemplate.helix(60, 3, 4));
+    for (int i = 0; i < 60; i++) {
+      Vector3d p = point(helix, i);
+      assertEquals(1, horizontal(p), EPSILON);
+      assertEquals(4.0 * i / 59, p.y(), EPSILON);
+    }
+    assertEquals(0, Vector3d.of(1, 4, 0).distance(point(helix, 59)), EPSILON);
+
+    double[] spiral = unit(ShapeTemplate.spiral(50, 2.5));
+    assertEquals(0, point(spiral, 0).length(), EPSILON);
+    for (int i = 0; i < 50; i++) {
+      Vector3d p = point(spiral, i);
+      assertEquals(0, p.y());
+      assertEquals(i / 49.0, p.length(), EPSILON);
+    }
+    assertEquals(0, Vector3d.of(-1, 0, 0).distance(point(spiral, 49)), EPSILON);
+
+    double[] torus = unit(ShapeTemplate.torus(24, 12, 0.25));
+    for (int i = 0; i < 288; i++) {
+      Vector3d p = point(torus, i);
+      // Every point is one minor radius away from the unit circle through the tube
+      assertEquals(0.25, Math.hypot(horizontal(p) - 1, p.y()), EPSILON);
+    }
+
+    double[] cone = unit(ShapeTemplate.cone(6, 30, 0.5));
+    assertEquals(Vector3d.ZERO, point(cone, 0));
+    for (int i = 1; i < cone.length / 3; i++) {
+      Vector3d p = point(cone, i);
+      assertTrue(p.y() > 0 && p.y() <= 1 + EPSILON);
+      assertEquals(0.5 * p.y(), horizontal(p), EPSILON);
+    }
+  }
+
+  @Test
+  void placeScalesAndTranslates() {
+    for (ShapeTemplate template : templates()) {
+      double[] unit = unit(template);
+      int size = template.size();
+      double[] out = new double[3 * size + 2];
+      out[0] = Double.NaN;
+      out[out.length - 1] = Double.NaN;
+      assertEquals(size, template.place(CENTER, SCALE, out, 1));
+      assertTrue(Double.isNaN(out[0]));
+      assertTrue(Double.isNaN(out[out.length - 1]));
+      List<Vector3d> consumed = new ArrayList<>();
+      assertEquals(size, template.place(CENTER, SCALE, (x, y, z) -> consumed.add(Vector3d.of(x, y, z))));
+      assertEquals(size, consumed.size());
+      for (int i = 0; i < size; i++) {
+        Vector3d expected = CENTER.add(point(unit, i).multiply(SCALE));
+        Vector3d actual = point(Arrays.copyOfRange(out, 1, out.length - 1), i);
+        assertEquals(0, expected.distance(actual), EPSILON, template + " point " + i);
+        assertEquals(0, expected.distance(consumed.get(i)), EPSILON, template + " point " + i);
+      }
+    }
+  }
+
+  @Test
+  void placeRotates() {
+    for (ShapeTemplate template : templates()) {
+      double[] unit = unit(template);
+      int size = template.size();
+      double[] out = new double[3 * size + 2];
+      out[0] = Double.NaN;
+      out[out.length - 1] = Double.NaN;
+      assertEquals(size, template.place(CENTER, SCALE, ROTATION, out, 1));
+      assertTrue(Double.isNaN(out[0]));
+      assertTrue(Double.isNaN(out[out.length - 1]));
+      List<Vector3d> consumed = new ArrayList<>();
+      assertEquals(size, template.place(CENTER, SCALE, ROTATION, (x, y, z) -> consumed.add(Vector3d.of(x, y, z))));
+      assertEquals(size, consumed.size());
+      for (int i = 0; i < size; i++) {
+        Vector3d expected = CENTER.add(ROTATION.applyTo(point(unit, i)).multiply(SCALE));
+        Vector3d actual = point(Arrays.copyOfRange(out, 1, out.length - 1), i);
+        assertEquals(0, expected.distance(actual), EPSILON, template + " point " + i);
+        assertEquals(0, expected.distance(consumed.get(i)), EPSILON, template + " point " + i);
+      }
+    }
+    // A rotated circle stays on the plane orthogonal to its rotated normal
+    ShapeTemplate circle = ShapeTemplate.circle(36);
+    Vector3d normal = ROTATION.applyTo(Vector3d.PLUS_J);
+    circle.place(CENTER, SCALE, ROTATION, (x, y, z) -> {
+      Vector3d offset = Vector3d.of(x, y, z).subtract(CENTER);
+      assertEquals(SCALE, offset.length(), EPSILON);
+      assertEquals(0, offset.dot(normal), EPSILON);
+    });
+  }
+
+  @Test
+  void copiesAreIndependent() {
+    ShapeTemplate circle = ShapeTemplate.circle(8);
+    double[] first = unit(circle);
+    Arrays.fill(first, 7);
+    assertArrayEquals(unit(ShapeTemplate.circle(8)), unit(circle));
+  }
+
+  @Test
+  void invalidInput() {
+    assertThrows(IllegalArgumentException.class, () -> ShapeTemplate.circle(0));
+    assertThrows(IllegalArgumentException.class, () -> ShapeTemplate.polygon(2, 4));
+    assertThrows(IllegalArgumentException.class, () -> ShapeTemplate.polygon(4, 0));
+    assertThrows(IllegalArgumentException.class, () -> ShapeTemplate.fibonacciSphere(-1));
+    assertThrows(IllegalArgumentException.class, () -> ShapeTemplate.helix(0, 1, 1));
+    assertThrows(IllegalArgumentException.class, () -> ShapeTemplate.spiral(0, 1));
+    assertThrows(IllegalArgumentException.class, () -> ShapeTemplate.torus(4, 0, 0.1));
+    assertThrows(IllegalArgumentException.class, () -> ShapeTemplate.cone(0, 4, 1));
+    ShapeTemplate circle = ShapeTemplate.circle(8);
+    assertThrows(IndexOutOfBoundsException.class, () -> circle.copyTo(new double[24], 1));
+    assertThrows(IndexOutOfBoundsException.class, () -> circle.place(CENTER, 1, new double[23], 0));
+    assertThrows(IndexOutOfBoundsException.class, () -> circle.place(CENTER, 1, ROTATION, new double[24], -1));
+  }
+}
@@ -0,0 +1,207 @@
+/*
+ * Copyright 2020-2025 Moros
+ *
+ * This file is part of Math.
+ *
+ * Math is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Math is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Math. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package me.moros.math.spatial;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import me.moros.math.Position;
+import me.moros.math.Vector3d;
+import me.moros.math.geometry.AABB;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ConcurrentSpatialIndexTest {
+  private static Set<Integer> collect(ConcurrentSpatialIndex<Integer> index, Position center, double radius) {
+    Set<Integer> found = new HashSet<>();
+    int count = index.query(center, radius, found::add);
+    assertEquals(found.size(), count);
+    return found;
+  }
+
+  private static Set<Integer> collect(ConcurrentSpatialIndex<Integer> index, AABB box) {
+    Set<Integer> found = new HashSet<>();
+    int count = index.query(box, found::add);
+    assertEquals(found.size(), count);
+    return found;
+  }
+
+  @Test
+  void matchesBruteForce() {
+    ConcurrentSpatialIndex<Integer> index = new ConcurrentSpatialIndex<>(4);
+    Map<Integer, Vector3d> expected = new HashMap<>();
+    SplittableRandom random = new SplittableRandom(47);
+    for (int i = 0; i < 20_000; i++) {
+      int value = random.nextInt(500);
+      if (random.nextInt(5) == 0) {
+        assertEquals(expected.remove(value) != null, index.remove(value));
+      } else {
+        Vector3d pos = Vector3d.of(random.nextDouble(-100, 100), random.nextDouble(-20, 20), random.nextDouble(-100, 100));
+        assertEquals(expected.put(value, pos) == null, index.put(value, pos));
+      }
+      if (i % 100 == 0) {
+        Vector3d center = Vector3d.of(random.nextDouble(-100, 100), 0, random.nextDouble(-100, 100));
+        double radius = random.nextInt(10) == 0 ? 1e6 : random.nextDouble(30);
+        Set<Integer> brute = new HashSet<>();
+        expected.forEach((k, v) -> {
+          if (v.distanceSq(center) <= radius * radius) {
+            brute.add(k);
+          }
+        });
+        assertEquals(brute, collect(index, center, radius));
+        AABB box = AABB.of(center, center.add(random.nextDouble(40), random.nextDouble(40), random.nextDouble(40)));
+        Set<Integer> inBox = new HashSet<>();
+        expected.forEach((k, v) -> {
+          if (box.contains(v.x(), v.y(), v.z())) {
+            inBox.add(k);
+          }
+        });
+        assertEquals(inBox, collect(index, box));
+      }
+    }
+    assertEquals(expected.size(), index.size());
+    expected.forEach((k, v) -> assertEquals(v, index.position(k)));
+    index.clear();
+    assertEquals(0, index.size());
+    assertNull(index.position(0));
+  }
+
+  @Test
+  void extremeCoordinatesAreFound() {
+    ConcurrentSpatialIndex<Integer> index = new ConcurrentSpatialIndex<>(1);
+    index.put(0, Vector3d.of(-1e300, 0, 0));
+    index.put(1, Vector3d.of(1e300, 0, 0));
+    index.put(2, Vector3d.of(0, 0, 0));
+    index.put(3, Vector3d.of(1 << 21, 0, 0)); // shares a cell key with the origin
+    double inf = Double.POSITIVE_INFINITY;
+    assertEquals(Set.of(0, 1, 2, 3), collect(index, AABB.of(Vector3d.of(-inf, -inf, -inf), Vector3d.of(inf, inf, inf))));
+    assertEquals(Set.of(0), collect(index, AABB.of(Vector3d.of(-inf, -1, -1), Vector3d.of(-1e299, 1, 1))));
+    assertEquals(Set.of(1), collect(index, Vector3d.of(1e300, 0, 0), 1));
+    assertEquals(Set.of(2), collect(index, Vector3d.ZERO, 0.5));
+    assertEquals(Set.of(2, 3), collect(index, AABB.of(Vector3d.of(0, 0, 0), Vector3d.of(1 << 22, 0, 0))));
+  }
+
+  @Test
+  void rejectsNonFiniteQueries() {
+    ConcurrentSpatialIndex<Integer> index = new ConcurrentSpatialIndex<>(1);
+    index.put(0, Vector3d.ZERO);
+    for (double invalid : new double[]{Double.NaN, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY}) {
+      assertThrows(IllegalArgumentException.class, () -> index.query(Vector3d.ZERO, invalid, v -> {
+      }));
+      assertThrows(IllegalArgumentException.class, () -> index.query(Vector3d.of(invalid, 0, 0), 1, v -> {
+      }));
+    }
+    assertEquals(0, index.query(Vector3d.ZERO, -1, v -> {
+    }));
+  }
+
+  @Test
+  void concurrentMovesAreSeenExactlyOnce() throws InterruptedException {
+    int writers = 4;
+    int readers = 4;
+    int perWriter = 250;
+    int stable = perWriter / 2;
+    ConcurrentSpatialIndex<Integer> index = new ConcurrentSpatialIndex<>(1, 8);
+    for (int i = 0; i < writers * perWriter; i++) {
+      index.put(i, Vector3d.of(i % 8, 0, 0));
+    }
+    AABB area = AABB.of(Vector3d.ZERO, Vector3d.of(8, 8, 8));
+    Vector3d[][] last = new Vector3d[writers][perWriter];
+    AtomicBoolean running = new AtomicBoolean(true);
+    AtomicReference<Throwable> failure = new AtomicReference<>();
+    CountDownLatch done = new CountDownLatch(writers + readers);
+    List<Thread> threads = new ArrayList<>();
+    for (int w = 0; w < writers; w++) {
+      int id = w;
+      threads.add(new Thread(() -> {
+        SplittableRandom random = new SplittableRandom(id);
+        try {
+          for (int i = 0; i < 100_000 && failure.get() == null; i++) {
+            int slot = random.nextInt(perWriter);
+            Vector3d pos = Vector3d.of(random.nextDouble(8), random.nextDouble(8), random.nextDouble(8));
+            index.put(id * perWriter + slot, pos);
+            last[id][slot] = pos;
+            if (slot >= stable && random.nextInt(4) == 0) {
+              // readers also race against removals, values in the lower half of each slot range are never removed
+              index.remove(id * perWriter + slot);
+              index.put(id * perWriter + slot, pos);
+            }
+          }
+        } catch (Throwable t) {
+          failure.compareAndSet(null, t);
+        } finally {
+          done.countDown();
+        }
+      }));
+    }
+    for (int r = 0; r < readers; r++) {
+      threads.add(new Thread(() -> {
+        try {
+          while (running.get() && failure.get() == null) {
+            List<Integer> found = new ArrayList<>();
+            index.query(area, found::add);
+            Set<Integer> distinct = new HashSet<>(found);
+            assertEquals(found.size(), distinct.size(), "A value was reported twice");
+            assertTrue(found.size() <= writers * perWriter);
+            assertEquals(writers * stable, (int) distinct.stream().filter(v -> v % perWriter < stable).count(),
+              "A value that was only moved was missed");
+            Set<Integer> inSphere = collect(index, Vector3d.of(4, 4, 4), 10);
+            assertTrue(inSphere.size() <= writers * perWriter);
+          }
+        } catch (Throwable t) {
+          failure.compareAndSet(null, t);
+        } finally {
+          done.countDown();
+        }
+      }));
+    }
+    threads.forEach(Thread::start);
+    for (int i = 0; i < writers; i++) {
+      threads.get(i).join(TimeUnit.SECONDS.toMillis(60));
+    }
+    running.set(false);
+    assertTrue(done.await(60, TimeUnit.SECONDS));
+    if (failure.get() != null) {
+      throw new AssertionError(failure.get());
+    }
+    assertEquals(writers * perWriter, index.size());
+    assertEquals(writers * perWriter, collect(index, area).size());
+    for (int w = 0; w < writers; w++) {
+      for (int s = 0; s < perWriter; s++) {
+        if (last[w][s] != null) {
+          assertEquals(last[w][s], index.position(w * perWriter + s));
+        }
+      }
+    }
+  }
+}
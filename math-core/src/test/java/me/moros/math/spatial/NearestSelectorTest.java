@@ -0,0 +1,135 @@
+/*
+ * Copyright 2020-2025 Moros
+ *
+ * This file is part of Math.
+ *
+ * Math is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Math is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Math. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package me.moros.math.spatial;
+
+import java.util.Comparator;
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+
+import me.moros.math.Vector3d;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class NearestSelectorTest {
+  private static double distanceSq(Vector3d origin, double[] xyz, int i) {
+    double dx = xyz[3 * i] - origin.x();
+    double dy = xyz[3 * i + 1] - origin.y();
+    double dz = xyz[3 * i + 2] - origin.z();
+    return dx * dx + dy * dy + dz * dz;
+  }
+
+  // Stable sort by distance, so equal distances keep ascending index order
+  private static int[] bruteForce(Vector3d origin, double radius, double[] xyz, int k) {
+    return IntStream.range(0, xyz.length / 3).boxed()
+      .filter(i -> distanceSq(origin, xyz, i) <= radius * radius)
+      .sorted(Comparator.comparingDouble(i -> distanceSq(origin, xyz, i)))
+      .limit(k).mapToInt(Integer::intValue).toArray();
+  }
+
+  private static int[] selected(NearestSelector selector) {
+    int[] result = new int[selector.size()];
+    selector.indices(result, 0);
+    return result;
+  }
+
+  private static double[] split(double[] xyz, int component) {
+    double[] result = new double[xyz.length / 3];
+    for (int i = 0; i < result.length; i++) {
+      result[i] = xyz[3 * i + component];
+    }
+    return result;
+  }
+
+  @Test
+  void matchesStableSort() {
+    SplittableRandom random = new SplittableRandom(31);
+    for (int round = 0; round < 200; round++) {
+      // Integer coordinates in a small cube produce many equal distances
+      double[] xyz = new double[3 * random.nextInt(0, 400)];
+      for (int i = 0; i < xyz.length; i++) {
+        xyz[i] = random.nextInt(-6, 7);
+      }
+      Vector3d origin = Vector3d.of(random.nextInt(-3, 4), random.nextInt(-3, 4), random.nextInt(-3, 4));
+      int k = random.nextInt(0, 40);
+      double radius = random.nextInt(0, 12);
+      int[] expected = bruteForce(origin, radius, xyz, k);
+
+      NearestSelector selector = new NearestSelector(k);
+      assertEquals(expected.length, selector.select(origin, radius, xyz, 0, xyz.length / 3));
+      assertArrayEquals(expected, selected(selector));
+      for (int rank = 0; rank < expected.length; rank++) {
+        assertEquals(distanceSq(origin, xyz, expected[rank]), selector.distanceSq(rank));
+      }
+      int count = xyz.length / 3;
+      selector.select(origin, radius, split(xyz, 0), split(xyz, 1), split(xyz, 2), 0, count);
+      assertArrayEquals(expected, selected(selector));
+    }
+  }
+
+  @Test
+  void tiesKeepEarliestPoints() {
+    // Every point is at distance 1 from the origin except index 4
+    double[] xyz = {1, 0, 0, 0, 1, 0, 0, 0, 1, -1, 0, 0, 0, 0, 0, 0, -1, 0, 0, 0, -1};
+    NearestSelector selector = new NearestSelector(4);
+    assertEquals(4, selector.select(Vector3d.ZERO, 1, xyz, 0, 7));
+    assertArrayEquals(new int[]{4, 0, 1, 2}, selected(selector));
+    assertEquals(0, selector.distanceSq(0));
+    assertEquals(1, selector.distanceSq(3));
+  }
+
+  @Test
+  void fewerPointsThanK() {
+    double[] xyz = {5, 0, 0, 1, 0, 0, 3, 0, 0};
+    NearestSelector selector = new NearestSelector(10);
+    assertEquals(3, selector.select(Vector3d.ZERO, 100, xyz, 0, 3));
+    assertArrayEquals(new int[]{1, 2, 0}, selected(selector));
+    assertThrows(IndexOutOfBoundsException.class, () -> selector.index(3));
+  }
+
+  @Test
+  void radiusExcludingEverything() {
+    double[] xyz = {5, 0, 0, 1, 1, 1, 0, 0, 3};
+    NearestSelector selector = new NearestSelector(2);
+    assertEquals(0, selector.select(Vector3d.ZERO, 0.5, xyz, 0, 3));
+    assertEquals(0, selector.size());
+    assertEquals(0, selector.select(Vector3d.ZERO, -1, xyz, 0, 3));
+    assertEquals(0, selector.select(Vector3d.ZERO, Double.NaN, xyz, 0, 3));
+    assertEquals(0, new NearestSelector(0).select(Vector3d.ZERO, 10, xyz, 0, 3));
+  }
+
+  @Test
+  void indicesAreRelativeToOffset() {
+    double[] xyz = {0, 0, 0, 9, 9, 9, 2, 0, 0, 1, 0, 0};
+    NearestSelector selector = new NearestSelector(2);
+    assertEquals(2, selector.select(Vector3d.ZERO, 20, xyz, 3, 3));
+    assertArrayEquals(new int[]{2, 1}, selected(selector));
+  }
+
+  @Test
+  void rejectsInvalidRanges() {
+    NearestSelector selector = new NearestSelector(1);
+    assertThrows(IllegalArgumentException.class, () -> new NearestSelector(-1));
+    assertThrows(IndexOutOfBoundsException.class, () -> selector.select(Vector3d.ZERO, 1, new double[6], 3, 2));
+    assertThrows(IndexOutOfBoundsException.class, () -> selector.select(Vector3d.ZERO, 1, new double[6], 0, 0x55555556));
+  }
+}
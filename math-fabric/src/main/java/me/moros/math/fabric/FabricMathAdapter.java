@@ -43,9 +43,19 @@ public enum FabricMathAdapter {
     return Vector3i.of(vec.x(), vec.y(), vec.z());
   }
 
+  public Vector3d viewVec(Vec3 vec) {
+    return new Vec3View(vec);
+  }
+
+  public Vector3i intViewVec(Vec3 vec) {
+    return new BlockVec3View(vec);
+  }
+
   public static void register() {
     Adapters.vector3d().register(Vec3.class, INSTANCE::fromVec, INSTANCE::vec);
+    Adapters.vector3d().registerView(Vec3.class, INSTANCE::viewVec);
 
     Adapters.vector3i().register(Vec3.class, INSTANCE::intFromVec, INSTANCE::vec);
+    Adapters.vector3i().registerView(Vec3.class, INSTANCE::intViewVec);
   }
 }
@@ -23,6 +23,7 @@ import me.moros.math.Position;
 import me.moros.math.Vector3d;
 import me.moros.math.Vector3i;
 import me.moros.math.adapter.Adapters;
+import net.minestom.server.coordinate.Point;
 import net.minestom.server.coordinate.Vec;
 
 /**
@@ -43,9 +44,19 @@ public enum MinestomMathAdapter {
     return Vector3i.of(vec.blockX(), vec.blockY(), vec.blockZ());
   }
 
+  public Vector3d viewPoint(Point point) {
+    return new PointView(point);
+  }
+
+  public Vector3i intViewPoint(Point point) {
+    return new BlockPointView(point);
+  }
+
   public static void register() {
     Adapters.vector3d().register(Vec.class, INSTANCE::fromVec, INSTANCE::vec);
+    Adapters.vector3d().registerView(Point.class, INSTANCE::viewPoint);
 
     Adapters.vector3i().register(Vec.class, INSTANCE::intFromVec, INSTANCE::vec);
+    Adapters.vector3i().registerView(Point.class, INSTANCE::intViewPoint);
   }
 }
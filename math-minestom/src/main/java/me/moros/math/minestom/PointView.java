@@ -0,0 +1,59 @@
+/*
+ * Copyright 2020-2025 Moros
+ *
+ * This file is part of Math.
+ *
+ * Math is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Math is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Math. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package me.moros.math.minestom;
+
+import me.moros.math.Vector3dView;
+import net.minestom.server.coordinate.Point;
+
+final class PointView extends Vector3dView<Point> {
+  PointView(Point handle) {
+    super(handle);
+  }
+
+  @Override
+  public double x() {
+    return handle.x();
+  }
+
+  @Override
+  public double y() {
+    return handle.y();
+  }
+
+  @Override
+  public double z() {
+    return handle.z();
+  }
+
+  @Override
+  public int blockX() {
+    return handle.blockX();
+  }
+
+  @Override
+  public int blockY() {
+    return handle.blockY();
+  }
+
+  @Override
+  public int blockZ() {
+    return handle.blockZ();
+  }
+}
@@ -61,6 +61,27 @@ public enum BukkitMathAdapter {
     return Vector3i.of(block.getX(), block.getY(), block.getZ());
   }
 
+  /**
+   * Wrap a vector in a read-only position that reads its coordinates on demand.
+   * <p>Bukkit vectors are mutable so the view is not registered with {@link Adapters#view(Object)}, which copies them.
+   * @param vec the vector to wrap
+   * @return a view of the vector
+   */
+  public Position viewVec(Vector vec) {
+    return new VectorView(vec);
+  }
+
+  /**
+   * Wrap a location in a read-only position that reads its coordinates on demand.
+   * <p>Bukkit locations are mutable so the view is not registered with {@link Adapters#view(Object)}, which copies
+   * them.
+   * @param loc the location to wrap
+   * @return a view of the location
+   */
+  public Position viewLoc(Location loc) {
+    return new LocationView(loc);
+  }
+
   public static void register() {
     Adapters.vector3d().register(Vector.class, INSTANCE::fromVec, INSTANCE::vec);
     Adapters.vector3d().registerAdapter(Location.class, INSTANCE::fromLoc);
@@ -0,0 +1,78 @@
+/*
+ * Copyright 2020-2025 Moros
+ *
+ * This file is part of Math.
+ *
+ * Math is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Math is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Math. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package me.moros.math.bukkit;
+
+import me.moros.math.Position;
+import me.moros.math.Vector3d;
+import me.moros.math.adapter.Adapters;
+import org.bukkit.Location;
+
+/**
+ * A read-only view over a mutable {@link Location} that reads its coordinates on demand.
+ * <p>Views are not vectors, their coordinates follow the wrapped object. Equality and hash code are based on
+ * identity so they stay stable when the wrapped object changes, use {@link #toVector3d()} for an immutable copy.
+ */
+final class LocationView implements Position {
+  private final Location location;
+
+  LocationView(Location location) {
+    this.location = location;
+  }
+
+  @Override
+  public double x() {
+    return location.getX();
+  }
+
+  @Override
+  public double y() {
+    return location.getY();
+  }
+
+  @Override
+  public double z() {
+    return location.getZ();
+  }
+
+  @Override
+  public int blockX() {
+    return location.getBlockX();
+  }
+
+  @Override
+  public int blockY() {
+    return location.getBlockY();
+  }
+
+  @Override
+  public int blockZ() {
+    return location.getBlockZ();
+  }
+
+  @Override
+  public Adapters<Vector3d> adapters() {
+    return Adapters.vector3d();
+  }
+
+  @Override
+  public String toString() {
+    return "[" + x() + ", " + y() + ", " + z() + "]";
+  }
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright 2020-2025 Moros
+ *
+ * This file is part of Math.
+ *
+ * Math is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Math is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Math. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package me.moros.math.sponge;
+
+import me.moros.math.Vector3iView;
+
+final class SpongeBlockVectorView extends Vector3iView<org.spongepowered.math.vector.Vector3i> {
+  SpongeBlockVectorView(org.spongepowered.math.vector.Vector3i handle) {
+    super(handle);
+  }
+
+  @Override
+  public int blockX() {
+    return handle.x();
+  }
+
+  @Override
+  public int blockY() {
+    return handle.y();
+  }
+
+  @Override
+  public int blockZ() {
+    return handle.z();
+  }
+}
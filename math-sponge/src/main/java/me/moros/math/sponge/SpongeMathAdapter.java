@@ -57,11 +57,21 @@ public enum SpongeMathAdapter {
     return Vector3i.of(loc.x(), loc.y(), loc.z());
   }
 
+  public Vector3d viewVec(org.spongepowered.math.vector.Vector3d vec) {
+    return new SpongeVectorView(vec);
+  }
+
+  public Vector3i intViewVec(org.spongepowered.math.vector.Vector3i vec) {
+    return new SpongeBlockVectorView(vec);
+  }
+
   public static void register() {
     Adapters.vector3d().register(org.spongepowered.math.vector.Vector3d.class, INSTANCE::fromVec, INSTANCE::vec);
     Adapters.vector3d().registerAdapter(Locatable.class, INSTANCE::fromLoc);
+    Adapters.vector3d().registerView(org.spongepowered.math.vector.Vector3d.class, INSTANCE::viewVec);
 
     Adapters.vector3i().register(org.spongepowered.math.vector.Vector3i.class, INSTANCE::intFromVec, INSTANCE::intVec);
     Adapters.vector3i().registerAdapter(Locatable.class, INSTANCE::intFromLoc);
+    Adapters.vector3i().registerView(org.spongepowered.math.vector.Vector3i.class, INSTANCE::intViewVec);
   }
 }